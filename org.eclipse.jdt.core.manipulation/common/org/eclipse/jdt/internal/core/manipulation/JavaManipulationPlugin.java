@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,9 +30,12 @@ import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CalleeCache;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallerIndex;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
+import org.eclipse.jdt.internal.ui.text.ChainIndex;
 
 /**
  * The main plug-in class to be used in the workbench.
@@ -84,6 +87,10 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 		super.stop(context);
 		fgDefault= null;
 
+		ChainIndex.shutdown();
+		CallerIndex.shutdown();
+		CalleeCache.shutdown();
+
 		if (fTypeFilter != null) {
 			fTypeFilter.dispose();
 			fTypeFilter= null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Red Hat and others.
+ * Copyright (c) 2022, 2026 Red Hat and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,6 +62,11 @@ public class AbstractCleanUpCoreWrapper<T extends AbstractCleanUp> extends Abstr
 		cleanUpCore.setOptions(options);
 	}
 
+	@Override
+	public CleanUpOptions getOptions() {
+		return cleanUpCore.getOptions();
+	}
+
 	@Override
 	public CleanUpRequirements getRequirements() {
 		return cleanUpCore.getRequirements();
@@ -406,11 +406,15 @@ public class SemanticHighlightingPresenterCore {
 	 * @return the index
 	 */
 	protected int indexOf(List<? extends Position> positions, Position position) {
-		int index= computeIndexAtOffset(positions, position.getOffset());
+		int offset= position.getOffset();
+		int index= computeIndexAtOffset(positions, offset);
 		int size= positions.size();
 		while (index < size) {
-			if (positions.get(index) == position)
+			Position current= positions.get(index);
+			if (current == position)
 				return index;
+			if (current.getOffset() > offset)
+				break;
 			index++;
 		}
 		return -1;
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2011, 2019 Stefan Henss and others.
+ * Copyright (c) 2011, 2026 Stefan Henss and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,11 +12,11 @@ package org.eclipse.jdt.internal.ui.text;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.eclipse.jdt.core.CompletionContext;
@@ -34,7 +34,7 @@ import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 public final class ChainElementAnalyzer {
 
-	private static final Map<String, IType> typeCache= new HashMap<>();
+	private static final Map<String, IType> typeCache= new ConcurrentHashMap<>();
 
 	private static final Predicate<IField> NON_STATIC_FIELDS_ONLY_FILTER = t -> {
 		try {
@@ -91,13 +91,45 @@ public final class ChainElementAnalyzer {
                 STATIC_NON_VOID_NON_PRIMITIVE_METHODS_ONLY_FILTER);
     }
 
+    /**
+     * Returns the static or the instance fields and methods of the given types which can be chain
+     * edges, regardless of their visibility.
+     *
+     * @param supertypes a type and its supertypes, see {@link #findAllSupertypes(IType)}
+     * @param staticOnly <code>true</code> for the static fields and methods, <code>false</code> for
+     *            the instance fields and methods
+     * @return the fields and methods
+     */
+    static Collection<IJavaElement> findFieldsAndMethods(final List<IType> supertypes, final boolean staticOnly) {
+        return staticOnly
+                ? findFieldsAndMethods(supertypes, null, STATIC_FIELDS_ONLY_FILTER, STATIC_NON_VOID_NON_PRIMITIVE_METHODS_ONLY_FILTER)
+                : findFieldsAndMethods(supertypes, null, NON_STATIC_FIELDS_ONLY_FILTER, RELEVANT_NON_STATIC_METHODS_ONLY_FILTER);
+    }
+
+    /**
+     * @param member a field or method
+     * @param invocationType the type in which the member is accessed
+     * @return <code>true</code> if the member can be accessed in the invocation type
+     */
+    static boolean canBeSeenBy(final IJavaElement member, final IType invocationType) {
+        if (member instanceof IMethod) {
+            return methodCanBeSeenBy((IMethod) member, invocationType);
+        }
+        return fieldCanBeSeenBy((IField) member, invocationType);
+    }
+
     private static Collection<IJavaElement> findFieldsAndMethods(final ChainType type, final ChainType receiverType,
             final Predicate<IField> fieldFilter, final Predicate<IMethod> methodFilter) {
+        return findFieldsAndMethods(findAllSupertypesIncludingArgument(type), receiverType, fieldFilter, methodFilter);
+    }
+
+    private static Collection<IJavaElement> findFieldsAndMethods(final List<IType> supertypes, final ChainType receiverType,
+            final Predicate<IField> fieldFilter, final Predicate<IMethod> methodFilter) {
         final Map<String, IJavaElement> tmp = new LinkedHashMap<>();
-        for (final IType cur : findAllSupertypesIncludingArgument(type)) {
+        for (final IType cur : supertypes) {
             try {
 				for (final IMethod method : cur.getMethods()) {
-				    if (!methodFilter.test(method) || !methodCanBeSeenBy(method, receiverType.getType())) {
+				    if (!methodFilter.test(method) || receiverType != null && !methodCanBeSeenBy(method, receiverType.getType())) {
 				        continue;
 				    }
 				    final String key = method.getKey();
@@ -110,7 +142,7 @@ public final class ChainElementAnalyzer {
 			}
             try {
 				for (final IField field : cur.getFields()) {
-				    if (!fieldFilter.test(field) || !fieldCanBeSeenBy(field, receiverType.getType())) {
+				    if (!fieldFilter.test(field) || receiverType != null && !fieldCanBeSeenBy(field, receiverType.getType())) {
 				        continue;
 				    }
 				    final String key = field.getKey();
@@ -129,9 +161,20 @@ public final class ChainElementAnalyzer {
         if ((type.getPrimitiveType() != null)) {
             return Collections.emptyList();
         }
+        return findAllSupertypes(type.getType());
+    }
+
+    /**
+     * @param type the type, may be <code>null</code>
+     * @return the type and all its supertypes, in breadth-first order
+     */
+    static List<IType> findAllSupertypes(final IType type) {
+        if (type == null) {
+            return Collections.emptyList();
+        }
         final List<IType> supertypes = new LinkedList<>();
         final LinkedList<IType> queue = new LinkedList<>();
-        queue.add(type.getType());
+        queue.add(type);
         while (!queue.isEmpty()) {
             final IType superType = queue.poll();
             if (superType == null || supertypes.contains(superType)) {
@@ -141,11 +184,11 @@ public final class ChainElementAnalyzer {
 			try {
 				String superClass= superType.getSuperclassTypeSignature();
 				if (superClass != null) {
-					IType superClassType= ChainElementAnalyzer.getTypeFromSignature(type.getType().getJavaProject(), superClass, superType);
+					IType superClassType= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), superClass, superType);
 					queue.add(superClassType);
 				}
 				for (final String interfc : superType.getSuperInterfaceTypeSignatures()) {
-					IType interfcType= ChainElementAnalyzer.getTypeFromSignature(type.getType().getJavaProject(), interfc, superType);
+					IType interfcType= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), interfc, superType);
 					queue.add(interfcType);
 				}
 			} catch (JavaModelException e) {
@@ -158,36 +201,50 @@ public final class ChainElementAnalyzer {
     public static boolean isAssignable(final ChainElement edge, final IType expectedType,
             final int expectedDimension) {
         if (expectedDimension <= edge.getReturnTypeDimension()) {
-            final IType base = edge.getReturnType().getType();
-            if (isAssignmentCompatible(base, expectedType)) {
+            return isAssignable(edge.getReturnType().getType(), expectedType);
+        }
+        return false;
+    }
+
+    /**
+     * @param base the type, may be <code>null</code> if it could not be resolved
+     * @param expectedType the expected type
+     * @return <code>true</code> if values of the type can be assigned to the expected type
+     */
+    static boolean isAssignable(final IType base, final IType expectedType) {
+        if (base == null) {
+            return false;
+        }
+        if (isAssignmentCompatible(base, expectedType)) {
+            return true;
+        }
+        final LinkedList<IType> supertypes = new LinkedList<>();
+        supertypes.add(base);
+        String expectedSignature = expectedType.getFullyQualifiedName();
+
+        while (!supertypes.isEmpty()) {
+            final IType type = supertypes.poll();
+            String typeSignature = type.getFullyQualifiedName();
+
+            if (typeSignature.equals(expectedSignature)) {
                 return true;
             }
-            final LinkedList<IType> supertypes = new LinkedList<>();
-            supertypes.add(base);
-            String expectedSignature = expectedType.getFullyQualifiedName();
-
-            while (!supertypes.isEmpty()) {
-                final IType type = supertypes.poll();
-                String typeSignature = type.getFullyQualifiedName();
-
-                if (typeSignature.equals(expectedSignature)) {
-                    return true;
-                }
-				try {
-					if (type.getSuperclassTypeSignature() != null) {
-						IType superclass= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), type.getSuperclassTypeSignature(), type);
-						if (superclass != null) {
-							supertypes.add(superclass);
-						}
-						for (final String intf : type.getSuperInterfaceTypeSignatures()) {
-							IType intfType= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), intf, type);
+			try {
+				if (type.getSuperclassTypeSignature() != null) {
+					IType superclass= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), type.getSuperclassTypeSignature(), type);
+					if (superclass != null) {
+						supertypes.add(superclass);
+					}
+					for (final String intf : type.getSuperInterfaceTypeSignatures()) {
+						IType intfType= ChainElementAnalyzer.getTypeFromSignature(type.getJavaProject(), intf, type);
+						if (intfType != null) {
 							supertypes.add(intfType);
 						}
 					}
-				} catch (JavaModelException e) {
-					// ignore
 				}
-            }
+			} catch (JavaModelException e) {
+				// ignore
+			}
         }
         return false;
     }
@@ -267,6 +324,14 @@ public final class ChainElementAnalyzer {
 		return 0;
 	}
 
+	/**
+	 * Clears the types resolved by {@link #getTypeFromSignature(IJavaProject, String, IType)}, see
+	 * {@link ChainIndex}.
+	 */
+	static void clearTypeCache() {
+		typeCache.clear();
+	}
+
 	public static IType getTypeFromSignature (IJavaProject proj, String typeSig, IType declType) {
 		IType cType= typeCache.get(typeSig);
 		if (cType != null) {
@@ -293,7 +358,7 @@ public final class ChainElementAnalyzer {
 			if (resType != null) {
 				String fqExpectedType= JavaModelUtil.concatenateName(resType[0][0], resType[0][1]);
 				res= proj.findType(fqExpectedType);
-				if (isResolved) {
+				if (isResolved && res != null) {
 					typeCache.put(typeSig, res);
 				}
 				return res;
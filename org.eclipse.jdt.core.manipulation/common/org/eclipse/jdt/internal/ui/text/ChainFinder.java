@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2020 Darmstadt University of Technology and others.
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,19 +11,39 @@
  */
 package org.eclipse.jdt.internal.ui.text;
 
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.ui.text.ChainElement.ElementType;
 
+/**
+ * Searches chains of field accesses and method calls leading to an expected type.
+ * <p>
+ * The search is breadth-first. The chains of one length are checked and extended in parallel, and
+ * the results are merged in the order of a sequential search. The member graph is taken from the
+ * {@link ChainIndex} shared by all searches.
+ * </p>
+ */
 public class ChainFinder {
 
+	/**
+	 * The number of chains which are checked and extended in parallel before the results are merged
+	 */
+	private static final int BATCH_SIZE= 1024;
+
+	/**
+	 * Chains are not extended anymore once this many chains are waiting to be checked
+	 */
+	private static final int MAX_QUEUED_CHAINS= 50000;
+
 	private final List<ChainType> expectedTypes;
 
 	private final List<String> excludedTypes;
@@ -32,11 +52,13 @@ public class ChainFinder {
 
 	private final List<Chain> chains= new LinkedList<>();
 
-	private final Map<IJavaElement, ChainElement> edgeCache= new HashMap<>();
+	private final ChainIndex index= ChainIndex.getDefault();
 
-	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new HashMap<>();
-
-	private final Map<String, Boolean> assignableCache= new HashMap<>();
+	/**
+	 * The edges visible in the receiver type which are not from excluded types, keyed by type and
+	 * whether static members are requested
+	 */
+	private final Map<String, List<ChainElement>> fieldsAndMethodsCache= new ConcurrentHashMap<>();
 
 	private volatile boolean isCanceled;
 
@@ -76,24 +98,36 @@ public class ChainFinder {
 
 	private void searchChainsForExpectedType(final ChainType expectedType, final int expectedDimensions,
 			final List<ChainElement> entrypoints, final int maxChains, final int minDepth, final int maxDepth) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
+		List<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
 
 		while (!incompleteChains.isEmpty() && !isCanceled) {
-			final LinkedList<ChainElement> chain= incompleteChains.poll();
-			final ChainElement edge= chain.getLast();
-			final ChainElement start= chain.getFirst();
-			if (isValidEndOfChain(edge, start, expectedType, expectedDimensions)) {
-				if (chain.size() >= minDepth) {
-					chains.add(new Chain(chain, expectedDimensions));
-					if (chains.size() == maxChains) {
-						break;
+			final boolean canSearchDeeper= incompleteChains.get(0).size() < maxDepth;
+			final List<LinkedList<ChainElement>> deeperChains= new ArrayList<>();
+			for (int start= 0; start < incompleteChains.size() && !isCanceled; start+= BATCH_SIZE) {
+				final List<LinkedList<ChainElement>> batch= incompleteChains.subList(start, Math.min(start + BATCH_SIZE, incompleteChains.size()));
+				final boolean searchDeeper= canSearchDeeper && incompleteChains.size() - start + deeperChains.size() <= MAX_QUEUED_CHAINS;
+				// null marks a valid end of chain
+				final List<List<ChainElement>> newEdges= batch.parallelStream()
+						.map(chain -> isValidEndOfChain(chain.getLast(), chain.getFirst(), expectedType, expectedDimensions) ? null
+								: searchDeeper && !isCanceled ? searchDeeper(chain) : Collections.<ChainElement> emptyList())
+						.collect(Collectors.toList());
+				for (int i= 0; i < batch.size(); i++) {
+					final LinkedList<ChainElement> chain= batch.get(i);
+					if (newEdges.get(i) == null) {
+						if (chain.size() >= minDepth) {
+							chains.add(new Chain(chain, expectedDimensions));
+							if (chains.size() == maxChains) {
+								return;
+							}
+						}
+						continue;
+					}
+					for (final ChainElement newEdge : newEdges.get(i)) {
+						deeperChains.add(cloneChainAndAppendEdge(chain, newEdge));
 					}
 				}
-				continue;
-			}
-			if (chain.size() < maxDepth && incompleteChains.size() <= 50000) {
-				searchDeeper(chain, incompleteChains, edge.getReturnType());
 			}
+			incompleteChains= deeperChains;
 		}
 	}
 
@@ -107,8 +141,8 @@ public class ChainFinder {
 		return chains;
 	}
 
-	private static LinkedList<LinkedList<ChainElement>> prepareQueue(final List<ChainElement> entrypoints) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= new LinkedList<>();
+	private static List<LinkedList<ChainElement>> prepareQueue(final List<ChainElement> entrypoints) {
+		final List<LinkedList<ChainElement>> incompleteChains= new ArrayList<>();
 		for (final ChainElement entrypoint : entrypoints) {
 			final LinkedList<ChainElement> chain= new LinkedList<>();
 			chain.add(entrypoint);
@@ -147,51 +181,43 @@ public class ChainFinder {
 		if (expectedType.getPrimitiveType() != null) {
 			return expectedType.getPrimitiveType().equals(edge.getReturnType().getPrimitiveType());
 		}
-		Boolean isAssignable= assignableCache.get(edge.toString() + expectedType.toString());
-		if (isAssignable == null) {
-			isAssignable= ChainElementAnalyzer.isAssignable(edge, expectedType.getType(), expectedDimension);
-			assignableCache.put(edge.toString() + expectedType.toString(), isAssignable);
+		if (expectedDimension > edge.getReturnTypeDimension()) {
+			return false;
 		}
-		return isAssignable;
+		return index.isAssignable(edge.getReturnType().getType(), expectedType.getType());
 	}
 
-	private void searchDeeper(final LinkedList<ChainElement> chain,
-			final List<LinkedList<ChainElement>> incompleteChains, final ChainType currentlyVisitedType) {
+	private List<ChainElement> searchDeeper(final LinkedList<ChainElement> chain) {
 		boolean staticOnly= false;
 		if (chain.getLast().getElementType() == ElementType.TYPE) {
 			staticOnly= true;
 		}
 
-		for (final IJavaElement element : findAllFieldsAndMethods(currentlyVisitedType, staticOnly)) {
-			final ChainElement newEdge= createEdge(element);
+		final List<ChainElement> newEdges= new ArrayList<>();
+		for (final ChainElement newEdge : findAllFieldsAndMethods(chain.getLast().getReturnType(), staticOnly)) {
 			if (newEdge.getElementType() != null && !chain.contains(newEdge)) {
-				incompleteChains.add(cloneChainAndAppendEdge(chain, newEdge));
+				newEdges.add(newEdge);
 			}
 		}
+		return newEdges;
 	}
 
-	private List<IJavaElement> findAllFieldsAndMethods(final ChainType chainElementType, boolean staticOnly) {
-		List<IJavaElement> cached= fieldsAndMethodsCache.get(chainElementType.toString() + Boolean.toString(staticOnly));
+	private List<ChainElement> findAllFieldsAndMethods(final ChainType chainElementType, boolean staticOnly) {
+		final IType type= chainElementType.getPrimitiveType() == null ? chainElementType.getType() : null;
+		if (type == null) {
+			return Collections.emptyList();
+		}
+		final String key= type.getHandleIdentifier() + Boolean.toString(staticOnly);
+		List<ChainElement> cached= fieldsAndMethodsCache.get(key);
 		if (cached == null) {
-			cached= new LinkedList<>();
-			Collection<IJavaElement> candidates= staticOnly
-					? ChainElementAnalyzer.findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(chainElementType, new ChainType(receiverType))
-					: ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(chainElementType, new ChainType(receiverType));
-			for (final IJavaElement e : candidates) {
-				if (!ChainFinder.isFromExcludedType(excludedTypes, e)) {
-					cached.add(e);
+			cached= new ArrayList<>();
+			for (final ChainElement edge : index.getEdges(type, staticOnly)) {
+				final IJavaElement e= edge.getElement();
+				if (ChainElementAnalyzer.canBeSeenBy(e, receiverType) && !ChainFinder.isFromExcludedType(excludedTypes, e)) {
+					cached.add(edge);
 				}
 			}
-			fieldsAndMethodsCache.put(chainElementType.toString() + Boolean.toString(staticOnly), cached);
-		}
-		return cached;
-	}
-
-	private ChainElement createEdge(final IJavaElement member) {
-		ChainElement cached= edgeCache.get(member);
-		if (cached == null) {
-			cached= new ChainElement(member, false);
-			edgeCache.put(member, cached);
+			fieldsAndMethodsCache.put(key, cached);
 		}
 		return cached;
 	}
@@ -0,0 +1,291 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * The member graph searched by {@link ChainFinder}, shared by all chain completions.
+ * <p>
+ * The nodes of the graph are keyed by the project and the key ({@link IType#getKey()}) of a type.
+ * A node holds the supertypes of the type, the fields and methods of the type as chain edges, and
+ * whether the type is assignable to the expected types queried so far. A node is dropped when a
+ * compilation unit declaring the type or one of its supertypes changes. The whole graph is cleared
+ * when the classpath, the package fragments or the set of compilation units change, since types
+ * may then resolve differently.
+ * </p>
+ */
+public final class ChainIndex implements IElementChangedListener {
+
+	private static final class TypeNode {
+
+		/**
+		 * The type and its supertypes
+		 */
+		final List<IType> fSupertypes;
+
+		/**
+		 * The handle identifiers of the primary compilation units declaring the supertypes
+		 */
+		final Set<String> fDependencies;
+
+		volatile List<ChainElement> fInstanceEdges;
+
+		volatile List<ChainElement> fStaticEdges;
+
+		/**
+		 * Whether the type is assignable to an expected type, keyed by the node key of the expected
+		 * type
+		 */
+		final Map<String, Boolean> fAssignable= new ConcurrentHashMap<>();
+
+		TypeNode(List<IType> supertypes, Set<String> dependencies) {
+			fSupertypes= supertypes;
+			fDependencies= dependencies;
+		}
+	}
+
+	/**
+	 * The maximal number of nodes, the graph is cleared when it grows larger
+	 */
+	private static final int MAX_NODES= 20000;
+
+	private static ChainIndex fgDefault;
+
+	private final Map<String, TypeNode> fNodes= new ConcurrentHashMap<>();
+
+	/**
+	 * The nodes which depend on a compilation unit, guarded by <code>this</code>
+	 */
+	private final Map<String, Set<String>> fDependents= new HashMap<>();
+
+	/**
+	 * Incremented whenever nodes are dropped, so that nodes computed concurrently with a change are
+	 * not stored
+	 */
+	private int fGeneration;
+
+	private ChainIndex() {
+	}
+
+	public static synchronized ChainIndex getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new ChainIndex();
+			JavaCore.addElementChangedListener(fgDefault, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Removes the index (called by the JavaManipulationPlugin on shutdown).
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault);
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * Returns the fields and methods of a type and its supertypes which can continue a chain,
+	 * regardless of their visibility.
+	 *
+	 * @param type the type
+	 * @param staticOnly <code>true</code> for the static fields and methods, <code>false</code> for
+	 *            the instance fields and methods
+	 * @return the edges, must not be modified
+	 */
+	public List<ChainElement> getEdges(IType type, boolean staticOnly) {
+		TypeNode node= getNode(type);
+		if (node == null) {
+			return Collections.emptyList();
+		}
+		List<ChainElement> edges= staticOnly ? node.fStaticEdges : node.fInstanceEdges;
+		if (edges == null) {
+			List<ChainElement> list= new ArrayList<>();
+			for (IJavaElement member : ChainElementAnalyzer.findFieldsAndMethods(node.fSupertypes, staticOnly)) {
+				list.add(new ChainElement(member, false));
+			}
+			edges= Collections.unmodifiableList(list);
+			if (staticOnly) {
+				node.fStaticEdges= edges;
+			} else {
+				node.fInstanceEdges= edges;
+			}
+		}
+		return edges;
+	}
+
+	/**
+	 * @param base the type, may be <code>null</code> if it could not be resolved
+	 * @param expectedType the expected type
+	 * @return <code>true</code> if values of the type can be assigned to the expected type
+	 */
+	public boolean isAssignable(IType base, IType expectedType) {
+		TypeNode node= getNode(base);
+		if (node == null || expectedType == null) {
+			return false;
+		}
+		String key= getKey(expectedType);
+		Boolean isAssignable= node.fAssignable.get(key);
+		if (isAssignable == null) {
+			isAssignable= Boolean.valueOf(ChainElementAnalyzer.isAssignable(base, expectedType));
+			node.fAssignable.put(key, isAssignable);
+		}
+		return isAssignable.booleanValue();
+	}
+
+	private TypeNode getNode(IType type) {
+		if (type == null) {
+			return null;
+		}
+		String key= getKey(type);
+		TypeNode node= fNodes.get(key);
+		if (node == null) {
+			int generation= getGeneration();
+			List<IType> supertypes= ChainElementAnalyzer.findAllSupertypes(type);
+			Set<String> dependencies= new HashSet<>();
+			for (IType supertype : supertypes) {
+				ICompilationUnit cu= supertype.getCompilationUnit();
+				if (cu != null) {
+					dependencies.add(cu.getPrimary().getHandleIdentifier());
+				}
+			}
+			node= new TypeNode(supertypes, dependencies);
+			put(key, node, generation);
+		}
+		return node;
+	}
+
+	private static String getKey(IType type) {
+		return type.getJavaProject().getElementName() + '|' + type.getKey();
+	}
+
+	private synchronized int getGeneration() {
+		return fGeneration;
+	}
+
+	private synchronized void put(String key, TypeNode node, int generation) {
+		if (generation != fGeneration || fNodes.containsKey(key)) {
+			return;
+		}
+		if (fNodes.size() >= MAX_NODES) {
+			clear();
+		}
+		fNodes.put(key, node);
+		for (String dependency : node.fDependencies) {
+			fDependents.computeIfAbsent(dependency, k -> new HashSet<>()).add(key);
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			if (fNodes.isEmpty()) {
+				// a node may be computed right now
+				fGeneration++;
+				return;
+			}
+			processDelta(event.getDelta());
+		}
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+								| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0) {
+					clear();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+								| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER)) != 0) {
+					clear();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					clear();
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					// added and removed types change how signatures resolve
+					clear();
+				} else if ((delta.getFlags() & ~(IJavaElementDelta.F_AST_AFFECTED | IJavaElementDelta.F_PRIMARY_RESOURCE)) != 0) {
+					invalidate(((ICompilationUnit) element).getPrimary().getHandleIdentifier());
+				}
+				return;
+			default:
+				// changes below compilation units are reported with their compilation unit
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	private void invalidate(String dependency) {
+		fGeneration++;
+		Set<String> dependents= fDependents.remove(dependency);
+		if (dependents == null) {
+			return;
+		}
+		for (String key : dependents) {
+			TypeNode node= fNodes.remove(key);
+			if (node != null) {
+				for (String other : node.fDependencies) {
+					Set<String> keys= fDependents.get(other);
+					if (keys != null) {
+						keys.remove(key);
+						if (keys.isEmpty()) {
+							fDependents.remove(other);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private void clear() {
+		fGeneration++;
+		fNodes.clear();
+		fDependents.clear();
+		ChainElementAnalyzer.clearTypeCache();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 IBM Corporation and others.
+ * Copyright (c) 2019, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -204,6 +204,22 @@ public class CallHierarchyCore {
         return Boolean.parseBoolean(JavaManipulation.getPreference(PREF_USE_FILTERS, null));
     }
 
+    /**
+     * Returns a key identifying the filters which are applied to the found calls, so that cached
+     * calls are only reused while the same filters are active.
+     *
+     * @return the key
+     * @since 3.33
+     */
+    String getFilterKey() {
+        StringBuilder key= new StringBuilder();
+        key.append(isFilterTestCode());
+        if (isFilterEnabled()) {
+            key.append('|').append(getFilters());
+        }
+        return key.toString();
+    }
+
     /**
      * Returns the current filters as a string.
      * @return returns the filters
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.jdt.internal.corext.callhierarchy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -61,13 +62,24 @@ class CalleeAnalyzerVisitor extends HierarchicalASTVisitor {
     private int fMethodEndPosition;
     private int fMethodStartPosition;
 	private CallLocation fCalledAt;
+	/**
+	 * The supertypes of the called types, shared by the visitors analyzing the members of one
+	 * compilation unit
+	 */
+	private final Map<IType, IType[]> fSuperTypes;
+	private boolean fUsesCallLocation;
 
     CalleeAnalyzerVisitor(CallLocation calledAt, IMember member, CompilationUnit compilationUnit, IProgressMonitor progressMonitor) {
+        this(calledAt, member, compilationUnit, progressMonitor, new HashMap<>());
+    }
+
+    CalleeAnalyzerVisitor(CallLocation calledAt, IMember member, CompilationUnit compilationUnit, IProgressMonitor progressMonitor, Map<IType, IType[]> superTypes) {
 		fSearchResults = new CallSearchResultCollector();
         this.fCalledAt= calledAt;
         this.fMember = member;
         this.fCompilationUnit= compilationUnit;
         this.fProgressMonitor = progressMonitor;
+        this.fSuperTypes= superTypes;
 
         try {
             ISourceRange sourceRange = member.getSourceRange();
@@ -85,6 +97,15 @@ class CalleeAnalyzerVisitor extends HierarchicalASTVisitor {
         return fSearchResults.getCallers();
     }
 
+    /**
+     * @return <code>true</code> if the callees depend on the location from which the member is
+     *         called, i.e. they are implementations of an abstract method
+     * @since 3.33
+     */
+    public boolean usesCallLocation() {
+        return fUsesCallLocation;
+    }
+
     @Override
 	public boolean visit(ClassInstanceCreation node) {
         progressMonitorWorked(1);
@@ -262,7 +283,7 @@ class CalleeAnalyzerVisitor extends HierarchicalASTVisitor {
                 }
 
                 IMethod calledMethod = findIncludingSupertypes(calledMethodBinding,
-                        calledType, fProgressMonitor);
+                        calledType);
 
                 List<IMember> referencedMembers= new ArrayList<>();
                 boolean implementationResults = false;
@@ -289,6 +310,7 @@ class CalleeAnalyzerVisitor extends HierarchicalASTVisitor {
                     }
                 }
 
+                fUsesCallLocation|= implementationResults;
                 Optional<CallLocation> calledAt= Optional.ofNullable(fCalledAt);
                 Integer ignore = Integer.valueOf(-1);
 				final int position= implementationResults ? calledAt.map(CallLocation::getStart).orElse(ignore).intValue() : node.getStartPosition();
@@ -305,11 +327,16 @@ class CalleeAnalyzerVisitor extends HierarchicalASTVisitor {
         }
     }
 
-    private static IMethod findIncludingSupertypes(IMethodBinding method, IType type, IProgressMonitor pm) throws JavaModelException {
+    private IMethod findIncludingSupertypes(IMethodBinding method, IType type) throws JavaModelException {
 		IMethod inThisType= Bindings.findMethod(method, type);
 		if (inThisType != null)
 			return inThisType;
-		for (IType superType : JavaModelUtil.getAllSuperTypes(type, pm)) {
+		IType[] superTypes= fSuperTypes.get(type);
+		if (superTypes == null) {
+			superTypes= JavaModelUtil.getAllSuperTypes(type, fProgressMonitor);
+			fSuperTypes.put(type, superTypes);
+		}
+		for (IType superType : superTypes) {
 			IMethod m= Bindings.findMethod(method, superType);
 			if (m != null)
 				return m;
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * The callees found by {@link CalleeMethodWrapper}, shared by all call hierarchies.
+ * <p>
+ * An entry is keyed by the handle of the analyzed member and the active filters, and is only
+ * valid for the modification stamp of the compilation unit or class file it was computed from.
+ * Since the callees are resolved through bindings which depend on other compilation units, the
+ * whole cache is cleared whenever the content or the structure of the Java model changes.
+ * </p>
+ *
+ * @since 3.33
+ */
+public final class CalleeCache implements IElementChangedListener {
+
+	private static final class Entry {
+
+		final long fStamp;
+
+		final Map<String, MethodCall> fCallees;
+
+		Entry(long stamp, Map<String, MethodCall> callees) {
+			fStamp= stamp;
+			fCallees= callees;
+		}
+	}
+
+	/**
+	 * The maximal number of entries, the cache is cleared when it grows larger
+	 */
+	private static final int MAX_ENTRIES= 5000;
+
+	private static CalleeCache fgDefault;
+
+	private final Map<String, Entry> fEntries= new HashMap<>();
+
+	/**
+	 * Incremented whenever the cache is cleared, so that callees computed concurrently with a
+	 * change are not stored
+	 */
+	private int fGeneration;
+
+	private CalleeCache() {
+	}
+
+	static synchronized CalleeCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new CalleeCache();
+			JavaCore.addElementChangedListener(fgDefault, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Removes the cache (called by the JavaManipulationPlugin on shutdown).
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault);
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * @param member the analyzed member
+	 * @return a copy of the callees of the member, or <code>null</code> if they have to be computed
+	 */
+	Map<String, MethodCall> get(IMember member) {
+		long stamp= getStamp(member);
+		if (stamp == IResource.NULL_STAMP) {
+			return null;
+		}
+		synchronized (this) {
+			Entry entry= fEntries.get(getKey(member));
+			if (entry == null || entry.fStamp != stamp) {
+				return null;
+			}
+			return new HashMap<>(entry.fCallees);
+		}
+	}
+
+	/**
+	 * @param member the analyzed member
+	 * @return <code>true</code> if the callees of the member are cached
+	 */
+	boolean contains(IMember member) {
+		return get(member) != null;
+	}
+
+	/**
+	 * @return the current generation, to be passed to {@link #put(IMember, Map, int)} for callees
+	 *         computed from now on
+	 */
+	synchronized int getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Stores the callees of a member, unless the Java model changed since they were computed.
+	 *
+	 * @param member the analyzed member
+	 * @param callees the callees, must not be modified afterwards
+	 * @param generation the generation when the computation was started
+	 */
+	void put(IMember member, Map<String, MethodCall> callees, int generation) {
+		long stamp= getStamp(member);
+		if (stamp == IResource.NULL_STAMP) {
+			return;
+		}
+		String key= getKey(member);
+		synchronized (this) {
+			if (generation != fGeneration) {
+				return;
+			}
+			if (fEntries.size() >= MAX_ENTRIES) {
+				fEntries.clear();
+			}
+			fEntries.put(key, new Entry(stamp, new HashMap<>(callees)));
+		}
+	}
+
+	/**
+	 * Drops the callees of a member, e.g. when the user explicitly refreshes them.
+	 *
+	 * @param member the analyzed member
+	 */
+	void remove(IMember member) {
+		String key= getKey(member);
+		synchronized (this) {
+			fEntries.remove(key);
+		}
+	}
+
+	private static String getKey(IMember member) {
+		return member.getHandleIdentifier() + '|' + CallHierarchyCore.getDefault().getFilterKey();
+	}
+
+	/**
+	 * @param member the member
+	 * @return the modification stamp of the compilation unit or class file declaring the member,
+	 *         or {@link IResource#NULL_STAMP} if its callees must not be cached
+	 */
+	private static long getStamp(IMember member) {
+		ITypeRoot typeRoot= member.getTypeRoot();
+		try {
+			if (typeRoot == null || typeRoot.hasUnsavedChanges()) {
+				return IResource.NULL_STAMP;
+			}
+		} catch (JavaModelException e) {
+			return IResource.NULL_STAMP;
+		}
+		IResource resource= typeRoot.getResource();
+		// external class files only change together with their archive, which clears the cache
+		return resource != null ? resource.getModificationStamp() : 0;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (isChanged(event.getDelta())) {
+			synchronized (this) {
+				fGeneration++;
+				fEntries.clear();
+			}
+		}
+	}
+
+	/**
+	 * @param delta the delta
+	 * @return <code>true</code> if the delta reports a change which may affect the resolved
+	 *         callees
+	 */
+	private static boolean isChanged(IJavaElementDelta delta) {
+		int flags= delta.getFlags();
+		if (delta.getElement().getElementType() == IJavaElement.COMPILATION_UNIT) {
+			return delta.getKind() != IJavaElementDelta.CHANGED
+					|| (flags & ~(IJavaElementDelta.F_PRIMARY_WORKING_COPY | IJavaElementDelta.F_AST_AFFECTED)) != 0;
+		}
+		// F_CONTENT reports changed non-Java resources here
+		if (delta.getKind() != IJavaElementDelta.CHANGED || (flags & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT)) != 0) {
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isChanged(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,15 +15,24 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 
 import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
 
 class CalleeMethodWrapper extends MethodWrapper {
     private Comparator<MethodWrapper> fMethodWrapperComparator = new MethodWrapperComparator();
@@ -83,25 +92,90 @@ class CalleeMethodWrapper extends MethodWrapper {
     }
 
 	/**
-     * Find callees called from the current method.
+     * Find callees called from the current method. The callees of the other methods of the
+     * compilation unit are computed from the same AST and cached, so that expanding them does not
+     * parse the compilation unit again.
 	 * @see org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper#findChildren(org.eclipse.core.runtime.IProgressMonitor)
      */
     @Override
 	protected Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor) {
     	IMember member= getMember();
 		if (member.exists()) {
+			CalleeCache cache= CalleeCache.getDefault();
+			Map<String, MethodCall> cached= cache.get(member);
+			if (cached != null) {
+				return cached;
+			}
+			int generation= cache.getGeneration();
 			CompilationUnit cu= CallHierarchyCore.getCompilationUnitNode(member, true);
 		    if (progressMonitor != null) {
 		        progressMonitor.worked(5);
 		    }
 
 			if (cu != null) {
-				CalleeAnalyzerVisitor visitor = new CalleeAnalyzerVisitor(this.getMethodCall().getFirstCallLocation(), member, cu, progressMonitor);
+				IProgressMonitor monitor= progressMonitor != null ? progressMonitor : new NullProgressMonitor();
+				Map<IType, IType[]> superTypes= new HashMap<>();
+				CalleeAnalyzerVisitor visitor = new CalleeAnalyzerVisitor(this.getMethodCall().getFirstCallLocation(), member, cu, monitor, superTypes);
 
 				cu.accept(visitor);
+				if (!visitor.usesCallLocation()) {
+					cache.put(member, visitor.getCallees(), generation);
+				}
+				try {
+					analyzeOtherMethods(cu, member, cache, generation, monitor, superTypes);
+				} catch (OperationCanceledException e) {
+					// the callees of the member are known, the others are computed when needed
+				}
 				return visitor.getCallees();
 			}
 		}
         return new HashMap<>(0);
     }
+
+	/**
+	 * Computes and caches the callees of the methods declared in the given AST.
+	 *
+	 * @param cu the AST with bindings
+	 * @param member the member which has already been analyzed
+	 * @param cache the cache
+	 * @param generation the generation of the cache when the AST was created
+	 * @param monitor the progress monitor
+	 * @param superTypes the supertypes of the called types
+	 */
+	private static void analyzeOtherMethods(CompilationUnit cu, IMember member, CalleeCache cache, int generation, IProgressMonitor monitor, Map<IType, IType[]> superTypes) {
+		List<IMethod> methods= new ArrayList<>();
+		cu.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(MethodDeclaration node) {
+				IMethodBinding binding= node.resolveBinding();
+				if (binding != null && binding.getJavaElement() instanceof IMethod method && !method.equals(member)) {
+					methods.add(method);
+				}
+				return true;
+			}
+		});
+		for (IMethod method : methods) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			if (!cache.contains(method)) {
+				CalleeAnalyzerVisitor visitor= new CalleeAnalyzerVisitor(null, method, cu, monitor, superTypes);
+				cu.accept(visitor);
+				if (!visitor.usesCallLocation()) {
+					cache.put(method, visitor.getCallees(), generation);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the given method call from the cache and from the {@link CalleeCache}.
+	 *
+	 * @since 3.33
+	 */
+	@Override
+	public void removeFromCache() {
+		super.removeFromCache();
+		CalleeCache.getDefault().remove(getMember());
+	}
 }
@@ -0,0 +1,327 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * The callers found by {@link CallerMethodWrapper}, shared by all call hierarchies.
+ * <p>
+ * An entry is keyed by the searched member, the search mode and the active filters, see
+ * {@link CallerMethodWrapper#getIndexKey()}. It is dropped when a compilation unit containing one
+ * of the callers changes or is removed, and when a compilation unit mentioning the name of the
+ * searched member is added or changed. The whole index is cleared when the classpath, the package
+ * fragments or the archives change.
+ * </p>
+ *
+ * @since 3.33
+ */
+public final class CallerIndex implements IElementChangedListener {
+
+	private static final class Entry {
+
+		final Map<String, MethodCall> fCallers;
+
+		/**
+		 * The handle identifiers of the primary compilation units containing the callers
+		 */
+		final Set<String> fDependencies;
+
+		/**
+		 * The simple name by which the searched member is referenced
+		 */
+		final String fName;
+
+		Entry(Map<String, MethodCall> callers, Set<String> dependencies, String name) {
+			fCallers= callers;
+			fDependencies= dependencies;
+			fName= name;
+		}
+	}
+
+	/**
+	 * The maximal number of entries, the index is cleared when it grows larger
+	 */
+	private static final int MAX_ENTRIES= 5000;
+
+	private static CallerIndex fgDefault;
+
+	private final Map<String, Entry> fEntries= new HashMap<>();
+
+	/**
+	 * The entries which depend on a compilation unit
+	 */
+	private final Map<String, Set<String>> fDependents= new HashMap<>();
+
+	/**
+	 * The entries which depend on a simple name
+	 */
+	private final Map<String, Set<String>> fNameDependents= new HashMap<>();
+
+	/**
+	 * Incremented whenever the Java model changes, so that callers found concurrently with a change
+	 * are not stored
+	 */
+	private int fGeneration;
+
+	private CallerIndex() {
+	}
+
+	public static synchronized CallerIndex getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new CallerIndex();
+			JavaCore.addElementChangedListener(fgDefault, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Removes the index (called by the JavaManipulationPlugin on shutdown).
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault);
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * @param key the key of the search
+	 * @return a copy of the callers found by the search, or <code>null</code> if the search has to
+	 *         be run
+	 */
+	synchronized Map<String, MethodCall> get(String key) {
+		Entry entry= fEntries.get(key);
+		return entry != null ? new HashMap<>(entry.fCallers) : null;
+	}
+
+	/**
+	 * @return the current generation, to be passed to {@link #put(String, String, Map, int)} for a
+	 *         search started now
+	 */
+	synchronized int getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Stores the callers found by a search, unless the Java model changed since the search was
+	 * started.
+	 *
+	 * @param key the key of the search
+	 * @param name the simple name by which the searched member is referenced
+	 * @param callers the callers, must not be modified afterwards
+	 * @param generation the generation when the search was started
+	 */
+	synchronized void put(String key, String name, Map<String, MethodCall> callers, int generation) {
+		if (generation != fGeneration) {
+			return;
+		}
+		if (fEntries.size() >= MAX_ENTRIES) {
+			clear();
+		}
+		Set<String> dependencies= new HashSet<>();
+		for (MethodCall call : callers.values()) {
+			ICompilationUnit cu= call.getMember().getCompilationUnit();
+			if (cu != null) {
+				dependencies.add(cu.getPrimary().getHandleIdentifier());
+			}
+		}
+		remove(key);
+		fEntries.put(key, new Entry(new HashMap<>(callers), dependencies, name));
+		for (String dependency : dependencies) {
+			fDependents.computeIfAbsent(dependency, k -> new HashSet<>()).add(key);
+		}
+		fNameDependents.computeIfAbsent(name, k -> new HashSet<>()).add(key);
+	}
+
+	/**
+	 * Drops an entry, e.g. when the user explicitly refreshes it.
+	 *
+	 * @param key the key of the search
+	 */
+	synchronized void remove(String key) {
+		Entry entry= fEntries.remove(key);
+		if (entry == null) {
+			return;
+		}
+		for (String dependency : entry.fDependencies) {
+			removeDependent(fDependents, dependency, key);
+		}
+		removeDependent(fNameDependents, entry.fName, key);
+	}
+
+	private static void removeDependent(Map<String, Set<String>> dependents, String dependency, String key) {
+		Set<String> keys= dependents.get(dependency);
+		if (keys != null) {
+			keys.remove(key);
+			if (keys.isEmpty()) {
+				dependents.remove(dependency);
+			}
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			fGeneration++;
+			if (fEntries.isEmpty()) {
+				return;
+			}
+		}
+		if (!processDelta(event.getDelta())) {
+			clear();
+		}
+	}
+
+	/**
+	 * @param delta the delta
+	 * @return <code>false</code> if the whole index has to be cleared
+	 */
+	private boolean processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+								| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0) {
+					return false;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+								| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER)) != 0) {
+					return false;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					return false;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				return processCompilationUnitDelta(delta, (ICompilationUnit) element);
+			default:
+				// changes below compilation units are reported with their compilation unit
+				return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!processDelta(child)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean processCompilationUnitDelta(IJavaElementDelta delta, ICompilationUnit cu) {
+		switch (delta.getKind()) {
+			case IJavaElementDelta.REMOVED:
+				invalidate(cu.getPrimary().getHandleIdentifier());
+				return true;
+			case IJavaElementDelta.ADDED:
+				return invalidateNames(cu);
+			default:
+				if ((delta.getFlags() & ~(IJavaElementDelta.F_AST_AFFECTED | IJavaElementDelta.F_PRIMARY_RESOURCE)) == 0) {
+					return true;
+				}
+				invalidate(cu.getPrimary().getHandleIdentifier());
+				return invalidateNames(cu);
+		}
+	}
+
+	private synchronized void invalidate(String dependency) {
+		Set<String> keys= fDependents.get(dependency);
+		if (keys != null) {
+			for (String key : new ArrayList<>(keys)) {
+				remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Drops the entries of the members whose name is mentioned in a compilation unit, since the
+	 * compilation unit may contain new callers of them.
+	 *
+	 * @param cu the compilation unit
+	 * @return <code>false</code> if the source is not available
+	 */
+	private boolean invalidateNames(ICompilationUnit cu) {
+		String source;
+		try {
+			source= cu.getSource();
+		} catch (JavaModelException e) {
+			source= null;
+		}
+		if (source == null) {
+			return false;
+		}
+		Set<String> identifiers= getIdentifiers(source);
+		synchronized (this) {
+			List<String> keys= new ArrayList<>();
+			for (String identifier : identifiers) {
+				Set<String> nameKeys= fNameDependents.get(identifier);
+				if (nameKeys != null) {
+					keys.addAll(nameKeys);
+				}
+			}
+			for (String key : keys) {
+				remove(key);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param text the text
+	 * @return the Java identifiers contained in the text
+	 */
+	static Set<String> getIdentifiers(String text) {
+		Set<String> identifiers= new HashSet<>();
+		int length= text.length();
+		int i= 0;
+		while (i < length) {
+			if (Character.isJavaIdentifierStart(text.charAt(i))) {
+				int start= i++;
+				while (i < length && Character.isJavaIdentifierPart(text.charAt(i))) {
+					i++;
+				}
+				identifiers.add(text.substring(start, i));
+			} else {
+				i++;
+			}
+		}
+		return identifiers;
+	}
+
+	private synchronized void clear() {
+		fEntries.clear();
+		fDependents.clear();
+		fNameDependents.clear();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,33 +17,175 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IOpenable;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
 
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
 public class CallerMethodWrapper extends MethodWrapper {
+	/**
+	 * The callers of methods and fields with distinct names, searched with one combined pattern.
+	 * A match is attributed to the member whose name is the only name of a member of the batch in
+	 * the matched source. If a match cannot be attributed, the members are searched separately.
+	 *
+	 * @since 3.33
+	 */
+	private static final class CallerBatch extends SearchRequestor {
+
+		private final IJavaSearchScope fScope;
+
+		private final Map<String, CallerMethodWrapper> fWrappers= new LinkedHashMap<>();
+
+		private final Map<String, MethodReferencesSearchRequestor> fRequestors= new HashMap<>();
+
+		private boolean fUncertain;
+
+		CallerBatch(IJavaSearchScope scope) {
+			fScope= scope;
+		}
+
+		/**
+		 * @param wrapper the wrapper of a method or field
+		 * @return <code>false</code> if the batch is full or already contains a member with the
+		 *         same name
+		 */
+		boolean add(CallerMethodWrapper wrapper) {
+			String name= wrapper.getMember().getElementName();
+			if (fWrappers.size() >= BATCH_SIZE || fWrappers.containsKey(name)) {
+				return false;
+			}
+			fWrappers.put(name, wrapper);
+			return true;
+		}
+
+		/**
+		 * @param monitor the progress monitor
+		 * @return the callers keyed by the search key of the wrappers
+		 * @throws CoreException if the search fails
+		 */
+		Map<String, Map<String, MethodCall>> search(IProgressMonitor monitor) throws CoreException {
+			CallerIndex index= CallerIndex.getDefault();
+			int generation= index.getGeneration();
+			SearchPattern pattern= null;
+			for (Map.Entry<String, CallerMethodWrapper> entry : fWrappers.entrySet()) {
+				SearchPattern memberPattern= entry.getValue().createSearchPattern();
+				pattern= pattern == null ? memberPattern : SearchPattern.createOrPattern(pattern, memberPattern);
+				fRequestors.put(entry.getKey(), new MethodReferencesSearchRequestor());
+			}
+			new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, fScope, this, monitor);
+
+			Map<String, Map<String, MethodCall>> result= new HashMap<>();
+			for (Map.Entry<String, CallerMethodWrapper> entry : fWrappers.entrySet()) {
+				CallerMethodWrapper wrapper= entry.getValue();
+				Map<String, MethodCall> callers;
+				if (fUncertain) {
+					callers= wrapper.findChildren(monitor);
+				} else {
+					callers= fRequestors.get(entry.getKey()).getCallers();
+					String key= wrapper.getIndexKey();
+					if (key != null) {
+						index.put(key, entry.getKey(), callers, generation);
+					}
+				}
+				result.put(wrapper.getSearchKey(), callers);
+			}
+			return result;
+		}
+
+		@Override
+		public void acceptSearchMatch(SearchMatch match) throws CoreException {
+			if (fUncertain || match.getAccuracy() != SearchMatch.A_ACCURATE || match.isInsideDocComment() || !(match.getElement() instanceof IMember)) {
+				return;
+			}
+			String text= getText(match);
+			if (text == null) {
+				fUncertain= true;
+				return;
+			}
+			int index= text.indexOf('(');
+			String target= null;
+			for (String identifier : CallerIndex.getIdentifiers(index != -1 ? text.substring(0, index) : text)) {
+				if (fRequestors.containsKey(identifier)) {
+					if (target != null) {
+						fUncertain= true;
+						return;
+					}
+					target= identifier;
+				}
+			}
+			if (target == null) {
+				fUncertain= true;
+				return;
+			}
+			fRequestors.get(target).acceptSearchMatch(match);
+		}
+
+		private static String getText(SearchMatch match) throws JavaModelException {
+			IOpenable openable= ((IMember) match.getElement()).getOpenable();
+			IBuffer buffer= openable != null ? openable.getBuffer() : null;
+			int offset= match.getOffset();
+			int length= match.getLength();
+			if (buffer == null || offset < 0 || offset + length > buffer.getLength()) {
+				return null;
+			}
+			return buffer.getText(offset, length);
+		}
+	}
+
+	/**
+	 * The maximal number of members searched with one combined pattern.
+	 *
+	 * @since 3.33
+	 */
+	private static final int BATCH_SIZE= 16;
+
+	/**
+	 * The executor running the searches of one level concurrently.
+	 *
+	 * @since 3.33
+	 */
+	private static final ExecutorService SEARCH_EXECUTOR= createSearchExecutor();
+
 	/**
 	 * Value of the expand with constructors mode.
 	 *
@@ -63,6 +205,163 @@ public class CallerMethodWrapper extends MethodWrapper {
 		super(parent, methodCall);
 	}
 
+	private static ExecutorService createSearchExecutor() {
+		int threads= Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+		ThreadPoolExecutor executor= new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread= new Thread(runnable, "Call Hierarchy Search"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Finds the callers of the given wrappers and of their callers breadth-first, down to the given
+	 * number of levels, so that expanding the wrappers afterwards does not search again. The
+	 * searches of one level run concurrently, and the callers of methods and fields with distinct
+	 * names are searched with one combined pattern.
+	 *
+	 * @param wrappers the wrappers to expand
+	 * @param levels the number of levels to expand
+	 * @param maxLevel the level beyond which wrappers are not expanded
+	 * @param progressMonitor the progress monitor
+	 * @throws OperationCanceledException if the monitor is canceled
+	 * @since 3.33
+	 */
+	public static void expandLevels(CallerMethodWrapper[] wrappers, int levels, int maxLevel, IProgressMonitor progressMonitor) {
+		SubMonitor monitor= SubMonitor.convert(progressMonitor, CallHierarchyMessages.CallerMethodWrapper_taskname, levels);
+		List<CallerMethodWrapper> frontier= new ArrayList<>(Arrays.asList(wrappers));
+		for (int i= 0; i < levels && !frontier.isEmpty(); i++) {
+			List<CallerMethodWrapper> expandable= new ArrayList<>();
+			List<CallerMethodWrapper> toSearch= new ArrayList<>();
+			for (CallerMethodWrapper wrapper : frontier) {
+				if (wrapper.getLevel() <= maxLevel && wrapper.canHaveChildren() && !wrapper.isRecursive()) {
+					expandable.add(wrapper);
+					if (!wrapper.hasCachedCalls()) {
+						toSearch.add(wrapper);
+					}
+				}
+			}
+			Map<String, Map<String, MethodCall>> callers= searchCallers(toSearch, monitor.split(1));
+
+			List<CallerMethodWrapper> next= new ArrayList<>();
+			for (CallerMethodWrapper wrapper : expandable) {
+				Map<String, MethodCall> found= callers.get(wrapper.getSearchKey());
+				if (found != null && !wrapper.hasCachedCalls()) {
+					wrapper.setCalls(new HashMap<>(found));
+				} else if (!wrapper.hasCachedCalls()) {
+					continue; // the search failed
+				}
+				for (MethodWrapper child : wrapper.getCalls(null)) {
+					next.add((CallerMethodWrapper) child);
+				}
+			}
+			frontier= next;
+		}
+	}
+
+	/**
+	 * Searches the callers of the given wrappers concurrently.
+	 *
+	 * @param wrappers the wrappers
+	 * @param monitor the progress monitor
+	 * @return the callers keyed by the search key of the wrappers
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	private static Map<String, Map<String, MethodCall>> searchCallers(List<CallerMethodWrapper> wrappers, IProgressMonitor monitor) {
+		Map<String, Map<String, MethodCall>> result= new HashMap<>();
+		List<Callable<Map<String, Map<String, MethodCall>>>> tasks= new ArrayList<>();
+		Map<Integer, List<CallerBatch>> batches= new HashMap<>();
+		Set<String> searchKeys= new HashSet<>();
+		IProgressMonitor taskMonitor= new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+
+		CallerIndex index= CallerIndex.getDefault();
+		for (CallerMethodWrapper wrapper : wrappers) {
+			String searchKey= wrapper.getSearchKey();
+			if (!searchKeys.add(searchKey)) {
+				continue;
+			}
+			String indexKey= wrapper.getIndexKey();
+			Map<String, MethodCall> cached= indexKey != null ? index.get(indexKey) : null;
+			if (cached != null) {
+				result.put(searchKey, cached);
+			} else if (!addToBatch(batches, wrapper)) {
+				tasks.add(() -> Map.of(searchKey, wrapper.findChildren(taskMonitor)));
+			}
+		}
+
+		for (List<CallerBatch> list : batches.values()) {
+			for (CallerBatch batch : list) {
+				if (batch.fWrappers.size() == 1) {
+					CallerMethodWrapper wrapper= batch.fWrappers.values().iterator().next();
+					tasks.add(() -> Map.of(wrapper.getSearchKey(), wrapper.findChildren(taskMonitor)));
+				} else {
+					tasks.add(() -> batch.search(taskMonitor));
+				}
+			}
+		}
+		try {
+			for (Future<Map<String, Map<String, MethodCall>>> future : SEARCH_EXECUTOR.invokeAll(tasks)) {
+				try {
+					result.putAll(future.get());
+				} catch (ExecutionException e) {
+					// the wrappers of the failed search will search again when expanded
+					Throwable cause= e.getCause();
+					if (cause instanceof OperationCanceledException) {
+						throw (OperationCanceledException) cause;
+					}
+					JavaManipulationPlugin.log(cause);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		return result;
+	}
+
+	/**
+	 * Adds the wrapper of a method or field to the first batch of the same search mode which
+	 * accepts it.
+	 *
+	 * @param batches the batches keyed by the search mode
+	 * @param wrapper the wrapper
+	 * @return <code>false</code> if the callers of the member have to be searched separately
+	 */
+	private static boolean addToBatch(Map<Integer, List<CallerBatch>> batches, CallerMethodWrapper wrapper) {
+		IMember member= wrapper.getMember();
+		try {
+			if (!(member instanceof IField || member instanceof IMethod && !((IMethod) member).isConstructor())) {
+				return false;
+			}
+			IJavaSearchScope scope= wrapper.getSearchScope();
+			if (wrapper.getEffectiveSearchScope() != scope || wrapper.createSearchPattern() == null) {
+				return false;
+			}
+			List<CallerBatch> list= batches.computeIfAbsent(Integer.valueOf(wrapper.getLimitTo()), k -> new ArrayList<>());
+			for (CallerBatch batch : list) {
+				if (batch.fScope == scope && batch.add(wrapper)) {
+					return true;
+				}
+			}
+			CallerBatch batch= new CallerBatch(scope);
+			batch.add(wrapper);
+			list.add(batch);
+			return true;
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
     protected IJavaSearchScope getSearchScope() {
         return CallHierarchyCore.getDefault().getSearchScope();
     }
@@ -104,57 +403,34 @@ public class CallerMethodWrapper extends MethodWrapper {
 
 			checkCanceled(progressMonitor);
 
-			IMember member= getMember();
-			SearchPattern pattern= null;
-			IType type= null;
-			if (member instanceof IType) {
-				type= (IType) member;
-			} else if (member instanceof IInitializer && ! Flags.isStatic(member.getFlags())) {
-				type= (IType) member.getParent();
-			}
-			if (type != null) {
-				if (type.isAnonymous()) {
-					// search engine does not find reference to anonymous, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=207774
-					CallSearchResultCollector resultCollector= new CallSearchResultCollector();
-					IJavaElement parent= type.getParent();
-					if (parent instanceof IMember) {
-						IMember parentMember= (IMember) parent;
-						ISourceRange nameRange= type.getNameRange();
-						int start= nameRange != null ? nameRange.getOffset() : -1;
-						int len= nameRange != null ? nameRange.getLength() : 0;
-						resultCollector.addMember(type, parentMember, start, start + len);
-						return resultCollector.getCallers();
-					}
-				} else if (type.getParent() instanceof IMethod) {
-					// good enough for local types (does not find super(..) references in subtype constructors):
-					pattern= SearchPattern.createPattern(type,
-							IJavaSearchConstants.CLASS_INSTANCE_CREATION_TYPE_REFERENCE,
-							SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
-				} else {
-					pattern= SearchPattern.createPattern(type.getFullyQualifiedName('.'),
-							IJavaSearchConstants.CONSTRUCTOR,
-							IJavaSearchConstants.REFERENCES,
-							SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
-				}
-			}
-			if (pattern == null) {
-				int limitTo= IJavaSearchConstants.REFERENCES;
-				if (member.getElementType() == IJavaElement.FIELD)
-					limitTo= getFieldSearchMode();
-				pattern= SearchPattern.createPattern(member, limitTo, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+			Map<String, MethodCall> anonymousCallers= findAnonymousCallers();
+			if (anonymousCallers != null) {
+				return anonymousCallers;
 			}
+			SearchPattern pattern= createSearchPattern();
 			if (pattern == null) { // e.g. for initializers
 				return new HashMap<>(0);
 			}
 
+			CallerIndex index= CallerIndex.getDefault();
+			String key= getIndexKey();
+			if (key != null) {
+				Map<String, MethodCall> callers= index.get(key);
+				if (callers != null) {
+					return callers;
+				}
+			}
+			int generation= index.getGeneration();
+
 			SearchEngine searchEngine= new SearchEngine();
 			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor();
-			IJavaSearchScope defaultSearchScope= getSearchScope();
-			boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
-			IJavaSearchScope searchScope= isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, member) : defaultSearchScope;
-			searchEngine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, searchScope, searchRequestor,
+			searchEngine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getEffectiveSearchScope(), searchRequestor,
 					monitor);
-			return searchRequestor.getCallers();
+			Map<String, MethodCall> callers= searchRequestor.getCallers();
+			if (key != null) {
+				index.put(key, getReferencedName(), callers, generation);
+			}
+			return callers;
 
 		} catch (CoreException e) {
 			JavaManipulationPlugin.log(e);
@@ -162,6 +438,125 @@ public class CallerMethodWrapper extends MethodWrapper {
 		}
 	}
 
+	/**
+	 * Returns the type whose instance creations are the calls of the member, i.e. the member
+	 * itself if it is a type (which stands for the default constructor), or the declaring type of
+	 * an instance initializer.
+	 *
+	 * @param member the member
+	 * @return the instantiated type or <code>null</code>
+	 * @throws JavaModelException if the flags of the member cannot be accessed
+	 */
+	private static IType getInstantiatedType(IMember member) throws JavaModelException {
+		if (member instanceof IType) {
+			return (IType) member;
+		} else if (member instanceof IInitializer && ! Flags.isStatic(member.getFlags())) {
+			return (IType) member.getParent();
+		}
+		return null;
+	}
+
+	/**
+	 * @return the callers of an anonymous type or of its initializer, or <code>null</code> if the
+	 *         member is not an anonymous type or its initializer
+	 * @throws JavaModelException if the member cannot be accessed
+	 */
+	private Map<String, MethodCall> findAnonymousCallers() throws JavaModelException {
+		IType type= getInstantiatedType(getMember());
+		if (type != null && type.isAnonymous()) {
+			// search engine does not find reference to anonymous, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=207774
+			IJavaElement parent= type.getParent();
+			if (parent instanceof IMember) {
+				CallSearchResultCollector resultCollector= new CallSearchResultCollector();
+				IMember parentMember= (IMember) parent;
+				ISourceRange nameRange= type.getNameRange();
+				int start= nameRange != null ? nameRange.getOffset() : -1;
+				int len= nameRange != null ? nameRange.getLength() : 0;
+				resultCollector.addMember(type, parentMember, start, start + len);
+				return resultCollector.getCallers();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return the pattern to search the references of the member, or <code>null</code> if the
+	 *         member cannot be referenced
+	 * @throws JavaModelException if the member cannot be accessed
+	 */
+	private SearchPattern createSearchPattern() throws JavaModelException {
+		IMember member= getMember();
+		IType type= getInstantiatedType(member);
+		if (type != null && !type.isAnonymous()) {
+			if (type.getParent() instanceof IMethod) {
+				// good enough for local types (does not find super(..) references in subtype constructors):
+				return SearchPattern.createPattern(type,
+						IJavaSearchConstants.CLASS_INSTANCE_CREATION_TYPE_REFERENCE,
+						SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+			}
+			return SearchPattern.createPattern(type.getFullyQualifiedName('.'),
+					IJavaSearchConstants.CONSTRUCTOR,
+					IJavaSearchConstants.REFERENCES,
+					SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+		}
+		return SearchPattern.createPattern(member, getLimitTo(), SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+	}
+
+	/**
+	 * @return the key identifying the search for the callers of the member
+	 */
+	private String getSearchKey() {
+		return getMember().getHandleIdentifier() + '|' + getLimitTo();
+	}
+
+	private int getLimitTo() {
+		if (getMember().getElementType() == IJavaElement.FIELD)
+			return getFieldSearchMode();
+		return IJavaSearchConstants.REFERENCES;
+	}
+
+	private IJavaSearchScope getEffectiveSearchScope() throws JavaModelException {
+		IJavaSearchScope defaultSearchScope= getSearchScope();
+		boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
+		return isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, getMember()) : defaultSearchScope;
+	}
+
+	/**
+	 * Returns the key of the callers in the {@link CallerIndex}. Only the callers found in the
+	 * workspace scope are indexed, since the other scopes are not shared between searches.
+	 *
+	 * @return the key or <code>null</code> if the callers are not indexed
+	 */
+	String getIndexKey() {
+		if (!SearchEngine.createWorkspaceScope().equals(getSearchScope())) {
+			return null;
+		}
+		return getSearchKey() + '|' + CallHierarchyCore.getDefault().getFilterKey();
+	}
+
+	/**
+	 * @return the simple name by which the member is referenced
+	 * @throws JavaModelException if the flags of the member cannot be accessed
+	 */
+	private String getReferencedName() throws JavaModelException {
+		IType type= getInstantiatedType(getMember());
+		return type != null ? type.getElementName() : getMember().getElementName();
+	}
+
+	/**
+	 * Removes the given method call from the cache and from the {@link CallerIndex}.
+	 *
+	 * @since 3.33
+	 */
+	@Override
+	public void removeFromCache() {
+		super.removeFromCache();
+		String key= getIndexKey();
+		if (key != null) {
+			CallerIndex.getDefault().remove(key);
+		}
+	}
+
 	private IJavaSearchScope getAccurateSearchScope(IJavaSearchScope defaultSearchScope, IMember member) throws JavaModelException {
 		if (!JdtFlags.isPrivate(member) || isRecordComponent(member))
 			return defaultSearchScope;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -272,6 +272,37 @@ public abstract class MethodWrapper extends PlatformObject {
         }
     }
 
+    /**
+     * Sets the children found by a search which was run on behalf of this wrapper, so that
+     * {@link #getCalls(IProgressMonitor)} does not search again.
+     *
+     * @param children a map from handle identifier ({@link String}) to {@link MethodCall}
+     * @since 3.33
+     */
+    void setCalls(Map<String, MethodCall> children) {
+        initCalls();
+        fElements = children;
+
+        for (MethodCall methodCall : children.values()) {
+            addCallToCache(methodCall);
+        }
+    }
+
+    /**
+     * Tells whether the children of this wrapper are known, so that
+     * {@link #getCalls(IProgressMonitor)} returns without searching.
+     *
+     * @return <code>true</code> if the children are known
+     * @since 3.33
+     */
+    public boolean hasCachedCalls() {
+        if (fElements != null) {
+            return true;
+        }
+        Map<String, MethodCall> existingResults = lookupMethod(getMethodCall());
+        return existingResults != null && !existingResults.isEmpty();
+    }
+
     private MethodCall getMethodCallFromMap(Map<String, MethodCall> elements, String key) {
         return elements.get(key);
     }
@@ -38,6 +38,7 @@ import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 
+import org.eclipse.jdt.internal.junit.launcher.JUnit5TestDiscoveryCache;
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
 
 /**
@@ -144,6 +145,7 @@ public class JUnitCorePlugin extends Plugin {
 		try {
 			InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID).flush();
 			fJUnitModel.stop();
+			JUnit5TestDiscoveryCache.shutdown();
 		} finally {
 			super.stop(context);
 		}
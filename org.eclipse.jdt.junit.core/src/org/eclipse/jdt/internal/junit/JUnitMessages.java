@@ -60,6 +60,8 @@ public final class JUnitMessages extends NLS {
 
 	public static String JUnitLaunchConfigurationDelegate_verifying_attriburtes_description;
 
+	public static String TestRunSession_coalesce_job;
+
 	public static String TestRunSession_unrootedTests;
 
 	public static String TestSearchEngine_message_searching;
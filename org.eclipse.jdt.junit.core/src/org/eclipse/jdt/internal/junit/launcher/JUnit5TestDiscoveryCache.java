@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IRegion;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Caches the result of the test discovery of {@link JUnit5TestFinder} per compilation unit.
+ * <p>
+ * An entry records which types of a compilation unit are tests, the direct superclass of each type,
+ * and the compilation units of the source types (supertypes, annotation types, member types) the
+ * result was computed from. Entries are dropped when one of these compilation units changes, and
+ * the whole cache is cleared when the classpath or the set of package fragments changes.
+ * </p>
+ */
+public class JUnit5TestDiscoveryCache implements IElementChangedListener {
+
+	/**
+	 * The discovery result of one compilation unit.
+	 */
+	static final class Entry {
+
+		final IType[] fTypes;
+
+		final boolean[] fIsTest;
+
+		final IType[] fSuperclasses;
+
+		final Set<String> fDependencies;
+
+		final long fStamp;
+
+		Entry(IType[] types, boolean[] isTest, IType[] superclasses, Set<String> dependencies, long stamp) {
+			fTypes= types;
+			fIsTest= isTest;
+			fSuperclasses= superclasses;
+			fDependencies= dependencies;
+			fStamp= stamp;
+		}
+	}
+
+	private static JUnit5TestDiscoveryCache fgDefault;
+
+	/**
+	 * The entries, keyed by the handle identifier of the primary compilation unit
+	 */
+	private final Map<String, Entry> fEntries= new HashMap<>();
+
+	/**
+	 * The compilation units whose entries depend on a compilation unit
+	 */
+	private final Map<String, Set<String>> fDependents= new HashMap<>();
+
+	/**
+	 * Incremented whenever entries are dropped, so that results computed concurrently with a change
+	 * are not stored
+	 */
+	private int fGeneration;
+
+	private JUnit5TestDiscoveryCache() {
+	}
+
+	public static synchronized JUnit5TestDiscoveryCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new JUnit5TestDiscoveryCache();
+			JavaCore.addElementChangedListener(fgDefault, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Removes the cache (called by the JUnitCorePlugin on shutdown).
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault);
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * Returns the source compilation units in the given region.
+	 *
+	 * @param region the region
+	 * @return the compilation units, or <code>null</code> if the region contains binary elements
+	 * @throws JavaModelException if an element of the region does not exist
+	 */
+	static List<ICompilationUnit> getCompilationUnits(IRegion region) throws JavaModelException {
+		List<ICompilationUnit> result= new ArrayList<>();
+		for (IJavaElement element : region.getElements()) {
+			switch (element.getElementType()) {
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					IPackageFragmentRoot root= (IPackageFragmentRoot) element;
+					if (root.getKind() != IPackageFragmentRoot.K_SOURCE)
+						return null;
+					for (IJavaElement child : root.getChildren()) {
+						addCompilationUnits((IPackageFragment) child, result);
+					}
+					break;
+				case IJavaElement.PACKAGE_FRAGMENT:
+					IPackageFragment fragment= (IPackageFragment) element;
+					if (fragment.getKind() != IPackageFragmentRoot.K_SOURCE)
+						return null;
+					addCompilationUnits(fragment, result);
+					break;
+				case IJavaElement.COMPILATION_UNIT:
+					result.add((ICompilationUnit) element);
+					break;
+				case IJavaElement.TYPE:
+					ICompilationUnit cu= ((IType) element).getCompilationUnit();
+					if (cu == null)
+						return null;
+					result.add(cu);
+					break;
+				default:
+					return null;
+			}
+		}
+		return result;
+	}
+
+	private static void addCompilationUnits(IPackageFragment fragment, List<ICompilationUnit> result) throws JavaModelException {
+		for (ICompilationUnit cu : fragment.getCompilationUnits()) {
+			result.add(cu);
+		}
+	}
+
+	/**
+	 * @return the current generation, to be passed to {@link #put(ICompilationUnit, Entry, int)}
+	 */
+	synchronized int getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * @param cu the compilation unit
+	 * @return the cached entry, or <code>null</code> if there is none or it is outdated
+	 */
+	synchronized Entry get(ICompilationUnit cu) {
+		String key= cu.getPrimary().getHandleIdentifier();
+		Entry entry= fEntries.get(key);
+		if (entry != null && entry.fStamp != getStamp(cu)) {
+			remove(key);
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Stores an entry unless the cache has changed since the computation started.
+	 *
+	 * @param cu the compilation unit
+	 * @param entry the entry
+	 * @param generation the generation at the time the computation started
+	 */
+	synchronized void put(ICompilationUnit cu, Entry entry, int generation) {
+		if (generation != fGeneration)
+			return;
+		String key= cu.getPrimary().getHandleIdentifier();
+		remove(key);
+		fEntries.put(key, entry);
+		for (String dependency : entry.fDependencies) {
+			fDependents.computeIfAbsent(dependency, k -> new HashSet<>()).add(key);
+		}
+	}
+
+	static long getStamp(ICompilationUnit cu) {
+		IResource resource= cu.getPrimary().getResource();
+		return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			if (fEntries.isEmpty())
+				return;
+			processDelta(event.getDelta());
+		}
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+								| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0) {
+					clear();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+								| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER)) != 0) {
+					clear();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					clear();
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				invalidate(((ICompilationUnit) element).getPrimary().getHandleIdentifier());
+				return;
+			default:
+				// changes below compilation units are reported with their compilation unit
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	private void invalidate(String key) {
+		fGeneration++;
+		remove(key);
+		Set<String> dependents= fDependents.remove(key);
+		if (dependents != null) {
+			for (String dependent : dependents) {
+				remove(dependent);
+			}
+		}
+	}
+
+	private void remove(String key) {
+		Entry entry= fEntries.remove(key);
+		if (entry != null) {
+			for (String dependency : entry.fDependencies) {
+				Set<String> dependents= fDependents.get(dependency);
+				if (dependents != null) {
+					dependents.remove(key);
+					if (dependents.isEmpty())
+						fDependents.remove(dependency);
+				}
+			}
+		}
+	}
+
+	private void clear() {
+		fGeneration++;
+		fEntries.clear();
+		fDependents.clear();
+	}
+}
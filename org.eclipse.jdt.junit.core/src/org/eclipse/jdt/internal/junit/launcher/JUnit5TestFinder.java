@@ -13,13 +13,17 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.launcher;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IRegion;
 import org.eclipse.jdt.core.ISourceRange;
@@ -213,6 +217,133 @@ public class JUnit5TestFinder implements ITestFinder {
 		var subMonitor = SubMonitor.convert(pm, JUnitMessages.JUnit5TestFinder_searching_description, 4);
 
 		IRegion region= CoreTestSearchEngine.getRegion(element);
+		List<ICompilationUnit> compilationUnits= JUnit5TestDiscoveryCache.getCompilationUnits(region);
+		if (compilationUnits != null) {
+			findTestsInCompilationUnits(compilationUnits, region, result, subMonitor.split(3));
+		} else {
+			findTestsInHierarchy(element, region, result, subMonitor.split(3));
+		}
+
+		//JUnit 4.3 can also run JUnit-3.8-style public static Test suite() methods:
+		CoreTestSearchEngine.findSuiteMethods(element, result, subMonitor.split(1));
+	}
+
+	/**
+	 * Finds the tests in source compilation units using the {@link JUnit5TestDiscoveryCache}.
+	 * Like {@link #findTestsInHierarchy(IJavaElement, IRegion, Set, IProgressMonitor)}, this also
+	 * adds the subclasses of tests in the region.
+	 */
+	private void findTestsInCompilationUnits(List<ICompilationUnit> compilationUnits, IRegion region, Set<IType> result, IProgressMonitor pm) throws CoreException {
+		SubMonitor subMonitor= SubMonitor.convert(pm, compilationUnits.size());
+		JUnit5TestDiscoveryCache cache= JUnit5TestDiscoveryCache.getDefault();
+
+		Map<IType, IType> superclasses= new HashMap<>();
+		Set<IType> tests= new HashSet<>();
+		for (ICompilationUnit cu : compilationUnits) {
+			JUnit5TestDiscoveryCache.Entry entry= cache.get(cu);
+			if (entry == null) {
+				int generation= cache.getGeneration();
+				entry= computeEntry(cu, subMonitor.split(1));
+				cache.put(cu, entry, generation);
+			} else {
+				subMonitor.worked(1);
+			}
+			for (int i= 0; i < entry.fTypes.length; i++) {
+				IType type= entry.fTypes[i];
+				if (region.contains(type)) {
+					superclasses.put(type, entry.fSuperclasses[i]);
+					if (entry.fIsTest[i])
+						tests.add(type);
+				}
+			}
+		}
+
+		for (IType type : superclasses.keySet()) {
+			if (isTestOrSubclassOfTest(type, tests, superclasses))
+				result.add(type);
+		}
+	}
+
+	private static boolean isTestOrSubclassOfTest(IType type, Set<IType> tests, Map<IType, IType> superclasses) {
+		Set<IType> visited= new HashSet<>();
+		while (type != null && visited.add(type)) {
+			if (tests.contains(type))
+				return true;
+			type= superclasses.get(type);
+		}
+		return false;
+	}
+
+	private JUnit5TestDiscoveryCache.Entry computeEntry(ICompilationUnit cu, IProgressMonitor monitor) throws JavaModelException {
+		IType[] types= cu.getAllTypes();
+		boolean[] isTest= new boolean[types.length];
+		IType[] superclasses= new IType[types.length];
+		Set<String> dependencies= new HashSet<>();
+		dependencies.add(cu.getPrimary().getHandleIdentifier());
+		long stamp= JUnit5TestDiscoveryCache.getStamp(cu);
+
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setSource(cu);
+		parser.setFocalPosition(0);
+		parser.setResolveBindings(true);
+		CompilationUnit root= (CompilationUnit) parser.createAST(monitor);
+
+		Set<ITypeBinding> visited= new HashSet<>();
+		for (int i= 0; i < types.length; i++) {
+			IType type= types[i];
+			ITypeBinding binding= null;
+			ASTNode node= root.findDeclaringNode(type.getKey());
+			if (node instanceof TypeDeclaration || node instanceof RecordDeclaration) {
+				binding= ((AbstractTypeDeclaration) node).resolveBinding();
+			}
+			if (binding != null) {
+				collectDependencies(binding, dependencies, visited);
+				ITypeBinding superclass= binding.getSuperclass();
+				if (superclass != null && superclass.getJavaElement() instanceof IType)
+					superclasses[i]= (IType) superclass.getJavaElement();
+			}
+			if (CoreTestSearchEngine.isAccessibleClass(type, TestKindRegistry.JUNIT5_TEST_KIND_ID)) {
+				isTest[i]= CoreTestSearchEngine.hasSuiteMethod(type) || (binding != null && isTest(binding));
+			}
+		}
+		return new JUnit5TestDiscoveryCache.Entry(types, isTest, superclasses, dependencies, stamp);
+	}
+
+	/**
+	 * Collects the compilation units of the source types that the discovery result of the given
+	 * type depends on. Binary types only change together with the classpath, which clears the cache.
+	 */
+	private static void collectDependencies(ITypeBinding type, Set<String> dependencies, Set<ITypeBinding> visited) {
+		if (type == null || !visited.add(type.getTypeDeclaration()))
+			return;
+		IJavaElement element= type.getJavaElement();
+		if (!(element instanceof IType))
+			return;
+		ICompilationUnit cu= ((IType) element).getCompilationUnit();
+		if (cu == null)
+			return;
+		dependencies.add(cu.getPrimary().getHandleIdentifier());
+
+		collectDependencies(type.getSuperclass(), dependencies, visited);
+		for (ITypeBinding intf : type.getInterfaces()) {
+			collectDependencies(intf, dependencies, visited);
+		}
+		for (IAnnotationBinding annotation : type.getAnnotations()) {
+			collectDependencies(annotation.getAnnotationType(), dependencies, visited);
+		}
+		for (IMethodBinding method : type.getDeclaredMethods()) {
+			for (IAnnotationBinding annotation : method.getAnnotations()) {
+				collectDependencies(annotation.getAnnotationType(), dependencies, visited);
+			}
+		}
+		for (ITypeBinding declaredType : type.getDeclaredTypes()) {
+			collectDependencies(declaredType, dependencies, visited);
+		}
+	}
+
+	private void findTestsInHierarchy(IJavaElement element, IRegion region, Set<IType> result, IProgressMonitor pm) throws CoreException {
+		var subMonitor = SubMonitor.convert(pm, 2);
+
 		ITypeHierarchy hierarchy= JavaCore.newTypeHierarchy(region, null, subMonitor.split(1));
 		IType[] allClasses= hierarchy.getAllClasses();
 
@@ -228,9 +359,6 @@ public class JUnit5TestFinder implements ITestFinder {
 		if (testInterface != null) {
 			CoreTestSearchEngine.findTestImplementorClasses(hierarchy, testInterface, region, result);
 		}
-
-		//JUnit 4.3 can also run JUnit-3.8-style public static Test suite() methods:
-		CoreTestSearchEngine.findSuiteMethods(element, result, subMonitor.split(1));
 	}
 
 	private void addTypeAndSubtypes(IType type, Set<IType> result, ITypeHierarchy hierarchy) {
@@ -42,6 +42,12 @@ public class JUnitLaunchConfigurationConstants {
 
 	public static final String ATTR_PORT= JUnitCorePlugin.PLUGIN_ID+".PORT"; //$NON-NLS-1$
 
+	/**
+	 * Comma-separated ports of the shards after the first one, or <code>null</code> if the tests
+	 * are not split into shards. The first shard uses {@link #ATTR_PORT}.
+	 */
+	public static final String ATTR_SHARD_PORTS= JUnitCorePlugin.PLUGIN_ID+".SHARD_PORTS"; //$NON-NLS-1$
+
 	public static final String ATTR_DONT_ADD_MISSING_JUNIT5_DEPENDENCY= JUnitCorePlugin.PLUGIN_ID + ".DONT_ADD_MISSING_JUNIT5_DEPENDENCY"; //$NON-NLS-1$
 
 	/**
@@ -70,6 +76,17 @@ public class JUnitLaunchConfigurationConstants {
 
 	public static final String ATTR_FAILURES_NAMES= JUnitCorePlugin.PLUGIN_ID+".FAILURENAMES"; //$NON-NLS-1$
 
+	/**
+	 * If <code>true</code>, the tests which took the least time in previous runs are run first.
+	 */
+	public static final String ATTR_FASTEST_FIRST= JUnitCorePlugin.PLUGIN_ID+".FASTEST_FIRST"; //$NON-NLS-1$
+
+	/**
+	 * The number of VMs the test classes are distributed to, so that they run in parallel. The
+	 * classes are split by the durations of previous runs. Values below 2 run all tests in one VM.
+	 */
+	public static final String ATTR_SHARD_COUNT= JUnitCorePlugin.PLUGIN_ID+".SHARD_COUNT"; //$NON-NLS-1$
+
 	public static final String ATTR_TEST_RUNNER_KIND= JUnitCorePlugin.PLUGIN_ID+".TEST_KIND"; //$NON-NLS-1$
 
 	public static final String ATTR_TEST_HAS_INCLUDE_TAGS= JUnitCorePlugin.PLUGIN_ID + ".HAS_INCLUDE_TAGS"; //$NON-NLS-1$
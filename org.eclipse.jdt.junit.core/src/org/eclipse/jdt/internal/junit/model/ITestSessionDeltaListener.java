@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * A test session listener that receives the events of individual tests in batches.
+ * <p>
+ * Instead of {@link #testAdded(TestElement)}, {@link #testStarted(TestCaseElement)},
+ * {@link #testEnded(TestCaseElement)} and {@link #testFailed(TestElement, Status, String, String, String)},
+ * the listener is sent a {@link TestSessionDelta} at most once per
+ * {@link TestSessionEventCoalescer#COALESCE_INTERVAL} milliseconds. Pending deltas are always
+ * delivered before the other events of the session.
+ * </p>
+ * <p>
+ * Deltas may be delivered from a background thread.
+ * </p>
+ */
+public interface ITestSessionDeltaListener extends ITestSessionListener {
+
+	/**
+	 * Tests have been added, started, ended or failed.
+	 *
+	 * @param delta the changes since the previous delta
+	 */
+	void testsChanged(TestSessionDelta delta);
+
+	@Override
+	default void testAdded(TestElement testElement) {
+		// reported in testsChanged(TestSessionDelta)
+	}
+
+	@Override
+	default void testStarted(TestCaseElement testCaseElement) {
+		// reported in testsChanged(TestSessionDelta)
+	}
+
+	@Override
+	default void testEnded(TestCaseElement testCaseElement) {
+		// reported in testsChanged(TestSessionDelta)
+	}
+
+	@Override
+	default void testFailed(TestElement testElement, Status status, String trace, String expected, String actual) {
+		// reported in testsChanged(TestSessionDelta)
+	}
+}
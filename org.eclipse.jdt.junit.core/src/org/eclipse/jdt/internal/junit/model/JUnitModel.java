@@ -20,6 +20,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -127,15 +130,26 @@ public final class JUnitModel {
 				return;
 			try {
 				final int port= Integer.parseInt(portStr);
+				int[] ports= new int[] { port };
+				// the tests are split into shards which run in separate VMs
+				String shardPortsStr= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS);
+				if (shardPortsStr != null) {
+					String[] shardPorts= shardPortsStr.split(","); //$NON-NLS-1$
+					ports= new int[shardPorts.length + 1];
+					ports[0]= port;
+					for (int i= 0; i < shardPorts.length; i++) {
+						ports[i + 1]= Integer.parseInt(shardPorts[i]);
+					}
+				}
 				fTrackedLaunches.remove(launch);
-				connectTestRunner(launch, javaProject, port);
+				connectTestRunner(launch, javaProject, ports);
 			} catch (NumberFormatException e) {
 				return;
 			}
 		}
 
-		private void connectTestRunner(ILaunch launch, IJavaProject javaProject, int port) {
-			TestRunSession testRunSession= new TestRunSession(launch, javaProject, port);
+		private void connectTestRunner(ILaunch launch, IJavaProject javaProject, int[] ports) {
+			TestRunSession testRunSession= new TestRunSession(launch, javaProject, ports);
 			addTestRunSession(testRunSession);
 
 			for (TestRunListener listener : JUnitCorePlugin.getDefault().getNewTestRunListeners()) {
@@ -257,6 +271,13 @@ public final class JUnitModel {
 	private final LinkedList<TestRunSession> fTestRunSessions= new LinkedList<>();
 	private final ILaunchListener fLaunchListener= new JUnitLaunchListener();
 
+	private static final String DURATIONS_FILE_NAME= "testDurations.bin"; //$NON-NLS-1$
+
+	/**
+	 * The durations of the tests of completed test runs, or <code>null</code> if not loaded yet.
+	 */
+	private TestDurationHistory fTestDurationHistory;
+
 	/**
 	 * Starts the model (called by the {@link JUnitCorePlugin} on startup).
 	 */
@@ -302,6 +323,16 @@ public final class JUnitModel {
 		ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.removeLaunchListener(fLaunchListener);
 
+		synchronized (this) {
+			if (fTestDurationHistory != null) {
+				try {
+					fTestDurationHistory.save(getDurationsFile());
+				} catch (IOException | IllegalStateException e) {
+					JUnitCorePlugin.log(e);
+				}
+			}
+		}
+
 		File historyDirectory= JUnitCorePlugin.getHistoryDirectory();
 		File[] swapFiles= historyDirectory.listFiles();
 		if (swapFiles != null) {
@@ -324,6 +355,28 @@ public final class JUnitModel {
 	}
 
 
+	/**
+	 * Returns the durations of the tests of completed test runs. They are read from the plug-in's
+	 * state location on first access and written back when the model is stopped.
+	 *
+	 * @return the test duration history
+	 */
+	public synchronized TestDurationHistory getTestDurationHistory() {
+		if (fTestDurationHistory == null) {
+			fTestDurationHistory= new TestDurationHistory();
+			try {
+				fTestDurationHistory.load(getDurationsFile());
+			} catch (IOException | IllegalStateException e) {
+				JUnitCorePlugin.log(e);
+			}
+		}
+		return fTestDurationHistory;
+	}
+
+	private static File getDurationsFile() throws IllegalStateException {
+		return JUnitCorePlugin.getDefault().getStateLocation().append(DURATIONS_FILE_NAME).toFile();
+	}
+
 	public void addTestRunSessionListener(ITestRunSessionListener listener) {
 		fTestRunSessionListeners.add(listener);
 	}
@@ -384,6 +437,15 @@ public final class JUnitModel {
 	 * @throws CoreException if the import failed
 	 */
 	public static TestRunSession importTestRunSession(File file) throws CoreException {
+		if (TestRunSessionBinarySerializer.isBinary(file)) {
+			try {
+				TestRunSession session= TestRunSessionBinarySerializer.read(file, null, false);
+				JUnitCorePlugin.getModel().addTestRunSession(session);
+				return session;
+			} catch (IOException e) {
+				throwImportError(file, e);
+			}
+		}
 		try {
 			SAXParserFactory parserFactory= XmlProcessorFactoryJdtJunit.createSAXFactoryWithErrorOnDOCTYPE();
 //			parserFactory.setValidating(true); // TODO: add DTD and debug flag
@@ -471,6 +533,14 @@ public final class JUnitModel {
 	}
 
 	public static void importIntoTestRunSession(File swapFile, TestRunSession testRunSession) throws CoreException {
+		if (TestRunSessionBinarySerializer.isBinary(swapFile)) {
+			try {
+				TestRunSessionBinarySerializer.read(swapFile, testRunSession, true);
+			} catch (IOException e) {
+				throwImportError(swapFile, e);
+			}
+			return;
+		}
 		try {
 			SAXParserFactory parserFactory= XmlProcessorFactoryJdtJunit.createSAXFactoryWithErrorOnDOCTYPE();
 //			parserFactory.setValidating(true); // TODO: add DTD and debug flag
@@ -504,6 +574,31 @@ public final class JUnitModel {
 		}
 	}
 
+	/**
+	 * Exports the given test run session in the binary format of {@link TestRunSessionBinarySerializer}.
+	 * The session is written to a temporary file first, so that failure traces which have not been
+	 * read yet from a previous version of the file stay available while writing.
+	 *
+	 * @param testRunSession the test run session
+	 * @param file the destination
+	 * @throws CoreException if an error occurred
+	 */
+	public static void exportTestRunSessionBinary(TestRunSession testRunSession, File file) throws CoreException {
+		try {
+			Path temp= Files.createTempFile(file.getAbsoluteFile().getParentFile().toPath(), file.getName(), ".tmp"); //$NON-NLS-1$
+			try {
+				try (OutputStream out= Files.newOutputStream(temp)) {
+					TestRunSessionBinarySerializer.write(testRunSession, out);
+				}
+				Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException e) {
+			throwExportError(file, e);
+		}
+	}
+
 	public static void exportTestRunSession(TestRunSession testRunSession, OutputStream out)
 			throws TransformerFactoryConfigurationError, TransformerException {
 
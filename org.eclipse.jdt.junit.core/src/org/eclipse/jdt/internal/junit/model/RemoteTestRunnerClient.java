@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,12 +15,17 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.PushbackReader;
+import java.net.ProtocolException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
@@ -237,6 +242,10 @@ public class RemoteTestRunnerClient {
 	private int fPort= -1;
 	private PrintWriter fWriter;
 	private PushbackReader fPushbackReader;
+	/**
+	 * The input stream if the test runner uses the binary protocol
+	 */
+	private DataInputStream fDataInputStream;
 	private String fLastLineDelimiter;
 	/**
 	 * The protocol version
@@ -257,6 +266,12 @@ public class RemoteTestRunnerClient {
 
 	private boolean fDebug= false;
 
+	/**
+	 * The maximal length of a message of the binary protocol. Longer records can only come from a
+	 * corrupt stream.
+	 */
+	private static final int MAX_BINARY_MESSAGE_LENGTH= 256 * 1024 * 1024;
+
 	/**
 	 * Reads the message stream from the RemoteTestRunner
 	 */
@@ -275,11 +290,8 @@ public class RemoteTestRunnerClient {
 					System.out.println("Creating server socket "+fServerPort); //$NON-NLS-1$
 				fServerSocket= new ServerSocket(fServerPort);
 				fSocket= fServerSocket.accept();
-				fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(fSocket.getInputStream(), StandardCharsets.UTF_8)));
 				fWriter= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8), true);
-				String message;
-				while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
-					receiveMessage(message);
+				readMessages(new BufferedInputStream(fSocket.getInputStream(), 64 * 1024));
 			} catch (SocketException e) {
 				notifyTestRunTerminated();
 			} catch (IOException e) {
@@ -335,6 +347,13 @@ public class RemoteTestRunnerClient {
 			}
 		} catch(IOException e) {
 		}
+		try {
+			if (fDataInputStream != null) {
+				fDataInputStream.close();
+				fDataInputStream= null;
+			}
+		} catch(IOException e) {
+		}
 		try {
 			if (fSocket != null) {
 				fSocket.close();
@@ -355,6 +374,92 @@ public class RemoteTestRunnerClient {
 		return fSocket != null;
 	}
 
+	/**
+	 * Reads the messages of a test run from a stream instead of a socket. Returns at the end of the
+	 * stream, which is closed afterwards.
+	 *
+	 * @param listeners listeners to inform
+	 * @param in the stream the test runner writes to
+	 * @throws IOException if the stream could not be read
+	 */
+	public void receiveMessages(ITestRunListener2[] listeners, InputStream in) throws IOException {
+		fListeners= listeners;
+		try {
+			readMessages(new BufferedInputStream(in, 64 * 1024));
+		} finally {
+			shutDown();
+		}
+	}
+
+	/**
+	 * Reads the messages of the test runner until the end of the stream or until the client is
+	 * shut down. A corrupt binary stream terminates the test run.
+	 *
+	 * @param in the input stream, must support mark and reset
+	 * @throws IOException if the stream could not be read
+	 */
+	private void readMessages(InputStream in) throws IOException {
+		String message;
+		if (isBinaryProtocol(in)) {
+			// every record is one line, trace lines are joined with the default delimiter
+			fLastLineDelimiter= "\n"; //$NON-NLS-1$
+			fDataInputStream= new DataInputStream(in);
+			try {
+				while(fDataInputStream != null && (message= readBinaryMessage(fDataInputStream)) != null)
+					receiveMessage(message);
+			} catch (ProtocolException e) {
+				// the remaining records cannot be found anymore
+				JUnitCorePlugin.log(e);
+				notifyTestRunTerminated();
+			}
+		} else {
+			fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+			while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
+				receiveMessage(message);
+		}
+	}
+
+	/**
+	 * Checks whether the test runner uses the binary protocol. Test runners that do not know
+	 * the binary protocol send text messages, in which case the stream is reset.
+	 *
+	 * @param in the input stream, must support mark and reset
+	 * @return <code>true</code> if the stream starts with {@link MessageIds#BINARY_PROTOCOL_MAGIC}
+	 * @throws IOException if the stream could not be read
+	 */
+	private boolean isBinaryProtocol(InputStream in) throws IOException {
+		in.mark(4);
+		int magic= 0;
+		for (int i= 0; i < 4; i++) {
+			int b= in.read();
+			if (b == -1) {
+				in.reset();
+				return false;
+			}
+			magic= (magic << 8) | b;
+		}
+		if (magic == MessageIds.BINARY_PROTOCOL_MAGIC)
+			return true;
+		in.reset();
+		return false;
+	}
+
+	private String readBinaryMessage(DataInputStream in) throws IOException {
+		int length;
+		try {
+			length= in.readInt();
+		} catch (EOFException e) {
+			return null;
+		}
+		if (length < 0 || length > MAX_BINARY_MESSAGE_LENGTH)
+			throw new ProtocolException("Invalid message length " + length); //$NON-NLS-1$
+		// allocates while the bytes arrive, so that a wrong length fails at the end of the stream
+		byte[] bytes= in.readNBytes(length);
+		if (bytes.length != length)
+			throw new ProtocolException("Message truncated after " + bytes.length + " of " + length + " bytes"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
 	private String readMessage(PushbackReader in) throws IOException {
 		StringBuilder buf= new StringBuilder(128);
 		int ch;
@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Records the durations of the tests of completed test runs, so that later launches can run the
+ * fastest tests first and split the tests into shards of about the same duration.
+ * <p>
+ * Durations are keyed by the class name and the test name (<code>method(class)</code>) of the test
+ * cases. Only the classes which have been run most recently are kept.
+ * </p>
+ */
+public final class TestDurationHistory {
+
+	private static final int MAGIC= 0x4A544448;
+
+	private static final int VERSION= 1;
+
+	/**
+	 * The maximal number of classes whose durations are kept
+	 */
+	private static final int MAX_CLASSES= 10000;
+
+	/**
+	 * Longer test names (e.g. of parameterized tests) are not recorded, see
+	 * {@link DataOutputStream#writeUTF(String)}
+	 */
+	private static final int MAX_NAME_LENGTH= 8192;
+
+	/**
+	 * The durations in milliseconds of the tests of each class, least recently run class first
+	 */
+	private final LinkedHashMap<String, Map<String, Long>> fDurations= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Entry<String, Map<String, Long>> eldest) {
+			return size() > MAX_CLASSES;
+		}
+	};
+
+	private boolean fDirty;
+
+	/**
+	 * Records the durations of the test cases of a test run. Tests which have been ignored, have
+	 * not been run, or are dynamic are skipped.
+	 *
+	 * @param testRunSession the test run session
+	 */
+	public synchronized void record(TestRunSession testRunSession) {
+		record(testRunSession.getTestRoot());
+	}
+
+	private void record(TestSuiteElement suite) {
+		for (ITestElement child : suite.getChildren()) {
+			if (child instanceof TestSuiteElement) {
+				record((TestSuiteElement) child);
+			} else if (child instanceof TestCaseElement) {
+				TestCaseElement testCase= (TestCaseElement) child;
+				double time= testCase.getElapsedTimeInSeconds();
+				Status status= testCase.getStatus();
+				if (Double.isNaN(time) || testCase.isIgnored() || testCase.isDynamicTest() || status.isNotRun() || status.isRunning()
+						|| testCase.getTestName().length() > MAX_NAME_LENGTH)
+					continue;
+				Map<String, Long> classDurations= fDurations.computeIfAbsent(testCase.getClassName(), k -> new HashMap<>());
+				classDurations.put(testCase.getTestName(), Long.valueOf(Math.round(time * 1000)));
+				fDirty= true;
+			}
+		}
+	}
+
+	/**
+	 * @param className the fully qualified name of a test class, with '.' as separator for member
+	 *            types
+	 * @return the durations in milliseconds of the tests of the class keyed by test name, empty if
+	 *         the class has not been run
+	 */
+	public synchronized Map<String, Long> getTestDurations(String className) {
+		Map<String, Long> classDurations= fDurations.get(className);
+		return classDurations != null ? new HashMap<>(classDurations) : Collections.emptyMap();
+	}
+
+	/**
+	 * @param className the fully qualified name of a test class, with '.' as separator for member
+	 *            types
+	 * @return the sum of the durations in milliseconds of the tests of the class, or
+	 *         <code>-1</code> if the class has not been run
+	 */
+	public synchronized long getClassDuration(String className) {
+		Map<String, Long> classDurations= fDurations.get(className);
+		if (classDurations == null)
+			return -1;
+		long duration= 0;
+		for (Long testDuration : classDurations.values()) {
+			duration+= testDuration.longValue();
+		}
+		return duration;
+	}
+
+	/**
+	 * @return the durations in milliseconds of all recorded tests keyed by test name
+	 */
+	public synchronized Map<String, Long> getAllTestDurations() {
+		Map<String, Long> result= new HashMap<>();
+		for (Map<String, Long> classDurations : fDurations.values()) {
+			result.putAll(classDurations);
+		}
+		return result;
+	}
+
+	/**
+	 * Splits test classes into shards whose total durations are about the same. The longest classes
+	 * are assigned first, each to the shard with the smallest total duration so far. Classes which
+	 * have not been run yet count with the average duration of the known classes.
+	 *
+	 * @param classNames the class names, with '.' as separator for member types
+	 * @param shardCount the number of shards
+	 * @return the indices into <code>classNames</code> of the classes of each shard, in their
+	 *         original order; shards may be empty if there are fewer classes than shards
+	 */
+	public synchronized List<List<Integer>> partition(String[] classNames, int shardCount) {
+		long[] durations= new long[classNames.length];
+		long known= 0;
+		int knownCount= 0;
+		for (int i= 0; i < classNames.length; i++) {
+			durations[i]= getClassDuration(classNames[i]);
+			if (durations[i] >= 0) {
+				known+= durations[i];
+				knownCount++;
+			}
+		}
+		long average= knownCount > 0 ? known / knownCount : 0;
+		Integer[] order= new Integer[classNames.length];
+		for (int i= 0; i < classNames.length; i++) {
+			if (durations[i] < 0)
+				durations[i]= average;
+			// classes whose tests took no measurable time still need to be spread
+			durations[i]= Math.max(durations[i], 1);
+			order[i]= Integer.valueOf(i);
+		}
+		Arrays.sort(order, (i1, i2) -> Long.compare(durations[i2.intValue()], durations[i1.intValue()]));
+
+		List<List<Integer>> shards= new ArrayList<>(shardCount);
+		long[] totals= new long[shardCount];
+		for (int i= 0; i < shardCount; i++) {
+			shards.add(new ArrayList<>());
+		}
+		for (Integer index : order) {
+			int smallest= 0;
+			for (int i= 1; i < shardCount; i++) {
+				if (totals[i] < totals[smallest])
+					smallest= i;
+			}
+			shards.get(smallest).add(index);
+			totals[smallest]+= durations[index.intValue()];
+		}
+		for (List<Integer> shard : shards) {
+			Collections.sort(shard);
+		}
+		return shards;
+	}
+
+	/**
+	 * Reads the durations from a file written by {@link #save(File)}. Nothing is read if the file
+	 * does not exist or has an unknown format.
+	 *
+	 * @param file the file
+	 * @throws IOException if the file could not be read
+	 */
+	public synchronized void load(File file) throws IOException {
+		if (!file.isFile())
+			return;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				return;
+			int classCount= in.readInt();
+			for (int i= 0; i < classCount; i++) {
+				String className= in.readUTF();
+				int testCount= in.readInt();
+				Map<String, Long> classDurations= new HashMap<>(testCount * 2);
+				for (int j= 0; j < testCount; j++) {
+					String testName= in.readUTF();
+					classDurations.put(testName, Long.valueOf(in.readLong()));
+				}
+				fDurations.put(className, classDurations);
+			}
+		}
+	}
+
+	/**
+	 * Writes the durations to a file if they have changed since they have been read. The file is
+	 * written to a temporary file first and then moved into place.
+	 *
+	 * @param file the file
+	 * @throws IOException if the file could not be written
+	 */
+	public synchronized void save(File file) throws IOException {
+		if (!fDirty)
+			return;
+		File directory= file.getParentFile();
+		Path temp= Files.createTempFile(directory != null ? directory.toPath() : null, file.getName(), ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(fDurations.size());
+				for (Entry<String, Map<String, Long>> classEntry : fDurations.entrySet()) {
+					out.writeUTF(classEntry.getKey());
+					out.writeInt(classEntry.getValue().size());
+					for (Entry<String, Long> testEntry : classEntry.getValue().entrySet()) {
+						out.writeUTF(testEntry.getKey());
+						out.writeLong(testEntry.getValue().longValue());
+					}
+				}
+			}
+			Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			fDirty= false;
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+}
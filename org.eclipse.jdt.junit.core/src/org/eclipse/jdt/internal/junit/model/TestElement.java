@@ -194,6 +194,12 @@ public abstract class TestElement implements ITestElement {
 	private String fExpected;
 	private String fActual;
 
+	/**
+	 * The failure to read on demand if the element has been read from a swap file, or
+	 * <code>null</code>.
+	 */
+	private TestRunSessionBinarySerializer.LazyFailure fLazyFailure;
+
 	private boolean fAssumptionFailed;
 
 	/**
@@ -260,6 +266,7 @@ public abstract class TestElement implements ITestElement {
 
 	@Override
 	public FailureTrace getFailureTrace() {
+		loadFailure();
 		Result testResult= getTestResult(false);
 		if (testResult == Result.ERROR || testResult == Result.FAILURE
 				|| (testResult == Result.IGNORED && fTrace != null)) {
@@ -304,6 +311,7 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public void setStatus(Status status, String trace, String expected, String actual) {
+		loadFailure();
 		if (trace != null && fTrace != null) {
 			//don't overwrite first trace if same test run logs multiple errors
 			fTrace= fTrace + trace;
@@ -320,21 +328,39 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public String getTrace() {
+		loadFailure();
 		return fTrace;
 	}
 
 	public String getExpected() {
+		loadFailure();
 		return fExpected;
 	}
 
 	public String getActual() {
+		loadFailure();
 		return fActual;
 	}
 
 	public boolean isComparisonFailure() {
+		loadFailure();
 		return fExpected != null && fActual != null;
 	}
 
+	void setLazyFailure(TestRunSessionBinarySerializer.LazyFailure lazyFailure) {
+		fLazyFailure= lazyFailure;
+	}
+
+	private synchronized void loadFailure() {
+		if (fLazyFailure != null) {
+			String[] failure= fLazyFailure.load();
+			fLazyFailure= null;
+			fTrace= failure[0];
+			fExpected= failure[1];
+			fActual= failure[2];
+		}
+	}
+
 	/**
 	 * @return return the class name
 	 * @see org.eclipse.jdt.internal.junit.runner.ITestIdentifier#getName()
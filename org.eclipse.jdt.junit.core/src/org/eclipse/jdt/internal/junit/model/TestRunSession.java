@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,12 +67,51 @@ public class TestRunSession implements ITestRunSession {
 	private final ITestKind fTestRunnerKind;
 
 	/**
-	 * Test runner client or <code>null</code>.
+	 * Test runner clients, one for each VM the tests are distributed to, or <code>null</code>.
 	 */
-	private RemoteTestRunnerClient fTestRunnerClient;
+	private RemoteTestRunnerClient[] fTestRunnerClients;
+
+	/**
+	 * Guards the events of the test runner clients, which arrive in different threads if the
+	 * tests are distributed to several VMs.
+	 */
+	private final Object fNotifierLock= new Object();
+
+	/**
+	 * Number of VMs the tests are distributed to.
+	 */
+	private final int fShardCount;
+
+	/**
+	 * Number of test runner clients whose test run has started.
+	 */
+	private int fStartedShards;
+
+	/**
+	 * Number of test runner clients whose test run has ended, been stopped or been terminated.
+	 * Each client is counted once, see {@link TestSessionNotifier#shardFinished()}.
+	 */
+	private int fFinishedShards;
+
+	/**
+	 * Whether a test run that finished before the last one has been stopped. Only reset when a
+	 * test run starts before any other one has finished.
+	 */
+	private boolean fShardStopped;
+
+	/**
+	 * Whether a test run that finished before the last one has been terminated. Only reset when a
+	 * test run starts before any other one has finished.
+	 */
+	private boolean fShardTerminated;
 
 	private final ListenerList<ITestSessionListener> fSessionListeners;
 
+	/**
+	 * Collects the test events for {@link ITestSessionDeltaListener}s.
+	 */
+	private final TestSessionEventCoalescer fEventCoalescer;
+
 	/**
 	 * The model root, or <code>null</code> if swapped to disk.
 	 */
@@ -88,13 +127,6 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private HashMap<String, TestElement> fIdToTest;
 
-	/**
-	 * The TestSuites for which additional children are expected.
-	 */
-	private List<IncompleteTestSuite> fIncompleteTestSuites;
-
-	private List<IncompleteTestSuite> fFactoryTestSuites;
-
 	/**
 	 * Suite for unrooted test case elements, or <code>null</code>.
 	 */
@@ -169,14 +201,30 @@ public class TestRunSession implements ITestRunSession {
 		fTestRoot= new TestRoot(this);
 		fIdToTest= new HashMap<>();
 
-		fTestRunnerClient= null;
+		fTestRunnerClients= null;
+		fShardCount= 1;
 
 		fSessionListeners= new ListenerList<>();
+		fEventCoalescer= new TestSessionEventCoalescer(fSessionListeners);
 	}
 
 
 	public TestRunSession(ILaunch launch, IJavaProject project, int port) {
+		this(launch, project, new int[] { port });
+	}
+
+	/**
+	 * Creates a test run session for a launch whose tests are distributed to several VMs. The
+	 * results of all VMs are merged into this session, which ends when the test runs of all VMs
+	 * have finished.
+	 *
+	 * @param launch the launch
+	 * @param project may be <code>null</code>
+	 * @param ports the ports of the test runners, one for each VM
+	 */
+	public TestRunSession(ILaunch launch, IJavaProject project, int[] ports) {
 		Assert.isNotNull(launch);
+		Assert.isLegal(ports.length > 0);
 
 		fLaunch= launch;
 		fProject= project;
@@ -193,26 +241,28 @@ public class TestRunSession implements ITestRunSession {
 		fTestRoot= new TestRoot(this);
 		fIdToTest= new HashMap<>();
 
-		fTestRunnerClient= new RemoteTestRunnerClient();
-		fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
+		fShardCount= ports.length;
+		fTestRunnerClients= new RemoteTestRunnerClient[ports.length];
+		for (int i= 0; i < ports.length; i++) {
+			// test ids are only unique within one VM
+			String idPrefix= ports.length > 1 ? i + ":" : EMPTY_STRING; //$NON-NLS-1$
+			fTestRunnerClients[i]= new RemoteTestRunnerClient();
+			fTestRunnerClients[i].startListening(new ITestRunListener2[] { new TestSessionNotifier(idPrefix) }, ports[i]);
+		}
 
 		final ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.addLaunchListener(new ILaunchesListener2() {
 			@Override
 			public void launchesTerminated(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
 			@Override
 			public void launchesRemoved(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
@@ -225,9 +275,19 @@ public class TestRunSession implements ITestRunSession {
 		});
 
 		fSessionListeners= new ListenerList<>();
+		fEventCoalescer= new TestSessionEventCoalescer(fSessionListeners);
 		addTestSessionListener(new TestRunListenerAdapter(this));
 	}
 
+	private void stopWaiting() {
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				client.stopWaiting();
+			}
+		}
+	}
+
 	void reset() {
 		fStartedCount= 0;
 		fFailureCount= 0;
@@ -370,13 +430,11 @@ public class TestRunSession implements ITestRunSession {
 		try {
 			File swapFile= getSwapFile();
 
-			JUnitModel.exportTestRunSession(this, swapFile);
+			JUnitModel.exportTestRunSessionBinary(this, swapFile);
 			fTestResult= fTestRoot.getTestResult(true);
 			fTestRoot= null;
-			fTestRunnerClient= null;
+			fTestRunnerClients= null;
 			fIdToTest= new HashMap<>();
-			fIncompleteTestSuites= null;
-			fFactoryTestSuites= null;
 			fUnrootedSuite= null;
 
 		} catch (IllegalStateException | CoreException e) {
@@ -398,7 +456,7 @@ public class TestRunSession implements ITestRunSession {
 	private File getSwapFile() throws IllegalStateException {
 		File historyDir= JUnitCorePlugin.getHistoryDirectory();
 		String isoTime= new SimpleDateFormat("yyyyMMdd-HHmmss.SSS").format(new Date(getStartTime())); //$NON-NLS-1$
-		String swapFileName= isoTime + ".xml"; //$NON-NLS-1$
+		String swapFileName= isoTime + ".bin"; //$NON-NLS-1$
 		return new File(historyDir, swapFileName);
 	}
 
@@ -419,17 +477,23 @@ public class TestRunSession implements ITestRunSession {
 	public void stopTestRun() {
 		if (isRunning() || ! isKeptAlive())
 			fIsStopped= true;
-		if (fTestRunnerClient != null)
-			fTestRunnerClient.stopTest();
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				client.stopTest();
+			}
+		}
 	}
 
 	/**
 	 * @return <code>true</code> iff the runtime VM of this test session is still alive
 	 */
 	public boolean isKeptAlive() {
-		if (fTestRunnerClient != null
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null
+				&& clients.length == 1
 				&& fLaunch != null
-				&& fTestRunnerClient.isRunning()
+				&& clients[0].isRunning()
 				&& ILaunchManager.DEBUG_MODE.equals(fLaunch.getLaunchMode())) {
 			ILaunchConfiguration config= fLaunch.getLaunchConfiguration();
 			try {
@@ -467,7 +531,7 @@ public class TestRunSession implements ITestRunSession {
 			} else if (status == Status.FAILURE) {
 				fFailureCount--;
 			}
-			fTestRunnerClient.rerunTest(testId, className, testName);
+			fTestRunnerClients[0].rerunTest(testId, className, testName);
 			return true;
 		}
 		return false;
@@ -477,105 +541,13 @@ public class TestRunSession implements ITestRunSession {
 		return fIdToTest.get(id);
 	}
 
-	private TestElement addTreeEntry(String treeEntry) {
-		// format: testId","testName","isSuite","testcount","isDynamicTest","parentId","displayName","parameterTypes","uniqueId
-		int index0= treeEntry.indexOf(',');
-		String id= treeEntry.substring(0, index0);
-
-		StringBuffer testNameBuffer= new StringBuffer(100);
-		int index1= scanTestName(treeEntry, index0 + 1, testNameBuffer);
-		String testName= testNameBuffer.toString().trim();
-
-		int index2= treeEntry.indexOf(',', index1 + 1);
-		boolean isSuite= "true".equals(treeEntry.substring(index1 + 1, index2)); //$NON-NLS-1$
-
-		int testCount;
-		boolean isDynamicTest;
-		String parentId;
-		String displayName;
-		StringBuffer displayNameBuffer= new StringBuffer(100);
-		String[] parameterTypes;
-		StringBuffer parameterTypesBuffer= new StringBuffer(200);
-		String uniqueId;
-		StringBuffer uniqueIdBuffer= new StringBuffer(200);
-		int index3= treeEntry.indexOf(',', index2 + 1);
-		if (index3 == -1) {
-			testCount= Integer.parseInt(treeEntry.substring(index2 + 1));
-			isDynamicTest= false;
-			parentId= null;
-			displayName= null;
-			parameterTypes= null;
-			uniqueId= null;
-		} else {
-			testCount= Integer.parseInt(treeEntry.substring(index2 + 1, index3));
-
-			int index4= treeEntry.indexOf(',', index3 + 1);
-			isDynamicTest= "true".equals(treeEntry.substring(index3 + 1, index4)); //$NON-NLS-1$
-
-			int index5= treeEntry.indexOf(',', index4 + 1);
-			parentId= treeEntry.substring(index4 + 1, index5);
-			if ("-1".equals(parentId)) { //$NON-NLS-1$
-				parentId= null;
-			}
-
-			int index6= scanTestName(treeEntry, index5 + 1, displayNameBuffer);
-			displayName= displayNameBuffer.toString().trim();
-			if (displayName.equals(testName)) {
-				displayName= null;
-			}
-
-			int index7= scanTestName(treeEntry, index6 + 1, parameterTypesBuffer);
-			String parameterTypesString= parameterTypesBuffer.toString().trim();
-			if (parameterTypesString.isEmpty()) {
-				parameterTypes= null;
-			} else {
-				parameterTypes= parameterTypesString.split(","); //$NON-NLS-1$
-				Arrays.parallelSetAll(parameterTypes, i -> parameterTypes[i].trim());
-			}
-
-			scanTestName(treeEntry, index7 + 1, uniqueIdBuffer);
-			uniqueId= uniqueIdBuffer.toString().trim();
-			if (uniqueId.isEmpty()) {
-				uniqueId= null;
-			}
-		}
-
-		if (isDynamicTest) {
-			if (parentId != null) {
-				for (IncompleteTestSuite suite : fFactoryTestSuites) {
-					if (parentId.equals(suite.fTestSuiteElement.getId())) {
-						return createTestElement(suite.fTestSuiteElement, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
-					}
-				}
-			}
-			return createTestElement(getUnrootedSuite(), id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId); // should not reach here
-		} else {
-			if (fIncompleteTestSuites.isEmpty()) {
-				return createTestElement(fTestRoot, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
-			} else {
-				int suiteIndex= fIncompleteTestSuites.size() - 1;
-				IncompleteTestSuite openSuite= fIncompleteTestSuites.get(suiteIndex);
-				openSuite.fOutstandingChildren--;
-				if (openSuite.fOutstandingChildren <= 0)
-					fIncompleteTestSuites.remove(suiteIndex);
-				return createTestElement(openSuite.fTestSuiteElement, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
-			}
-		}
-	}
-
 	public TestElement createTestElement(TestSuiteElement parent, String id, String testName, boolean isSuite, int testCount, boolean isDynamicTest, String displayName, String[] parameterTypes, String uniqueId) {
 		TestElement testElement;
 		if (parameterTypes != null && parameterTypes.length > 1) {
 			parameterTypes= Arrays.stream(parameterTypes).map(String::trim).toArray(String[]::new);
 		}
 		if (isSuite) {
-			TestSuiteElement testSuiteElement= new TestSuiteElement(parent, id, testName, testCount, displayName, parameterTypes, uniqueId);
-			testElement= testSuiteElement;
-			if (testCount > 0) {
-				fIncompleteTestSuites.add(new IncompleteTestSuite(testSuiteElement, testCount));
-			} else if (fFactoryTestSuites != null) {
-				fFactoryTestSuites.add(new IncompleteTestSuite(testSuiteElement, testCount));
-			}
+			testElement= new TestSuiteElement(parent, id, testName, testCount, displayName, parameterTypes, uniqueId);
 		} else {
 			testElement= new TestCaseElement(parent, id, testName, displayName, isDynamicTest, parameterTypes, uniqueId);
 		}
@@ -622,64 +594,162 @@ public class TestRunSession implements ITestRunSession {
 	 * An {@link ITestRunListener2} that listens to events from the
 	 * {@link RemoteTestRunnerClient} and translates them into high-level model
 	 * events (broadcasted to {@link ITestSessionListener}s).
+	 * <p>
+	 * If the tests are distributed to several VMs, there is one notifier for each VM. The test ids
+	 * of each VM get a prefix, and the session starts with the first and ends with the last test
+	 * run.
+	 * </p>
 	 */
 	private class TestSessionNotifier implements ITestRunListener2 {
 
+		private final String fIdPrefix;
+
+		/**
+		 * The TestSuites for which additional children are expected.
+		 */
+		private List<IncompleteTestSuite> fIncompleteTestSuites= new ArrayList<>();
+
+		private List<IncompleteTestSuite> fFactoryTestSuites= new ArrayList<>();
+
+		/**
+		 * Whether the test run of this notifier's VM has been counted as finished.
+		 */
+		private boolean fFinished;
+
+		public TestSessionNotifier(String idPrefix) {
+			fIdPrefix= idPrefix;
+		}
+
 		@Override
 		public void testRunStarted(int testCount) {
-			fIncompleteTestSuites= new ArrayList<>();
-			fFactoryTestSuites= new ArrayList<>();
+			synchronized (fNotifierLock) {
+				fIncompleteTestSuites= new ArrayList<>();
+				fFactoryTestSuites= new ArrayList<>();
+				fFinished= false;
+
+				if (fStartedShards++ > 0) {
+					fTotalCount+= testCount;
+					return;
+				}
+				if (fFinishedShards == 0) {
+					// keep the state of VMs that have finished before any other one started
+					fShardStopped= false;
+					fShardTerminated= false;
+				}
 
-			fStartedCount= 0;
-			fIgnoredCount= 0;
-			fFailureCount= 0;
-			fAssumptionFailureCount = 0;
-			fErrorCount= 0;
-			fTotalCount= testCount;
+				fStartedCount= 0;
+				fIgnoredCount= 0;
+				fFailureCount= 0;
+				fAssumptionFailureCount = 0;
+				fErrorCount= 0;
+				fTotalCount= testCount;
 
-			fStartTime= System.currentTimeMillis();
-			fIsRunning= true;
+				fStartTime= System.currentTimeMillis();
+				fIsRunning= true;
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.sessionStarted();
+				fEventCoalescer.flush();
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.sessionStarted();
+				}
 			}
 		}
 
 		@Override
 		public void testRunEnded(long elapsedTime) {
-			fIsRunning= false;
+			synchronized (fNotifierLock) {
+				if (fFinished || !shardFinished())
+					return;
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.sessionEnded(elapsedTime);
+				fIsRunning= false;
+				if (fShardTerminated || fShardStopped) {
+					fIsStopped= true;
+				}
+
+				fEventCoalescer.flush();
+				if (fShardTerminated) {
+					for (ITestSessionListener listener : fSessionListeners) {
+						listener.sessionTerminated();
+					}
+				} else if (fShardStopped) {
+					long sessionTime= System.currentTimeMillis() - fStartTime;
+					for (ITestSessionListener listener : fSessionListeners) {
+						listener.sessionStopped(sessionTime);
+					}
+				} else {
+					long sessionTime= fShardCount > 1 ? System.currentTimeMillis() - fStartTime : elapsedTime;
+					JUnitCorePlugin.getModel().getTestDurationHistory().record(TestRunSession.this);
+					for (ITestSessionListener listener : fSessionListeners) {
+						listener.sessionEnded(sessionTime);
+					}
+				}
 			}
 		}
 
 		@Override
 		public void testRunStopped(long elapsedTime) {
-			fIsRunning= false;
-			fIsStopped= true;
+			synchronized (fNotifierLock) {
+				if (fFinished) {
+					if (fIsRunning)
+						return;
+				} else if (!shardFinished()) {
+					fShardStopped= true;
+					return;
+				}
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.sessionStopped(elapsedTime);
+				fIsRunning= false;
+				fIsStopped= true;
+
+				long sessionTime= fShardCount > 1 ? System.currentTimeMillis() - fStartTime : elapsedTime;
+				fEventCoalescer.flush();
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.sessionStopped(sessionTime);
+				}
 			}
 		}
 
 		@Override
 		public void testRunTerminated() {
-			fIsRunning= false;
-			fIsStopped= true;
+			synchronized (fNotifierLock) {
+				if (fFinished) {
+					// e.g. the VM of a finished test run exits while the other VMs still run
+					if (fIsRunning)
+						return;
+				} else if (!shardFinished()) {
+					fShardTerminated= true;
+					return;
+				}
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.sessionTerminated();
+				fIsRunning= false;
+				fIsStopped= true;
+
+				fEventCoalescer.flush();
+				for (ITestSessionListener listener : fSessionListeners) {
+					listener.sessionTerminated();
+				}
 			}
 		}
 
+		/**
+		 * Records that the test run of this notifier's VM has finished. Must only be called once
+		 * per test run, i.e. if {@link #fFinished} is <code>false</code>.
+		 *
+		 * @return <code>true</code> iff the test runs of all VMs have finished
+		 */
+		private boolean shardFinished() {
+			fFinished= true;
+			if (++fFinishedShards < fShardCount)
+				return false;
+			fStartedShards= 0;
+			fFinishedShards= 0;
+			return true;
+		}
+
 		@Override
 		public void testTreeEntry(String description) {
-			TestElement testElement= addTreeEntry(description);
+			synchronized (fNotifierLock) {
+				TestElement testElement= addTreeEntry(description);
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testAdded(testElement);
+				fireTestAdded(testElement);
 			}
 		}
 
@@ -687,114 +757,246 @@ public class TestRunSession implements ITestRunSession {
 			TestSuiteElement unrootedSuite= getUnrootedSuite();
 			TestElement testElement= createTestElement(unrootedSuite, testId, testName, false, 1, false, testName, null, null);
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testAdded(testElement);
-			}
+			fireTestAdded(testElement);
 
 			return testElement;
 		}
 
 		@Override
 		public void testStarted(String testId, String testName) {
-			if (fStartedCount == 0) {
+			synchronized (fNotifierLock) {
+				testId= fIdPrefix + testId;
+				if (fStartedCount == 0) {
+					fEventCoalescer.flush();
+					for (ITestSessionListener listener : fSessionListeners) {
+						listener.runningBegins();
+					}
+				}
+				TestElement testElement= getTestElement(testId);
+				if (testElement == null) {
+					testElement= createUnrootedTestElement(testId, testName);
+				} else if (! (testElement instanceof TestCaseElement)) {
+					logUnexpectedTest(testId, testElement);
+					return;
+				}
+				TestCaseElement testCaseElement= (TestCaseElement) testElement;
+				setStatus(testCaseElement, Status.RUNNING);
+
+				if (testCaseElement.isDynamicTest()) {
+					fTotalCount++;
+				}
+
+				fStartedCount++;
+
 				for (ITestSessionListener listener : fSessionListeners) {
-					listener.runningBegins();
+					if (!(listener instanceof ITestSessionDeltaListener))
+						listener.testStarted(testCaseElement);
 				}
+				if (fEventCoalescer.hasDeltaListeners())
+					fEventCoalescer.testStarted(testCaseElement);
 			}
-			TestElement testElement= getTestElement(testId);
-			if (testElement == null) {
-				testElement= createUnrootedTestElement(testId, testName);
-			} else if (! (testElement instanceof TestCaseElement)) {
-				logUnexpectedTest(testId, testElement);
-				return;
-			}
-			TestCaseElement testCaseElement= (TestCaseElement) testElement;
-			setStatus(testCaseElement, Status.RUNNING);
+		}
 
-			if (testCaseElement.isDynamicTest()) {
-				fTotalCount++;
-			}
+		@Override
+		public void testEnded(String testId, String testName) {
+			synchronized (fNotifierLock) {
+				testId= fIdPrefix + testId;
+				boolean isIgnored= testName.startsWith(MessageIds.IGNORED_TEST_PREFIX);
+
+				TestElement testElement= getTestElement(testId);
+				if (testElement == null) {
+					testElement= createUnrootedTestElement(testId, testName);
+				} else if (! (testElement instanceof TestCaseElement)) {
+					if (isIgnored) {
+						testElement.setAssumptionFailed(true);
+						fAssumptionFailureCount++;
+						setStatus(testElement, Status.OK);
+					} else {
+						logUnexpectedTest(testId, testElement);
+					}
+					return;
+				}
+				TestCaseElement testCaseElement= (TestCaseElement) testElement;
+				if (isIgnored) {
+					testCaseElement.setIgnored(true);
+					fIgnoredCount++;
+				}
 
-			fStartedCount++;
+				if (testCaseElement.getStatus() == Status.RUNNING)
+					setStatus(testCaseElement, Status.OK);
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testStarted(testCaseElement);
+				for (ITestSessionListener listener : fSessionListeners) {
+					if (!(listener instanceof ITestSessionDeltaListener))
+						listener.testEnded(testCaseElement);
+				}
+				if (fEventCoalescer.hasDeltaListeners())
+					fEventCoalescer.testEnded(testCaseElement);
 			}
 		}
 
+
 		@Override
-		public void testEnded(String testId, String testName) {
-			boolean isIgnored= testName.startsWith(MessageIds.IGNORED_TEST_PREFIX);
+		public void testFailed(int statusCode, String testId, String testName, String trace, String expected, String actual) {
+			synchronized (fNotifierLock) {
+				testId= fIdPrefix + testId;
+				TestElement testElement= getTestElement(testId);
+				if (testElement == null) {
+					testElement= createUnrootedTestElement(testId, testName);
+				}
 
-			TestElement testElement= getTestElement(testId);
-			if (testElement == null) {
-				testElement= createUnrootedTestElement(testId, testName);
-			} else if (! (testElement instanceof TestCaseElement)) {
-				if (isIgnored) {
+				Status status;
+				if (testName.startsWith(MessageIds.ASSUMPTION_FAILED_TEST_PREFIX)) {
 					testElement.setAssumptionFailed(true);
 					fAssumptionFailureCount++;
-					setStatus(testElement, Status.OK);
+					status = Status.OK;
 				} else {
-					logUnexpectedTest(testId, testElement);
+					status= Status.convert(statusCode);
 				}
-				return;
-			}
-			TestCaseElement testCaseElement= (TestCaseElement) testElement;
-			if (isIgnored) {
-				testCaseElement.setIgnored(true);
-				fIgnoredCount++;
-			}
 
-			if (testCaseElement.getStatus() == Status.RUNNING)
-				setStatus(testCaseElement, Status.OK);
+				registerTestFailureStatus(testElement, status, trace, expected, actual);
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testEnded(testCaseElement);
+				for (ITestSessionListener listener : fSessionListeners) {
+					if (!(listener instanceof ITestSessionDeltaListener))
+						listener.testFailed(testElement, status, trace, expected, actual);
+				}
+				if (fEventCoalescer.hasDeltaListeners())
+					fEventCoalescer.testFailed(testElement);
 			}
 		}
 
-
 		@Override
-		public void testFailed(int statusCode, String testId, String testName, String trace, String expected, String actual) {
-			TestElement testElement= getTestElement(testId);
-			if (testElement == null) {
-				testElement= createUnrootedTestElement(testId, testName);
+		public void testReran(String testId, String className, String testName, int statusCode, String trace, String expectedResult, String actualResult) {
+			synchronized (fNotifierLock) {
+				testId= fIdPrefix + testId;
+				TestElement testElement= getTestElement(testId);
+				if (testElement == null) {
+					testElement= createUnrootedTestElement(testId, testName);
+				} else if (! (testElement instanceof TestCaseElement)) {
+					logUnexpectedTest(testId, testElement);
+					return;
+				}
+				TestCaseElement testCaseElement= (TestCaseElement) testElement;
+
+				Status status= Status.convert(statusCode);
+				registerTestFailureStatus(testElement, status, trace, expectedResult, actualResult);
+
+				fEventCoalescer.flush();
+				for (ITestSessionListener listener : fSessionListeners) {
+					//TODO: post old & new status?
+					listener.testReran(testCaseElement, status, trace, expectedResult, actualResult);
+				}
 			}
+		}
 
-			Status status;
-			if (testName.startsWith(MessageIds.ASSUMPTION_FAILED_TEST_PREFIX)) {
-				testElement.setAssumptionFailed(true);
-				fAssumptionFailureCount++;
-				status = Status.OK;
+		private TestElement addTreeEntry(String treeEntry) {
+			// format: testId","testName","isSuite","testcount","isDynamicTest","parentId","displayName","parameterTypes","uniqueId
+			int index0= treeEntry.indexOf(',');
+			String id= fIdPrefix + treeEntry.substring(0, index0);
+
+			StringBuffer testNameBuffer= new StringBuffer(100);
+			int index1= scanTestName(treeEntry, index0 + 1, testNameBuffer);
+			String testName= testNameBuffer.toString().trim();
+
+			int index2= treeEntry.indexOf(',', index1 + 1);
+			boolean isSuite= "true".equals(treeEntry.substring(index1 + 1, index2)); //$NON-NLS-1$
+
+			int testCount;
+			boolean isDynamicTest;
+			String parentId;
+			String displayName;
+			StringBuffer displayNameBuffer= new StringBuffer(100);
+			String[] parameterTypes;
+			StringBuffer parameterTypesBuffer= new StringBuffer(200);
+			String uniqueId;
+			StringBuffer uniqueIdBuffer= new StringBuffer(200);
+			int index3= treeEntry.indexOf(',', index2 + 1);
+			if (index3 == -1) {
+				testCount= Integer.parseInt(treeEntry.substring(index2 + 1));
+				isDynamicTest= false;
+				parentId= null;
+				displayName= null;
+				parameterTypes= null;
+				uniqueId= null;
 			} else {
-				status= Status.convert(statusCode);
-			}
+				testCount= Integer.parseInt(treeEntry.substring(index2 + 1, index3));
 
-			registerTestFailureStatus(testElement, status, trace, expected, actual);
+				int index4= treeEntry.indexOf(',', index3 + 1);
+				isDynamicTest= "true".equals(treeEntry.substring(index3 + 1, index4)); //$NON-NLS-1$
 
-			for (ITestSessionListener listener : fSessionListeners) {
-				listener.testFailed(testElement, status, trace, expected, actual);
+				int index5= treeEntry.indexOf(',', index4 + 1);
+				parentId= treeEntry.substring(index4 + 1, index5);
+				if ("-1".equals(parentId)) { //$NON-NLS-1$
+					parentId= null;
+				} else {
+					parentId= fIdPrefix + parentId;
+				}
+
+				int index6= scanTestName(treeEntry, index5 + 1, displayNameBuffer);
+				displayName= displayNameBuffer.toString().trim();
+				if (displayName.equals(testName)) {
+					displayName= null;
+				}
+
+				int index7= scanTestName(treeEntry, index6 + 1, parameterTypesBuffer);
+				String parameterTypesString= parameterTypesBuffer.toString().trim();
+				if (parameterTypesString.isEmpty()) {
+					parameterTypes= null;
+				} else {
+					parameterTypes= parameterTypesString.split(","); //$NON-NLS-1$
+					Arrays.parallelSetAll(parameterTypes, i -> parameterTypes[i].trim());
+				}
+
+				scanTestName(treeEntry, index7 + 1, uniqueIdBuffer);
+				uniqueId= uniqueIdBuffer.toString().trim();
+				if (uniqueId.isEmpty()) {
+					uniqueId= null;
+				}
 			}
-		}
 
-		@Override
-		public void testReran(String testId, String className, String testName, int statusCode, String trace, String expectedResult, String actualResult) {
-			TestElement testElement= getTestElement(testId);
-			if (testElement == null) {
-				testElement= createUnrootedTestElement(testId, testName);
-			} else if (! (testElement instanceof TestCaseElement)) {
-				logUnexpectedTest(testId, testElement);
-				return;
+			TestSuiteElement parent;
+			if (isDynamicTest) {
+				parent= null;
+				if (parentId != null) {
+					for (IncompleteTestSuite suite : fFactoryTestSuites) {
+						if (parentId.equals(suite.fTestSuiteElement.getId())) {
+							parent= suite.fTestSuiteElement;
+							break;
+						}
+					}
+				}
+				if (parent == null)
+					parent= getUnrootedSuite(); // should not reach here
+			} else {
+				if (fIncompleteTestSuites.isEmpty()) {
+					parent= fTestRoot;
+				} else {
+					int suiteIndex= fIncompleteTestSuites.size() - 1;
+					IncompleteTestSuite openSuite= fIncompleteTestSuites.get(suiteIndex);
+					openSuite.fOutstandingChildren--;
+					if (openSuite.fOutstandingChildren <= 0)
+						fIncompleteTestSuites.remove(suiteIndex);
+					parent= openSuite.fTestSuiteElement;
+				}
 			}
-			TestCaseElement testCaseElement= (TestCaseElement) testElement;
 
-			Status status= Status.convert(statusCode);
-			registerTestFailureStatus(testElement, status, trace, expectedResult, actualResult);
+			TestElement testElement= createTestElement(parent, id, testName, isSuite, testCount, isDynamicTest, displayName, parameterTypes, uniqueId);
+			if (isSuite) {
+				if (testCount > 0) {
+					fIncompleteTestSuites.add(new IncompleteTestSuite((TestSuiteElement) testElement, testCount));
+				} else {
+					fFactoryTestSuites.add(new IncompleteTestSuite((TestSuiteElement) testElement, testCount));
+				}
+			}
+			return testElement;
+		}
 
+		private void fireTestAdded(TestElement testElement) {
 			for (ITestSessionListener listener : fSessionListeners) {
-				//TODO: post old & new status?
-				listener.testReran(testCaseElement, status, trace, expectedResult, actualResult);
+				if (!(listener instanceof ITestSessionDeltaListener))
+					listener.testAdded(testElement);
 			}
+			if (fEventCoalescer.hasDeltaListeners())
+				fEventCoalescer.testAdded(testElement);
 		}
 
 		private void logUnexpectedTest(String testId, TestElement testElement) {
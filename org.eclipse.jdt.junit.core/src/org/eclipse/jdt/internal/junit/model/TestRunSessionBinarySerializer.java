@@ -0,0 +1,520 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+import org.eclipse.jdt.junit.model.ITestElement.FailureTrace;
+import org.eclipse.jdt.junit.model.ITestElement.ProgressState;
+import org.eclipse.jdt.junit.model.ITestElement.Result;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IJavaModel;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.BasicElementLabels;
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.Messages;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Reads and writes test run sessions in a compact binary format. This is the format of the swap
+ * files of the test run history; the XML format of {@link TestRunSessionSerializer} stays the
+ * format for exchanging test runs.
+ * <p>
+ * All strings are stored once in a string table, the test tree is stored in pre-order with
+ * variable-length integers, and failure traces are stored in a separate section so that they can
+ * be read on demand.
+ * </p>
+ * <p>
+ * Layout (big-endian):
+ * </p>
+ * <pre>
+ * int     magic, version
+ * long    file id
+ * int     length of the string table
+ * varint  string count, (varint length, byte[] UTF-8)*
+ * long    length of the trace section
+ * byte[]  traces, expected and actual values (UTF-8)
+ * varint  session name, project + 1, include tags + 1, exclude tags + 1
+ * varint  count of top-level elements, element*
+ *
+ * element:
+ * varint  flags
+ * varint  name (suite) or method name and class name (test case)
+ * varint  display name + 1, unique id + 1, parameter type count + 1, parameter type*
+ * double  elapsed time, if FLAG_TIME
+ * varint  trace offset, trace length, expected length + 1, actual length + 1, if FLAG_FAILURE
+ * varint  child count, element*, if FLAG_SUITE
+ * </pre>
+ */
+public class TestRunSessionBinarySerializer {
+
+	private static final int MAGIC= 0x4A545253;
+
+	private static final int VERSION= 1;
+
+	private static final int HEADER_LENGTH= 20;
+
+	private static final int FLAG_SUITE= 1 << 0;
+	private static final int FLAG_INCOMPLETE= 1 << 1;
+	private static final int FLAG_IGNORED= 1 << 2;
+	private static final int FLAG_DYNAMIC_TEST= 1 << 3;
+	private static final int FLAG_TIME= 1 << 4;
+	private static final int FLAG_FAILURE= 1 << 5;
+	private static final int FLAG_ERROR= 1 << 6;
+	private static final int FLAG_ASSUMPTION_FAILURE= 1 << 7;
+
+	/**
+	 * Reads the failure of a test element from the trace section of a swap file on demand.
+	 */
+	static final class LazyFailure {
+
+		private final File fFile;
+		private final long fFileId;
+		private final long fPosition;
+		private final int fTraceLength;
+		private final int fExpectedLength;
+		private final int fActualLength;
+
+		LazyFailure(File file, long fileId, long position, int traceLength, int expectedLength, int actualLength) {
+			fFile= file;
+			fFileId= fileId;
+			fPosition= position;
+			fTraceLength= traceLength;
+			fExpectedLength= expectedLength;
+			fActualLength= actualLength;
+		}
+
+		/**
+		 * @return the trace, expected and actual value. If the swap file has been removed,
+		 *         replaced or cannot be read, the trace is a message that says so and the expected
+		 *         and actual value are <code>null</code>.
+		 */
+		String[] load() {
+			if (!fFile.isFile())
+				return unavailable();
+			try (RandomAccessFile file= new RandomAccessFile(fFile, "r")) { //$NON-NLS-1$
+				if (file.readInt() != MAGIC || file.readInt() != VERSION || file.readLong() != fFileId)
+					return unavailable();
+				file.seek(fPosition);
+				String trace= readString(file, fTraceLength);
+				String expected= readString(file, fExpectedLength);
+				String actual= readString(file, fActualLength);
+				return new String[] { trace, expected, actual };
+			} catch (IOException e) {
+				JUnitCorePlugin.log(e);
+				return unavailable();
+			}
+		}
+
+		private String[] unavailable() {
+			String trace= Messages.format(ModelMessages.TestRunSessionBinarySerializer_trace_unavailable, BasicElementLabels.getPathLabel(fFile));
+			return new String[] { trace, null, null };
+		}
+
+		private static String readString(DataInput in, int length) throws IOException {
+			if (length < 0)
+				return null;
+			byte[] bytes= new byte[length];
+			in.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+
+	private final Map<String, Integer> fStringIndices= new HashMap<>();
+
+	private final List<byte[]> fStrings= new ArrayList<>();
+
+	private final ByteArrayOutputStream fTraces= new ByteArrayOutputStream();
+
+	private TestRunSessionBinarySerializer() {
+	}
+
+	/**
+	 * @param file a file
+	 * @return <code>true</code> iff the file starts like a binary test run session
+	 */
+	public static boolean isBinary(File file) {
+		try (DataInputStream in= new DataInputStream(new FileInputStream(file))) {
+			return in.readInt() == MAGIC;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Writes the given test run session.
+	 *
+	 * @param testRunSession the test run session
+	 * @param out the destination, not closed by this method
+	 * @throws IOException if the session could not be written
+	 */
+	public static void write(TestRunSession testRunSession, OutputStream out) throws IOException {
+		new TestRunSessionBinarySerializer().doWrite(testRunSession, out);
+	}
+
+	/**
+	 * Reads a test run session.
+	 *
+	 * @param file the file to read
+	 * @param testRunSession the test run session to read into, or <code>null</code> to create a
+	 *            new session
+	 * @param lazyTraces <code>true</code> if failure traces should be read from the file when they
+	 *            are first accessed, <code>false</code> to read them right away. Only files that
+	 *            are owned by the test run history may be read lazily, imported files can be
+	 *            changed or deleted by the user at any time.
+	 * @return the test run session
+	 * @throws IOException if the file could not be read or is not a binary test run session
+	 */
+	public static TestRunSession read(File file, TestRunSession testRunSession, boolean lazyTraces) throws IOException {
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file), 64 * 1024))) {
+			return new Reader(file, in, lazyTraces).read(testRunSession);
+		}
+	}
+
+	private void doWrite(TestRunSession testRunSession, OutputStream out) throws IOException {
+		ByteArrayOutputStream treeBytes= new ByteArrayOutputStream();
+		DataOutputStream tree= new DataOutputStream(treeBytes);
+
+		IJavaProject project= testRunSession.getLaunchedProject();
+		writeVarInt(tree, indexOf(testRunSession.getTestRunName()));
+		writeVarInt(tree, optionalIndexOf(project != null ? project.getElementName() : null));
+		writeVarInt(tree, optionalIndexOf(nonEmpty(testRunSession.getIncludeTags())));
+		writeVarInt(tree, optionalIndexOf(nonEmpty(testRunSession.getExcludeTags())));
+
+		ITestElement[] topSuites= testRunSession.getTestRoot().getChildren();
+		writeVarInt(tree, topSuites.length);
+		for (ITestElement topSuite : topSuites) {
+			writeTestElement(tree, (TestElement) topSuite);
+		}
+		tree.flush();
+
+		ByteArrayOutputStream tableBytes= new ByteArrayOutputStream();
+		DataOutputStream table= new DataOutputStream(tableBytes);
+		writeVarInt(table, fStrings.size());
+		for (byte[] string : fStrings) {
+			writeVarInt(table, string.length);
+			table.write(string);
+		}
+		table.flush();
+
+		DataOutputStream data= new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeLong(System.currentTimeMillis() ^ System.nanoTime());
+		data.writeInt(tableBytes.size());
+		tableBytes.writeTo(data);
+		data.writeLong(fTraces.size());
+		fTraces.writeTo(data);
+		treeBytes.writeTo(data);
+		data.flush();
+	}
+
+	private void writeTestElement(DataOutputStream out, TestElement testElement) throws IOException {
+		int flags= 0;
+		if (testElement instanceof TestSuiteElement) {
+			flags|= FLAG_SUITE;
+			if (testElement.getProgressState() != ProgressState.COMPLETED || testElement.getTestResult(false) != Result.UNDEFINED)
+				flags|= FLAG_INCOMPLETE;
+		} else {
+			TestCaseElement testCaseElement= (TestCaseElement) testElement;
+			if (testElement.getProgressState() != ProgressState.COMPLETED)
+				flags|= FLAG_INCOMPLETE;
+			if (testCaseElement.isIgnored())
+				flags|= FLAG_IGNORED;
+			if (testCaseElement.isDynamicTest())
+				flags|= FLAG_DYNAMIC_TEST;
+		}
+		double time= testElement.getElapsedTimeInSeconds();
+		if (!Double.isNaN(time))
+			flags|= FLAG_TIME;
+		FailureTrace failureTrace= testElement.getFailureTrace();
+		if (failureTrace != null) {
+			flags|= FLAG_FAILURE;
+			if (testElement.getTestResult(false) == Result.ERROR)
+				flags|= FLAG_ERROR;
+		}
+		if (testElement.isAssumptionFailure())
+			flags|= FLAG_ASSUMPTION_FAILURE;
+		writeVarInt(out, flags);
+
+		if (testElement instanceof TestSuiteElement) {
+			// Need to store the full #getTestName instead of only the #getSuiteTypeName for test factory methods
+			writeVarInt(out, indexOf(testElement.getTestName()));
+		} else {
+			writeVarInt(out, indexOf(((TestCaseElement) testElement).getTestMethodName()));
+			writeVarInt(out, indexOf(testElement.getClassName()));
+		}
+		writeVarInt(out, optionalIndexOf(testElement.getDisplayName()));
+		writeVarInt(out, optionalIndexOf(testElement.getUniqueId()));
+		String[] parameterTypes= testElement.getParameterTypes();
+		if (parameterTypes == null) {
+			writeVarInt(out, 0);
+		} else {
+			writeVarInt(out, parameterTypes.length + 1);
+			for (String parameterType : parameterTypes) {
+				writeVarInt(out, indexOf(parameterType));
+			}
+		}
+		if ((flags & FLAG_TIME) != 0)
+			out.writeDouble(time);
+
+		if (failureTrace != null) {
+			writeVarInt(out, fTraces.size());
+			writeVarInt(out, writeTrace(failureTrace.getTrace()));
+			writeVarInt(out, writeTrace(failureTrace.getExpected()) + 1);
+			writeVarInt(out, writeTrace(failureTrace.getActual()) + 1);
+		}
+
+		if (testElement instanceof TestSuiteElement) {
+			ITestElement[] children= ((TestSuiteElement) testElement).getChildren();
+			writeVarInt(out, children.length);
+			for (ITestElement child : children) {
+				writeTestElement(out, (TestElement) child);
+			}
+		}
+	}
+
+	private int writeTrace(String string) {
+		if (string == null)
+			return -1;
+		byte[] bytes= string.getBytes(StandardCharsets.UTF_8);
+		fTraces.write(bytes, 0, bytes.length);
+		return bytes.length;
+	}
+
+	private int indexOf(String string) {
+		Integer index= fStringIndices.get(string);
+		if (index == null) {
+			index= Integer.valueOf(fStrings.size());
+			fStringIndices.put(string, index);
+			fStrings.add(string.getBytes(StandardCharsets.UTF_8));
+		}
+		return index.intValue();
+	}
+
+	private int optionalIndexOf(String string) {
+		return string == null ? 0 : indexOf(string) + 1;
+	}
+
+	private static String nonEmpty(String string) {
+		return string != null && !string.trim().isEmpty() ? string : null;
+	}
+
+	private static void writeVarInt(DataOutput out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value>>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	private static int readVarInt(DataInput in) throws IOException {
+		int value= 0;
+		for (int shift= 0; shift < 32; shift+= 7) {
+			int b= in.readUnsignedByte();
+			value|= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new IOException("Malformed variable-length integer"); //$NON-NLS-1$
+	}
+
+	private static class Reader {
+
+		private final File fFile;
+		private final DataInputStream fIn;
+		private final boolean fLazyTraces;
+
+		private long fFileId;
+		private String[] fStrings;
+		private long fTraceStart;
+		private byte[] fTraces;
+
+		private TestRunSession fTestRunSession;
+		private int fId;
+
+		Reader(File file, DataInputStream in, boolean lazyTraces) {
+			fFile= file;
+			fIn= in;
+			fLazyTraces= lazyTraces;
+		}
+
+		TestRunSession read(TestRunSession testRunSession) throws IOException {
+			if (fIn.readInt() != MAGIC || fIn.readInt() != VERSION)
+				throw new IOException("Not a binary test run session: " + fFile); //$NON-NLS-1$
+			fFileId= fIn.readLong();
+
+			int tableLength= fIn.readInt();
+			fStrings= new String[readVarInt(fIn)];
+			for (int i= 0; i < fStrings.length; i++) {
+				byte[] bytes= new byte[readVarInt(fIn)];
+				fIn.readFully(bytes);
+				fStrings[i]= new String(bytes, StandardCharsets.UTF_8);
+			}
+
+			long tracesLength= fIn.readLong();
+			fTraceStart= HEADER_LENGTH + tableLength + 8;
+			if (fLazyTraces) {
+				skipFully(tracesLength);
+			} else {
+				fTraces= new byte[(int) tracesLength];
+				fIn.readFully(fTraces);
+			}
+
+			String name= fStrings[readVarInt(fIn)];
+			String project= readOptionalString();
+			String includeTags= readOptionalString();
+			String excludeTags= readOptionalString();
+			if (testRunSession == null) {
+				IJavaProject javaProject= null;
+				if (project != null) {
+					IJavaModel javaModel= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot());
+					javaProject= javaModel.getJavaProject(project);
+					if (! javaProject.exists())
+						javaProject= null;
+				}
+				testRunSession= new TestRunSession(name, javaProject);
+				if (includeTags != null)
+					testRunSession.setIncludeTags(includeTags);
+				if (excludeTags != null)
+					testRunSession.setExcludeTags(excludeTags);
+			} else {
+				testRunSession.reset();
+			}
+			fTestRunSession= testRunSession;
+
+			TestRoot testRoot= testRunSession.getTestRoot();
+			int count= readVarInt(fIn);
+			for (int i= 0; i < count; i++) {
+				readTestElement(testRoot);
+			}
+			return testRunSession;
+		}
+
+		private void readTestElement(TestSuiteElement parent) throws IOException {
+			int flags= readVarInt(fIn);
+			boolean isSuite= (flags & FLAG_SUITE) != 0;
+			String testName;
+			if (isSuite) {
+				testName= fStrings[readVarInt(fIn)];
+			} else {
+				String methodName= fStrings[readVarInt(fIn)];
+				String className= fStrings[readVarInt(fIn)];
+				testName= methodName + '(' + className + ')';
+			}
+			String displayName= readOptionalString();
+			String uniqueId= readOptionalString();
+			String[] parameterTypes= null;
+			int parameterCount= readVarInt(fIn);
+			if (parameterCount > 0) {
+				parameterTypes= new String[parameterCount - 1];
+				for (int i= 0; i < parameterTypes.length; i++) {
+					parameterTypes[i]= fStrings[readVarInt(fIn)];
+				}
+			}
+
+			boolean isDynamicTest= (flags & FLAG_DYNAMIC_TEST) != 0;
+			TestElement testElement= fTestRunSession.createTestElement(parent, Integer.toString(fId++), testName, isSuite, 0, isDynamicTest, displayName, parameterTypes, uniqueId);
+			if ((flags & FLAG_IGNORED) != 0)
+				((TestCaseElement) testElement).setIgnored(true);
+			if ((flags & FLAG_TIME) != 0)
+				testElement.setElapsedTimeInSeconds(fIn.readDouble());
+
+			if ((flags & FLAG_FAILURE) != 0)
+				readFailure(testElement, flags);
+			if ((flags & FLAG_ASSUMPTION_FAILURE) != 0)
+				testElement.setAssumptionFailed(true);
+
+			if (isSuite) {
+				int count= readVarInt(fIn);
+				for (int i= 0; i < count; i++) {
+					readTestElement((TestSuiteElement) testElement);
+				}
+			}
+			fTestRunSession.registerTestEnded(testElement, (flags & FLAG_INCOMPLETE) == 0);
+		}
+
+		private void readFailure(TestElement testElement, int flags) throws IOException {
+			Status status;
+			if ((flags & FLAG_ASSUMPTION_FAILURE) != 0)
+				status= Status.OK;
+			else if ((flags & FLAG_ERROR) != 0)
+				status= Status.ERROR;
+			else
+				status= Status.FAILURE;
+
+			int offset= readVarInt(fIn);
+			int traceLength= readVarInt(fIn);
+			int expectedLength= readVarInt(fIn) - 1;
+			int actualLength= readVarInt(fIn) - 1;
+			if (fLazyTraces) {
+				fTestRunSession.registerTestFailureStatus(testElement, status, null, null, null);
+				testElement.setLazyFailure(new LazyFailure(fFile, fFileId, fTraceStart + offset, traceLength, expectedLength, actualLength));
+			} else {
+				String trace= getTrace(offset, traceLength);
+				offset+= traceLength;
+				String expected= getTrace(offset, expectedLength);
+				offset+= Math.max(expectedLength, 0);
+				String actual= getTrace(offset, actualLength);
+				fTestRunSession.registerTestFailureStatus(testElement, status, trace, expected, actual);
+			}
+		}
+
+		private String getTrace(int offset, int length) {
+			if (length < 0)
+				return null;
+			return new String(fTraces, offset, length, StandardCharsets.UTF_8);
+		}
+
+		private String readOptionalString() throws IOException {
+			int index= readVarInt(fIn);
+			return index == 0 ? null : fStrings[index - 1];
+		}
+
+		private void skipFully(long length) throws IOException {
+			InputStream in= fIn;
+			while (length > 0) {
+				long skipped= in.skip(length);
+				if (skipped <= 0) {
+					if (in.read() == -1)
+						throw new IOException("Unexpected end of file: " + fFile); //$NON-NLS-1$
+					skipped= 1;
+				}
+				length-= skipped;
+			}
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * The changes of a test session within one coalescing interval.
+ *
+ * @see ITestSessionDeltaListener
+ */
+public class TestSessionDelta {
+
+	private final List<TestElement> fAddedElements= new ArrayList<>();
+
+	private final LinkedHashSet<TestElement> fChangedElements= new LinkedHashSet<>();
+
+	private final List<TestElement> fFailedElements= new ArrayList<>();
+
+	private TestCaseElement fLastStartedTest;
+
+	private int fStartedCount;
+
+	private int fEndedCount;
+
+	TestSessionDelta() {
+	}
+
+	void testAdded(TestElement testElement) {
+		fAddedElements.add(testElement);
+	}
+
+	void testStarted(TestCaseElement testCaseElement) {
+		fChangedElements.add(testCaseElement);
+		fLastStartedTest= testCaseElement;
+		fStartedCount++;
+	}
+
+	void testEnded(TestCaseElement testCaseElement) {
+		fChangedElements.add(testCaseElement);
+		fEndedCount++;
+	}
+
+	void testFailed(TestElement testElement) {
+		fChangedElements.add(testElement);
+		fFailedElements.add(testElement);
+	}
+
+	boolean isEmpty() {
+		return fAddedElements.isEmpty() && fChangedElements.isEmpty();
+	}
+
+	/**
+	 * @return the tests that have been added to the plan, in the order they were added
+	 */
+	public List<TestElement> getAddedElements() {
+		return fAddedElements;
+	}
+
+	/**
+	 * @return the tests that have been started, ended or failed, each test only once
+	 */
+	public Collection<TestElement> getChangedElements() {
+		return fChangedElements;
+	}
+
+	/**
+	 * @return the tests that have failed, in the order they failed
+	 */
+	public List<TestElement> getFailedElements() {
+		return fFailedElements;
+	}
+
+	/**
+	 * @return the test that has been started last, or <code>null</code> if no test has been started
+	 */
+	public TestCaseElement getLastStartedTest() {
+		return fLastStartedTest;
+	}
+
+	/**
+	 * @return the number of tests that have been started
+	 */
+	public int getStartedCount() {
+		return fStartedCount;
+	}
+
+	/**
+	 * @return the number of tests that have ended
+	 */
+	public int getEndedCount() {
+		return fEndedCount;
+	}
+
+	/**
+	 * @return the number of failures and errors
+	 */
+	public int getFailedCount() {
+		return fFailedElements.size();
+	}
+}
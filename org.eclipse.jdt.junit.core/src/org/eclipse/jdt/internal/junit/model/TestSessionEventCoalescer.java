@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.internal.junit.JUnitMessages;
+
+/**
+ * Collects the events of individual tests into {@link TestSessionDelta}s and delivers them to the
+ * {@link ITestSessionDeltaListener}s of a session, so that the cost of the listeners does not grow
+ * with the rate at which tests finish.
+ */
+class TestSessionEventCoalescer extends Job {
+
+	/**
+	 * The time in milliseconds during which events are collected into one delta
+	 */
+	static final long COALESCE_INTERVAL= 100;
+
+	private final ListenerList<ITestSessionListener> fListeners;
+
+	private final Object fDeliveryLock= new Object();
+
+	private TestSessionDelta fDelta;
+
+	TestSessionEventCoalescer(ListenerList<ITestSessionListener> listeners) {
+		super(JUnitMessages.TestRunSession_coalesce_job);
+		fListeners= listeners;
+		setSystem(true);
+	}
+
+	/**
+	 * @return <code>true</code> iff one of the listeners wants to receive deltas
+	 */
+	boolean hasDeltaListeners() {
+		for (ITestSessionListener listener : fListeners) {
+			if (listener instanceof ITestSessionDeltaListener)
+				return true;
+		}
+		return false;
+	}
+
+	synchronized void testAdded(TestElement testElement) {
+		getDelta().testAdded(testElement);
+	}
+
+	synchronized void testStarted(TestCaseElement testCaseElement) {
+		getDelta().testStarted(testCaseElement);
+	}
+
+	synchronized void testEnded(TestCaseElement testCaseElement) {
+		getDelta().testEnded(testCaseElement);
+	}
+
+	synchronized void testFailed(TestElement testElement) {
+		getDelta().testFailed(testElement);
+	}
+
+	/**
+	 * Delivers the pending delta, if any. Called before session events so that listeners see the
+	 * events in order.
+	 */
+	void flush() {
+		synchronized (fDeliveryLock) {
+			TestSessionDelta delta;
+			synchronized (this) {
+				delta= fDelta;
+				fDelta= null;
+			}
+			if (delta == null || delta.isEmpty())
+				return;
+			for (ITestSessionListener listener : fListeners) {
+				if (listener instanceof ITestSessionDeltaListener)
+					((ITestSessionDeltaListener) listener).testsChanged(delta);
+			}
+		}
+	}
+
+	private synchronized TestSessionDelta getDelta() {
+		if (fDelta == null) {
+			fDelta= new TestSessionDelta();
+			schedule(COALESCE_INTERVAL);
+		}
+		return fDelta;
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		flush();
+		return Status.OK_STATUS;
+	}
+}
@@ -27,6 +27,8 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -71,6 +73,7 @@ import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.JUnitRuntimeClasspathEntry;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
+import org.eclipse.jdt.internal.junit.model.TestDurationHistory;
 import org.eclipse.jdt.internal.junit.util.CoreTestSearchEngine;
 import org.eclipse.jdt.internal.junit.util.IJUnitStatusConstants;
 
@@ -97,6 +100,17 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 	private int fPort;
 	private IJavaElement[] fTestElements;
 
+	/**
+	 * The test types of each VM if the tests are distributed to several VMs, or <code>null</code>.
+	 * The first shard runs on {@link #fPort}.
+	 */
+	private IJavaElement[][] fShards;
+
+	/**
+	 * The ports of the shards after the first one, or <code>null</code>.
+	 */
+	private int[] fShardPorts;
+
 	private static final String DEFAULT= "<default>"; //$NON-NLS-1$
 
 	@Override
@@ -154,16 +168,26 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 			ITestKind testKind= getTestRunnerKind(configuration);
 			IJavaProject javaProject= getJavaProject(configuration);
+			// keep-alive VMs can rerun tests, which is only supported for a single VM
+			int shardCount= fKeepAlive ? 1 : configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, 1);
 			if (TestKindRegistry.JUNIT3_TEST_KIND_ID.equals(testKind.getId()) || TestKindRegistry.JUNIT4_TEST_KIND_ID.equals(testKind.getId())) {
 				fTestElements= evaluateTests(configuration, subMon.newChild( 1));
 			} else {
 				IJavaElement testTarget= getTestTarget(configuration, javaProject);
-				if (testTarget instanceof IPackageFragment || testTarget instanceof IPackageFragmentRoot || testTarget instanceof IJavaProject) {
+				if (shardCount < 2 && (testTarget instanceof IPackageFragment || testTarget instanceof IPackageFragmentRoot || testTarget instanceof IJavaProject)) {
 					fTestElements= new IJavaElement[] { testTarget };
 				} else {
 					fTestElements= evaluateTests(configuration, subMon.newChild(1));
 				}
 			}
+			if (configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_FASTEST_FIRST, false)) {
+				sortByDuration(fTestElements);
+			}
+			fShards= null;
+			fShardPorts= null;
+			if (shardCount > 1 && fTestElements.length > 1) {
+				splitIntoShards(launch, Math.min(shardCount, fTestElements.length));
+			}
 
 			String mainTypeName= verifyMainTypeName(configuration);
 
@@ -179,11 +203,7 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 			ArrayList<String> vmArguments= new ArrayList<>();
 			ArrayList<String> programArguments= new ArrayList<>();
-			collectExecutionArguments(configuration, vmArguments, programArguments);
-			vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
-			if (JavaRuntime.isModularProject(javaProject)) {
-				vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
-			}
+			collectArguments(configuration, mode, vmArguments, programArguments);
 
 			// VM-specific attributes
 			Map<String, Object> vmAttributesMap= getVMSpecificAttributesMap(configuration);
@@ -285,16 +305,107 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			// Launch the configuration - 1 unit of work
 			runner.run(runConfig, launch, monitor);
 
+			// Launch the other shards with the same configuration, except for the tests to run
+			if (fShards != null) {
+				String vmMode= JUnitLaunchConfigurationConstants.MODE_RUN_QUIETLY_MODE.equals(mode) ? ILaunchManager.RUN_MODE : mode;
+				for (int i= 1; i < fShards.length; i++) {
+					if (monitor.isCanceled()) {
+						return;
+					}
+					fPort= fShardPorts[i - 1];
+					fTestElements= fShards[i];
+					ArrayList<String> vmArguments= new ArrayList<>();
+					ArrayList<String> programArguments= new ArrayList<>();
+					collectArguments(configuration, vmMode, vmArguments, programArguments);
+					runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
+					runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
+					runner.run(runConfig, launch, monitor);
+				}
+			}
+
 			// check for cancellation
 			if (monitor.isCanceled()) {
 				return;
 			}
 		} finally {
 			fTestElements= null;
+			fShards= null;
+			fShardPorts= null;
 			monitor.done();
 		}
 	}
 
+	/**
+	 * Sorts the test types so that the types whose tests took the least time in previous runs come
+	 * first. Types which have not been run yet come first, too.
+	 *
+	 * @param testElements the test elements, sorted in place if they are types
+	 */
+	private void sortByDuration(IJavaElement[] testElements) {
+		for (IJavaElement testElement : testElements) {
+			if (!(testElement instanceof IType))
+				return;
+		}
+		TestDurationHistory history= JUnitCorePlugin.getModel().getTestDurationHistory();
+		Map<IJavaElement, Long> durations= new HashMap<>();
+		for (IJavaElement testElement : testElements) {
+			durations.put(testElement, Long.valueOf(history.getClassDuration(((IType) testElement).getFullyQualifiedName('.'))));
+		}
+		Arrays.sort(testElements, Comparator.comparing(durations::get));
+	}
+
+	/**
+	 * Distributes the test types to shards of about the same duration, which are run in parallel
+	 * in separate VMs, and allocates a port for each shard.
+	 *
+	 * @param launch the launch
+	 * @param shardCount the number of shards
+	 * @throws CoreException if no free port is available
+	 */
+	private void splitIntoShards(ILaunch launch, int shardCount) throws CoreException {
+		String[] classNames= new String[fTestElements.length];
+		for (int i= 0; i < fTestElements.length; i++) {
+			if (!(fTestElements[i] instanceof IType))
+				return;
+			classNames[i]= ((IType) fTestElements[i]).getFullyQualifiedName('.');
+		}
+		List<List<Integer>> partition= JUnitCorePlugin.getModel().getTestDurationHistory().partition(classNames, shardCount);
+
+		fShards= new IJavaElement[shardCount][];
+		for (int i= 0; i < shardCount; i++) {
+			List<Integer> indices= partition.get(i);
+			fShards[i]= new IJavaElement[indices.size()];
+			for (int j= 0; j < indices.size(); j++) {
+				fShards[i][j]= fTestElements[indices.get(j).intValue()];
+			}
+		}
+
+		Set<Integer> usedPorts= new HashSet<>();
+		usedPorts.add(Integer.valueOf(fPort));
+		fShardPorts= new int[shardCount - 1];
+		StringBuilder shardPorts= new StringBuilder();
+		for (int i= 0; i < fShardPorts.length; i++) {
+			int port;
+			do {
+				port= evaluatePort();
+			} while (!usedPorts.add(Integer.valueOf(port)));
+			fShardPorts[i]= port;
+			if (i > 0)
+				shardPorts.append(',');
+			shardPorts.append(port);
+		}
+		launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS, shardPorts.toString());
+		fTestElements= fShards[0];
+	}
+
+	private void collectArguments(ILaunchConfiguration configuration, String mode, List<String> vmArguments, List<String> programArguments) throws CoreException {
+		collectExecutionArguments(configuration, vmArguments, programArguments);
+		vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
+		if (JavaRuntime.isModularProject(getJavaProject(configuration))) {
+			vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
+		}
+	}
+
 	private int evaluatePort() throws CoreException {
 		int port= SocketUtil.findFreePort();
 		if (port == -1) {
@@ -434,6 +545,8 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 		programArguments.add("-port"); //$NON-NLS-1$
 		programArguments.add(String.valueOf(fPort));
+		// ignored by older runtimes, which keep sending text messages
+		programArguments.add("-binaryprotocol"); //$NON-NLS-1$
 
 		if (fKeepAlive)
 			programArguments.add(0, "-keepalive"); //$NON-NLS-1$
@@ -496,6 +609,14 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			programArguments.add(testFailureNames);
 		}
 
+		if (configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_FASTEST_FIRST, false)) {
+			String fileName= createTestDurationsFile(testElements);
+			if (fileName != null) {
+				programArguments.add("-testdurations"); //$NON-NLS-1$
+				programArguments.add(fileName);
+			}
+		}
+
 		String uniqueId= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_UNIQUE_ID, ""); //$NON-NLS-1$
 		if (!uniqueId.trim().isEmpty()) {
 			programArguments.add("-uniqueId"); //$NON-NLS-1$
@@ -678,6 +799,43 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		}
 	}
 
+	/**
+	 * Writes the durations of the previous runs of the tests in the given elements to a file. Every
+	 * line consists of the duration in milliseconds, a tab and the test name.
+	 *
+	 * @param testElements the test types or test containers
+	 * @return the absolute path of the file, or <code>null</code> if no durations are known
+	 * @throws CoreException if the file could not be written
+	 */
+	private String createTestDurationsFile(IJavaElement[] testElements) throws CoreException {
+		TestDurationHistory history= JUnitCorePlugin.getModel().getTestDurationHistory();
+		Map<String, Long> durations= new HashMap<>();
+		for (IJavaElement testElement : testElements) {
+			if (testElement instanceof IType) {
+				durations.putAll(history.getTestDurations(((IType) testElement).getFullyQualifiedName('.')));
+			} else if (testElement instanceof IMethod) {
+				return null;
+			} else {
+				durations.putAll(history.getAllTestDurations());
+			}
+		}
+		if (durations.isEmpty())
+			return null;
+		try {
+			File file= File.createTempFile("testDurations", ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+			file.deleteOnExit();
+			try (BufferedWriter bw= new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+				for (Map.Entry<String, Long> entry : durations.entrySet()) {
+					bw.write(entry.getValue() + "\t" + entry.getKey()); //$NON-NLS-1$
+					bw.newLine();
+				}
+			}
+			return file.getAbsolutePath();
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JUnitCorePlugin.CORE_PLUGIN_ID, IStatus.ERROR, "", e)); //$NON-NLS-1$
+		}
+	}
+
 	@Override
 	public String[][] getClasspathAndModulepath(ILaunchConfiguration configuration) throws CoreException {
 		String[][] cpmp= super.getClasspathAndModulepath(configuration);
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes messages of the binary test run protocol. Every message is sent as a record consisting
+ * of the length of its UTF-8 encoding followed by the encoded bytes. The stream starts with
+ * {@link MessageIds#BINARY_PROTOCOL_MAGIC}.
+ * <p>
+ * Flush requests are batched: the stream is flushed at most once per {@link #FLUSH_INTERVAL}
+ * milliseconds, and a daemon thread flushes pending messages that are older than that.
+ * </p>
+ */
+public class BinaryMessageWriter {
+
+	/**
+	 * The maximal time in milliseconds a message stays in the buffer
+	 */
+	public static final long FLUSH_INTERVAL= 50;
+
+	private final DataOutputStream fOut;
+
+	private boolean fDirty;
+
+	private long fLastFlush;
+
+	private boolean fClosed;
+
+	private final Thread fFlusher;
+
+	public BinaryMessageWriter(OutputStream out) throws IOException {
+		fOut= new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+		fOut.writeInt(MessageIds.BINARY_PROTOCOL_MAGIC);
+		fOut.flush();
+		fLastFlush= System.currentTimeMillis();
+
+		fFlusher= new Thread("MessageFlusher") { //$NON-NLS-1$
+			@Override
+			public void run() {
+				while (flushPending()) {
+					try {
+						Thread.sleep(FLUSH_INTERVAL);
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+			}
+		};
+		fFlusher.setDaemon(true);
+		fFlusher.start();
+	}
+
+	public synchronized void write(String message) throws IOException {
+		if (fClosed)
+			return;
+		byte[] bytes= message.getBytes(StandardCharsets.UTF_8);
+		fOut.writeInt(bytes.length);
+		fOut.write(bytes);
+		fDirty= true;
+	}
+
+	/**
+	 * Flushes the buffered messages unless the stream has been flushed within the last
+	 * {@link #FLUSH_INTERVAL} milliseconds. Messages which are not flushed here are flushed by the
+	 * flusher thread.
+	 *
+	 * @throws IOException if the stream could not be flushed
+	 */
+	public synchronized void flush() throws IOException {
+		if (fDirty && System.currentTimeMillis() - fLastFlush >= FLUSH_INTERVAL)
+			doFlush();
+	}
+
+	public synchronized void close() throws IOException {
+		if (fClosed)
+			return;
+		fClosed= true;
+		fFlusher.interrupt();
+		fOut.close();
+	}
+
+	private synchronized boolean flushPending() {
+		if (fClosed)
+			return false;
+		if (fDirty) {
+			try {
+				doFlush();
+			} catch (IOException e) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void doFlush() throws IOException {
+		fOut.flush();
+		fDirty= false;
+		fLastFlush= System.currentTimeMillis();
+	}
+}
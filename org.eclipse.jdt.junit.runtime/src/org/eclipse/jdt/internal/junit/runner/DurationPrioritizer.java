@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+import junit.extensions.TestDecorator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Reorders the tests of every suite so that the tests which took the least time in the previous
+ * run come first. The duration of a suite is the sum of the durations of its tests. Tests without
+ * a recorded duration are new or have been renamed and count as taking no time, so they are run
+ * early, too.
+ */
+public class DurationPrioritizer implements ITestPrioritizer {
+	private final Map<String, Long> fDurations;
+
+	/**
+	 * @param durations the durations in milliseconds keyed by test name
+	 */
+	public DurationPrioritizer(Map<String, Long> durations) {
+		fDurations= durations;
+	}
+
+	@Override
+	public Test prioritize(Test suite) {
+		doPrioritize(suite);
+		return suite;
+	}
+
+	private long doPrioritize(Test test) {
+		if (test instanceof TestCase) {
+			Long duration= fDurations.get(test.toString());
+			return duration != null ? duration.longValue() : 0;
+		} else if (test instanceof TestSuite) {
+			TestSuite suite= (TestSuite) test;
+			List<Test> tests= new ArrayList<>();
+			List<Long> durations= new ArrayList<>();
+			long total= 0;
+			for (Enumeration<Test> e= suite.tests(); e.hasMoreElements();) {
+				Test child= e.nextElement();
+				long duration= doPrioritize(child);
+				tests.add(child);
+				durations.add(Long.valueOf(duration));
+				total+= duration;
+			}
+			sortTests(suite, tests, durations);
+			return total;
+		} else if (test instanceof TestDecorator) {
+			return doPrioritize(((TestDecorator) test).getTest());
+		}
+		return 0;
+	}
+
+	private void sortTests(TestSuite suite, List<Test> tests, List<Long> durations) {
+		@SuppressWarnings("unchecked")
+		Vector<Test> suiteTests= (Vector<Test>) FailuresFirstPrioritizer.getField(suite, "fTests"); //$NON-NLS-1$
+		if (suiteTests == null || suiteTests.size() != tests.size())
+			return;
+		Integer[] order= new Integer[tests.size()];
+		for (int i= 0; i < order.length; i++) {
+			order[i]= Integer.valueOf(i);
+		}
+		// stable, so tests with equal durations keep their order
+		Arrays.sort(order, Comparator.comparingLong(i -> durations.get(i.intValue()).longValue()));
+		for (int i= 0; i < order.length; i++) {
+			suiteTests.set(i, tests.get(order[i].intValue()));
+		}
+	}
+}
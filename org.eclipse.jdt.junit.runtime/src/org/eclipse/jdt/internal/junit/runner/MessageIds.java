@@ -133,6 +133,14 @@ public class MessageIds {
 	 */
 	public static final String TEST_RERUN=	">RERUN  "; //$NON-NLS-1$
 
+	/**
+	 * First four bytes sent by a test runner that uses the binary protocol.
+	 * In the binary protocol every message is sent as the length of its UTF-8
+	 * encoding followed by the encoded bytes, see BinaryMessageWriter.
+	 * A text protocol stream never starts with a zero byte.
+	 */
+	public static final int BINARY_PROTOCOL_MAGIC= 0x004A5542;
+
 	/**
 	 * MessageFormat to encode test method identifiers:
 	 * testMethod(testClass)
@@ -26,6 +26,8 @@ import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.Socket;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Vector;
 
 import org.eclipse.jdt.internal.junit.runner.junit3.JUnit3TestLoader;
@@ -91,6 +93,14 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Print writer for sending messages
 	 */
 	private PrintWriter fWriter;
+	/**
+	 * Writer for sending messages if the binary protocol is used
+	 */
+	private BinaryMessageWriter fBinaryWriter;
+	/**
+	 * Use the binary protocol instead of the text protocol?
+	 */
+	private boolean fBinaryProtocol= false;
 	/**
 	 * Reader for incoming messages
 	 */
@@ -131,6 +141,12 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	private String[] fFailureNames;
 
+	/**
+	 * The durations in milliseconds of the previous run of the tests, keyed by test name, or
+	 * <code>null</code>.
+	 */
+	private Map<String, Long> fTestDurations;
+
 	private ITestLoader fLoader;
 
 	private MessageSender fSender;
@@ -202,6 +218,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * -host: the host to connect to default local host
 	 * -port: the port to connect to, mandatory argument
 	 * -keepalive: keep the process alive after a test run
+	 * -binaryprotocol: send messages as length-prefixed binary records
      * </pre>
      */
 	public static void main(String[] args) {
@@ -286,6 +303,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 				}
 				i++;
 
+			} else if ("-testdurations".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				String testDurationsFile= args[i+1];
+				try {
+					readTestDurations(testDurationsFile);
+				} catch (IOException | NumberFormatException e) {
+					throw new IllegalArgumentException("Cannot read testdurations file.");		 //$NON-NLS-1$
+				}
+				i++;
+
 			} else if("-port".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				fPort= Integer.parseInt(args[i+1]);
 				i++;
@@ -301,6 +327,9 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 			else if("-keepalive".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				fKeepAlive= true;
 			}
+			else if("-binaryprotocol".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				fBinaryProtocol= true;
+			}
 			else if("-debugging".equalsIgnoreCase(args[i]) || "-debug".equalsIgnoreCase(args[i])){ //$NON-NLS-1$ //$NON-NLS-2$
 			    fDebugMode= true;
 
@@ -437,6 +466,32 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		}
 	}
 
+	/**
+	 * Reads the test durations file. Every line consists of the duration in milliseconds, a tab and
+	 * the test name.
+	 *
+	 * @param testDurationsFile the file
+	 * @throws IOException if the file could not be read
+	 */
+	private void readTestDurations(String testDurationsFile) throws IOException {
+		try(BufferedReader br= new BufferedReader(new InputStreamReader(new FileInputStream(new File(testDurationsFile)), StandardCharsets.UTF_8))) {
+			String line;
+			Map<String, Long> durations= new HashMap<>();
+			while ((line= br.readLine()) != null) {
+				int tab= line.indexOf('\t');
+				if (tab != -1)
+					durations.put(line.substring(tab + 1), Long.valueOf(line.substring(0, tab)));
+			}
+			fTestDurations= durations;
+		}
+		if (fDebugMode) {
+			System.out.println("Durations:"); //$NON-NLS-1$
+			for (Map.Entry<String, Long> entry : fTestDurations.entrySet()) {
+				System.out.println("    "+entry.getKey()+": "+entry.getValue()+"ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		}
+	}
+
 	/**
 	 * Connects to the remote ports and runs the tests.
 	 */
@@ -649,11 +704,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		for (int i= 1; i < 20; i++) {
 			try{
 				fClientSocket= new Socket(fHost, fPort);
-				try {
-				    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
-	            } catch (UnsupportedEncodingException e1) {
-	                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
-	            }
+				if (fBinaryProtocol) {
+					fBinaryWriter= new BinaryMessageWriter(fClientSocket.getOutputStream());
+				} else {
+					try {
+					    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
+		            } catch (UnsupportedEncodingException e1) {
+		                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
+		            }
+				}
 				try {
 				    fReader= new BufferedReader(new InputStreamReader(fClientSocket.getInputStream(), StandardCharsets.UTF_8));
                 } catch (UnsupportedEncodingException e1) {
@@ -682,6 +741,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 			fWriter.close();
 			fWriter= null;
 		}
+		if (fBinaryWriter != null) {
+			try {
+				fBinaryWriter.close();
+			} catch (IOException e) {
+				if (fDebugMode)
+					e.printStackTrace();
+			}
+			fBinaryWriter= null;
+		}
 		try {
 			if (fReaderThread != null)   {
 				// interrupt reader thread so that we don't block on close
@@ -711,6 +779,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void sendMessage(String msg) {
+		if (fBinaryWriter != null) {
+			try {
+				fBinaryWriter.write(msg);
+			} catch (IOException e) {
+				if (fDebugMode)
+					e.printStackTrace();
+			}
+			return;
+		}
 		if(fWriter == null)
 			return;
 		fWriter.println(msg);
@@ -751,6 +828,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void flush() {
+		if (fBinaryWriter != null) {
+			try {
+				fBinaryWriter.flush();
+			} catch (IOException e) {
+				if (fDebugMode)
+					e.printStackTrace();
+			}
+			return;
+		}
 	    fWriter.flush();
 	}
 
@@ -758,6 +844,17 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		runTests(fTestClassNames, fTestName, execution);
 	}
 
+	/**
+	 * Returns the durations of the previous run of the tests, which test loaders use to run the
+	 * fastest tests first.
+	 *
+	 * @return the durations in milliseconds keyed by test name (<code>method(class)</code>), or
+	 *         <code>null</code> if no durations have been passed
+	 */
+	public Map<String, Long> getTestDurations() {
+		return fTestDurations;
+	}
+
 	public ITestLoader getTestLoader() {
 		return fLoader;
 	}
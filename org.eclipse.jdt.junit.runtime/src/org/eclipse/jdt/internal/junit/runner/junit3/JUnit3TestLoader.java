@@ -20,7 +20,9 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Map;
 
+import org.eclipse.jdt.internal.junit.runner.DurationPrioritizer;
 import org.eclipse.jdt.internal.junit.runner.FailuresFirstPrioritizer;
 import org.eclipse.jdt.internal.junit.runner.ITestLoader;
 import org.eclipse.jdt.internal.junit.runner.ITestPrioritizer;
@@ -50,9 +52,14 @@ public class JUnit3TestLoader implements ITestLoader {
 		else
 			prioritizer= new NullPrioritizer();
 
+		// failures are moved to the front afterwards, so they still come first
+		Map<String, Long> durations= listener != null ? listener.getTestDurations() : null;
+		ITestPrioritizer durationPrioritizer= durations != null ? new DurationPrioritizer(durations) : new NullPrioritizer();
+
 		for (int i= 0; i < suites.length; i++) {
 			Class<?> testClassName= testClasses[i];
 			Test test= getTest(testClassName, testName, listener);
+			durationPrioritizer.prioritize(test);
 			prioritizer.prioritize(test);
 			suites[i]= new JUnit3TestReference(test);
 		}
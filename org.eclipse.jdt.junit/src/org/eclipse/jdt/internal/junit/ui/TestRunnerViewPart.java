@@ -147,11 +147,12 @@ import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
 import org.eclipse.jdt.internal.junit.model.ITestRunSessionListener;
-import org.eclipse.jdt.internal.junit.model.ITestSessionListener;
+import org.eclipse.jdt.internal.junit.model.ITestSessionDeltaListener;
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
 import org.eclipse.jdt.internal.junit.model.TestCaseElement;
 import org.eclipse.jdt.internal.junit.model.TestElement;
 import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSessionDelta;
 
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 
@@ -730,11 +731,17 @@ public class TestRunnerViewPart extends ViewPart {
 		}
 	}
 
-	private class TestSessionListener implements ITestSessionListener {
+	private class TestSessionListener implements ITestSessionDeltaListener {
+		/**
+		 * Whether the view has been shown for a failure of the current run
+		 */
+		private boolean fFailureShown;
+
 		@Override
 		public void sessionStarted(){
 			fTestViewer.registerViewersRefresh();
 			fShowOnErrorOnly= getShowOnErrorOnly();
+			fFailureShown= false;
 
 			startUpdateJobs();
 
@@ -814,40 +821,33 @@ public class TestRunnerViewPart extends ViewPart {
 		}
 
 		@Override
-		public void testStarted(TestCaseElement testCaseElement) {
-			fTestViewer.registerAutoScrollTarget(testCaseElement);
-			fTestViewer.registerViewerUpdate(testCaseElement);
+		public void testsChanged(TestSessionDelta delta) {
+			if (!delta.getAddedElements().isEmpty())
+				fTestViewer.registerTestsAdded(delta.getAddedElements());
+			fTestViewer.registerViewerUpdates(delta.getChangedElements());
+
+			TestCaseElement lastStarted= delta.getLastStartedTest();
+			if (lastStarted != null) {
+				fTestViewer.registerAutoScrollTarget(lastStarted);
+
+				String className= BasicElementLabels.getJavaElementName(lastStarted.getClassName());
+				String method= BasicElementLabels.getJavaElementName(lastStarted.getTestMethodName());
+				String status= Messages.format(JUnitMessages.TestRunnerViewPart_message_started, new String[] { className, method });
+				registerInfoMessage(status);
+			}
 
-			String className= BasicElementLabels.getJavaElementName(testCaseElement.getClassName());
-			String method= BasicElementLabels.getJavaElementName(testCaseElement.getTestMethodName());
-			String status= Messages.format(JUnitMessages.TestRunnerViewPart_message_started, new String[] { className, method });
-			registerInfoMessage(status);
-		}
+			if (delta.getFailedCount() > 0) {
+				if (isAutoScroll()) {
+					fTestViewer.registerFailedForAutoScroll(delta.getFailedElements());
+				}
 
-		@Override
-		public void testFailed(TestElement testElement, TestElement.Status status, String trace, String expected, String actual) {
-			if (isAutoScroll()) {
-				fTestViewer.registerFailedForAutoScroll(testElement);
+				// show the view on the first error only
+				if (!fFailureShown && getErrorsPlusFailures() > 0) {
+					fFailureShown= true;
+					if (fShowOnErrorOnly)
+						postShowTestResultsView();
+				}
 			}
-			fTestViewer.registerViewerUpdate(testElement);
-
-		    // show the view on the first error only
-		    if (fShowOnErrorOnly && (getErrorsPlusFailures() == 1))
-		        postShowTestResultsView();
-
-		    //TODO:
-		    // [Bug 35590] JUnit window doesn't report errors from junit.extensions.TestSetup [JUnit]
-		    // when a failure occurs in test setup then no test is running
-		    // to update the views we artificially signal the end of a test run
-//		    if (!fTestIsRunning) {
-//				fTestIsRunning= false;
-//				testEnded(testCaseElement);
-//			}
-		}
-
-		@Override
-		public void testEnded(TestCaseElement testCaseElement){
-			fTestViewer.registerViewerUpdate(testCaseElement);
 		}
 
 		@Override
@@ -857,11 +857,6 @@ public class TestRunnerViewPart extends ViewPart {
 			showFailure(testCaseElement);
 		}
 
-		@Override
-		public void testAdded(TestElement testElement) {
-			fTestViewer.registerTestAdded(testElement);
-		}
-
 		@Override
 		public boolean acceptsSwapToDisk() {
 			return false;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,8 @@ package org.eclipse.jdt.internal.junit.ui;
 
 import java.util.AbstractList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -220,6 +222,7 @@ public class TestViewer {
 	private boolean fTreeNeedsRefresh;
 	private boolean fTableNeedsRefresh;
 	private HashSet<TestElement> fNeedUpdate;
+	private LinkedHashSet<TestElement> fNeedAdd;
 	private TestCaseElement fAutoScrollTarget;
 
 	private LinkedList<TestSuiteElement> fAutoClose;
@@ -700,11 +703,18 @@ public class TestViewer {
 			viewer.setInput(testRoot);
 
 		} else {
+			Object[] toAdd;
 			Object[] toUpdate;
 			synchronized (this) {
+				toAdd= fNeedAdd.toArray();
+				fNeedAdd.clear();
 				toUpdate= fNeedUpdate.toArray();
 				fNeedUpdate.clear();
 			}
+			if (! fTreeNeedsRefresh) {
+				for (Object element : toAdd)
+					addElementToTree((TestElement) element);
+			}
 			if (! fTreeNeedsRefresh && toUpdate.length > 0) {
 				if (fTreeHasFilter)
 					for (Object element : toUpdate)
@@ -732,6 +742,17 @@ public class TestViewer {
 		autoScrollInUI();
 	}
 
+	private void addElementToTree(TestElement testElement) {
+		if (fTreeViewer.testFindItem(testElement) != null)
+			return; // already added by a refresh
+		if (fTreeHasFilter) {
+			if (isShown(testElement))
+				updateShownElementInTree(testElement);
+		} else {
+			fTreeViewer.add(testElement.getParent(), testElement);
+		}
+	}
+
 	private void updateElementInTree(final TestElement testElement) {
 		if (isShown(testElement)) {
 			updateShownElementInTree(testElement);
@@ -930,6 +951,9 @@ public class TestViewer {
 	}
 
 	private void clearUpdateAndExpansion() {
+		if (fNeedAdd != null && ! fNeedAdd.isEmpty())
+			fTreeNeedsRefresh= true; // the tree does not get the pending additions otherwise
+		fNeedAdd= new LinkedHashSet<>();
 		fNeedUpdate= new LinkedHashSet<>();
 		fAutoClose= new LinkedList<>();
 		fAutoExpand= new HashSet<>();
@@ -939,8 +963,17 @@ public class TestViewer {
 	 * @param testElement the added test
 	 */
 	public synchronized void registerTestAdded(TestElement testElement) {
-		//TODO: performance: would only need to refresh parent of added element
-		fTreeNeedsRefresh= true;
+		registerTestsAdded(Collections.singletonList(testElement));
+	}
+
+	/**
+	 * Registers tests to be added to the tree, parents before their children. The flat table is
+	 * refreshed instead, as appending the tests would not keep them in the order of the tree.
+	 *
+	 * @param testElements the added tests
+	 */
+	public synchronized void registerTestsAdded(Collection<? extends TestElement> testElements) {
+		fNeedAdd.addAll(testElements);
 		fTableNeedsRefresh= true;
 	}
 
@@ -948,6 +981,10 @@ public class TestViewer {
 		fNeedUpdate.add(testElement);
 	}
 
+	public synchronized void registerViewerUpdates(Collection<? extends TestElement> testElements) {
+		fNeedUpdate.addAll(testElements);
+	}
+
 	private synchronized void clearAutoExpand() {
 		fAutoExpand.clear();
 	}
@@ -962,6 +999,12 @@ public class TestViewer {
 			fAutoExpand.add(parent);
 	}
 
+	public synchronized void registerFailedForAutoScroll(Collection<? extends TestElement> testElements) {
+		for (TestElement testElement : testElements) {
+			registerFailedForAutoScroll(testElement);
+		}
+	}
+
 	public void expandFirstLevel() {
 		fTreeViewer.expandToLevel(2);
 	}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit4.runner;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.runner.Description;
+
+/**
+ * Comparator for descriptions to sort according to the durations of the previous run.
+ * The duration of a description is the duration recorded for its display name, or the
+ * sum of the durations of its children. Descriptions without a recorded duration count
+ * as taking no time.
+ */
+public class DurationSorter implements Comparator<Description> {
+
+	private final Map<String, Long> fDurations;
+
+	private final Map<Description, Long> fCache= new HashMap<>();
+
+	/**
+	 * Creates a sorter.
+	 *
+	 * @param durations the durations in milliseconds based on the description's display string
+	 */
+	public DurationSorter(Map<String, Long> durations) {
+		fDurations= durations;
+	}
+
+	/**
+	 * Compares two descriptions based on their durations.
+	 * @param d1 the first Description to compare with
+	 * @param d2 the second Description to compare with
+	 * @return a negative number if d1 took less time than d2, a positive number if it took more time, 0 otherwise
+	 */
+	@Override
+	public int compare(Description d1, Description d2) {
+		return Long.compare(getDuration(d1), getDuration(d2));
+	}
+
+	private long getDuration(Description d) {
+		Long cached= fCache.get(d);
+		if (cached != null)
+			return cached.longValue();
+
+		long duration;
+		Long recorded= fDurations.get(d.getDisplayName());
+		if (recorded != null) {
+			duration= recorded.longValue();
+		} else {
+			duration= 0;
+			for (Description child : d.getChildren()) {
+				duration+= getDuration(child);
+			}
+		}
+		fCache.put(d, Long.valueOf(duration));
+		return duration;
+	}
+}
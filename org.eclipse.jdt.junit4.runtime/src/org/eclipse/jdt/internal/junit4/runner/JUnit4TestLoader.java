@@ -17,7 +17,9 @@ package org.eclipse.jdt.internal.junit4.runner;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.runner.Description;
 import org.junit.runner.Request;
@@ -71,30 +73,39 @@ public class JUnit4TestLoader implements ITestLoader {
 			return new JUnit3TestReference(test);
 		}
 		if (testName != null) {
-			return createFilteredTest(clazz, testName, failureNames);
+			return createFilteredTest(clazz, testName, failureNames, listener);
 		}
-		return createUnfilteredTest(clazz, failureNames);
+		return createUnfilteredTest(clazz, failureNames, listener);
 	}
 
-	private ITestReference createFilteredTest(Class<?> clazz, String testName, String[] failureNames) {
+	private ITestReference createFilteredTest(Class<?> clazz, String testName, String[] failureNames, RemoteTestRunner listener) {
 		DescriptionMatcher matcher= DescriptionMatcher.create(clazz, testName);
 		SubForestFilter filter= new SubForestFilter(matcher);
-		Request request= sortByFailures(Request.classWithoutSuiteMethod(clazz).filterWith(filter), failureNames);
+		Request request= sortByFailures(Request.classWithoutSuiteMethod(clazz).filterWith(filter), failureNames, listener);
 		Runner runner= request.getRunner();
 		Description description= getRootDescription(runner, matcher);
 		return new JUnit4TestReference(runner, description);
 	}
 
-	private ITestReference createUnfilteredTest(Class<?> clazz, String[] failureNames) {
-		Request request= sortByFailures(Request.aClass(clazz), failureNames);
+	private ITestReference createUnfilteredTest(Class<?> clazz, String[] failureNames, RemoteTestRunner listener) {
+		Request request= sortByFailures(Request.aClass(clazz), failureNames, listener);
 		Runner runner= request.getRunner();
 		Description description= runner.getDescription();
 		return new JUnit4TestReference(runner, description);
 	}
 
-	private Request sortByFailures(Request request, String[] failureNames) {
+	private Request sortByFailures(Request request, String[] failureNames, RemoteTestRunner listener) {
+		Map<String, Long> durations= listener != null ? listener.getTestDurations() : null;
+		Comparator<Description> comparator= null;
 		if (failureNames != null) {
-			return request.sortWith(new FailuresFirstSorter(failureNames));
+			comparator= new FailuresFirstSorter(failureNames);
+		}
+		if (durations != null) {
+			DurationSorter durationSorter= new DurationSorter(durations);
+			comparator= comparator != null ? comparator.thenComparing(durationSorter) : durationSorter;
+		}
+		if (comparator != null) {
+			return request.sortWith(comparator);
 		}
 		return request;
 	}
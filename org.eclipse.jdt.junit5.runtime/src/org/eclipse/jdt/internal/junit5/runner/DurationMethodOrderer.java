@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit5.runner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+/**
+ * Orders the test methods by the durations of the previous run, the fastest first. Methods
+ * without a recorded duration count as taking no time. If failure names are configured as well,
+ * the methods that failed in the previous run come first.
+ */
+public class DurationMethodOrderer implements MethodOrderer {
+
+	@Override
+	public void orderMethods(MethodOrdererContext context) {
+		Set<String> failures= context.getConfigurationParameter(JUnit5TestLoader.FAILURE_NAMES)
+				.map(names -> (Set<String>) new HashSet<>(Arrays.asList(names.split(";")))) //$NON-NLS-1$
+				.orElse(Collections.emptySet());
+		Map<String, Long> durations= context.getConfigurationParameter(JUnit5TestLoader.TEST_DURATIONS)
+				.map(DurationMethodOrderer::parseDurations)
+				.orElse(Collections.emptyMap());
+
+		Comparator<MethodDescriptor> comparator= Comparator.comparing((MethodDescriptor d) -> !failures.contains(getMethodId(d)))
+				.thenComparingLong(d -> durations.getOrDefault(getMethodId(d), Long.valueOf(0)).longValue());
+		context.getMethodDescriptors().sort(comparator);
+	}
+
+	private static String getMethodId(MethodDescriptor d) {
+		// names are of form METHOD_NAME(CLASS_NAME)
+		return d.getMethod().getName() + "(" + d.getMethod().getDeclaringClass().getName() + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * @param durations the lines written by {@link JUnit5TestLoader}, each consisting of a
+	 *            duration in milliseconds, a tab and a test name
+	 * @return the durations keyed by test name
+	 */
+	private static Map<String, Long> parseDurations(String durations) {
+		Map<String, Long> result= new HashMap<>();
+		for (String line : durations.split("\n")) { //$NON-NLS-1$
+			int tab= line.indexOf('\t');
+			if (tab != -1) {
+				try {
+					result.put(line.substring(tab + 1), Long.valueOf(line.substring(0, tab)));
+				} catch (NumberFormatException e) {
+					// skip malformed entry
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -16,6 +16,7 @@ package org.eclipse.jdt.internal.junit5.runner;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.discovery.ClassNameFilter;
@@ -34,6 +35,8 @@ public class JUnit5TestLoader implements ITestLoader {
 
 	public final static String FAILURE_NAMES= "org.eclipse.jdt.junit5.runtime.failureNames"; //$NON-NLS-1$
 
+	public final static String TEST_DURATIONS= "org.eclipse.jdt.junit5.runtime.testDurations"; //$NON-NLS-1$
+
 	private Launcher fLauncher= LauncherFactory.create();
 
 	private RemoteTestRunner fRemoteTestRunner;
@@ -84,6 +87,19 @@ public class JUnit5TestLoader implements ITestLoader {
 			requestBuilder.configurationParameter(FAILURE_NAMES, failureNamesString);
 			requestBuilder.configurationParameter("junit.jupiter.testmethod.order.default", FailuresFirstMethodOrderer.class.getName()); //$NON-NLS-1$
 		}
+		Map<String, Long> durations= fRemoteTestRunner.getTestDurations();
+		if (durations != null) {
+			StringBuilder durationsString= new StringBuilder();
+			// includes the methods of nested classes
+			String className= '(' + clazz.getName();
+			for (Map.Entry<String, Long> entry : durations.entrySet()) {
+				if (entry.getKey().contains(className))
+					durationsString.append(entry.getValue()).append('\t').append(entry.getKey()).append('\n');
+			}
+			requestBuilder.configurationParameter(TEST_DURATIONS, durationsString.toString());
+			// also puts failures first
+			requestBuilder.configurationParameter("junit.jupiter.testmethod.order.default", DurationMethodOrderer.class.getName()); //$NON-NLS-1$
+		}
 		LauncherDiscoveryRequest request= requestBuilder.build();
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
 	}
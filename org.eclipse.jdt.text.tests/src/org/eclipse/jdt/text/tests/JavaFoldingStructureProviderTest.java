@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotation;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
+import org.eclipse.jface.text.source.projection.ProjectionViewer;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.text.folding.DefaultJavaFoldingStructureProvider;
+import org.eclipse.jdt.ui.text.folding.IJavaFoldingStructureProvider;
+
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+
+/**
+ * Tests that the folding structure updated for a fine grained delta is the same as the one
+ * computed from scratch.
+ */
+public class JavaFoldingStructureProviderTest {
+
+	private static final String SOURCE= ""
+			+ "/*\n"
+			+ " * Header comment.\n"
+			+ " */\n"
+			+ "package test;\n"
+			+ "\n"
+			+ "import java.util.List;\n"
+			+ "import java.util.Map;\n"
+			+ "\n"
+			+ "/**\n"
+			+ " * Type comment.\n"
+			+ " */\n"
+			+ "public class Folding {\n"
+			+ "	/**\n"
+			+ "	 * Field comment.\n"
+			+ "	 */\n"
+			+ "	List<String> fList;\n"
+			+ "\n"
+			+ "	void first() {\n"
+			+ "		int a= 1;\n"
+			+ "	}\n"
+			+ "\n"
+			+ "	/**\n"
+			+ "	 * Method comment.\n"
+			+ "	 */\n"
+			+ "	void second() {\n"
+			+ "		Map<String, String> map= null;\n"
+			+ "	}\n"
+			+ "\n"
+			+ "	class Inner {\n"
+			+ "		void inner() {\n"
+			+ "		}\n"
+			+ "	}\n"
+			+ "}\n"
+			+ "\n"
+			+ "class Second {\n"
+			+ "	void other() {\n"
+			+ "	}\n"
+			+ "}\n";
+
+	private IJavaProject fJavaProject;
+
+	private JavaEditor fEditor;
+
+	private ProjectionViewer fViewer;
+
+	private DefaultJavaFoldingStructureProvider fProvider;
+
+	@Before
+	public void setUp() throws Exception {
+		fJavaProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar18(fJavaProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		IPackageFragment pack= root.createPackageFragment("test", true, null);
+		ICompilationUnit cu= pack.createCompilationUnit("Folding.java", SOURCE, true, null);
+
+		fEditor= (JavaEditor) EditorUtility.openInEditor(cu);
+		fViewer= (ProjectionViewer) EditorTestHelper.getSourceViewer(fEditor);
+		assertTrue(EditorTestHelper.joinReconciler(fViewer, 0, 10000, 100));
+		IJavaFoldingStructureProvider provider= fEditor.getAdapter(IJavaFoldingStructureProvider.class);
+		assertTrue(String.valueOf(provider), provider instanceof DefaultJavaFoldingStructureProvider);
+		fProvider= (DefaultJavaFoldingStructureProvider) provider;
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fEditor != null) {
+			EditorTestHelper.closeEditor(fEditor);
+			fEditor= null;
+		}
+		if (fJavaProject != null) {
+			JavaProjectHelper.delete(fJavaProject);
+		}
+	}
+
+	private void edit(String search, String replacement) throws Exception {
+		IDocument document= fViewer.getDocument();
+		int offset= document.get().indexOf(search);
+		assertTrue(search, offset != -1);
+		document.replace(offset, search.length(), replacement);
+		assertTrue(EditorTestHelper.joinReconciler(fViewer, 0, 10000, 100));
+		EditorTestHelper.runEventQueue();
+	}
+
+	/**
+	 * Returns the folded regions with their element, sorted by offset.
+	 */
+	private String getStructure() {
+		ProjectionAnnotationModel model= fViewer.getProjectionAnnotationModel();
+		List<String> structure= new ArrayList<>();
+		Iterator<Annotation> iter= model.getAnnotationIterator();
+		while (iter.hasNext()) {
+			Annotation annotation= iter.next();
+			if (annotation instanceof ProjectionAnnotation) {
+				Position position= model.getPosition(annotation);
+				Accessor accessor= new Accessor(annotation, annotation.getClass());
+				IJavaElement element= (IJavaElement) accessor.invoke("getElement", new Object[0]);
+				boolean isComment= ((Boolean) accessor.invoke("isComment", new Object[0]));
+				structure.add(String.format("%05d,%05d %s%s", position.getOffset(), position.getLength(), element.getHandleIdentifier(), isComment ? " comment" : ""));
+			}
+		}
+		Collections.sort(structure);
+		return String.join("\n", structure);
+	}
+
+	/**
+	 * Recomputes the complete folding structure and checks that it did not change.
+	 */
+	private String assertSameAsFullUpdate() {
+		String incremental= getStructure();
+		Accessor accessor= new Accessor(fProvider, DefaultJavaFoldingStructureProvider.class);
+		Object ctx= accessor.invoke("createContext", new Class[] { boolean.class }, new Object[] { Boolean.FALSE });
+		accessor.invoke("update", new Class[] { ctx.getClass() }, new Object[] { ctx });
+		assertEquals(getStructure(), incremental);
+		return incremental;
+	}
+
+	@Test
+	public void testInitialStructure() throws Exception {
+		String structure= assertSameAsFullUpdate();
+		assertTrue(structure, structure.contains("~first"));
+		assertTrue(structure, structure.contains("~other"));
+	}
+
+	@Test
+	public void testBodyEdit() throws Exception {
+		edit("		int a= 1;\n", "		int a= 1;\n		int b= 2;\n		int c= 3;\n");
+		assertSameAsFullUpdate();
+
+		edit("		void inner() {\n", "		void inner() {\n			int d= 4;\n");
+		assertSameAsFullUpdate();
+
+		// the first type is changed, and is not the same handle as the one in the delta
+		edit("	List<String> fList;\n", "	List<String> fList;\n	int fCount;\n");
+		assertSameAsFullUpdate();
+
+		// a type other than the first one
+		edit("	void other() {\n", "	void other() {\n		other();\n");
+		assertSameAsFullUpdate();
+	}
+
+	@Test
+	public void testMemberAdded() throws Exception {
+		edit("	class Inner {\n", "	void added() {\n		return;\n	}\n\n	class Inner {\n");
+		String structure= assertSameAsFullUpdate();
+		assertTrue(structure, structure.contains("~added"));
+
+		edit("	void added() {\n", "	/**\n	 * Added comment.\n	 */\n	void added() {\n");
+		assertSameAsFullUpdate();
+	}
+
+	@Test
+	public void testMemberRemoved() throws Exception {
+		edit("	/**\n	 * Method comment.\n	 */\n	void second() {\n		Map<String, String> map= null;\n	}\n\n", "");
+		String structure= assertSameAsFullUpdate();
+		assertFalse(structure, structure.contains("~second"));
+
+		edit("		void inner() {\n		}\n", "");
+		structure= assertSameAsFullUpdate();
+		assertFalse(structure, structure.contains("~inner"));
+	}
+
+	@Test
+	public void testHeaderEdit() throws Exception {
+		edit(" * Header comment.\n", " * Header comment\n * spanning more lines.\n *\n");
+		assertSameAsFullUpdate();
+
+		edit("import java.util.Map;\n", "import java.util.Map;\nimport java.util.Set;\n");
+		assertSameAsFullUpdate();
+
+		edit(" * Type comment.\n", " * Type comment,\n * now longer.\n");
+		assertSameAsFullUpdate();
+	}
+}
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.jface.viewers.ViewerFilter;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.source.ISourceViewer;
+
+import org.eclipse.ui.IPageLayout;
+import org.eclipse.ui.views.contentoutline.IContentOutlinePage;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaOutlinePage;
+
+/**
+ * Tests the virtual tree of the Java outline, which is used for compilation units with many
+ * members.
+ */
+public class JavaOutlinePageTest {
+
+	private static final String LEXICAL_SORTING= "LexicalSortingAction.isChecked";
+
+	/**
+	 * More members than are shown in a regular tree.
+	 */
+	private static final int FIELD_COUNT= 2100;
+
+	private IJavaProject fJavaProject;
+
+	private ICompilationUnit fBig;
+
+	private ICompilationUnit fSmall;
+
+	private JavaEditor fEditor;
+
+	private ISourceViewer fSourceViewer;
+
+	private JavaOutlinePage fPage;
+
+	private boolean fOutlineShown;
+
+	@Before
+	public void setUp() throws Exception {
+		JavaPlugin.getDefault().getPreferenceStore().setValue(LEXICAL_SORTING, true);
+
+		fJavaProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar18(fJavaProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		IPackageFragment pack= root.createPackageFragment("test", true, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test;\n");
+		buf.append("\n");
+		buf.append("public class Big {\n");
+		for (int i= 0; i < FIELD_COUNT; i++) {
+			buf.append("	int field").append(i).append(";\n");
+		}
+		buf.append("\n");
+		buf.append("	void zeta() {\n");
+		buf.append("	}\n");
+		buf.append("\n");
+		buf.append("	void alpha() {\n");
+		buf.append("		int a= 1;\n");
+		buf.append("	}\n");
+		buf.append("}\n");
+		fBig= pack.createCompilationUnit("Big.java", buf.toString(), true, null);
+		fSmall= pack.createCompilationUnit("Small.java", "package test;\n\npublic class Small {\n	int field;\n}\n", true, null);
+
+		fEditor= (JavaEditor) EditorUtility.openInEditor(fBig);
+		fSourceViewer= EditorTestHelper.getSourceViewer(fEditor);
+		assertTrue(EditorTestHelper.joinReconciler(fSourceViewer, 0, 10000, 100));
+		fOutlineShown= EditorTestHelper.showView(IPageLayout.ID_OUTLINE, true);
+		EditorTestHelper.runEventQueue();
+		IContentOutlinePage page= fEditor.getAdapter(IContentOutlinePage.class);
+		assertTrue(String.valueOf(page), page instanceof JavaOutlinePage);
+		fPage= (JavaOutlinePage) page;
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		EditorTestHelper.showView(IPageLayout.ID_OUTLINE, fOutlineShown);
+		if (fEditor != null) {
+			EditorTestHelper.closeEditor(fEditor);
+			fEditor= null;
+		}
+		if (fJavaProject != null) {
+			JavaProjectHelper.delete(fJavaProject);
+		}
+		JavaPlugin.getDefault().getPreferenceStore().setToDefault(LEXICAL_SORTING);
+	}
+
+	private TreeViewer getViewer() {
+		return (TreeViewer) new Accessor(fPage, JavaOutlinePage.class).invoke("getOutlineViewer", new Object[0]);
+	}
+
+	private static boolean isVirtual(TreeViewer viewer) {
+		return (viewer.getTree().getStyle() & SWT.VIRTUAL) != 0;
+	}
+
+	private Object[] getSortedChildren(Object parent) {
+		Object provider= getViewer().getContentProvider();
+		return (Object[]) new Accessor(provider, provider.getClass()).invoke("getSortedChildren", new Object[] { parent });
+	}
+
+	private Object getCachedChildren(Object parent) {
+		Object provider= getViewer().getContentProvider();
+		return ((Map<?, ?>) new Accessor(provider, provider.getClass()).get("fSortedChildren")).get(parent);
+	}
+
+	private static List<String> getNames(Object[] elements) {
+		List<String> names= new ArrayList<>();
+		for (Object element : elements) {
+			names.add(((IJavaElement) element).getElementName());
+		}
+		return names;
+	}
+
+	private void edit(String search, String replacement) throws Exception {
+		IDocument document= fSourceViewer.getDocument();
+		int offset= document.get().indexOf(search);
+		assertTrue(search, offset != -1);
+		document.replace(offset, search.length(), replacement);
+		assertTrue(EditorTestHelper.joinReconciler(fSourceViewer, 0, 10000, 100));
+		// the outline is updated asynchronously
+		EditorTestHelper.runEventQueue();
+	}
+
+	@Test
+	public void testSortedAndFiltered() throws Exception {
+		TreeViewer viewer= getViewer();
+		assertTrue(isVirtual(viewer));
+		assertTrue(viewer.getContentProvider() instanceof ILazyTreeContentProvider);
+
+		IType type= fBig.getType("Big");
+		Object[] children= getSortedChildren(type);
+		assertEquals(FIELD_COUNT + 2, children.length);
+		ViewerComparator comparator= viewer.getComparator();
+		for (int i= 1; i < children.length; i++) {
+			assertTrue(children[i - 1] + " > " + children[i], comparator.compare(viewer, children[i - 1], children[i]) <= 0);
+		}
+		List<String> names= getNames(children);
+		assertTrue(names.indexOf("alpha") < names.indexOf("zeta"));
+
+		ViewerFilter filter= new ViewerFilter() {
+			@Override
+			public boolean select(Viewer v, Object parentElement, Object element) {
+				return !(element instanceof IField);
+			}
+		};
+		viewer.addFilter(filter);
+		assertEquals(Arrays.asList("alpha", "zeta"), getNames(getSortedChildren(type)));
+
+		viewer.removeFilter(filter);
+		assertEquals(FIELD_COUNT + 2, getSortedChildren(type).length);
+	}
+
+	@Test
+	public void testReconcile() throws Exception {
+		IType type= fBig.getType("Big");
+		Object[] children= getSortedChildren(type);
+
+		// the members did not change, the children are not computed again
+		edit("		int a= 1;\n", "		int a= 2;\n");
+		assertSame(children, getCachedChildren(type));
+
+		edit("	void alpha() {\n", "	void beta() {\n	}\n\n	void alpha() {\n");
+		Object[] added= getSortedChildren(type);
+		assertNotSame(children, added);
+		assertEquals(FIELD_COUNT + 3, added.length);
+		List<String> names= getNames(added);
+		assertTrue(names.indexOf("alpha") < names.indexOf("beta"));
+		assertTrue(names.indexOf("beta") < names.indexOf("zeta"));
+
+		edit("	void zeta() {\n	}\n", "");
+		names= getNames(getSortedChildren(type));
+		assertEquals(FIELD_COUNT + 2, names.size());
+		assertFalse(names.contains("zeta"));
+	}
+
+	@Test
+	public void testInputChanged() throws Exception {
+		Control control= fPage.getControl();
+		int toolBarItems= fPage.getSite().getActionBars().getToolBarManager().getItems().length;
+		assertTrue(isVirtual(getViewer()));
+
+		fPage.setInput(fSmall);
+		TreeViewer viewer= getViewer();
+		assertFalse(isVirtual(viewer));
+		assertFalse(viewer.getContentProvider() instanceof ILazyTreeContentProvider);
+		assertSame(fSmall, viewer.getInput());
+		assertSame(control, fPage.getControl());
+		assertSame(control, viewer.getControl().getParent());
+		assertEquals(toolBarItems, fPage.getSite().getActionBars().getToolBarManager().getItems().length);
+
+		fPage.setInput(fBig);
+		viewer= getViewer();
+		assertTrue(isVirtual(viewer));
+		assertSame(fBig, viewer.getInput());
+		assertEquals(FIELD_COUNT + 2, getSortedChildren(fBig.getType("Big")).length);
+		assertEquals(toolBarItems, fPage.getSite().getActionBars().getToolBarManager().getItems().length);
+	}
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
+
+/**
+ * Tests the semantic highlighting of files which are large enough to reconcile the visible and
+ * damaged regions first and the rest of the file in the background.
+ */
+public class LargeFileSemanticHighlightingTest extends AbstractSemanticHighlightingTest {
+	@Rule
+	public SemanticHighlightingTestSetup shts= new SemanticHighlightingTestSetup("/SHTest/src/SHTest.java");
+
+	private static final int METHODS= 2000;
+
+	private static final String FIELD= "fField";
+
+	private static final String OTHER= "fOther";
+
+	@Test
+	public void fillAfterFullChange() throws Exception {
+		IDocument document= getDocument();
+		document.set(createSource());
+		setUpSemanticHighlighting(SemanticHighlightings.FIELD);
+		joinFillJob();
+
+		assertEqualPositions(findOccurrences(document, FIELD), getSemanticHighlightingPositions());
+	}
+
+	@Test
+	public void fillAfterVisibleChange() throws Exception {
+		IDocument document= getDocument();
+		document.set(createSource());
+		setUpSemanticHighlighting(SemanticHighlightings.FIELD);
+		joinFillJob();
+
+		// renaming the declaration changes the highlighting of all references below the visible region
+		document.replace(document.get().indexOf(FIELD), FIELD.length(), OTHER);
+		reconcile();
+		joinFillJob();
+		assertEqualPositions(findOccurrences(document, OTHER), getSemanticHighlightingPositions());
+
+		document.replace(document.get().indexOf(OTHER), OTHER.length(), FIELD);
+		reconcile();
+		joinFillJob();
+		assertEqualPositions(findOccurrences(document, FIELD), getSemanticHighlightingPositions());
+	}
+
+	@Test
+	public void partialReconcileOfDamagedRegion() throws Exception {
+		IDocument document= getDocument();
+		document.set(createSource());
+		setUpSemanticHighlighting(SemanticHighlightings.FIELD);
+		joinFillJob();
+
+		// add a reference far below the visible region and remove one in the middle of the file
+		document.replace(document.get().lastIndexOf('}'), 0, "\tint mAdded() {\n\t\treturn " + FIELD + ";\n\t}\n");
+		int middle= document.get().indexOf(FIELD, document.getLength() / 2);
+		document.replace(middle, FIELD.length(), "0");
+		reconcile();
+		joinFillJob();
+
+		assertEqualPositions(findOccurrences(document, FIELD), getSemanticHighlightingPositions());
+	}
+
+	private static String createSource() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("class SHTest {\n");
+		buf.append("\tint ").append(FIELD).append(";\n");
+		for (int i= 0; i < METHODS; i++) {
+			buf.append("\tint m").append(i).append("() {\n");
+			buf.append("\t\treturn ").append(FIELD).append(";\n");
+			buf.append("\t}\n");
+		}
+		buf.append("}\n");
+		return buf.toString();
+	}
+
+	private static Position[] findOccurrences(IDocument document, String name) {
+		String text= document.get();
+		List<Position> positions= new ArrayList<>();
+		for (int offset= text.indexOf(name); offset != -1; offset= text.indexOf(name, offset + name.length())) {
+			positions.add(new Position(offset, name.length()));
+		}
+		return positions.toArray(new Position[positions.size()]);
+	}
+
+	private void joinFillJob() throws InterruptedException {
+		SemanticHighlightingManager manager= (SemanticHighlightingManager) new Accessor(getEditor(), JavaEditor.class).get("fSemanticManager");
+		SemanticHighlightingReconciler reconciler= (SemanticHighlightingReconciler) new Accessor(manager, SemanticHighlightingManager.class).get("fReconciler");
+		Job fillJob= (Job) new Accessor(reconciler, SemanticHighlightingReconciler.class).get("fFillJob");
+		if (fillJob != null)
+			fillJob.join();
+		EditorTestHelper.runEventQueue(100);
+	}
+}
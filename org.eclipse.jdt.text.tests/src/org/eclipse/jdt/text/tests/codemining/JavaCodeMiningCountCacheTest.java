@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.codemining;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaCodeMiningCountCache;
+
+public class JavaCodeMiningCountCacheTest {
+
+	private IJavaProject fProject;
+
+	private IPackageFragment fPackage;
+
+	private JavaCodeMiningCountCache fCache;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar_17(fProject, true);
+		fPackage= JavaProjectHelper.addSourceContainer(fProject, "src").createPackageFragment("p", true, null);
+		fCache= JavaCodeMiningCountCache.getDefault();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private long count(IJavaElement element) throws CoreException {
+		return fCache.getReferenceCount(element, false, new NullProgressMonitor());
+	}
+
+	private boolean isCached(IJavaElement element) {
+		Accessor accessor= new Accessor(fCache, JavaCodeMiningCountCache.class);
+		Object key= accessor.invoke("getReferenceKey", new Class[] { IJavaElement.class, boolean.class }, new Object[] { element, Boolean.FALSE });
+		return ((Map<?, ?>) accessor.get("fEntries")).containsKey(key);
+	}
+
+	/**
+	 * Runs the single search of a reference batch, as
+	 * {@link JavaCodeMiningCountCache#computeReferenceCounts(List, boolean, org.eclipse.core.runtime.IProgressMonitor)}
+	 * does before it counts the uncertain elements separately.
+	 *
+	 * @return the batch
+	 */
+	private Accessor runBatch(List<IJavaElement> elements) throws CoreException {
+		Accessor batch= new Accessor(JavaCodeMiningCountCache.class.getName() + "$ReferenceBatch", JavaCodeMiningCountCache.class.getClassLoader(),
+				new Class[] { List.class, boolean.class }, new Object[] { elements, Boolean.FALSE });
+		SearchPattern pattern= (SearchPattern) batch.invoke("createPattern", new Object[0]);
+		IJavaSearchScope scope= (IJavaSearchScope) new Accessor(fCache, JavaCodeMiningCountCache.class).invoke("createSearchScope",
+				new Class[] { IJavaElement.class }, new Object[] { elements.get(0) });
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope, new SearchRequestor() {
+			@Override
+			public void acceptSearchMatch(SearchMatch match) {
+				batch.invoke("acceptSearchMatch", new Class[] { SearchMatch.class }, new Object[] { match });
+			}
+		}, new NullProgressMonitor());
+		return batch;
+	}
+
+	@Test
+	public void testBatchCountsMatchSingleCounts() throws Exception {
+		ICompilationUnit a= fPackage.createCompilationUnit("A.java", """
+			package p;
+			public class A {
+				public int x;
+				public A() {}
+				public A(int x) { this(); }
+				public void foo() {}
+				public void bar(A a) { a.foo(); foo(); x++; }
+			}
+			""", true, null);
+		fPackage.createCompilationUnit("B.java", """
+			package p;
+			public class B extends A {
+				B() { super(1); }
+				void baz() { new A().foo(); int y= new A(2).x; bar(this); }
+			}
+			""", true, null);
+		IType type= a.getType("A");
+		List<IJavaElement> elements= List.of(type, type.getField("x"), type.getMethod("A", new String[0]), type.getMethod("A", new String[] { "I" }),
+				type.getMethod("foo", new String[0]), type.getMethod("bar", new String[] { "QA;" }));
+		fCache.computeReferenceCounts(elements, false, new NullProgressMonitor());
+		long[] batch= new long[elements.size()];
+		for (int i= 0; i < batch.length; i++) {
+			// the count is not searched again
+			assertTrue(elements.get(i).getElementName(), isCached(elements.get(i)));
+			batch[i]= count(elements.get(i));
+		}
+
+		JavaCodeMiningCountCache.shutdown();
+		fCache= JavaCodeMiningCountCache.getDefault();
+		for (int i= 0; i < batch.length; i++) {
+			assertEquals(elements.get(i).getElementName(), count(elements.get(i)), batch[i]);
+		}
+
+		// only the overloaded constructors are counted separately, the other counts come from the batch search
+		Accessor referenceBatch= runBatch(elements);
+		assertEquals(Set.of(elements.get(2), elements.get(3)), referenceBatch.get("fUncertain"));
+		Map<?, ?> counts= (Map<?, ?>) referenceBatch.get("fCounts");
+		for (IJavaElement element : List.of(elements.get(0), elements.get(1), elements.get(4), elements.get(5))) {
+			assertEquals(element.getElementName(), count(element), ((long[]) counts.get(element))[0]);
+		}
+	}
+
+	@Test
+	public void testReferenceCountUpdatedOnChange() throws Exception {
+		ICompilationUnit a= fPackage.createCompilationUnit("A.java", """
+			package p;
+			public class A {
+				public void foo() {}
+			}
+			""", true, null);
+		fPackage.createCompilationUnit("B.java", """
+			package p;
+			public class B {
+				void bar() { new A().foo(); }
+			}
+			""", true, null);
+		IJavaElement foo= a.getType("A").getMethod("foo", new String[0]);
+		assertEquals(1, count(foo));
+
+		fPackage.createCompilationUnit("C.java", """
+			package p;
+			public class C {
+				void baz() { new A().foo(); }
+			}
+			""", true, null);
+		assertEquals(2, count(foo));
+
+		fPackage.createCompilationUnit("B.java", """
+			package p;
+			public class B {
+				void bar() { }
+			}
+			""", true, null);
+		assertEquals(1, count(foo));
+	}
+
+	@Test
+	public void testReferenceCountUpdatedOnReconcile() throws Exception {
+		ICompilationUnit a= fPackage.createCompilationUnit("A.java", """
+			package p;
+			public class A {
+				public void foo() {}
+			}
+			""", true, null);
+		ICompilationUnit b= fPackage.createCompilationUnit("B.java", """
+			package p;
+			public class B {
+				void bar() { new A().foo(); }
+				void baz() { }
+			}
+			""", true, null);
+		IJavaElement foo= a.getType("A").getMethod("foo", new String[0]);
+		assertEquals(1, count(foo));
+
+		b.becomeWorkingCopy(null);
+		try {
+			b.getBuffer().setContents("""
+				package p;
+				public class B {
+					void bar() { new A().foo(); }
+					void baz() { new A().foo(); }
+				}
+				""");
+			b.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertEquals(2, count(foo));
+
+			b.getBuffer().setContents("""
+				package p;
+				public class B {
+					void bar() { }
+					void baz() { new A().foo(); }
+				}
+				""");
+			b.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertEquals(1, count(foo));
+		} finally {
+			b.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testSubtypesUpdatedOnChange() throws Exception {
+		ICompilationUnit a= fPackage.createCompilationUnit("A.java", """
+			package p;
+			public class A {
+			}
+			""", true, null);
+		fPackage.createCompilationUnit("B.java", """
+			package p;
+			public class B extends A {
+			}
+			""", true, null);
+		IType type= a.getType("A");
+		assertEquals(1, fCache.getSubtypes(type, new NullProgressMonitor()).length);
+
+		fPackage.createCompilationUnit("C.java", """
+			package p;
+			public class C extends B {
+			}
+			""", true, null);
+		assertEquals(2, fCache.getSubtypes(type, new NullProgressMonitor()).length);
+
+		fPackage.getCompilationUnit("B.java").delete(true, null);
+		assertEquals(0, fCache.getSubtypes(type, new NullProgressMonitor()).length);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -243,6 +245,43 @@ public class ContentAssistHistoryTest {
 		assertEqualMap(map(LIST, list(ARRAY_LIST), COLLECTION, list(ARRAY_LIST), ITERABLE, list(ARRAY_LIST), CHAR_SEQUENCE, list(STRING)), loaded.getEntireHistory());
 	}
 
+	@Test
+	public void testLoadStoreBinary() throws Exception {
+		ContentAssistHistory history= new ContentAssistHistory();
+
+		history.remember(fgListT, fgArrayListT, "p.A#foo");
+		history.remember(fgListT, fgLinkedListT, "p.A#foo");
+		history.remember(fgListT, fgArrayListT, "p.A#foo");
+		history.remember(fgCharSequenceT, fgStringT);
+
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		ContentAssistHistory.store(history, out);
+		ContentAssistHistory loaded= ContentAssistHistory.load(new ByteArrayInputStream(out.toByteArray()));
+
+		assertEqualMap(map(LIST, list(LINKED_LIST, ARRAY_LIST), COLLECTION, list(LINKED_LIST, ARRAY_LIST), ITERABLE, list(LINKED_LIST, ARRAY_LIST), CHAR_SEQUENCE, list(STRING)), loaded.getEntireHistory());
+		assertEquals(history.getHistory(LIST, "p.A#foo").getRank(ARRAY_LIST), loaded.getHistory(LIST, "p.A#foo").getRank(ARRAY_LIST), 0.0f);
+		assertEquals(history.getHistory(LIST, "p.A#foo").getRank(LINKED_LIST), loaded.getHistory(LIST, "p.A#foo").getRank(LINKED_LIST), 0.0f);
+	}
+
+	@Test
+	public void testContextHistory() {
+		ContentAssistHistory history= new ContentAssistHistory();
+
+		history.remember(fgListT, fgArrayListT, "p.A#foo");
+		history.remember(fgListT, fgArrayListT, "p.A#foo");
+		history.remember(fgListT, fgArrayListT, "p.A#foo");
+		history.remember(fgListT, fgLinkedListT, "p.A#bar");
+
+		RHSHistory foo= history.getHistory(LIST, "p.A#foo");
+		assertTrue("frequent type must rank higher in its context", foo.getRank(ARRAY_LIST) > foo.getRank(LINKED_LIST));
+		RHSHistory bar= history.getHistory(LIST, "p.A#bar");
+		assertTrue("type selected in the context must rank higher", bar.getRank(LINKED_LIST) > bar.getRank(ARRAY_LIST));
+		RHSHistory unknown= history.getHistory(LIST, "p.B#baz");
+		assertTrue("frequencies without context must be used for unknown contexts", unknown.getRank(ARRAY_LIST) > unknown.getRank(LINKED_LIST));
+		assertEquals(list(ARRAY_LIST, LINKED_LIST), foo.getTypes());
+		assertEquals(0.0f, foo.getRank(STRING), 0.0f);
+	}
+
 	private static void assertEqualMap(Map<String, List<String>> expected, Map<String, RHSHistory> actual) {
 		assertEqualMap("", expected, actual);
 	}
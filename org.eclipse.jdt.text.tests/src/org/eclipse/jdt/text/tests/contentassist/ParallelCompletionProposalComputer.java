@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExecutableExtension;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jface.text.contentassist.CompletionProposal;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+import org.eclipse.jface.text.contentassist.IContextInformation;
+
+import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
+import org.eclipse.jdt.ui.text.java.IJavaCompletionProposalComputer;
+
+/**
+ * A computer that is contributed to several categories, see {@link ParallelContentAssistTest}.
+ * It proposes the id of its category if the document contains {@link #CONTENT_TRIGGER_STRING}.
+ */
+public class ParallelCompletionProposalComputer implements IJavaCompletionProposalComputer, IExecutableExtension {
+
+	public static final String CONTENT_TRIGGER_STRING= "parallelCompletion";
+
+	private static final long TIMEOUT= 10000;
+
+	/**
+	 * If set, every computer counts down and waits until the latch is open. This only succeeds if
+	 * the categories are computed concurrently.
+	 */
+	static volatile CountDownLatch fgMeeting;
+
+	/**
+	 * The category whose computer waits until its monitor is cancelled.
+	 */
+	static volatile String fgSlowCategory;
+
+	/**
+	 * Opened when the computer of {@link #fgSlowCategory} has started.
+	 */
+	static volatile CountDownLatch fgSlowStarted= new CountDownLatch(1);
+
+	static final Set<String> fgMissedMeeting= ConcurrentHashMap.newKeySet();
+
+	static final Set<String> fgCancelled= ConcurrentHashMap.newKeySet();
+
+	private String fCategoryId;
+
+	static void reset() {
+		fgMeeting= null;
+		fgSlowCategory= null;
+		fgSlowStarted= new CountDownLatch(1);
+		fgMissedMeeting.clear();
+		fgCancelled.clear();
+	}
+
+	@Override
+	public void setInitializationData(IConfigurationElement config, String propertyName, Object data) {
+		fCategoryId= config.getAttribute("categoryId");
+	}
+
+	@Override
+	public void sessionStarted() {
+	}
+
+	@Override
+	public List<ICompletionProposal> computeCompletionProposals(ContentAssistInvocationContext context, IProgressMonitor monitor) {
+		if (!context.getDocument().get().contains(CONTENT_TRIGGER_STRING)) {
+			return Collections.emptyList();
+		}
+		try {
+			CountDownLatch meeting= fgMeeting;
+			if (meeting != null) {
+				meeting.countDown();
+				if (!meeting.await(TIMEOUT, TimeUnit.MILLISECONDS)) {
+					fgMissedMeeting.add(fCategoryId);
+				}
+			}
+			if (fCategoryId.equals(fgSlowCategory)) {
+				fgSlowStarted.countDown();
+				long end= System.currentTimeMillis() + TIMEOUT;
+				while (!monitor.isCanceled() && System.currentTimeMillis() < end) {
+					Thread.sleep(10);
+				}
+				if (monitor.isCanceled()) {
+					fgCancelled.add(fCategoryId);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return Collections.singletonList(new CompletionProposal(fCategoryId, context.getInvocationOffset(), 0, 0, null, fCategoryId, null, null));
+	}
+
+	@Override
+	public List<IContextInformation> computeContextInformation(ContentAssistInvocationContext context, IProgressMonitor monitor) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public String getErrorMessage() {
+		return null;
+	}
+
+	@Override
+	public void sessionEnded() {
+	}
+}
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.contentassist.ContentAssistant;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.text.java.CompletionProposalCategory;
+import org.eclipse.jdt.internal.ui.text.java.CompletionProposalComputerRegistry;
+import org.eclipse.jdt.internal.ui.text.java.ContentAssistProcessor;
+import org.eclipse.jdt.internal.ui.text.java.JavaCompletionProcessor;
+
+/**
+ * Tests the concurrent computation of proposal categories, see
+ * {@link PreferenceConstants#CODEASSIST_PARALLEL_COMPUTATION}.
+ */
+public class ParallelContentAssistTest extends AbstractCompletionTest {
+
+	private static final String JAVA_CATEGORY= "org.eclipse.jdt.ui.javaAllProposalCategory";
+
+	private static final String TEMPLATE_CATEGORY= "org.eclipse.jdt.ui.templateProposalCategory";
+
+	private static final long TIMEOUT= 10000;
+
+	private ICompilationUnit fCU;
+
+	private JavaEditor fEditor;
+
+	private JavaCompletionProcessor fProcessor;
+
+	private final IProgressMonitor fMonitor= new NullProgressMonitor();
+
+	@Before
+	public void setUpEditor() throws Exception {
+		ParallelCompletionProposalComputer.reset();
+		getJDTUIPrefs().setValue(PreferenceConstants.CODEASSIST_PARALLEL_COMPUTATION, true);
+
+		String contents= "package test1;\n"
+				+ "public class Parallel {\n"
+				+ "	void m() {\n"
+				+ "		" + ParallelCompletionProposalComputer.CONTENT_TRIGGER_STRING + "\n"
+				+ "	}\n"
+				+ "}\n";
+		fCU= getAnonymousTestPackage().createCompilationUnit("Parallel.java", contents, true, null);
+		fEditor= (JavaEditor) EditorUtility.openInEditor(fCU);
+		ContentAssistant assistant= new ContentAssistant();
+		assistant.setDocumentPartitioning(IJavaPartitions.JAVA_PARTITIONING);
+		fProcessor= new JavaCompletionProcessor(fEditor, assistant, getContentType()) {
+			@Override
+			protected IProgressMonitor createProgressMonitor() {
+				return fMonitor;
+			}
+		};
+		// the default categories, as when invoked from the UI
+		Accessor accessor= new Accessor(fProcessor, ContentAssistProcessor.class);
+		accessor.invoke("setCategoryIteration", new Object[0]);
+		accessor.set("fRepetition", 0);
+	}
+
+	@After
+	public void tearDownEditor() throws Exception {
+		ParallelCompletionProposalComputer.reset();
+		IPreferenceStore store= getJDTUIPrefs();
+		store.setToDefault(PreferenceConstants.CODEASSIST_PARALLEL_COMPUTATION);
+		store.setToDefault(PreferenceConstants.CODEASSIST_CATEGORY_TIMEOUT);
+		if (fEditor != null) {
+			fEditor.close(false);
+		}
+		if (fCU != null) {
+			fCU.delete(true, null);
+		}
+	}
+
+	/**
+	 * Computes the proposals outside the UI thread, the only case in which categories are computed
+	 * concurrently.
+	 */
+	private Thread startComputation(AtomicReference<Set<String>> result) {
+		String source= fEditor.getViewer().getDocument().get();
+		int offset= source.indexOf(ParallelCompletionProposalComputer.CONTENT_TRIGGER_STRING) + ParallelCompletionProposalComputer.CONTENT_TRIGGER_STRING.length();
+		Thread thread= new Thread(() -> {
+			ICompletionProposal[] proposals= fProcessor.computeCompletionProposals(fEditor.getViewer(), offset);
+			result.set(Arrays.stream(proposals).map(ICompletionProposal::getDisplayString).collect(Collectors.toSet()));
+		}, "ParallelContentAssistTest");
+		thread.start();
+		return thread;
+	}
+
+	/**
+	 * Waits for the condition while running the event loop, in case a computer needs the UI thread.
+	 */
+	private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+		Display display= Display.getCurrent();
+		long end= System.currentTimeMillis() + 2 * TIMEOUT;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > end)
+				return false;
+			if (display == null || !display.readAndDispatch())
+				Thread.sleep(10);
+		}
+		return true;
+	}
+
+	private static void join(Thread thread) throws InterruptedException {
+		assertTrue("computation did not finish", waitFor(() -> !thread.isAlive()));
+	}
+
+	private static String getDisplayName(String categoryId) {
+		List<CompletionProposalCategory> categories= CompletionProposalComputerRegistry.getDefault().getProposalCategories();
+		for (CompletionProposalCategory category : categories) {
+			if (category.getId().equals(categoryId))
+				return category.getDisplayName();
+		}
+		throw new IllegalArgumentException(categoryId);
+	}
+
+	@Test
+	public void testCategoriesComputedConcurrently() throws Exception {
+		getJDTUIPrefs().setValue(PreferenceConstants.CODEASSIST_CATEGORY_TIMEOUT, 60000);
+		// each computer waits for the other one, which only works if they run at the same time
+		ParallelCompletionProposalComputer.fgMeeting= new CountDownLatch(2);
+
+		AtomicReference<Set<String>> result= new AtomicReference<>();
+		join(startComputation(result));
+
+		assertEquals(Set.of(), ParallelCompletionProposalComputer.fgMissedMeeting);
+		assertTrue(result.get().toString(), result.get().contains(JAVA_CATEGORY));
+		assertTrue(result.get().toString(), result.get().contains(TEMPLATE_CATEGORY));
+	}
+
+	@Test
+	public void testDeadline() throws Exception {
+		getJDTUIPrefs().setValue(PreferenceConstants.CODEASSIST_CATEGORY_TIMEOUT, 2000);
+		ParallelCompletionProposalComputer.fgSlowCategory= TEMPLATE_CATEGORY;
+
+		AtomicReference<Set<String>> result= new AtomicReference<>();
+		long start= System.currentTimeMillis();
+		join(startComputation(result));
+		long duration= System.currentTimeMillis() - start;
+
+		assertTrue("waited " + duration + " ms", duration < TIMEOUT);
+		assertFalse(result.get().toString(), result.get().contains(TEMPLATE_CATEGORY));
+		String errorMessage= fProcessor.getErrorMessage();
+		assertTrue(errorMessage, errorMessage.contains(getDisplayName(TEMPLATE_CATEGORY)));
+		// the category thread is told to stop after the deadline
+		assertTrue(waitFor(() -> ParallelCompletionProposalComputer.fgCancelled.contains(TEMPLATE_CATEGORY)));
+	}
+
+	@Test
+	public void testCancellation() throws Exception {
+		getJDTUIPrefs().setValue(PreferenceConstants.CODEASSIST_CATEGORY_TIMEOUT, 60000);
+		ParallelCompletionProposalComputer.fgSlowCategory= TEMPLATE_CATEGORY;
+
+		AtomicReference<Set<String>> result= new AtomicReference<>();
+		Thread thread= startComputation(result);
+		assertTrue("slow computer not started", waitFor(() -> ParallelCompletionProposalComputer.fgSlowStarted.getCount() == 0));
+		long start= System.currentTimeMillis();
+		fMonitor.setCanceled(true);
+		join(thread);
+		long duration= System.currentTimeMillis() - start;
+
+		assertTrue("waited " + duration + " ms", duration < TIMEOUT);
+		assertFalse(result.get().toString(), result.get().contains(TEMPLATE_CATEGORY));
+		// a cancelled computation is not reported as one that took too long
+		String errorMessage= fProcessor.getErrorMessage();
+		assertTrue(errorMessage, errorMessage == null || !errorMessage.contains(getDisplayName(TEMPLATE_CATEGORY)));
+		assertTrue(waitFor(() -> ParallelCompletionProposalComputer.fgCancelled.contains(TEMPLATE_CATEGORY)));
+	}
+}
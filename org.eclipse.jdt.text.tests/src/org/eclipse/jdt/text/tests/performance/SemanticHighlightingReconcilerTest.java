@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.ui.JavaUI;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlighting;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
+
+/**
+ * Measures the time to reconcile the semantic highlighting of a large compilation unit whose
+ * highlighted positions are already known.
+ *
+ * @since 3.33
+ */
+public class SemanticHighlightingReconcilerTest extends TextPerformanceTestCase {
+
+	private static final Class<SemanticHighlightingReconcilerTest> THIS= SemanticHighlightingReconcilerTest.class;
+
+	private static final String FILE= PerformanceTestSetup.STYLED_TEXT;
+
+	private static final int WARM_UP_RUNS= 3;
+
+	private static final int MEASURED_RUNS= 10;
+
+	private JavaEditor fEditor;
+
+	private SemanticHighlightingReconciler fReconciler;
+
+	private CompilationUnit fAST;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		for (SemanticHighlighting semanticHighlighting : SemanticHighlightings.getSemanticHighlightings()) {
+			store.setValue(SemanticHighlightings.getEnabledPreferenceKey(semanticHighlighting), true);
+		}
+
+		fEditor= (JavaEditor) EditorTestHelper.openInEditor(ResourceTestHelper.findFile(FILE), true);
+		assertTrue(EditorTestHelper.joinReconciler(EditorTestHelper.getSourceViewer(fEditor), 0, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+
+		SemanticHighlightingManager manager= (SemanticHighlightingManager) new Accessor(fEditor, JavaEditor.class).get("fSemanticManager");
+		fReconciler= (SemanticHighlightingReconciler) new Accessor(manager, SemanticHighlightingManager.class).get("fReconciler");
+		fAST= SharedASTProviderCore.getAST(JavaUI.getEditorInputTypeRoot(fEditor.getEditorInput()), SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(fAST);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		EditorTestHelper.closeAllEditors();
+		fEditor= null;
+		fReconciler= null;
+		fAST= null;
+
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		for (SemanticHighlighting semanticHighlighting : SemanticHighlightings.getSemanticHighlightings()) {
+			store.setToDefault(SemanticHighlightings.getEnabledPreferenceKey(semanticHighlighting));
+		}
+	}
+
+	/**
+	 * Measures the time to match the highlighted positions of a large compilation unit against the
+	 * existing ones.
+	 */
+	public void testReconcile() {
+		measure(getNullPerformanceMeter(), getWarmUpRuns());
+		PerformanceMeter performanceMeter= createPerformanceMeter("Java Editor: Semantic highlighting reconcile");
+		measure(performanceMeter, getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs) {
+		for (int i= 0; i < runs; i++) {
+			performanceMeter.start();
+			fReconciler.reconciled(fAST, false, new NullProgressMonitor());
+			performanceMeter.stop();
+			EditorTestHelper.runEventQueue(100);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,14 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
@@ -29,15 +33,34 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.text.tests.Accessor;
+
 import org.eclipse.jface.preference.IPreferenceStore;
 
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
+import org.eclipse.ui.texteditor.spelling.SpellingProblem;
+
 import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.text.spelling.JavaSpellingEngine;
 import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.AbstractSpellDictionary;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultPhoneticDistanceAlgorithm;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultSpellChecker;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckEngine;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckIterator;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEventListener;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.PersistentSpellDictionary;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
 
 
@@ -57,6 +80,24 @@ public class SpellCheckEngineTestCase {
 		}
 	}
 
+	/**
+	 * A spell checker that counts how many partitions it checked.
+	 */
+	protected static class CountingSpellChecker extends DefaultSpellChecker {
+
+		int fExecutions;
+
+		public CountingSpellChecker(IPreferenceStore store, Locale locale) {
+			super(store, locale);
+		}
+
+		@Override
+		public void execute(ISpellEventListener listener, ISpellCheckIterator iterator) {
+			fExecutions++;
+			super.execute(listener, iterator);
+		}
+	}
+
 	public static final String GLOBAL= "Global"; //$NON-NLS-1$
 	public static final String LASTWAGEN= "Lastwagen"; //$NON-NLS-1$
 	public static final String LORRY= "Lorry"; //$NON-NLS-1$
@@ -260,4 +301,130 @@ public class SpellCheckEngineTestCase {
 		assertTrue(proposals.size() >= 1);
 		assertEquals(- DefaultPhoneticDistanceAlgorithm.COST_CASE, proposals.iterator().next().getRank());
 	}
+
+	@Test
+	public void testModificationStamp() {
+		fPreferences.setValue(PreferenceConstants.SPELLING_LOCALE, Locale.US.toString());
+		final ISpellChecker checker= fEngine.getSpellChecker();
+		assertNotNull(checker);
+
+		assertTrue(contains(checker.getProposals(TRUCK.toLowerCase(), true), TRUCK));
+
+		long stamp= checker.getModificationStamp();
+		checker.ignoreWord(LORRY);
+		assertTrue(stamp != checker.getModificationStamp());
+
+		stamp= checker.getModificationStamp();
+		checker.ignoreWord(LORRY);
+		assertEquals(stamp, checker.getModificationStamp());
+
+		checker.checkWord(LORRY);
+		assertTrue(stamp != checker.getModificationStamp());
+		assertFalse(checker.isCorrect(LORRY));
+	}
+
+	/**
+	 * Checks the Java partitions of a document with a new engine, as the spelling service does.
+	 *
+	 * @return the offsets and lengths of the reported problems
+	 */
+	private static List<String> check(IDocument document, ISpellChecker checker) {
+		List<String> problems= new ArrayList<>();
+		ISpellingProblemCollector collector= new ISpellingProblemCollector() {
+			@Override
+			public void beginCollecting() {
+			}
+
+			@Override
+			public void accept(SpellingProblem problem) {
+				problems.add(problem.getOffset() + "," + problem.getLength()); //$NON-NLS-1$
+			}
+
+			@Override
+			public void endCollecting() {
+			}
+		};
+		IRegion[] regions= { new Region(0, document.getLength()) };
+		new Accessor(new JavaSpellingEngine(), JavaSpellingEngine.class).invoke("check", //$NON-NLS-1$
+				new Class[] { IDocument.class, IRegion[].class, ISpellChecker.class, ISpellingProblemCollector.class, IProgressMonitor.class },
+				new Object[] { document, regions, checker, collector, null });
+		return problems;
+	}
+
+	private static List<String> move(List<String> problems, int delta) {
+		List<String> moved= new ArrayList<>();
+		for (String problem : problems) {
+			int comma= problem.indexOf(',');
+			moved.add((Integer.parseInt(problem.substring(0, comma)) + delta) + problem.substring(comma));
+		}
+		return moved;
+	}
+
+	@Test
+	public void testUnchangedPartitionsNotCheckedAgain() throws Exception {
+		CountingSpellChecker checker= new CountingSpellChecker(fPreferences, Locale.US);
+		checker.addDictionary(fUSDictionary);
+		IDocument document= new Document("/** Truck xyzzy. */\nclass A {\n\t// Truck qwertz\n}\n"); //$NON-NLS-1$
+		JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(document, IJavaPartitions.JAVA_PARTITIONING);
+
+		List<String> problems= check(document, checker);
+		assertEquals(2, checker.fExecutions);
+		assertEquals(problems.toString(), 2, problems.size());
+
+		// the results of the previous check are reused
+		assertEquals(problems, check(document, checker));
+		assertEquals(2, checker.fExecutions);
+
+		// the moved comments are not checked again, their problems are moved
+		document.replace(0, 0, "\n\n"); //$NON-NLS-1$
+		assertEquals(move(problems, 2), check(document, checker));
+		assertEquals(2, checker.fExecutions);
+
+		// only the changed comment is checked
+		document.replace(document.get().indexOf("qwertz"), "qwertz".length(), "qwertzy"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		List<String> changed= check(document, checker);
+		assertEquals(3, checker.fExecutions);
+		assertEquals(move(problems, 2).get(0), changed.get(0));
+		assertEquals(2, changed.size());
+
+		// a modified spell checker invalidates the results
+		checker.ignoreWord("xyzzy"); //$NON-NLS-1$
+		assertEquals(1, check(document, checker).size());
+		assertEquals(5, checker.fExecutions);
+	}
+
+	@Test
+	public void testCompiledDictionary() throws Exception {
+		File wordList= File.createTempFile("words", ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			Files.writeString(wordList.toPath(), TRUCK + "\n" + LORRY + "\n" + SENTENCECONTENT + "\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+			// first load reads the word list and compiles it
+			PersistentSpellDictionary dictionary= new PersistentSpellDictionary(wordList.toURI().toURL());
+			assertTrue(dictionary.isCorrect(TRUCK));
+			assertTrue(dictionary.isCorrect(LORRY));
+			assertFalse(dictionary.isCorrect(LASTWAGEN));
+			dictionary.unload();
+
+			// second load reads the compiled dictionary
+			dictionary= new PersistentSpellDictionary(wordList.toURI().toURL());
+			assertTrue(dictionary.isCorrect(TRUCK));
+			assertTrue(dictionary.isCorrect(LORRY));
+			assertFalse(dictionary.isCorrect(LASTWAGEN));
+			assertTrue(contains(dictionary.getProposals(SENTENCESTART, false), SENTENCECONTENT));
+
+			dictionary.addWord(LASTWAGEN);
+			assertTrue(dictionary.isCorrect(LASTWAGEN));
+			assertTrue(dictionary.isCorrect(TRUCK));
+			dictionary.unload();
+
+			// the word list changed, the compiled dictionary must not be used anymore
+			dictionary= new PersistentSpellDictionary(wordList.toURI().toURL());
+			assertTrue(dictionary.isCorrect(LASTWAGEN));
+			assertTrue(dictionary.isCorrect(TRUCK));
+			dictionary.unload();
+		} finally {
+			wordList.delete();
+		}
+	}
 }
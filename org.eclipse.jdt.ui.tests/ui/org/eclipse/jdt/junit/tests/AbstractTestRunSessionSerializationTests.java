@@ -123,6 +123,15 @@ public class AbstractTestRunSessionSerializationTests {
 					e.printStackTrace();
 				}
 		}
+
+		File binaryFile= File.createTempFile("testresult", ".bin");
+		try {
+			JUnitModel.exportTestRunSessionBinary(serializationResult.fTestRunSession, binaryFile);
+			TestRunSession imported= JUnitModel.importTestRunSession(binaryFile);
+			assertEqualSessions(serializationResult.fTestRunSession, imported);
+		} finally {
+			binaryFile.delete();
+		}
 	}
 
 	private void assertEqualXML(String expected, String actual) {
@@ -41,6 +41,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
@@ -449,6 +450,53 @@ public class JUnitTestFinderTest {
 		assertTestFound(fProject, validTests);
 	}
 
+	@Test
+	public void testTestAnnotationChanged() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		String str= """
+			package p;
+
+			import org.junit.Test;
+
+			public class Test1 {
+			        @Test public void testFoo() {
+			        }
+			}
+			""";
+		ICompilationUnit cu1= p.createCompilationUnit("Test1.java", str, false, null);
+
+		String str1= """
+			package p;
+
+			public class Test2 extends Test1 {
+			        public void testBar() {
+			        }
+			}
+			""";
+		p.createCompilationUnit("Test2.java", str1, false, null);
+
+		assertTestFound(p, new String[] { "p.Test1", "p.Test2" });
+
+		String str2= """
+			package p;
+
+			public class Test1 {
+			        public void testFoo() {
+			        }
+			}
+			""";
+		cu1.getBuffer().setContents(str2);
+		cu1.save(null, true);
+
+		// the subclass in the unchanged compilation unit must be re-examined, too
+		assertTestFound(p, new String[] {});
+
+		cu1.getBuffer().setContents(str);
+		cu1.save(null, true);
+
+		assertTestFound(p, new String[] { "p.Test1", "p.Test2" });
+	}
+
 	@Test
 	public void testTestAnnotation_bug204682() throws Exception {
 
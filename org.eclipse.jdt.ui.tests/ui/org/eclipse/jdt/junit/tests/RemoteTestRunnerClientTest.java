@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.model.ITestRunListener2;
+import org.eclipse.jdt.internal.junit.model.RemoteTestRunnerClient;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+
+/**
+ * Tests the protocol between the test runner and {@link RemoteTestRunnerClient}. The messages are
+ * sent through piped streams instead of a socket.
+ */
+public class RemoteTestRunnerClientTest {
+
+	private static final long TIMEOUT= 10000;
+
+	private static final String[] TEST_RUN= {
+			"%TESTC  2 v2",
+			"%TSTTREE1,test1(pack.A),false,1,false,-1,test1(pack.A),,",
+			"%TESTS  1,test1(pack.A)",
+			"%FAILED 1,test1(pack.A)",
+			"%TRACES ",
+			"java.lang.AssertionError: äß€",
+			"\tat pack.A.test1(A.java:5)",
+			"%TRACEE ",
+			"%TESTE  1,test1(pack.A)",
+			"%TESTS  2,tést2(pack.A)",
+			"%TESTE  2,tést2(pack.A)",
+			"%RUNTIME10" };
+
+	private static final List<String> TEST_RUN_EVENTS= Arrays.asList(
+			"runStarted 2",
+			"treeEntry 1,test1(pack.A),false,1,false,-1,test1(pack.A),,",
+			"started 1 test1(pack.A)",
+			"failed 1 test1(pack.A) java.lang.AssertionError: äß€\n\tat pack.A.test1(A.java:5)\n",
+			"ended 1 test1(pack.A)",
+			"started 2 tést2(pack.A)",
+			"ended 2 tést2(pack.A)",
+			"runEnded 10");
+
+	private static class EventLog implements ITestRunListener2 {
+		private final List<String> fEvents= new ArrayList<>();
+
+		synchronized List<String> getEvents() {
+			return new ArrayList<>(fEvents);
+		}
+
+		private synchronized void log(String event) {
+			fEvents.add(event);
+		}
+
+		@Override
+		public void testRunStarted(int testCount) {
+			log("runStarted " + testCount);
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			log("runEnded " + elapsedTime);
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			log("runStopped " + elapsedTime);
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			log("started " + testId + " " + testName);
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			log("ended " + testId + " " + testName);
+		}
+
+		@Override
+		public void testRunTerminated() {
+			log("terminated");
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+			log("treeEntry " + description);
+		}
+
+		@Override
+		public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+			log("failed " + testId + " " + testName + " " + trace);
+		}
+
+		@Override
+		public void testReran(String testId, String testClass, String testName, int status, String trace, String expected, String actual) {
+			log("reran " + testId);
+		}
+	}
+
+	private interface StreamWriter {
+		void write(PipedOutputStream out) throws Exception;
+	}
+
+	/**
+	 * Reads the test run that <code>writer</code> writes in another thread.
+	 */
+	private static List<String> receive(StreamWriter writer) throws Exception {
+		PipedOutputStream out= new PipedOutputStream();
+		PipedInputStream in= new PipedInputStream(out, 64 * 1024);
+		Exception[] writeException= new Exception[1];
+		Thread writerThread= new Thread(() -> {
+			try (out) {
+				writer.write(out);
+			} catch (Exception e) {
+				writeException[0]= e;
+			}
+		}, "TestRunnerWriter");
+		writerThread.start();
+
+		EventLog log= new EventLog();
+		new RemoteTestRunnerClient().receiveMessages(new ITestRunListener2[] { log }, in);
+		writerThread.join(TIMEOUT);
+		assertFalse("writer still running", writerThread.isAlive());
+		if (writeException[0] != null)
+			throw writeException[0];
+		return log.getEvents();
+	}
+
+	private static List<String> receive(byte[] bytes) throws Exception {
+		EventLog log= new EventLog();
+		new RemoteTestRunnerClient().receiveMessages(new ITestRunListener2[] { log }, new ByteArrayInputStream(bytes));
+		return log.getEvents();
+	}
+
+	private static byte[] binaryRecords(int... lengths) throws IOException {
+		ByteArrayOutputStream bytes= new ByteArrayOutputStream();
+		DataOutputStream out= new DataOutputStream(bytes);
+		out.writeInt(MessageIds.BINARY_PROTOCOL_MAGIC);
+		writeRecord(out, TEST_RUN[0]);
+		for (int length : lengths) {
+			out.writeInt(length);
+			out.write(new byte[Math.min(Math.max(length, 0), 100)]);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void writeRecord(DataOutputStream out, String message) throws IOException {
+		byte[] bytes= message.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	@Test
+	public void testBinaryRoundTrip() throws Exception {
+		List<String> events= receive(out -> {
+			BinaryMessageWriter writer= new BinaryMessageWriter(out);
+			for (String message : TEST_RUN) {
+				writer.write(message);
+				writer.flush();
+			}
+			writer.close();
+		});
+		assertEquals(TEST_RUN_EVENTS, events);
+	}
+
+	@Test
+	public void testTextFallback() throws Exception {
+		List<String> events= receive(out -> {
+			for (String message : TEST_RUN) {
+				out.write((message + "\r\n").getBytes(StandardCharsets.UTF_8));
+			}
+		});
+		List<String> expected= new ArrayList<>(TEST_RUN_EVENTS);
+		// the text protocol keeps the line delimiter of the test runner
+		expected.set(3, expected.get(3).replace("\n", "\r\n"));
+		assertEquals(expected, events);
+	}
+
+	@Test
+	public void testShortStreams() throws Exception {
+		assertEquals(Arrays.asList(), receive(new byte[0]));
+		// fewer bytes than the magic header are read as text
+		assertEquals(Arrays.asList(), receive("%T".getBytes(StandardCharsets.UTF_8)));
+		assertEquals(Arrays.asList("runStarted 3"), receive("%TESTC  3 v2".getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	public void testInvalidLength() throws Exception {
+		List<String> terminated= Arrays.asList("runStarted 2", "terminated");
+		assertEquals(terminated, receive(binaryRecords(-1)));
+		assertEquals(terminated, receive(binaryRecords(Integer.MIN_VALUE)));
+		assertEquals(terminated, receive(binaryRecords(Integer.MAX_VALUE)));
+		// a plausible length whose bytes never arrive
+		assertEquals(terminated, receive(binaryRecords(1000)));
+		// the end of the stream between two records ends the run without a message
+		assertEquals(Arrays.asList("runStarted 2"), receive(binaryRecords()));
+	}
+
+	@Test
+	public void testBinaryFraming() throws Exception {
+		ByteArrayOutputStream bytes= new ByteArrayOutputStream();
+		BinaryMessageWriter writer= new BinaryMessageWriter(bytes);
+		assertEquals("magic header written at once", 4, bytes.size());
+		writer.write("%TESTC  1 v2");
+		writer.write("");
+		writer.write("ä€");
+		writer.close();
+
+		DataInputStream in= new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		assertEquals(MessageIds.BINARY_PROTOCOL_MAGIC, in.readInt());
+		assertArrayEquals("%TESTC  1 v2".getBytes(StandardCharsets.UTF_8), readRecord(in));
+		assertArrayEquals(new byte[0], readRecord(in));
+		assertArrayEquals(new byte[] { (byte) 0xc3, (byte) 0xa4, (byte) 0xe2, (byte) 0x82, (byte) 0xac }, readRecord(in));
+		assertEquals(-1, in.read());
+	}
+
+	private static byte[] readRecord(DataInputStream in) throws IOException {
+		byte[] record= new byte[in.readInt()];
+		in.readFully(record);
+		return record;
+	}
+
+	@Test
+	public void testFlusher() throws Exception {
+		PipedOutputStream out= new PipedOutputStream();
+		InputStream in= new PipedInputStream(out, 64 * 1024);
+		BinaryMessageWriter writer= new BinaryMessageWriter(out);
+		try {
+			DataInputStream data= new DataInputStream(in);
+			assertEquals(MessageIds.BINARY_PROTOCOL_MAGIC, data.readInt());
+
+			// neither message is flushed explicitly, the flusher thread has to deliver them
+			writer.write("%TESTC  1 v2");
+			writer.flush();
+			writer.write("%TESTS  1,test1(pack.A)");
+			long end= System.currentTimeMillis() + TIMEOUT;
+			int expected= 2 * 4 + "%TESTC  1 v2".length() + "%TESTS  1,test1(pack.A)".length();
+			while (in.available() < expected) {
+				if (System.currentTimeMillis() > end)
+					fail("messages not flushed, available: " + in.available());
+				Thread.sleep(10);
+			}
+			assertArrayEquals("%TESTC  1 v2".getBytes(StandardCharsets.UTF_8), readRecord(data));
+			assertArrayEquals("%TESTS  1,test1(pack.A)".getBytes(StandardCharsets.UTF_8), readRecord(data));
+
+			// close flushes what is left
+			writer.write("%RUNTIME5");
+			writer.close();
+			assertArrayEquals("%RUNTIME5".getBytes(StandardCharsets.UTF_8), readRecord(data));
+			assertEquals(-1, data.read());
+		} finally {
+			writer.close();
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.SAXParserFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.model.TestDurationHistory;
+import org.eclipse.jdt.internal.junit.model.TestRunHandler;
+
+public class TestDurationHistoryTest {
+
+	private File fFile;
+
+	@Before
+	public void setUp() throws Exception {
+		fFile= File.createTempFile("durations", ".bin");
+		fFile.delete();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fFile.delete();
+	}
+
+	private static void record(TestDurationHistory history, String testRun) throws Exception {
+		TestRunHandler handler= new TestRunHandler();
+		SAXParserFactory.newInstance().newSAXParser().parse(new ByteArrayInputStream(testRun.getBytes(StandardCharsets.UTF_8)), handler);
+		history.record(handler.getTestRunSession());
+	}
+
+	private static String testRun(String[] classNames, double[] times) {
+		StringBuilder buf= new StringBuilder("<testrun name=\"durations\">\n");
+		for (int i= 0; i < classNames.length; i++) {
+			buf.append("<testsuite name=\"").append(classNames[i]).append("\">\n");
+			buf.append("<testcase name=\"test1\" classname=\"").append(classNames[i]).append("\" time=\"").append(times[i] / 2).append("\"/>\n");
+			buf.append("<testcase name=\"test2\" classname=\"").append(classNames[i]).append("\" time=\"").append(times[i] / 2).append("\"/>\n");
+			buf.append("</testsuite>\n");
+		}
+		return buf.append("</testrun>\n").toString();
+	}
+
+	private static void assertPartition(List<List<Integer>> shards, int classCount) {
+		List<Integer> all= new ArrayList<>();
+		for (List<Integer> shard : shards) {
+			List<Integer> sorted= new ArrayList<>(shard);
+			sorted.sort(null);
+			assertEquals("shard not in original order", sorted, shard);
+			all.addAll(shard);
+		}
+		all.sort(null);
+		List<Integer> expected= new ArrayList<>();
+		for (int i= 0; i < classCount; i++) {
+			expected.add(Integer.valueOf(i));
+		}
+		assertEquals("every class in exactly one shard", expected, all);
+	}
+
+	private static long[] totals(TestDurationHistory history, String[] classNames, List<List<Integer>> shards) {
+		long[] totals= new long[shards.size()];
+		for (int i= 0; i < totals.length; i++) {
+			for (Integer index : shards.get(i)) {
+				totals[i]+= history.getClassDuration(classNames[index.intValue()]);
+			}
+		}
+		return totals;
+	}
+
+	@Test
+	public void testPartitionBalance() throws Exception {
+		String[] classNames= { "pack.A", "pack.B", "pack.C", "pack.D", "pack.E", "pack.F", "pack.G" };
+		TestDurationHistory history= new TestDurationHistory();
+		record(history, testRun(classNames, new double[] { 0.01, 0.08, 0.03, 0.07, 0.02, 0.05, 0.04 }));
+
+		List<List<Integer>> shards= history.partition(classNames, 3);
+		assertEquals(3, shards.size());
+		assertPartition(shards, classNames.length);
+		long[] totals= totals(history, classNames, shards);
+		assertEquals(Arrays.toString(totals), 100, totals[0]);
+		assertEquals(Arrays.toString(totals), 100, totals[1]);
+		assertEquals(Arrays.toString(totals), 100, totals[2]);
+	}
+
+	@Test
+	public void testPartitionUnknownClasses() throws Exception {
+		TestDurationHistory history= new TestDurationHistory();
+		record(history, testRun(new String[] { "pack.A", "pack.B" }, new double[] { 0.03, 0.01 }));
+
+		// C and D have not been run and count with the average of 20ms
+		String[] classNames= { "pack.A", "pack.B", "pack.C", "pack.D" };
+		List<List<Integer>> shards= history.partition(classNames, 2);
+		assertPartition(shards, classNames.length);
+		assertEquals(Arrays.asList(Integer.valueOf(0), Integer.valueOf(1)), shards.get(0));
+		assertEquals(Arrays.asList(Integer.valueOf(2), Integer.valueOf(3)), shards.get(1));
+	}
+
+	@Test
+	public void testPartitionMoreShardsThanClasses() throws Exception {
+		String[] classNames= { "pack.A", "pack.B" };
+		List<List<Integer>> shards= new TestDurationHistory().partition(classNames, 3);
+		assertEquals(3, shards.size());
+		assertPartition(shards, classNames.length);
+		assertTrue(shards.get(2).isEmpty());
+	}
+
+	@Test
+	public void testSaveLoad() throws Exception {
+		String[] classNames= { "pack.A", "pack.B", "pack.Outer.Inner" };
+		TestDurationHistory history= new TestDurationHistory();
+		record(history, testRun(classNames, new double[] { 0.5, 1.25, 0.002 }));
+		history.save(fFile);
+		assertTrue(fFile.isFile());
+
+		TestDurationHistory loaded= new TestDurationHistory();
+		loaded.load(fFile);
+		for (String className : classNames) {
+			Map<String, Long> durations= loaded.getTestDurations(className);
+			assertEquals(history.getTestDurations(className), durations);
+			assertEquals(2, durations.size());
+		}
+		assertEquals(Long.valueOf(625), loaded.getTestDurations("pack.B").get("test1(pack.B)"));
+		assertEquals(history.getAllTestDurations(), loaded.getAllTestDurations());
+		assertEquals(-1, loaded.getClassDuration("pack.C"));
+	}
+
+	@Test
+	public void testSaveUnchanged() throws Exception {
+		TestDurationHistory history= new TestDurationHistory();
+		history.save(fFile);
+		assertTrue("nothing recorded, nothing written", !fFile.exists());
+
+		record(history, testRun(new String[] { "pack.A" }, new double[] { 0.1 }));
+		history.save(fFile);
+		long modified= fFile.lastModified();
+		fFile.setLastModified(modified - 10000);
+		history.save(fFile);
+		assertEquals("unchanged history written again", modified - 10000, fFile.lastModified());
+	}
+
+	@Test
+	public void testLoadUnknownFormat() throws Exception {
+		Files.write(fFile.toPath(), new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+		TestDurationHistory history= new TestDurationHistory();
+		history.load(fFile);
+		assertTrue(history.getAllTestDurations().isEmpty());
+	}
+}
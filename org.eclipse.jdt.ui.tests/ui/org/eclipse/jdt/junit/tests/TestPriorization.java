@@ -17,8 +17,11 @@ package org.eclipse.jdt.junit.tests;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.eclipse.jdt.internal.junit.runner.DurationPrioritizer;
 import org.eclipse.jdt.internal.junit.runner.FailuresFirstPrioritizer;
 
 import junit.extensions.TestDecorator;
@@ -306,6 +309,52 @@ public class TestPriorization extends TestCase {
 		}
 	}
 
+	public void testDurationSimple() {
+		TestSuite suite= createSuiteDEF();
+		Map<String, Long> durations= new HashMap<>();
+		durations.put("testD(org.eclipse.jdt.junit.tests.TestPriorizationSuite2)", Long.valueOf(30));
+		durations.put("testE(org.eclipse.jdt.junit.tests.TestPriorizationSuite2)", Long.valueOf(10));
+		durations.put("testF(org.eclipse.jdt.junit.tests.TestPriorizationSuite2)", Long.valueOf(20));
+		Test prioritized= new DurationPrioritizer(durations).prioritize(suite);
+		List<String> order= new ArrayList<>();
+		collectOrder(prioritized, order);
+		String[] expected= {
+				"testE", "testF", "testD"
+		};
+		checkOrder(expected, order);
+	}
+
+	public void testDurationWithPropagation() {
+		// suite
+		//		suite1
+		//			A 50
+		//			B
+		//			C
+		//		decorator
+		//			suite2
+		//				D 20
+		//				E 10
+		//				F
+		TestSuite suite= new TestSuite();
+		suite.addTest(createSuiteABC());
+		suite.addTest(new TestSetup(createSuiteDEF()) {
+			@Override
+			protected void setUp() throws Exception {
+			}
+		});
+		Map<String, Long> durations= new HashMap<>();
+		durations.put("testA(org.eclipse.jdt.junit.tests.TestPriorizationSuite1)", Long.valueOf(50));
+		durations.put("testD(org.eclipse.jdt.junit.tests.TestPriorizationSuite2)", Long.valueOf(20));
+		durations.put("testE(org.eclipse.jdt.junit.tests.TestPriorizationSuite2)", Long.valueOf(10));
+		Test prioritized= new DurationPrioritizer(durations).prioritize(suite);
+		List<String> order= new ArrayList<>();
+		collectOrder(prioritized, order);
+		String[] expected= {
+				"testF", "testE", "testD", "testB", "testC", "testA",
+		};
+		checkOrder(expected, order);
+	}
+
 	private TestSuite createSuiteDEF() {
 		// suite
 		//		D
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.parsers.SAXParserFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.BasicElementLabels;
+import org.eclipse.jdt.internal.junit.Messages;
+import org.eclipse.jdt.internal.junit.model.ModelMessages;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestRunHandler;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestRunSessionBinarySerializer;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+public class TestRunSessionBinarySerializerTest {
+
+	private static final String TEST_RUN= ""
+			+ "<testrun name=\"binary\">\n"
+			+ "<testsuite name=\"pack.A\">\n"
+			+ "<testcase name=\"test1\" classname=\"pack.A\" time=\"0.01\"><failure>java.lang.AssertionError: äß€\n"
+			+ "\tat pack.A.test1(A.java:5)\n"
+			+ "</failure></testcase>\n"
+			+ "<testcase name=\"test2\" classname=\"pack.A\" time=\"0.02\"><failure><expected>one</expected><actual>two</actual>org.junit.ComparisonFailure</failure></testcase>\n"
+			+ "<testcase name=\"test3\" classname=\"pack.A\" time=\"0.03\"/>\n"
+			+ "</testsuite>\n"
+			+ "</testrun>\n";
+
+	private File fFile;
+
+	@Before
+	public void setUp() throws Exception {
+		fFile= File.createTempFile("testrun", ".bin");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fFile.delete();
+	}
+
+	private static TestRunSession parse(String testRun) throws Exception {
+		TestRunHandler handler= new TestRunHandler();
+		SAXParserFactory.newInstance().newSAXParser().parse(new ByteArrayInputStream(testRun.getBytes(StandardCharsets.UTF_8)), handler);
+		return handler.getTestRunSession();
+	}
+
+	private void write(TestRunSession session) throws Exception {
+		try (OutputStream out= new FileOutputStream(fFile)) {
+			TestRunSessionBinarySerializer.write(session, out);
+		}
+	}
+
+	private static TestElement getTest(TestRunSession session, int index) {
+		ITestElement suite= session.getTestRoot().getChildren()[0];
+		return (TestElement) ((TestSuiteElement) suite).getChildren()[index];
+	}
+
+	private String unavailable() {
+		return Messages.format(ModelMessages.TestRunSessionBinarySerializer_trace_unavailable, BasicElementLabels.getPathLabel(fFile));
+	}
+
+	private static void assertFailures(TestRunSession session) {
+		TestElement test1= getTest(session, 0);
+		assertEquals("java.lang.AssertionError: äß€\n\tat pack.A.test1(A.java:5)\n", test1.getTrace());
+		assertNull(test1.getExpected());
+		assertNull(test1.getActual());
+		assertFalse(test1.isComparisonFailure());
+
+		TestElement test2= getTest(session, 1);
+		assertEquals("org.junit.ComparisonFailure", test2.getTrace());
+		assertEquals("one", test2.getExpected());
+		assertEquals("two", test2.getActual());
+		assertTrue(test2.isComparisonFailure());
+
+		assertNull(getTest(session, 2).getTrace());
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		write(parse(TEST_RUN));
+		assertTrue(TestRunSessionBinarySerializer.isBinary(fFile));
+
+		TestRunSession session= TestRunSessionBinarySerializer.read(fFile, null, false);
+		assertEquals("binary", session.getTestRunName());
+		assertEquals(3, session.getTotalCount());
+		assertEquals(2, session.getFailureCount());
+		assertEquals(0.02, getTest(session, 1).getElapsedTimeInSeconds(), 0.0);
+		assertFailures(session);
+	}
+
+	@Test
+	public void testEagerTracesSurviveRemovedFile() throws Exception {
+		write(parse(TEST_RUN));
+		TestRunSession session= TestRunSessionBinarySerializer.read(fFile, null, false);
+		assertTrue(fFile.delete());
+		assertFailures(session);
+	}
+
+	@Test
+	public void testLazyTraces() throws Exception {
+		write(parse(TEST_RUN));
+		TestRunSession session= TestRunSessionBinarySerializer.read(fFile, null, true);
+		assertEquals(2, session.getFailureCount());
+		assertEquals(ITestElement.Result.FAILURE, getTest(session, 0).getTestResult(false));
+		assertFailures(session);
+
+		// a loaded trace stays available
+		assertTrue(fFile.delete());
+		assertFailures(session);
+	}
+
+	@Test
+	public void testLazyTracesRemovedFile() throws Exception {
+		write(parse(TEST_RUN));
+		TestRunSession session= TestRunSessionBinarySerializer.read(fFile, null, true);
+		assertTrue(fFile.delete());
+
+		TestElement test2= getTest(session, 1);
+		assertEquals(unavailable(), test2.getTrace());
+		assertNull(test2.getExpected());
+		assertNull(test2.getActual());
+		assertFalse(test2.isComparisonFailure());
+		assertEquals(ITestElement.Result.FAILURE, test2.getTestResult(false));
+	}
+
+	@Test
+	public void testLazyTracesReplacedFile() throws Exception {
+		write(parse(TEST_RUN));
+		TestRunSession session= TestRunSessionBinarySerializer.read(fFile, null, true);
+		// the same session written again gets a new file id
+		write(parse(TEST_RUN));
+
+		assertEquals(unavailable(), getTest(session, 0).getTrace());
+		assertEquals(unavailable(), getTest(session, 1).getTrace());
+		assertNull(getTest(session, 1).getExpected());
+	}
+
+	@Test
+	public void testLazyTracesTruncatedFile() throws Exception {
+		write(parse(TEST_RUN));
+		TestRunSession session= TestRunSessionBinarySerializer.read(fFile, null, true);
+		try (RandomAccessFile file= new RandomAccessFile(fFile, "rw")) {
+			file.setLength(30);
+		}
+
+		assertEquals(unavailable(), getTest(session, 0).getTrace());
+		assertNull(getTest(session, 1).getActual());
+	}
+}
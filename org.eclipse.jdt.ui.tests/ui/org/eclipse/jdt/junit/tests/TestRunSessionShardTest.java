@@ -0,0 +1,310 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.model.ITestSessionListener;
+import org.eclipse.jdt.internal.junit.model.RemoteTestRunnerClient;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+
+/**
+ * Tests the merging of the test runs of several VMs into one {@link TestRunSession}. The test
+ * runners are simulated by sockets that send text protocol messages.
+ */
+public class TestRunSessionShardTest {
+
+	private static final long TIMEOUT= 10000;
+
+	private static class SessionLog implements ITestSessionListener {
+		private final List<String> fEvents= new ArrayList<>();
+
+		synchronized List<String> getEvents() {
+			return new ArrayList<>(fEvents);
+		}
+
+		private synchronized void log(String event) {
+			fEvents.add(event);
+		}
+
+		@Override
+		public void sessionStarted() {
+			log("started");
+		}
+
+		@Override
+		public void sessionEnded(long elapsedTime) {
+			log("ended");
+		}
+
+		@Override
+		public void sessionStopped(long elapsedTime) {
+			log("stopped");
+		}
+
+		@Override
+		public void sessionTerminated() {
+			log("terminated");
+		}
+
+		@Override
+		public void testAdded(TestElement testElement) {
+		}
+
+		@Override
+		public void runningBegins() {
+		}
+
+		@Override
+		public void testStarted(TestCaseElement testCaseElement) {
+		}
+
+		@Override
+		public void testEnded(TestCaseElement testCaseElement) {
+		}
+
+		@Override
+		public void testFailed(TestElement testElement, Status status, String trace, String expected, String actual) {
+		}
+
+		@Override
+		public void testReran(TestCaseElement testCaseElement, Status status, String trace, String expectedResult, String actualResult) {
+		}
+
+		@Override
+		public boolean acceptsSwapToDisk() {
+			return false;
+		}
+	}
+
+	private final List<Socket> fSockets= new ArrayList<>();
+
+	private TestRunSession fSession;
+
+	private SessionLog fLog;
+
+	private int[] fPorts;
+
+	@After
+	public void tearDown() throws Exception {
+		for (Socket socket : fSockets) {
+			socket.close();
+		}
+		if (fSession != null) {
+			fSession.stopTestRun();
+		}
+	}
+
+	private void createSession(int shardCount) throws IOException {
+		fPorts= new int[shardCount];
+		for (int i= 0; i < shardCount; i++) {
+			try (ServerSocket socket= new ServerSocket(0)) {
+				fPorts[i]= socket.getLocalPort();
+			}
+		}
+		IJavaProject project= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject("ShardProject"));
+		fSession= new TestRunSession(new Launch(null, ILaunchManager.RUN_MODE, null), project, fPorts);
+		fLog= new SessionLog();
+		fSession.addTestSessionListener(fLog);
+	}
+
+	private Socket connect(int shard) throws Exception {
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (true) {
+			try {
+				Socket socket= new Socket("127.0.0.1", fPorts[shard]);
+				fSockets.add(socket);
+				return socket;
+			} catch (ConnectException e) {
+				// the test runner client has not started listening yet
+				if (System.currentTimeMillis() > end)
+					throw e;
+				Thread.sleep(10);
+			}
+		}
+	}
+
+	private static void send(Socket socket, String... messages) throws IOException {
+		OutputStream out= socket.getOutputStream();
+		for (String message : messages) {
+			out.write((message + '\n').getBytes(StandardCharsets.UTF_8));
+		}
+		out.flush();
+	}
+
+	/**
+	 * Closes the socket with a reset, which the test runner client reports as a terminated test run.
+	 */
+	private static void reset(Socket socket) throws IOException {
+		socket.setSoLinger(true, 0);
+		socket.close();
+	}
+
+	private static void waitFor(String message, BooleanSupplier condition) throws InterruptedException {
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > end)
+				fail("timed out waiting: " + message);
+			Thread.sleep(10);
+		}
+	}
+
+	private void waitForClosed(int shard) throws Exception {
+		Field clientsField= TestRunSession.class.getDeclaredField("fTestRunnerClients");
+		clientsField.setAccessible(true);
+		RemoteTestRunnerClient client= ((RemoteTestRunnerClient[]) clientsField.get(fSession))[shard];
+		Field serverSocketField= RemoteTestRunnerClient.class.getDeclaredField("fServerSocket");
+		serverSocketField.setAccessible(true);
+		// the client shuts down after it has notified the end of the connection
+		waitFor("shard " + shard + " closed", () -> {
+			try {
+				return serverSocketField.get(client) == null;
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+	private void waitForEvents(String... events) throws InterruptedException {
+		List<String> expected= Arrays.asList(events);
+		waitFor(expected.toString(), () -> fLog.getEvents().size() >= expected.size());
+		assertEquals(expected, fLog.getEvents());
+	}
+
+	@Test
+	public void testEnded() throws Exception {
+		createSession(2);
+		Socket shard0= connect(0);
+		Socket shard1= connect(1);
+		send(shard0, "%TESTC  1 v2");
+		send(shard1, "%TESTC  2 v2");
+		waitFor("both shards started", () -> fSession.getTotalCount() == 3);
+
+		send(shard1, "%RUNTIME5");
+		shard1.close();
+		waitForClosed(1);
+		assertTrue(fSession.isRunning());
+
+		send(shard0, "%RUNTIME5");
+		shard0.close();
+		waitForEvents("started", "ended");
+		assertFalse(fSession.isRunning());
+		assertFalse(fSession.isStopped());
+	}
+
+	@Test
+	public void testTerminatedAfterEnded() throws Exception {
+		createSession(2);
+		Socket shard0= connect(0);
+		Socket shard1= connect(1);
+		send(shard0, "%TESTC  1 v2");
+		send(shard1, "%TESTC  1 v2");
+		waitFor("both shards started", () -> fSession.getTotalCount() == 2);
+
+		// a VM whose test run has ended must not be counted again when it goes away
+		send(shard0, "%RUNTIME5");
+		reset(shard0);
+		waitForClosed(0);
+		assertTrue(fSession.isRunning());
+		assertEquals(Arrays.asList("started"), fLog.getEvents());
+
+		send(shard1, "%RUNTIME5");
+		shard1.close();
+		waitForEvents("started", "ended");
+		assertFalse(fSession.isStopped());
+	}
+
+	@Test
+	public void testTerminatedBeforeOthersStarted() throws Exception {
+		createSession(2);
+		reset(connect(0));
+		waitForClosed(0);
+		assertEquals(Arrays.asList(), fLog.getEvents());
+
+		Socket shard1= connect(1);
+		send(shard1, "%TESTC  1 v2");
+		waitFor("shard started", () -> fSession.isRunning());
+		send(shard1, "%RUNTIME5");
+		shard1.close();
+		waitForEvents("started", "terminated");
+		assertFalse(fSession.isRunning());
+		assertTrue(fSession.isStopped());
+	}
+
+	@Test
+	public void testStoppedThenEnded() throws Exception {
+		createSession(3);
+		Socket shard0= connect(0);
+		Socket shard1= connect(1);
+		Socket shard2= connect(2);
+		send(shard0, "%TESTC  1 v2");
+		send(shard1, "%TESTC  1 v2");
+		send(shard2, "%TESTC  1 v2");
+		waitFor("all shards started", () -> fSession.getTotalCount() == 3);
+
+		send(shard1, "%TSTSTP 5");
+		waitForClosed(1);
+		send(shard0, "%RUNTIME5");
+		shard0.close();
+		waitForClosed(0);
+		assertTrue(fSession.isRunning());
+
+		send(shard2, "%RUNTIME5");
+		shard2.close();
+		waitForEvents("started", "stopped");
+		assertTrue(fSession.isStopped());
+	}
+
+	@Test
+	public void testSingleVMTerminatedAfterEnded() throws Exception {
+		createSession(1);
+		Socket socket= connect(0);
+		send(socket, "%TESTC  1 v2", "%RUNTIME5");
+		waitForEvents("started", "ended");
+
+		// as before sharding, a VM that goes away after its test run has ended terminates the session
+		reset(socket);
+		waitForEvents("started", "ended", "terminated");
+		assertTrue(fSession.isStopped());
+	}
+}
@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.model.ITestSessionDeltaListener;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSessionDelta;
+
+/**
+ * Tests the coalescing of test events into {@link TestSessionDelta}s. The test runner is
+ * simulated by a socket that sends text protocol messages.
+ */
+public class TestSessionDeltaTest {
+
+	private static final long TIMEOUT= 10000;
+
+	private static final String[] TEST_TREE= {
+			"%TESTC  3 v2",
+			"%TSTTREE1,pack.A,true,3,false,-1,pack.A,,",
+			"%TSTTREE2,test1(pack.A),false,1,false,1,test1(pack.A),,",
+			"%TSTTREE3,test2(pack.A),false,1,false,1,test2(pack.A),,",
+			"%TSTTREE4,test3(pack.A),false,1,false,1,test3(pack.A),," };
+
+	private static final String[] TEST_RUN= {
+			"%TESTS  2,test1(pack.A)",
+			"%TESTE  2,test1(pack.A)",
+			"%TESTS  3,test2(pack.A)",
+			"%FAILED 3,test2(pack.A)",
+			"%TRACES ",
+			"java.lang.AssertionError",
+			"%TRACEE ",
+			"%TESTE  3,test2(pack.A)",
+			"%TESTS  4,test3(pack.A)",
+			"%TESTE  4,test3(pack.A)" };
+
+	private static class DeltaLog implements ITestSessionDeltaListener {
+		private final List<String> fEvents= new ArrayList<>();
+		private final List<TestSessionDelta> fDeltas= new ArrayList<>();
+
+		synchronized List<String> getEvents() {
+			return new ArrayList<>(fEvents);
+		}
+
+		synchronized List<TestSessionDelta> getDeltas() {
+			return new ArrayList<>(fDeltas);
+		}
+
+		private synchronized void log(String event) {
+			fEvents.add(event);
+		}
+
+		@Override
+		public synchronized void testsChanged(TestSessionDelta delta) {
+			fEvents.add("delta");
+			fDeltas.add(delta);
+		}
+
+		@Override
+		public void sessionStarted() {
+			log("started");
+		}
+
+		@Override
+		public void sessionEnded(long elapsedTime) {
+			log("ended");
+		}
+
+		@Override
+		public void sessionStopped(long elapsedTime) {
+			log("stopped");
+		}
+
+		@Override
+		public void sessionTerminated() {
+			log("terminated");
+		}
+
+		@Override
+		public void runningBegins() {
+			log("running");
+		}
+
+		@Override
+		public void testReran(TestCaseElement testCaseElement, Status status, String trace, String expectedResult, String actualResult) {
+		}
+
+		@Override
+		public boolean acceptsSwapToDisk() {
+			return false;
+		}
+	}
+
+	private final List<Socket> fSockets= new ArrayList<>();
+
+	private TestRunSession fSession;
+
+	private DeltaLog fLog;
+
+	private int fPort;
+
+	@Before
+	public void setUp() throws Exception {
+		try (ServerSocket socket= new ServerSocket(0)) {
+			fPort= socket.getLocalPort();
+		}
+		IJavaProject project= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject("DeltaProject"));
+		fSession= new TestRunSession(new Launch(null, ILaunchManager.RUN_MODE, null), project, new int[] { fPort });
+		fLog= new DeltaLog();
+		fSession.addTestSessionListener(fLog);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		for (Socket socket : fSockets) {
+			socket.close();
+		}
+		if (fSession != null) {
+			fSession.stopTestRun();
+		}
+	}
+
+	private Socket connect() throws Exception {
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (true) {
+			try {
+				Socket socket= new Socket("127.0.0.1", fPort);
+				fSockets.add(socket);
+				return socket;
+			} catch (ConnectException e) {
+				// the test runner client has not started listening yet
+				if (System.currentTimeMillis() > end)
+					throw e;
+				Thread.sleep(10);
+			}
+		}
+	}
+
+	/**
+	 * Sends all messages at once, so that they arrive within one coalescing interval.
+	 */
+	private static void send(Socket socket, String... messages) throws IOException {
+		StringBuilder buffer= new StringBuilder();
+		for (String message : messages) {
+			buffer.append(message).append('\n');
+		}
+		OutputStream out= socket.getOutputStream();
+		out.write(buffer.toString().getBytes(StandardCharsets.UTF_8));
+		out.flush();
+	}
+
+	private static void waitFor(String message, BooleanSupplier condition) throws InterruptedException {
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > end)
+				fail("timed out waiting: " + message);
+			Thread.sleep(10);
+		}
+	}
+
+	private static List<String> getNames(List<TestElement> elements) {
+		List<String> names= new ArrayList<>();
+		for (TestElement element : elements) {
+			names.add(element.getTestName());
+		}
+		return names;
+	}
+
+	@Test
+	public void testFlushedAfterInterval() throws Exception {
+		Socket socket= connect();
+		send(socket, TEST_TREE);
+		waitFor("tests added", () -> fLog.getDeltas().size() == 1);
+		// no other session event, the delta is delivered when the interval has passed
+		assertEquals(Arrays.asList("started", "delta"), fLog.getEvents());
+		TestSessionDelta delta= fLog.getDeltas().get(0);
+		assertEquals(Arrays.asList("pack.A", "test1(pack.A)", "test2(pack.A)", "test3(pack.A)"), getNames(delta.getAddedElements()));
+		assertTrue(delta.getChangedElements().isEmpty());
+		assertNull(delta.getLastStartedTest());
+
+		send(socket, "%TESTS  2,test1(pack.A)");
+		waitFor("test started", () -> fLog.getDeltas().size() == 2);
+		delta= fLog.getDeltas().get(1);
+		assertEquals(1, delta.getStartedCount());
+		assertEquals(0, delta.getEndedCount());
+		assertEquals("test1(pack.A)", delta.getLastStartedTest().getTestName());
+		assertEquals(Status.RUNNING, delta.getLastStartedTest().getStatus());
+	}
+
+	@Test
+	public void testCoalesced() throws Exception {
+		Socket socket= connect();
+		List<String> messages= new ArrayList<>(Arrays.asList(TEST_TREE));
+		messages.addAll(Arrays.asList(TEST_RUN));
+		messages.add("%RUNTIME5");
+		send(socket, messages.toArray(new String[messages.size()]));
+		waitFor("session ended", () -> fLog.getEvents().contains("ended"));
+
+		// the added tests are delivered before the running begins, the run before the session ends
+		List<String> events= fLog.getEvents();
+		assertEquals("started", events.get(0));
+		assertEquals("delta", events.get(1));
+		assertEquals("running", events.get(2));
+		assertEquals("ended", events.get(events.size() - 1));
+		List<TestSessionDelta> deltas= fLog.getDeltas();
+		assertEquals(events.size() - 3, deltas.size());
+		assertEquals(4, deltas.get(0).getAddedElements().size());
+
+		// far fewer deltas than test events, each with the sum of its events
+		int started= 0;
+		int ended= 0;
+		int failed= 0;
+		for (TestSessionDelta delta : deltas.subList(1, deltas.size())) {
+			assertTrue(delta.getAddedElements().isEmpty());
+			started+= delta.getStartedCount();
+			ended+= delta.getEndedCount();
+			failed+= delta.getFailedCount();
+		}
+		assertTrue("deltas: " + deltas.size(), deltas.size() - 1 < TEST_RUN.length / 2);
+		assertEquals(3, started);
+		assertEquals(3, ended);
+		assertEquals(1, failed);
+		assertEquals(3, fSession.getStartedCount());
+		assertEquals(1, fSession.getFailureCount());
+	}
+
+	@Test
+	public void testOrderWithinDelta() throws Exception {
+		Socket socket= connect();
+		send(socket, TEST_TREE);
+		waitFor("tests added", () -> fLog.getDeltas().size() == 1);
+
+		send(socket, TEST_RUN);
+		waitFor("tests ended", () -> fLog.getDeltas().stream().mapToInt(TestSessionDelta::getEndedCount).sum() == 3);
+
+		// each test is reported once per delta, in the order of its first event
+		List<String> changed= new ArrayList<>();
+		List<String> failed= new ArrayList<>();
+		for (TestSessionDelta delta : fLog.getDeltas().subList(1, fLog.getDeltas().size())) {
+			List<String> names= new ArrayList<>();
+			for (TestElement element : delta.getChangedElements()) {
+				names.add(element.getTestName());
+			}
+			assertEquals(names.toString(), names.size(), names.stream().distinct().count());
+			for (String name : names) {
+				if (!changed.contains(name))
+					changed.add(name);
+			}
+			failed.addAll(getNames(delta.getFailedElements()));
+		}
+		assertEquals(Arrays.asList("test1(pack.A)", "test2(pack.A)", "test3(pack.A)"), changed);
+		assertEquals(Arrays.asList("test2(pack.A)"), failed);
+
+		// the last started test is reported although it may have ended within the same delta
+		TestSessionDelta last= null;
+		for (TestSessionDelta delta : fLog.getDeltas()) {
+			if (delta.getLastStartedTest() != null)
+				last= delta;
+		}
+		TestCaseElement lastStarted= last.getLastStartedTest();
+		assertEquals("test3(pack.A)", lastStarted.getTestName());
+		assertEquals(Status.OK, lastStarted.getStatus());
+		assertTrue(last.getChangedElements().contains(lastStarted));
+	}
+}
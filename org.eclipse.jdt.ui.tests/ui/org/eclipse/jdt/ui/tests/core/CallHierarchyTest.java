@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,12 +30,15 @@ import org.junit.Test;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallerMethodWrapper;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.ui.tests.callhierarchy.CallHierarchyTestHelper;
@@ -113,6 +116,43 @@ public class CallHierarchyTest {
         helper.assertCalls(expectedMethods, cachedCalls);
     }
 
+	@Test
+	public void expandLevelsCallers() throws Exception {
+        helper.createSimpleClasses();
+
+        MethodWrapper[] roots= CallHierarchy.getDefault().getCallerRoots(new IMember[] { helper.getMethod1(), helper.getMethod2() });
+        assertEquals(2, roots.length);
+        CallerMethodWrapper[] wrappers= { (CallerMethodWrapper) roots[0], (CallerMethodWrapper) roots[1] };
+        CallerMethodWrapper.expandLevels(wrappers, 2, 10, new NullProgressMonitor());
+
+        for (MethodWrapper root : roots) {
+            assertTrue(root.hasCachedCalls());
+        }
+        MethodWrapper method1Wrapper= helper.getMethod1().equals(roots[0].getMember()) ? roots[0] : roots[1];
+        MethodWrapper method2Wrapper= method1Wrapper == roots[0] ? roots[1] : roots[0];
+        MethodWrapper[] callsTo1= method1Wrapper.getCalls(new NullProgressMonitor());
+        helper.assertCalls(Arrays.asList(helper.getMethod2(), helper.getMethod3()), callsTo1);
+        helper.assertCalls(Arrays.asList(helper.getMethod3()), method2Wrapper.getCalls(new NullProgressMonitor()));
+
+        MethodWrapper method3Wrapper= helper.findMethodWrapper(helper.getMethod3(), callsTo1);
+        assertTrue(method3Wrapper.hasCachedCalls());
+        helper.assertCalls(Arrays.asList(helper.getMethod4()), method3Wrapper.getCalls(new NullProgressMonitor()));
+    }
+
+	@Test
+	public void callersUpdatedOnChange() throws Exception {
+        helper.createSimpleClasses();
+
+        IMethod method= helper.getMethod3();
+        helper.assertCalls(Arrays.asList(helper.getMethod4()), getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+
+        ICompilationUnit cu= helper.getType2().getCompilationUnit();
+        ((IPackageFragment) cu.getParent()).createCompilationUnit(cu.getElementName(),
+                "package pack2;\npublic class B extends pack1.A {\npublic void method3() { method1(); method2(); }\n public void method4() { }\n public void method5() { method3(); }\n}\n",
+                true, null);
+        helper.assertCalls(Arrays.asList(helper.getType2().getMethod("method5", EMPTY)), getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+    }
+
 	@Test
 	public void callees() throws Exception {
         helper.createSimpleClasses();
@@ -140,6 +180,21 @@ public class CallHierarchyTest {
         helper.assertCalls(expectedMethodsTo3, wrapper2.getCalls(new NullProgressMonitor()));
     }
 
+	@Test
+	public void calleesUpdatedOnChange() throws Exception {
+        helper.createSimpleClasses();
+
+        helper.assertCalls(Arrays.asList(helper.getMethod3()), getSingleCalleeRoot(helper.getMethod4()).getCalls(new NullProgressMonitor()));
+        helper.assertCalls(Arrays.asList(helper.getMethod1(), helper.getMethod2()), getSingleCalleeRoot(helper.getMethod3()).getCalls(new NullProgressMonitor()));
+
+        ICompilationUnit cu= helper.getType2().getCompilationUnit();
+        ((IPackageFragment) cu.getParent()).createCompilationUnit(cu.getElementName(),
+                "package pack2;\npublic class B extends pack1.A {\npublic void method3() { method1(); }\n public void method4() { method2(); }\n}\n",
+                true, null);
+        helper.assertCalls(Arrays.asList(helper.getMethod2()), getSingleCalleeRoot(helper.getMethod4()).getCalls(new NullProgressMonitor()));
+        helper.assertCalls(Arrays.asList(helper.getMethod1()), getSingleCalleeRoot(helper.getMethod3()).getCalls(new NullProgressMonitor()));
+    }
+
 	@Test
 	public void calleesNoResults() throws Exception {
         helper.createSimpleClasses();
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
+
+/**
+ * Tests that the consistency check of the {@link OpenTypeHistory} only checks the entries of
+ * changed elements.
+ */
+public class OpenTypeHistoryTest {
+
+	/**
+	 * A time stamp that no container has. An entry with this time stamp gets the current time
+	 * stamp when it is checked.
+	 */
+	private static final Long OUTDATED_STAMP= Long.valueOf(1);
+
+	private IJavaProject fJProject;
+
+	private OpenTypeHistory fHistory;
+
+	private ICompilationUnit fCuA;
+
+	private TypeNameMatch fMatchA;
+
+	private TypeNameMatch fMatchB;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject= JavaProjectHelper.createJavaProject("OpenTypeHistoryProject", "bin");
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJProject, "src1");
+		IPackageFragmentRoot root2= JavaProjectHelper.addSourceContainer(fJProject, "src2");
+		IPackageFragment pack1= root1.createPackageFragment("p", true, null);
+		IPackageFragment pack2= root2.createPackageFragment("q", true, null);
+		fCuA= pack1.createCompilationUnit("A.java", "package p;\npublic class A {\n}\n", true, null);
+		ICompilationUnit cuB= pack2.createCompilationUnit("B.java", "package q;\npublic class B {\n}\n", true, null);
+
+		fHistory= OpenTypeHistory.getInstance();
+		fMatchA= SearchEngine.createTypeNameMatch(fCuA.getType("A"), Flags.AccPublic);
+		fMatchB= SearchEngine.createTypeNameMatch(cuB.getType("B"), Flags.AccPublic);
+		fHistory.accessed(fMatchA);
+		fHistory.accessed(fMatchB);
+		// check the entries of earlier changes
+		fHistory.checkConsistency(new NullProgressMonitor());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fHistory.remove(fMatchA);
+		fHistory.remove(fMatchB);
+		JavaProjectHelper.delete(fJProject);
+	}
+
+	private Map<?, ?> getTimestamps() {
+		return (Map<?, ?>) new Accessor(fHistory, OpenTypeHistory.class).get("fTimestampMapping");
+	}
+
+	@SuppressWarnings("unchecked")
+	private void setOutdated(TypeNameMatch match) {
+		synchronized (fHistory) {
+			((Map<TypeNameMatch, Long>) getTimestamps()).put(match, OUTDATED_STAMP);
+		}
+	}
+
+	@Test
+	public void testDeletedTypeRemoved() throws Exception {
+		assertTrue(fHistory.contains(fMatchA));
+
+		fCuA.delete(true, null);
+		fHistory.checkConsistency(new NullProgressMonitor());
+
+		assertFalse(fHistory.contains(fMatchA));
+		assertTrue(fHistory.contains(fMatchB));
+	}
+
+	@Test
+	public void testUnrelatedRootLeftAlone() throws Exception {
+		setOutdated(fMatchA);
+		setOutdated(fMatchB);
+
+		fCuA.getBuffer().setContents("package p;\npublic class A {\n	int a;\n}\n");
+		fCuA.save(null, true);
+		fHistory.checkConsistency(new NullProgressMonitor());
+
+		// only the entry of the changed compilation unit has been checked
+		assertTrue(fHistory.contains(fMatchA));
+		assertFalse(OUTDATED_STAMP.equals(getTimestamps().get(fMatchA)));
+		assertEquals(OUTDATED_STAMP, getTimestamps().get(fMatchB));
+	}
+
+	@Test
+	public void testRemovedRoot() throws Exception {
+		setOutdated(fMatchA);
+
+		JavaProjectHelper.removeSourceContainer(fJProject, "src2");
+		fHistory.checkConsistency(new NullProgressMonitor());
+
+		assertFalse(fHistory.contains(fMatchB));
+		assertTrue(fHistory.contains(fMatchA));
+		assertEquals(OUTDATED_STAMP, getTimestamps().get(fMatchA));
+	}
+}
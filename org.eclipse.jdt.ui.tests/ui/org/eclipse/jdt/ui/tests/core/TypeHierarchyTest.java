@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,13 @@
 package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Before;
@@ -22,10 +28,14 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.util.DisplayHelper;
+
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jface.text.IDocument;
 
 import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.IWorkbenchWindow;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
@@ -41,6 +51,10 @@ import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.typehierarchy.ITypeHierarchyLifeCycleListener;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyLifeCycle;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyViewPart;
+import org.eclipse.jdt.internal.ui.util.OpenTypeHierarchyUtil;
 
 public class TypeHierarchyTest {
 	@Rule
@@ -268,4 +282,71 @@ public class TypeHierarchyTest {
 		assertEquals("Should contain 3 types, contains: " + allTypes.length, 3, allTypes.length);
 		assertEquals("Update count should be 1, is: " + updateCount[0], 1, updateCount[0]);
 	}
+
+	@Test
+	public void lifeCyclePatchesHierarchy() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		IType typeA= pack1.getCompilationUnit("A.java").createType("public class A {\n}\n", null, true, null);
+		ICompilationUnit cu2= pack1.getCompilationUnit("B.java");
+		IType typeB= cu2.createType("public class B extends A {\n}\n", null, true, null);
+
+		// the hierarchy is only patched in the refresh job of the view
+		IWorkbenchWindow window= JavaPlugin.getActiveWorkbenchWindow();
+		TypeHierarchyViewPart viewPart= OpenTypeHierarchyUtil.open(typeA, window);
+		final TypeHierarchyLifeCycle lifeCycle= viewPart.getTypeHierarchyLifeCycle();
+		new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return !lifeCycle.isRefreshJobRunning();
+			}
+		}.waitForCondition(window.getShell().getDisplay(), 10000);
+
+		final int[] refreshCount= new int[] {0};
+		final List<IType> patchedTypes= new ArrayList<>();
+		ITypeHierarchyLifeCycleListener listener= new ITypeHierarchyLifeCycleListener() {
+			@Override
+			public void typeHierarchyChanged(TypeHierarchyLifeCycle typeHierarchyProvider, IType[] changedTypes) {
+				if (changedTypes == null) {
+					refreshCount[0]++;
+				}
+			}
+
+			@Override
+			public void typeHierarchyPatched(TypeHierarchyLifeCycle typeHierarchyProvider, IType[] types) {
+				patchedTypes.addAll(Arrays.asList(types));
+			}
+		};
+		lifeCycle.addChangedListener(listener);
+		try {
+			assertEquals(Arrays.asList(typeB), Arrays.asList(lifeCycle.getSubtypes(typeA)));
+
+			// a new subtype is added below its supertype
+			IType typeC= pack1.getCompilationUnit("C.java").createType("public class C extends B {\n}\n", null, true, null);
+			Job.getJobManager().join(lifeCycle, null);
+			assertEquals(Arrays.asList(typeC), Arrays.asList(lifeCycle.getSubtypes(typeB)));
+			assertTrue(patchedTypes.contains(typeB));
+
+			// a type leaving the hierarchy takes its subtypes along
+			cu2.getBuffer().setContents("package pack1;\npublic class B {\n}\n");
+			cu2.save(null, true);
+			Job.getJobManager().join(lifeCycle, null);
+			assertEquals(0, lifeCycle.getSubtypes(typeA).length);
+			assertFalse(lifeCycle.contains(typeB));
+			assertFalse(lifeCycle.contains(typeC));
+
+			// and brings them back when joining again
+			cu2.getBuffer().setContents("package pack1;\npublic class B extends A {\n}\n");
+			cu2.save(null, true);
+			Job.getJobManager().join(lifeCycle, null);
+			assertEquals(Arrays.asList(typeB), Arrays.asList(lifeCycle.getSubtypes(typeA)));
+			assertEquals(Arrays.asList(typeC), Arrays.asList(lifeCycle.getSubtypes(typeB)));
+
+			assertEquals("Hierarchy should not be refreshed", 0, refreshCount[0]);
+		} finally {
+			lifeCycle.removeChangedListener(listener);
+			window.getActivePage().hideView(viewPart);
+		}
+	}
 }
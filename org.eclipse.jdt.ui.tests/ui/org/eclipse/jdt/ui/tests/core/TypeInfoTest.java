@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,8 @@ import static org.junit.Assert.fail;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.junit.After;
 import org.junit.Before;
@@ -49,6 +51,7 @@ import org.eclipse.jdt.core.search.TypeNameMatch;
 import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
@@ -300,4 +303,51 @@ public class TypeInfoTest {
 		assertEquals(null, filter.getPackagePattern());
    }
 
-}
\ No newline at end of file
+	@Test
+	public void testTypeNameIndex() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("com.oti", true, null);
+		pack1.createCompilationUnit("V.java", "package com.oti;\npublic class V {\n static class VInner {\n}\n}\n", true, null);
+		pack1.createCompilationUnit("HashMapVariant.java", "package com.oti;\npublic class HashMapVariant {\n}\n", true, null);
+
+		IJavaSearchScope scope= SearchEngine.createJavaSearchScope(new IJavaElement[] { fJProject1 });
+		String[] patterns= { "V", "vi", "VInner", "Vec*", "*List", "j*.Vector", "HM", "HaMa", "HMV", "HM<", "HashMap ", "com.oti.V", "Nothing" };
+
+		TypeNameIndex index= TypeNameIndex.getDefault();
+		index.build(null);
+		for (String pattern : patterns) {
+			assertEquals(pattern, searchTypeNames(pattern, scope), searchIndex(index, pattern, scope));
+		}
+
+		pack1.createCompilationUnit("VirtualHashMap.java", "package com.oti;\npublic class VirtualHashMap {\n}\n", true, null);
+		pack1.getCompilationUnit("HashMapVariant.java").delete(true, null);
+		for (String pattern : patterns) {
+			assertEquals(pattern, searchTypeNames(pattern, scope), searchIndex(index, pattern, scope));
+		}
+	}
+
+	private static Set<String> searchTypeNames(String pattern, IJavaSearchScope scope) throws Exception {
+		TypeInfoFilter filter= new TypeInfoFilter(pattern, scope, IJavaSearchConstants.TYPE, null);
+		Set<String> result= new TreeSet<>();
+		new SearchEngine().searchAllTypeNames(null, 0, null, SearchPattern.R_PREFIX_MATCH, IJavaSearchConstants.TYPE, scope, new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				if (filter.matchesHistoryElement(match))
+					result.add(match.getFullyQualifiedName());
+			}
+		}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
+		return result;
+	}
+
+	private static Set<String> searchIndex(TypeNameIndex index, String pattern, IJavaSearchScope scope) {
+		TypeInfoFilter filter= new TypeInfoFilter(pattern, scope, IJavaSearchConstants.TYPE, null);
+		Set<String> result= new TreeSet<>();
+		assertTrue(pattern, index.search(filter, new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				result.add(match.getFullyQualifiedName());
+			}
+		}, null));
+		return result;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -60,13 +62,17 @@ import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
 import org.eclipse.jdt.internal.corext.fix.FixMessages;
 import org.eclipse.jdt.internal.corext.fix.UpdateProperty;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
+import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 import org.eclipse.jdt.ui.tests.core.rules.Java13ProjectTestSetup;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
@@ -116,6 +122,21 @@ public class CleanUpTest extends CleanUpTestCase {
 		}
 	}
 
+	private static class ThreadRecordingCleanUp extends AbstractCleanUp {
+		private final Set<Thread> fThreads= ConcurrentHashMap.newKeySet();
+
+		@Override
+		public CleanUpRequirements getRequirements() {
+			return new CleanUpRequirements(false, false, false, null);
+		}
+
+		@Override
+		public ICleanUpFix createFix(CleanUpContext context) throws CoreException {
+			fThreads.add(Thread.currentThread());
+			return null;
+		}
+	}
+
 	@Test
 	public void testCleanUpConstantsAreDistinct() throws Exception {
 		Field[] allCleanUpConstantsFields= CleanUpConstants.class.getDeclaredFields();
@@ -393,6 +414,158 @@ public class CleanUpTest extends CleanUpTestCase {
 		assertRefactoringResultAsExpected(new ICompilationUnit[] {cu1, cu2, cu3}, new String[] {expected1, expected2, expected3}, null);
 	}
 
+	@Test
+	public void testUnusedCodeParallel() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String sample= """
+			package test1;
+			import java.util.List;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", sample, false, null);
+
+		IPackageFragment pack2= fSourceFolder.createPackageFragment("test2", false, null);
+		sample= """
+			package test2;
+			import java.util.HashMap;
+			import test1.E1;
+			public class E2 extends E1 {
+			}
+			""";
+		ICompilationUnit cu2= pack2.createCompilationUnit("E2.java", sample, false, null);
+
+		IPackageFragment pack3= fSourceFolder.createPackageFragment("test3", false, null);
+		sample= """
+			package test3;
+			import java.io.StringReader;
+			public class E3 {
+			}
+			""";
+		ICompilationUnit cu3= pack3.createCompilationUnit("E3.java", sample, false, null);
+
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_IMPORTS);
+
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setParallelism(3);
+		performRefactoring(ref, new ICompilationUnit[] {cu1, cu2, cu3}, JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps(), null);
+
+		String expected1= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		String expected2= """
+			package test2;
+			import test1.E1;
+			public class E2 extends E1 {
+			}
+			""";
+		String expected3= """
+			package test3;
+			public class E3 {
+			}
+			""";
+
+		assertEqualStringsIgnoreOrder(new String[] {cu1.getBuffer().getContents(), cu2.getBuffer().getContents(), cu3.getBuffer().getContents()},
+				new String[] {expected1, expected2, expected3});
+	}
+
+	@Test
+	public void testUnusedCodeParallelWithUnregisteredCleanUp() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String sample= """
+			package test1;
+			import java.util.List;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", sample, false, null);
+
+		IPackageFragment pack2= fSourceFolder.createPackageFragment("test2", false, null);
+		sample= """
+			package test2;
+			import java.util.HashMap;
+			public class E2 {
+			}
+			""";
+		ICompilationUnit cu2= pack2.createCompilationUnit("E2.java", sample, false, null);
+
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_IMPORTS);
+
+		ICleanUp[] registered= JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps();
+		ICleanUp[] cleanUps= Arrays.copyOf(registered, registered.length + 1);
+		ThreadRecordingCleanUp recording= new ThreadRecordingCleanUp();
+		cleanUps[registered.length]= recording;
+
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setParallelism(2);
+		performRefactoring(ref, new ICompilationUnit[] {cu1, cu2}, cleanUps, null);
+
+		// the unregistered clean up can not be copied for each worker, so all fixes are computed serially
+		assertEquals(Set.of(Thread.currentThread()), recording.fThreads);
+
+		String expected1= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		String expected2= """
+			package test2;
+			public class E2 {
+			}
+			""";
+
+		assertEqualStringsIgnoreOrder(new String[] {cu1.getBuffer().getContents(), cu2.getBuffer().getContents()},
+				new String[] {expected1, expected2});
+	}
+
+	@Test
+	public void testUnusedCodeBatched() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String sample= """
+			package test1;
+			import java.util.List;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", sample, false, null);
+
+		sample= """
+			package test1;
+			import java.util.Map;
+			public class E2 {
+			    private void foo() {}
+			}
+			""";
+		ICompilationUnit cu2= pack1.createCompilationUnit("E2.java", sample, false, null);
+
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_IMPORTS);
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_PRIVATE_MEMBERS);
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_PRIVATE_METHODS);
+
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setBatchSize(1);
+		performRefactoring(ref, new ICompilationUnit[] {cu1, cu2}, JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps(), null);
+
+		String expected1= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		String expected2= """
+			package test1;
+			public class E2 {
+			}
+			""";
+
+		assertEqualStringsIgnoreOrder(new String[] {cu1.getBuffer().getContents(), cu2.getBuffer().getContents()},
+				new String[] {expected1, expected2});
+	}
+
 	@Test
 	public void testUnusedCode02() throws Exception {
 		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.search.ui.text.MatchEvent;
+
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.search.SearchMatch;
+
+import org.eclipse.jdt.ui.tests.core.rules.JUnitSourceSetup;
+
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.jdt.internal.ui.search.NewSearchResultCollector;
+
+/**
+ * Tests that the matches collected in batches reach the search result.
+ */
+public class NewSearchResultCollectorTest {
+
+	private static final long TIMEOUT= 10000;
+
+	@Rule
+	public JUnitSourceSetup projectSetup= new JUnitSourceSetup();
+
+	private JavaSearchResult fResult;
+
+	private NewSearchResultCollector fCollector;
+
+	private final AtomicInteger fAddEvents= new AtomicInteger();
+
+	private IMethod fTestCaseMethod;
+
+	private IMethod fAssertMethod;
+
+	@Before
+	public void setUp() throws Exception {
+		fResult= new JavaSearchResult(null);
+		fResult.addListener(e -> {
+			if (e instanceof MatchEvent && ((MatchEvent) e).getKind() == MatchEvent.ADDED)
+				fAddEvents.incrementAndGet();
+		});
+		fCollector= new NewSearchResultCollector(fResult, false);
+		fTestCaseMethod= SearchTestHelper.getMethod("junit.framework.TestCase", "getName", new String[0]);
+		fAssertMethod= SearchTestHelper.getMethod("junit.framework.Assert", "fail", new String[0]);
+	}
+
+	private void accept(IMethod method, int offset) throws Exception {
+		fCollector.acceptSearchMatch(new SearchMatch(method, SearchMatch.A_ACCURATE, offset, 1, null, method.getResource()));
+	}
+
+	private boolean waitForMatchCount(int count) throws InterruptedException {
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (fResult.getMatchCount() != count) {
+			if (System.currentTimeMillis() > end)
+				return false;
+			Thread.sleep(10);
+		}
+		return true;
+	}
+
+	@Test
+	public void testSparseMatchesAddedWhileReporting() throws Exception {
+		fCollector.beginReporting();
+		accept(fTestCaseMethod, 0);
+		accept(fTestCaseMethod, 10);
+
+		// no further match arrives, the matches are added while the search is still running
+		assertTrue("matches not added: " + fResult.getMatchCount(), waitForMatchCount(2));
+		assertEquals(1, fAddEvents.get());
+
+		accept(fAssertMethod, 0);
+		fCollector.endReporting();
+		assertEquals(3, fResult.getMatchCount());
+		assertEquals(1, fResult.getMatches(fAssertMethod).length);
+	}
+
+	@Test
+	public void testAllMatchesAdded() throws Exception {
+		int count= 2500;
+		fCollector.beginReporting();
+		for (int i= 0; i < count; i++) {
+			accept(i % 2 == 0 ? fTestCaseMethod : fAssertMethod, i);
+		}
+		fCollector.endReporting();
+
+		assertEquals(count, fResult.getMatchCount());
+		assertEquals(count / 2, fResult.getMatches(fTestCaseMethod).length);
+		assertEquals(count / 2, fResult.getMatches(fAssertMethod).length);
+		// the matches are added in batches, not one by one
+		assertTrue("add events: " + fAddEvents.get(), fAddEvents.get() < count / 10);
+	}
+}
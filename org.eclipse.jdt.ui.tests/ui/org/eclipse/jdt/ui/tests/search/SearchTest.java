@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,7 +23,8 @@ import org.junit.runners.Suite;
 	TreeContentProviderTestWrapper.class,
 	ParticipantTest.class,
 	FileAdapterTest.class,
-	NLSSearchTest.class
+	NLSSearchTest.class,
+	NewSearchResultCollectorTest.class
 })
 public class SearchTest {
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,19 @@
 package org.eclipse.jdt.ui.tests.search;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+
 import org.eclipse.jdt.ui.tests.core.rules.JUnitSourceSetup;
 
+import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+
 public class WorkspaceReferenceTest {
 
 	@Rule
@@ -34,4 +41,21 @@ public class WorkspaceReferenceTest {
 	public void testFindOverridden() throws Exception {
 		assertEquals(6, SearchTestHelper.countMethodRefs("junit.framework.TestCase", "countTestCases", new String[0]));
 	}
+
+	@Test
+	public void testRemovedCompilationUnit() throws Exception {
+		JavaSearchQuery query= SearchTestHelper.runMethodRefQuery("junit.framework.Test", "countTestCases", new String[0]);
+		JavaSearchResult result= (JavaSearchResult) query.getSearchResult();
+		assertEquals(9, result.getMatchCount());
+
+		IJavaElement element= (IJavaElement) result.getElements()[0];
+		int elementMatchCount= result.getMatchCount(element);
+		ICompilationUnit cu= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		cu.delete(true, null);
+
+		assertEquals(9 - elementMatchCount, result.getMatchCount());
+		for (Object remaining : result.getElements()) {
+			assertFalse(cu.equals(((IJavaElement) remaining).getAncestor(IJavaElement.COMPILATION_UNIT)));
+		}
+	}
 }
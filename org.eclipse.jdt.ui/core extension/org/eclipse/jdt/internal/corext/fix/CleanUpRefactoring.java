@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,18 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -41,6 +48,8 @@ import org.eclipse.text.edits.TextEdit;
 import org.eclipse.text.edits.TextEditGroup;
 import org.eclipse.text.edits.UndoEdit;
 
+import org.eclipse.jface.preference.IPreferenceStore;
+
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
@@ -87,6 +96,7 @@ import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
@@ -296,19 +306,27 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 
 		private ICleanUp[] calculateSolutions(CleanUpContext context, ICleanUp[] cleanUps) {
-			List<ICleanUp>result= new ArrayList<>();
-			CleanUpChange solution;
-			try {
-				solution= calculateChange(context, cleanUps, result, null);
-			} catch (CoreException e) {
-				throw new FixCalculationException(e);
-			}
+			ICleanUp[] remaining= cleanUps;
+			while (true) {
+				List<ICleanUp> result= new ArrayList<>();
+				CleanUpChange solution;
+				try {
+					solution= calculateChange(context, remaining, result, null);
+				} catch (CoreException e) {
+					throw new FixCalculationException(e);
+				}
 
-			if (solution != null) {
-				integrateSolution(solution, context.getCompilationUnit());
-			}
+				if (solution != null) {
+					integrateSolution(solution, context.getCompilationUnit());
+					return result.toArray(new ICleanUp[result.size()]);
+				}
+
+				if (result.isEmpty() || result.size() == remaining.length)
+					return result.toArray(new ICleanUp[result.size()]);
 
-			return result.toArray(new ICleanUp[result.size()]);
+				// Nothing changed, the AST is still fresh for the clean ups which have been deferred
+				remaining= result.toArray(new ICleanUp[result.size()]);
+			}
 		}
 
 		private void integrateSolution(CleanUpChange solution, ICompilationUnit source) {
@@ -328,13 +346,19 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		private List<ParseListElement> fParseList;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ICompilationUnit> fWorkingCopies; // map from primary to working copy
+		private final Hashtable<ICompilationUnit, Integer> fAppliedChanges; // map from primary to number of solutions applied to its working copy
 		private final Map<String, String> fCleanUpOptions;
 		private final int fSize;
 		private int fIndex;
 
 		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
+			this(targets, cleanUps, targets.length, 1);
+		}
+
+		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps, int size, int index) {
 			fSolutions= new Hashtable<>(targets.length);
 			fWorkingCopies= new Hashtable<>();
+			fAppliedChanges= new Hashtable<>();
 
 			fParseList= new ArrayList<>(targets.length);
 			for (CleanUpTarget target : targets) {
@@ -348,8 +372,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					fCleanUpOptions.putAll(currentCleanUpOption);
 			}
 
-			fSize= targets.length;
-			fIndex= 1;
+			fSize= size;
+			fIndex= index;
 		}
 
 		public boolean hasNext() {
@@ -370,7 +394,11 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 							compilationUnit= compilationUnit.getWorkingCopy(new WorkingCopyOwner() {}, null);
 							fWorkingCopies.put(compilationUnit.getPrimary(), compilationUnit);
 						}
-						applyChange(compilationUnit, fSolutions.get(compilationUnit.getPrimary()));
+						ICompilationUnit primary= compilationUnit.getPrimary();
+						List<CleanUpChange> changes= fSolutions.get(primary);
+						Integer applied= fAppliedChanges.get(primary);
+						applyChange(compilationUnit, changes, applied != null ? applied.intValue() : 0);
+						fAppliedChanges.put(primary, Integer.valueOf(changes.size()));
 					}
 
 					if (requiresAST(element.getCleanUps())) {
@@ -427,6 +455,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				}
 			}
 			fWorkingCopies.clear();
+			fAppliedChanges.clear();
 		}
 
 		private boolean requiresAST(ICleanUp[] cleanUps) {
@@ -479,9 +508,28 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	        return result;
         }
 
-		private void applyChange(ICompilationUnit compilationUnit, List<CleanUpChange> changes) throws JavaModelException, CoreException {
-			IDocument document= new Document(changes.get(0).getCurrentContent(new NullProgressMonitor()));
-			for (CleanUpChange change : changes) {
+		/**
+		 * Applies the solutions which have not yet been applied to the given working copy. Each
+		 * solution is computed against the content produced by its predecessors, so the working
+		 * copy only needs to catch up on the solutions of the last pass.
+		 *
+		 * @param compilationUnit the working copy
+		 * @param changes all solutions computed so far for the working copy
+		 * @param applied the number of solutions already applied to the working copy
+		 * @throws JavaModelException if the buffer of the working copy is not accessible
+		 * @throws CoreException if the original content can not be read
+		 */
+		private void applyChange(ICompilationUnit compilationUnit, List<CleanUpChange> changes, int applied) throws JavaModelException, CoreException {
+			if (applied >= changes.size())
+				return;
+
+			IDocument document;
+			if (applied == 0) {
+				document= new Document(changes.get(0).getCurrentContent(new NullProgressMonitor()));
+			} else {
+				document= new Document(compilationUnit.getBuffer().getContents());
+			}
+			for (CleanUpChange change : changes.subList(applied, changes.size())) {
 				TextEdit edit= change.getEdit().copy();
 
 				try {
@@ -502,6 +550,19 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	/**
+	 * Preference key for the number of worker threads used to compute the fixes of a project.
+	 * Values smaller than 2 compute all fixes serially in the calling thread.
+	 */
+	private static final String PREF_CLEAN_UP_PARALLELISM= "CleanUpRefactoring.parallelism"; //$NON-NLS-1$
+
+	/**
+	 * Preference key for the maximal number of compilation units whose working copies and
+	 * intermediate solutions are kept alive at the same time. Values smaller than 1 process all
+	 * targets of a project in one batch.
+	 */
+	private static final String PREF_CLEAN_UP_BATCH_SIZE= "CleanUpRefactoring.batchSize"; //$NON-NLS-1$
+
 	private final List<ICleanUp> fCleanUps;
 	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
@@ -510,6 +571,10 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 	private boolean fUseOptionsFromProfile;
 
+	private int fParallelism;
+
+	private int fBatchSize;
+
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
 	}
@@ -519,6 +584,54 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fCleanUps= new ArrayList<>();
 		fProjects= new Hashtable<>();
 		fUseOptionsFromProfile= false;
+		fParallelism= getDefaultParallelism();
+		fBatchSize= getDefaultBatchSize();
+	}
+
+	/**
+	 * Returns the degree of parallelism configured in the preferences.
+	 *
+	 * @return the number of worker threads to use, <code>1</code> if fixes are computed serially
+	 */
+	private static int getDefaultParallelism() {
+		IPreferenceStore settings= JavaPlugin.getDefault().getPreferenceStore();
+		return Math.max(1, settings.getInt(PREF_CLEAN_UP_PARALLELISM));
+	}
+
+	/**
+	 * Returns the batch size configured in the preferences.
+	 *
+	 * @return the maximal number of compilation units processed in one batch, <code>0</code> if
+	 *         the targets are not split into batches
+	 */
+	private static int getDefaultBatchSize() {
+		IPreferenceStore settings= JavaPlugin.getDefault().getPreferenceStore();
+		return Math.max(0, settings.getInt(PREF_CLEAN_UP_BATCH_SIZE));
+	}
+
+	/**
+	 * Sets the maximal number of compilation units processed in one batch. Each batch runs the
+	 * fixpoint iteration to completion, turns its solutions into changes and discards its working
+	 * copies before the next batch is parsed, so memory use does not grow with the number of
+	 * targets.
+	 *
+	 * @param batchSize the batch size, values smaller than 1 process all targets in one batch
+	 */
+	public void setBatchSize(int batchSize) {
+		fBatchSize= Math.max(0, batchSize);
+	}
+
+	/**
+	 * Sets the number of worker threads used to compute the fixes of a project. The targets of a
+	 * project are partitioned by package and each partition is cleaned up on its own, with its own
+	 * instances of the clean ups. Fixes are computed serially if one of the clean ups is not
+	 * registered, since clean ups keep state between calls.
+	 *
+	 * @param parallelism the number of worker threads, values smaller than 2 disable parallel
+	 *            computation
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism= Math.max(1, parallelism);
 	}
 
 	public void setUseOptionsFromProfile(boolean enabled) {
@@ -637,11 +750,18 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					if (result.hasFatalError())
 						return result;
 				}
-				result.merge(checkPreConditions(project, targets, Progress.subMonitor(pm, 3 * cleanUps.length)));
-				if (result.hasFatalError())
-					return result;
-				Change[] changes= cleanUpProject(project, targets, cleanUps, pm);
-				result.merge(checkPostConditions(Progress.subMonitor(pm, cleanUps.length)));
+				List<CleanUpTarget[]> partitions= fParallelism > 1 ? partitionByPackage(targets) : null;
+				ICleanUp[][] partitionCleanUps= partitions != null && partitions.size() > 1 ? copyCleanUps(cleanUps, partitions.size()) : null;
+				Change[] changes;
+				if (partitionCleanUps != null) {
+					changes= cleanUpProjectParallel(project, partitions, targets.length, partitionCleanUps, result, Progress.subMonitor(pm, 4 * cleanUps.length + 2 * targets.length * cleanUps.length));
+				} else {
+					result.merge(checkPreConditions(project, targets, Progress.subMonitor(pm, 3 * cleanUps.length)));
+					if (result.hasFatalError())
+						return result;
+					changes= cleanUpProject(project, targets, cleanUps, pm);
+					result.merge(checkPostConditions(Progress.subMonitor(pm, cleanUps.length)));
+				}
 				if (result.hasFatalError())
 					return result;
 				for (Change c : changes) {
@@ -673,23 +793,207 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	}
 
 	private Change[] cleanUpProject(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps, IProgressMonitor monitor) throws CoreException {
-		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(targets, cleanUps);
-
 		IProgressMonitor subMonitor= Progress.subMonitor(monitor, 2 * targets.length * cleanUps.length);
 		subMonitor.beginTask("", targets.length); //$NON-NLS-1$
 		subMonitor.subTask(Messages.format(FixMessages.CleanUpRefactoring_Parser_Startup_message, BasicElementLabels.getResourceName(project.getProject())));
+		try {
+			return cleanUpBatches(targets, cleanUps, subMonitor);
+		} finally {
+			subMonitor.done();
+		}
+	}
+
+	/**
+	 * Runs the fixpoint iteration over the given targets, split into batches of at most
+	 * <code>fBatchSize</code> compilation units. The working copies of a batch are discarded
+	 * before the next batch is processed.
+	 *
+	 * @param targets the targets to clean up
+	 * @param cleanUps the clean ups to apply
+	 * @param monitor the progress monitor
+	 * @return the changes of all batches
+	 * @throws CoreException if a fix could not be computed
+	 */
+	private Change[] cleanUpBatches(CleanUpTarget[] targets, ICleanUp[] cleanUps, IProgressMonitor monitor) throws CoreException {
+		if (fBatchSize <= 0 || targets.length <= fBatchSize)
+			return cleanUpBatch(targets, cleanUps, targets.length, 1, monitor);
+
+		List<Change> result= new ArrayList<>();
+		for (int start= 0; start < targets.length; start+= fBatchSize) {
+			CleanUpTarget[] batch= Arrays.copyOfRange(targets, start, Math.min(targets.length, start + fBatchSize));
+			Collections.addAll(result, cleanUpBatch(batch, cleanUps, targets.length, start + 1, monitor));
+		}
+		return result.toArray(new Change[result.size()]);
+	}
+
+	private Change[] cleanUpBatch(CleanUpTarget[] batch, ICleanUp[] cleanUps, int size, int index, IProgressMonitor monitor) throws CoreException {
+		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(batch, cleanUps, size, index);
 		try {
 			while (iter.hasNext()) {
-				iter.next(subMonitor);
+				iter.next(monitor);
 			}
 
 			return iter.getResult();
 		} finally {
 			iter.dispose();
-			subMonitor.done();
 		}
 	}
 
+	/**
+	 * Computes the fixes for the given partitions of a project on a pool of worker threads. Each
+	 * partition checks the conditions of its own clean ups and runs its own fixpoint iteration,
+	 * the results are merged in partition order so that the resulting change does not depend on
+	 * scheduling.
+	 *
+	 * @param project the project the partitions belong to
+	 * @param partitions the partitioned targets, in the order the results are merged
+	 * @param size the total number of targets
+	 * @param partitionCleanUps the clean ups to apply, one set of instances per partition
+	 * @param status the status to which the results of the condition checks are added
+	 * @param monitor the progress monitor
+	 * @return the changes of all partitions, or an empty array if a condition check failed with a
+	 *         fatal error
+	 * @throws CoreException if a fix could not be computed
+	 */
+	private Change[] cleanUpProjectParallel(IJavaProject project, List<CleanUpTarget[]> partitions, int size, ICleanUp[][] partitionCleanUps, RefactoringStatus status, IProgressMonitor monitor) throws CoreException {
+		monitor.beginTask("", size); //$NON-NLS-1$
+		monitor.subTask(Messages.format(FixMessages.CleanUpRefactoring_Parser_Startup_message, BasicElementLabels.getResourceName(project.getProject())));
+
+		// progress monitors are not thread safe, workers only forward cancellation
+		IProgressMonitor workerMonitor= new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+
+		ExecutorService executor= Executors.newFixedThreadPool(Math.min(fParallelism, partitions.size()));
+		try {
+			List<Future<Change[]>> futures= new ArrayList<>(partitions.size());
+			RefactoringStatus[] statuses= new RefactoringStatus[partitions.size()];
+			for (int i= 0; i < partitions.size(); i++) {
+				CleanUpTarget[] partition= partitions.get(i);
+				ICleanUp[] cleanUps= partitionCleanUps[i];
+				RefactoringStatus partitionStatus= new RefactoringStatus();
+				statuses[i]= partitionStatus;
+				futures.add(executor.submit(() -> cleanUpPartition(project, partition, cleanUps, partitionStatus, workerMonitor)));
+			}
+
+			List<Change> result= new ArrayList<>();
+			for (int i= 0; i < futures.size(); i++) {
+				Collections.addAll(result, getPartitionResult(futures.get(i), monitor));
+				status.merge(statuses[i]);
+				monitor.worked(partitions.get(i).length);
+			}
+			if (status.hasFatalError())
+				return new Change[0];
+			return result.toArray(new Change[result.size()]);
+		} finally {
+			executor.shutdownNow();
+			monitor.done();
+		}
+	}
+
+	/**
+	 * Cleans up one partition of a project on a worker thread.
+	 *
+	 * @param project the project the partition belongs to
+	 * @param partition the targets of the partition
+	 * @param cleanUps the clean ups to apply, only used for this partition
+	 * @param status the status to which the results of the condition checks are added
+	 * @param monitor the progress monitor
+	 * @return the changes of the partition, empty if a pre condition check failed with a fatal
+	 *         error
+	 * @throws CoreException if a fix could not be computed
+	 */
+	private Change[] cleanUpPartition(IJavaProject project, CleanUpTarget[] partition, ICleanUp[] cleanUps, RefactoringStatus status, IProgressMonitor monitor) throws CoreException {
+		ICompilationUnit[] compilationUnits= new ICompilationUnit[partition.length];
+		for (int i= 0; i < partition.length; i++) {
+			compilationUnits[i]= partition[i].getCompilationUnit();
+		}
+
+		for (ICleanUp cleanUp : cleanUps) {
+			status.merge(cleanUp.checkPreConditions(project, compilationUnits, monitor));
+			if (status.hasFatalError())
+				return new Change[0];
+		}
+		Change[] changes= cleanUpBatches(partition, cleanUps, monitor);
+		for (ICleanUp cleanUp : cleanUps) {
+			status.merge(cleanUp.checkPostConditions(monitor));
+		}
+		return changes;
+	}
+
+	/**
+	 * Creates a set of clean up instances for each partition, configured with the options of the
+	 * given clean ups.
+	 *
+	 * @param cleanUps the clean ups to copy
+	 * @param count the number of partitions
+	 * @return the clean ups of each partition, or <code>null</code> if a clean up can not be copied
+	 */
+	private static ICleanUp[][] copyCleanUps(ICleanUp[] cleanUps, int count) {
+		CleanUpRegistry registry= JavaPlugin.getDefault().getCleanUpRegistry();
+		ICleanUp[][] result= new ICleanUp[count][cleanUps.length];
+		for (int i= 0; i < cleanUps.length; i++) {
+			if (!(cleanUps[i] instanceof AbstractCleanUp))
+				return null;
+
+			CleanUpOptions options= ((AbstractCleanUp) cleanUps[i]).getOptions();
+			if (options == null)
+				return null;
+
+			for (int j= 0; j < count; j++) {
+				ICleanUp copy= registry.createCleanUp(cleanUps[i].getClass());
+				if (copy == null)
+					return null;
+
+				copy.setOptions(options);
+				result[j][i]= copy;
+			}
+		}
+		return result;
+	}
+
+	private static Change[] getPartitionResult(Future<Change[]> future, IProgressMonitor monitor) throws CoreException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof CoreException)
+				throw (CoreException) cause;
+			if (cause instanceof OperationCanceledException || monitor.isCanceled())
+				throw new OperationCanceledException();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, cause.getMessage(), cause));
+		}
+	}
+
+	/**
+	 * Splits the targets of a project by package fragment. The partitions are sorted by package
+	 * handle so that merging them yields a deterministic result.
+	 *
+	 * @param targets the targets of one project
+	 * @return the partitions, never empty
+	 */
+	private static List<CleanUpTarget[]> partitionByPackage(CleanUpTarget[] targets) {
+		Map<String, List<CleanUpTarget>> packages= new TreeMap<>();
+		for (CleanUpTarget target : targets) {
+			String key= target.getCompilationUnit().getParent().getHandleIdentifier();
+			packages.computeIfAbsent(key, k -> new ArrayList<>()).add(target);
+		}
+
+		List<CleanUpTarget[]> result= new ArrayList<>(packages.size());
+		for (List<CleanUpTarget> partition : packages.values()) {
+			result.add(partition.toArray(new CleanUpTarget[partition.size()]));
+		}
+		return result;
+	}
+
 	private RefactoringStatus setOptionsFromProfile(IJavaProject javaProject, ICleanUp[] cleanUps) {
 		Map<String, String> options= CleanUpPreferenceUtil.loadOptions(new ProjectScope(javaProject.getProject()));
 		if (options == null)
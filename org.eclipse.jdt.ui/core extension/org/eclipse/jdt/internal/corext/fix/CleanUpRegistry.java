@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2011 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -187,6 +187,13 @@ public class CleanUpRegistry {
 			return fRunAfter;
 		}
 
+		/**
+		 * @return the name of the class implementing this clean up
+		 */
+		public String getClassName() {
+			return fElement.getAttribute(ATTRIBUTE_ID_CLASS);
+		}
+
 		/**
 		 * @return the clean up or <code>null</code> if the clean up could not be instantiated
 		 */
@@ -280,6 +287,24 @@ public class CleanUpRegistry {
 		return result.toArray(new ICleanUp[result.size()]);
 	}
 
+	/**
+	 * Creates a new instance of a registered clean up, e.g. to run it concurrently to the given
+	 * instance.
+	 *
+	 * @param cleanUpClass the class of the clean up
+	 * @return a new clean up without options, or <code>null</code> if no clean up of the given class
+	 *         is registered or the clean up could not be instantiated
+	 * @since 3.33
+	 */
+	public synchronized ICleanUp createCleanUp(Class<? extends ICleanUp> cleanUpClass) {
+		ensureCleanUpsRegistered();
+		for (CleanUpDescriptor descriptor : fCleanUpDescriptors) {
+			if (cleanUpClass.getName().equals(descriptor.getClassName()))
+				return descriptor.createCleanUp();
+		}
+		return null;
+	}
+
 	/**
 	 * @param kind the kind of clean up for which to retrieve the configuratin pages
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.w3c.dom.Element;
 
@@ -62,54 +65,67 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	private static class TypeHistoryDeltaListener implements IElementChangedListener {
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
-			if (processDelta(event.getDelta())) {
-				OpenTypeHistory.getInstance().markAsInconsistent();
+			Set<IJavaElement> changed= new HashSet<>();
+			if (processDelta(event.getDelta(), changed)) {
+				OpenTypeHistory.getInstance().markAsInconsistent(null);
+			} else if (!changed.isEmpty()) {
+				OpenTypeHistory.getInstance().markAsInconsistent(changed);
 			}
 		}
 
 		/**
-		 * Computes whether the history needs a consistency check or not.
+		 * Collects the elements whose history entries need a consistency check.
 		 *
 		 * @param delta the Java element delta
+		 * @param changed the collected elements, entries of types inside them are checked
 		 *
-		 * @return <code>true</code> if consistency must be checked
+		 * @return <code>true</code> if all entries must be checked
 		 *  <code>false</code> otherwise.
 		 */
-		private boolean processDelta(IJavaElementDelta delta) {
+		private boolean processDelta(IJavaElementDelta delta, Set<IJavaElement> changed) {
 			IJavaElement elem= delta.getElement();
 
 			boolean isChanged= delta.getKind() == IJavaElementDelta.CHANGED;
 			boolean isRemoved= delta.getKind() == IJavaElementDelta.REMOVED;
 
 			switch (elem.getElementType()) {
+				case IJavaElement.JAVA_MODEL:
+					if (isRemoved) {
+						return true;
+					}
+					return processChildrenDelta(delta, changed);
 				case IJavaElement.JAVA_PROJECT:
 					if (isRemoved || (isChanged &&
 							(delta.getFlags() & IJavaElementDelta.F_CLOSED) != 0)) {
-						return true;
+						changed.add(elem);
+						return false;
 					}
-					return processChildrenDelta(delta);
+					return processChildrenDelta(delta, changed);
 				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
 					if (isRemoved || (isChanged && (
 							(delta.getFlags() & IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED) != 0 ||
 							(delta.getFlags() & IJavaElementDelta.F_REMOVED_FROM_CLASSPATH) != 0))) {
-						return true;
+						changed.add(elem);
+						return false;
 					}
-					return processChildrenDelta(delta);
+					return processChildrenDelta(delta, changed);
 				case IJavaElement.TYPE:
 					if (isChanged && (delta.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0) {
-						return true;
+						changed.add(elem);
+						return false;
 					}
 					if (isRemoved) {
-						return true;
+						changed.add(elem);
+						return false;
 					}
-					return processChildrenDelta(delta);
-				case IJavaElement.JAVA_MODEL:
+					return processChildrenDelta(delta, changed);
 				case IJavaElement.PACKAGE_FRAGMENT:
 				case IJavaElement.CLASS_FILE:
 					if (isRemoved) {
-						return true;
+						changed.add(elem);
+						return false;
 					}
-					return processChildrenDelta(delta);
+					return processChildrenDelta(delta, changed);
 				case IJavaElement.COMPILATION_UNIT:
 					// Not the primary compilation unit. Ignore it
 					if (!JavaModelUtil.isPrimary((ICompilationUnit) elem)) {
@@ -117,9 +133,10 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 					}
 
 					if (isRemoved || (isChanged && isUnknownStructuralChange(delta.getFlags()))) {
-						return true;
+						changed.add(elem);
+						return false;
 					}
-					return processChildrenDelta(delta);
+					return processChildrenDelta(delta, changed);
 				default:
 					// fields, methods, imports ect
 					return false;
@@ -138,9 +155,9 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		}
 		*/
 
-		private boolean processChildrenDelta(IJavaElementDelta delta) {
+		private boolean processChildrenDelta(IJavaElementDelta delta, Set<IJavaElement> changed) {
 			for (IJavaElementDelta child : delta.getAffectedChildren()) {
-				if (processDelta(child)) {
+				if (processDelta(child, changed)) {
 					return true;
 				}
 			}
@@ -170,6 +187,14 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	// Map of cached time stamps
 	private Map<TypeNameMatch, Long> fTimestampMapping;
 
+	// Elements whose entries have to be checked, guarded by fChangedLock
+	private Set<IJavaElement> fChangedElements= new HashSet<>();
+	// Whether all entries have to be checked, guarded by fChangedLock
+	private boolean fCheckAll;
+	private final Object fChangedLock= new Object();
+	// Serializes the consistency checks
+	private final Object fCheckLock= new Object();
+
 	private final IElementChangedListener fDeltaListener;
 	private final UpdateJob fUpdateJob;
 
@@ -198,6 +223,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		super(FILENAME, NODE_ROOT, NODE_TYPE_INFO);
 		fTimestampMapping= new HashMap<>();
 		fNeedsConsistencyCheck= true;
+		fCheckAll= true;
 		load();
 		fDeltaListener= new TypeHistoryDeltaListener();
 		JavaCore.addElementChangedListener(fDeltaListener);
@@ -211,7 +237,24 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	public void markAsInconsistent() {
-		fNeedsConsistencyCheck= true;
+		markAsInconsistent(null);
+	}
+
+	/**
+	 * Marks entries of the history as inconsistent and schedules their consistency check.
+	 *
+	 * @param changed the elements whose entries have to be checked, or <code>null</code> to check
+	 *            all entries
+	 */
+	void markAsInconsistent(Collection<IJavaElement> changed) {
+		synchronized (fChangedLock) {
+			if (changed == null) {
+				fCheckAll= true;
+			} else if (!fCheckAll) {
+				fChangedElements.addAll(changed);
+			}
+			fNeedsConsistencyCheck= true;
+		}
 		// cancel the old job. If no job is running this is a NOOP.
 		fUpdateJob.cancel();
 		fUpdateJob.schedule();
@@ -222,16 +265,6 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	public void checkConsistency(IProgressMonitor monitor) throws OperationCanceledException {
-		if (!fNeedsConsistencyCheck)
-			return;
-		if (fUpdateJob.getState() == Job.RUNNING) {
-			try {
-				Job.getJobManager().join(UpdateJob.FAMILY, monitor);
-			} catch (OperationCanceledException | InterruptedException e) {
-				// Ignore and do the consistency check without
-				// waiting for the update job.
-			}
-		}
 		if (!fNeedsConsistencyCheck)
 			return;
 		internalCheckConsistency(monitor);
@@ -293,40 +326,126 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		return object;
 	}
 
-	private synchronized void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
-		// Setting fNeedsConsistencyCheck is necessary here since
-		// markAsInconsistent isn't synchronized.
-		fNeedsConsistencyCheck= true;
-		List<TypeNameMatch> typesToCheck= new ArrayList<>(getKeys());
-		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
-		monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
-		for (TypeNameMatch type : typesToCheck) {
-			long currentTimestamp= getContainerTimestamp(type);
-			Long lastTested= fTimestampMapping.get(type);
-			if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
-				continue;
+	/**
+	 * Checks the entries of the changed elements. The entries are checked outside of the history
+	 * lock, one package fragment root at a time, so that the history can be used while the check
+	 * is running. Entries accessed or removed in the meantime are left alone.
+	 *
+	 * @param monitor the progress monitor
+	 * @throws OperationCanceledException if the check has been canceled, the entries which have
+	 *             not been checked are checked by the next run
+	 */
+	private void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
+		synchronized (fCheckLock) {
+			boolean checkAll;
+			Set<IJavaElement> changed;
+			synchronized (fChangedLock) {
+				checkAll= fCheckAll;
+				changed= fChangedElements;
+				fCheckAll= false;
+				fChangedElements= new HashSet<>();
+			}
+			Map<IPackageFragmentRoot, Map<TypeNameMatch, Long>> typesByRoot= new LinkedHashMap<>();
+			synchronized (this) {
+				for (TypeNameMatch type : getKeys()) {
+					if (checkAll || isAffected(type, changed)) {
+						typesByRoot.computeIfAbsent(type.getPackageFragmentRoot(), k -> new LinkedHashMap<>()).put(type, fTimestampMapping.get(type));
+					}
+				}
+			}
+			monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesByRoot.size());
+			monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
 			try {
-				IType jType= type.getType();
-				if (jType == null || !jType.exists()) {
-					remove(type);
-				} else {
-					// copy over the modifiers since they may have changed
-					int modifiers= jType.getFlags();
-					if (modifiers != type.getModifiers()) {
-						replace(type, SearchEngine.createTypeNameMatch(jType, modifiers));
+				for (Map.Entry<IPackageFragmentRoot, Map<TypeNameMatch, Long>> entry : typesByRoot.entrySet()) {
+					if (monitor.isCanceled())
+						throw new OperationCanceledException();
+					checkConsistency(entry.getKey(), entry.getValue());
+					monitor.worked(1);
+				}
+			} catch (OperationCanceledException e) {
+				synchronized (fChangedLock) {
+					if (checkAll) {
+						fCheckAll= true;
 					} else {
-						fTimestampMapping.put(type, currentTimestamp);
+						fChangedElements.addAll(changed);
 					}
 				}
-			} catch (JavaModelException e) {
-				remove(type);
+				throw e;
+			} finally {
+				monitor.done();
+			}
+			synchronized (fChangedLock) {
+				fNeedsConsistencyCheck= fCheckAll || !fChangedElements.isEmpty();
+			}
+		}
+	}
+
+	private static boolean isAffected(TypeNameMatch type, Set<IJavaElement> changed) {
+		if (changed.isEmpty())
+			return false;
+		IJavaElement element= type.getType();
+		while (element != null) {
+			if (changed.contains(element))
+				return true;
+			element= element.getParent();
+		}
+		return false;
+	}
+
+	/**
+	 * Checks the entries of a package fragment root. The container time stamps are fetched once
+	 * per compilation unit, class file container or archive.
+	 *
+	 * @param root the package fragment root
+	 * @param types the entries of the root and their last tested time stamps
+	 */
+	private void checkConsistency(IPackageFragmentRoot root, Map<TypeNameMatch, Long> types) {
+		List<TypeNameMatch> removed= new ArrayList<>();
+		Map<TypeNameMatch, TypeNameMatch> replaced= new HashMap<>();
+		Map<TypeNameMatch, Long> timestamps= new HashMap<>();
+		if (!root.exists()) {
+			removed.addAll(types.keySet());
+		} else {
+			Map<Object, Long> containerTimestamps= new HashMap<>();
+			for (Map.Entry<TypeNameMatch, Long> entry : types.entrySet()) {
+				TypeNameMatch type= entry.getKey();
+				IResource resource= type.getType().getResource();
+				long currentTimestamp= containerTimestamps.computeIfAbsent(resource != null ? resource : root, k -> Long.valueOf(getContainerTimestamp(type))).longValue();
+				Long lastTested= entry.getValue();
+				if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
+					continue;
+				try {
+					IType jType= type.getType();
+					if (jType == null || !jType.exists()) {
+						removed.add(type);
+					} else {
+						// copy over the modifiers since they may have changed
+						int modifiers= jType.getFlags();
+						if (modifiers != type.getModifiers()) {
+							replaced.put(type, SearchEngine.createTypeNameMatch(jType, modifiers));
+						} else {
+							timestamps.put(type, Long.valueOf(currentTimestamp));
+						}
+					}
+				} catch (JavaModelException e) {
+					removed.add(type);
+				}
+			}
+		}
+		synchronized (this) {
+			for (TypeNameMatch type : removed) {
+				if (contains(type))
+					remove(type);
+			}
+			for (Map.Entry<TypeNameMatch, TypeNameMatch> entry : replaced.entrySet()) {
+				if (contains(entry.getKey()))
+					replace(entry.getKey(), entry.getValue());
+			}
+			for (Map.Entry<TypeNameMatch, Long> entry : timestamps.entrySet()) {
+				if (contains(entry.getKey()))
+					fTimestampMapping.put(entry.getKey(), entry.getValue());
 			}
-			if (monitor.isCanceled())
-				throw new OperationCanceledException();
-			monitor.worked(1);
 		}
-		monitor.done();
-		fNeedsConsistencyCheck= false;
 	}
 
 	private long getContainerTimestamp(TypeNameMatch match) {
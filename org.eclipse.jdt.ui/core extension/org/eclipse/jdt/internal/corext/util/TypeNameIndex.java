@@ -0,0 +1,436 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+/**
+ * A resident index of the names of all types in the workspace, used by the Open Type dialog
+ * instead of a search over all type names.
+ * <p>
+ * The types are kept in two sorted arrays: by simple name ignoring case, for prefix and wildcard
+ * patterns, and by the upper case letters of the simple name, for camel case patterns. A camel
+ * case pattern only matches names whose upper case letters start with the upper case letters of
+ * the pattern. The candidates in the ranges of a pattern are then matched with
+ * {@link TypeInfoFilter#matchesHistoryElement(TypeNameMatch)}.
+ * </p>
+ * <p>
+ * Changed compilation units are re-read before the next query, and the arrays are re-sorted once
+ * enough types have been added or removed. Changes to the classpath or the package fragments make
+ * the index stale until it is rebuilt by {@link #build(IProgressMonitor)}.
+ * </p>
+ */
+public final class TypeNameIndex implements IElementChangedListener {
+
+	private static final Comparator<TypeNameMatch> NAME_ORDER= Comparator.comparing(TypeNameMatch::getSimpleTypeName, String.CASE_INSENSITIVE_ORDER);
+
+	/**
+	 * The number of added and removed types after which the sorted arrays are rebuilt
+	 */
+	private static final int MAX_CHANGES= 2000;
+
+	/**
+	 * The number of changed compilation units above which the index is rebuilt rather than updated
+	 */
+	private static final int MAX_CHANGED_UNITS= 500;
+
+	private static TypeNameIndex fgDefault;
+
+	private final Object fBuildLock= new Object();
+
+	private boolean fStale= true;
+
+	/**
+	 * Incremented on changes which make the index stale, so that a build running concurrently is
+	 * discarded
+	 */
+	private int fGeneration;
+
+	private TypeNameMatch[] fByName= new TypeNameMatch[0];
+
+	private TypeNameMatch[] fByInitials= new TypeNameMatch[0];
+
+	private String[] fInitials= new String[0];
+
+	/**
+	 * Types added since the arrays have been sorted
+	 */
+	private final List<TypeNameMatch> fAdded= new ArrayList<>();
+
+	/**
+	 * Types of the sorted arrays which have been removed
+	 */
+	private final Set<TypeNameMatch> fRemoved= new HashSet<>();
+
+	/**
+	 * The types of each source compilation unit, keyed by the handle identifier of the primary
+	 * compilation unit
+	 */
+	private final Map<String, List<TypeNameMatch>> fSourceTypes= new HashMap<>();
+
+	/**
+	 * The compilation units whose types have to be read again, keyed like {@link #fSourceTypes}.
+	 * Working copies are kept so that their current types are read.
+	 */
+	private final Map<String, ICompilationUnit> fChangedUnits= new LinkedHashMap<>();
+
+	private TypeNameIndex() {
+	}
+
+	public static synchronized TypeNameIndex getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new TypeNameIndex();
+			JavaCore.addElementChangedListener(fgDefault, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Removes the index (called by the JavaPlugin on shutdown).
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault);
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the index has to be built before it can answer queries
+	 */
+	public synchronized boolean isStale() {
+		return fStale;
+	}
+
+	/**
+	 * Builds the index if it is stale, by searching all type names in the workspace.
+	 *
+	 * @param monitor the progress monitor
+	 * @throws JavaModelException if the search failed
+	 */
+	public void build(IProgressMonitor monitor) throws JavaModelException {
+		synchronized (fBuildLock) {
+			int generation;
+			synchronized (this) {
+				if (!fStale)
+					return;
+				generation= fGeneration;
+				fChangedUnits.clear();
+			}
+			List<TypeNameMatch> matches= new ArrayList<>();
+			new SearchEngine((WorkingCopyOwner) null).searchAllTypeNames(null, 0, null, SearchPattern.R_PREFIX_MATCH, IJavaSearchConstants.TYPE,
+					SearchEngine.createWorkspaceScope(), new TypeNameMatchRequestor() {
+						@Override
+						public void acceptTypeNameMatch(TypeNameMatch match) {
+							matches.add(match);
+						}
+					}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+
+			Map<String, List<TypeNameMatch>> sourceTypes= new HashMap<>();
+			for (TypeNameMatch match : matches) {
+				ICompilationUnit cu= match.getType().getCompilationUnit();
+				if (cu != null)
+					sourceTypes.computeIfAbsent(getKey(cu), k -> new ArrayList<>()).add(match);
+			}
+			TypeNameMatch[] all= matches.toArray(new TypeNameMatch[matches.size()]);
+			synchronized (this) {
+				if (generation != fGeneration)
+					return;
+				sort(all);
+				fAdded.clear();
+				fRemoved.clear();
+				fSourceTypes.clear();
+				fSourceTypes.putAll(sourceTypes);
+				fStale= false;
+			}
+		}
+	}
+
+	/**
+	 * Reports the types matched by a filter.
+	 *
+	 * @param filter the filter
+	 * @param requestor the requestor to which the matches are reported
+	 * @param monitor the progress monitor
+	 * @return <code>false</code> if the index is stale and the types have to be searched
+	 */
+	public boolean search(TypeInfoFilter filter, TypeNameMatchRequestor requestor, IProgressMonitor monitor) {
+		if (!updateChangedUnits())
+			return false;
+		TypeNameMatch[] byName;
+		TypeNameMatch[] byInitials;
+		String[] initials;
+		List<TypeNameMatch> added;
+		Set<TypeNameMatch> removed;
+		synchronized (this) {
+			if (fStale)
+				return false;
+			if (fAdded.size() + fRemoved.size() > MAX_CHANGES)
+				compact();
+			byName= fByName;
+			byInitials= fByInitials;
+			initials= fInitials;
+			added= new ArrayList<>(fAdded);
+			removed= fRemoved.isEmpty() ? Collections.emptySet() : new HashSet<>(fRemoved);
+		}
+
+		String pattern= filter.getNamePattern();
+		int matchKind= filter.getSearchFlags();
+		Set<TypeNameMatch> reported= new HashSet<>();
+		if (matchKind == SearchPattern.R_CAMELCASE_MATCH || matchKind == SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH) {
+			String patternInitials= getInitials(pattern);
+			int start= lowerBound(initials, patternInitials);
+			for (int i= start; i < initials.length && initials[i].startsWith(patternInitials); i++) {
+				report(byInitials[i], filter, requestor, removed, reported, monitor);
+			}
+			if (matchKind == SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH)
+				pattern= null;
+		} else if (matchKind == SearchPattern.R_PATTERN_MATCH) {
+			int wildcard= indexOfWildcard(pattern);
+			pattern= pattern.substring(0, wildcard);
+		}
+		if (pattern != null) {
+			int start= lowerBound(byName, pattern);
+			for (int i= start; i < byName.length && Strings.startsWithIgnoreCase(byName[i].getSimpleTypeName(), pattern); i++) {
+				report(byName[i], filter, requestor, removed, reported, monitor);
+			}
+		}
+		for (TypeNameMatch match : added) {
+			report(match, filter, requestor, Collections.emptySet(), reported, monitor);
+		}
+		return true;
+	}
+
+	private static void report(TypeNameMatch match, TypeInfoFilter filter, TypeNameMatchRequestor requestor, Set<TypeNameMatch> removed,
+			Set<TypeNameMatch> reported, IProgressMonitor monitor) {
+		if (monitor != null && monitor.isCanceled())
+			throw new OperationCanceledException();
+		if (!removed.contains(match) && filter.matchesHistoryElement(match) && reported.add(match))
+			requestor.acceptTypeNameMatch(match);
+	}
+
+	private static int indexOfWildcard(String pattern) {
+		for (int i= 0; i < pattern.length(); i++) {
+			char ch= pattern.charAt(i);
+			if (ch == '*' || ch == '?')
+				return i;
+		}
+		return pattern.length();
+	}
+
+	/**
+	 * @param name a type name or a camel case pattern
+	 * @return the upper case letters of the name
+	 */
+	static String getInitials(String name) {
+		StringBuilder buf= new StringBuilder();
+		for (int i= 0; i < name.length(); i++) {
+			char ch= name.charAt(i);
+			if (Character.isUpperCase(ch))
+				buf.append(ch);
+		}
+		return buf.toString();
+	}
+
+	private static int lowerBound(TypeNameMatch[] byName, String prefix) {
+		int low= 0;
+		int high= byName.length;
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			if (String.CASE_INSENSITIVE_ORDER.compare(byName[mid].getSimpleTypeName(), prefix) < 0)
+				low= mid + 1;
+			else
+				high= mid;
+		}
+		return low;
+	}
+
+	private static int lowerBound(String[] initials, String prefix) {
+		int index= Arrays.binarySearch(initials, prefix);
+		if (index < 0)
+			return -index - 1;
+		while (index > 0 && initials[index - 1].equals(prefix))
+			index--;
+		return index;
+	}
+
+	private void sort(TypeNameMatch[] all) {
+		Arrays.sort(all, NAME_ORDER);
+		String[] initials= new String[all.length];
+		Integer[] order= new Integer[all.length];
+		for (int i= 0; i < all.length; i++) {
+			initials[i]= getInitials(all[i].getSimpleTypeName());
+			order[i]= Integer.valueOf(i);
+		}
+		Arrays.sort(order, Comparator.comparing(i -> initials[i.intValue()]));
+		fByName= all;
+		fByInitials= new TypeNameMatch[all.length];
+		fInitials= new String[all.length];
+		for (int i= 0; i < all.length; i++) {
+			fByInitials[i]= all[order[i].intValue()];
+			fInitials[i]= initials[order[i].intValue()];
+		}
+	}
+
+	private void compact() {
+		List<TypeNameMatch> all= new ArrayList<>(fByName.length + fAdded.size());
+		for (TypeNameMatch match : fByName) {
+			if (!fRemoved.contains(match))
+				all.add(match);
+		}
+		all.addAll(fAdded);
+		fAdded.clear();
+		fRemoved.clear();
+		sort(all.toArray(new TypeNameMatch[all.size()]));
+	}
+
+	/**
+	 * Reads the types of the changed compilation units.
+	 *
+	 * @return <code>false</code> if the index is stale
+	 */
+	private boolean updateChangedUnits() {
+		List<ICompilationUnit> units;
+		synchronized (this) {
+			if (fStale)
+				return false;
+			if (fChangedUnits.isEmpty())
+				return true;
+			units= new ArrayList<>(fChangedUnits.values());
+			fChangedUnits.clear();
+		}
+		for (ICompilationUnit cu : units) {
+			List<TypeNameMatch> matches= new ArrayList<>();
+			try {
+				if (cu.exists()) {
+					for (IType type : cu.getAllTypes()) {
+						matches.add(SearchEngine.createTypeNameMatch((IType) type.getPrimaryElement(), type.getFlags()));
+					}
+				}
+			} catch (JavaModelException e) {
+				// the compilation unit has been removed in the meantime
+			}
+			synchronized (this) {
+				if (fStale)
+					return false;
+				if (fChangedUnits.containsKey(getKey(cu)))
+					continue; // changed again, will be read with the next query
+				List<TypeNameMatch> old= matches.isEmpty() ? fSourceTypes.remove(getKey(cu)) : fSourceTypes.put(getKey(cu), matches);
+				if (old != null) {
+					for (TypeNameMatch match : old) {
+						if (!fAdded.remove(match))
+							fRemoved.add(match);
+					}
+				}
+				fAdded.addAll(matches);
+			}
+		}
+		return true;
+	}
+
+	private static String getKey(ICompilationUnit cu) {
+		return cu.getPrimary().getHandleIdentifier();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			processDelta(event.getDelta());
+			if (fChangedUnits.size() > MAX_CHANGED_UNITS)
+				setStale();
+		}
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+								| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0) {
+					setStale();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+								| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER)) != 0) {
+					setStale();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					setStale();
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & ~(IJavaElementDelta.F_AST_AFFECTED | IJavaElementDelta.F_PRIMARY_RESOURCE)) != 0) {
+					ICompilationUnit cu= (ICompilationUnit) element;
+					fChangedUnits.put(getKey(cu), cu);
+				}
+				return;
+			default:
+				// class files change with their package fragment root
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	private void setStale() {
+		fStale= true;
+		fGeneration++;
+		fChangedUnits.clear();
+		fByName= new TypeNameMatch[0];
+		fByInitials= new TypeNameMatch[0];
+		fInitials= new String[0];
+		fAdded.clear();
+		fRemoved.clear();
+		fSourceTypes.clear();
+	}
+}
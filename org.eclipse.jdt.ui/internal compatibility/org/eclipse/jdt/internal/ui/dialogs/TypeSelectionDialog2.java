@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -66,7 +66,6 @@ import org.eclipse.jdt.internal.ui.IJavaHelpContextIds;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.JavaUIMessages;
 import org.eclipse.jdt.internal.ui.util.ExceptionHandler;
-import org.eclipse.jdt.internal.ui.util.Progress;
 
 
 /**
@@ -297,8 +296,8 @@ public class TypeSelectionDialog2 extends SelectionStatusDialog {
 	}
 
 	private void ensureConsistency() throws InvocationTargetException, InterruptedException {
-		// we only have to ensure history consistency here since the search engine
-		// takes care of working copies.
+		// the search engine takes care of working copies and the history checks its entries in a
+		// background job, so only the search indexes are prepared here.
 		class ConsistencyRunnable implements IRunnableWithProgress {
 			@Override
 			public void run(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
@@ -307,24 +306,12 @@ public class TypeSelectionDialog2 extends SelectionStatusDialog {
 					IJobManager manager= Job.getJobManager();
 					manager.join(JavaUI.ID_PLUGIN, monitor);
 				}
-				OpenTypeHistory history= OpenTypeHistory.getInstance();
-				if (fgFirstTime || history.isEmpty()) {
-					monitor.beginTask(JavaUIMessages.TypeSelectionDialog_progress_consistency, 100);
-					if (history.needConsistencyCheck()) {
-						refreshSearchIndices(Progress.subMonitor(monitor, 90));
-						history.checkConsistency(Progress.subMonitor(monitor, 10));
-					} else {
-						refreshSearchIndices(monitor);
-					}
-					monitor.done();
-					fgFirstTime= false;
-				} else {
-					history.checkConsistency(monitor);
-				}
+				refreshSearchIndices(monitor);
+				fgFirstTime= false;
 			}
 			public boolean needsExecution() {
 				OpenTypeHistory history= OpenTypeHistory.getInstance();
-				return fgFirstTime || history.isEmpty() || history.needConsistencyCheck();
+				return fgFirstTime || history.isEmpty();
 			}
 			private void refreshSearchIndices(IProgressMonitor monitor) throws InvocationTargetException {
 				try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -496,6 +496,10 @@ public interface IJavaHelpContextIds {
 	 */
 	String CALL_HIERARCHY_SEARCH_IN_DIALOG= 							PREFIX + "call_hierarchy_search_in_dialog_context"; //$NON-NLS-1$
 	String CALL_HIERARCHY_PIN_VIEW_ACTION= 								PREFIX + "call_hierarchy_pin_view_action_context"; //$NON-NLS-1$
+	/**
+	 * @since 3.33
+	 */
+	String CALL_HIERARCHY_EXPAND_LEVELS_ACTION= 						PREFIX + "call_hierarchy_expand_levels_action_context"; //$NON-NLS-1$
 	/**
 	 * @since 3.2
 	 */
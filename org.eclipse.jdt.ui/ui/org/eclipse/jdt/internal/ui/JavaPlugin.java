@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,14 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Hashtable;
@@ -104,6 +111,7 @@ import org.eclipse.jdt.internal.corext.template.java.SWTContextType;
 import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
 import org.eclipse.jdt.internal.corext.util.QualifiedTypeNameHistory;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.ui.IContextMenuConstants;
 import org.eclipse.jdt.ui.JavaUI;
@@ -116,6 +124,7 @@ import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitDocumentProvider;
 import org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter;
 import org.eclipse.jdt.internal.ui.javaeditor.ICompilationUnitDocumentProvider;
 import org.eclipse.jdt.internal.ui.javaeditor.WorkingCopyManager;
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaCodeMiningCountCache;
 import org.eclipse.jdt.internal.ui.javaeditor.saveparticipant.SaveParticipantRegistry;
 import org.eclipse.jdt.internal.ui.preferences.MembersOrderPreferenceCache;
 import org.eclipse.jdt.internal.ui.preferences.formatter.FormatterProfileStore;
@@ -243,6 +252,12 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	 */
 	private volatile ContentAssistHistory fContentAssistHistory;
 
+	/**
+	 * The file in the state location storing the content assist history.
+	 * @since 3.33
+	 */
+	private static final String CONTENT_ASSIST_HISTORY_FILE= "ContentAssistHistory.bin"; //$NON-NLS-1$
+
 	/**
 	 * The save participant registry.
 	 * @since 3.3
@@ -448,7 +463,8 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	}
 
 	/* package */ static void initializeAfterLoad(IProgressMonitor monitor) {
-		OpenTypeHistory.getInstance().checkConsistency(monitor);
+		// checked by the history's own job, which the Open Type dialog does not wait for
+		OpenTypeHistory.getInstance().markAsInconsistent();
 	}
 
 	/*
@@ -493,7 +509,7 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 			}
 
 			if (fContentAssistHistory != null) {
-				ContentAssistHistory.store(fContentAssistHistory, getPluginPreferences(), PreferenceConstants.CODEASSIST_LRU_HISTORY);
+				storeContentAssistHistory(fContentAssistHistory);
 				fContentAssistHistory= null;
 			}
 
@@ -539,6 +555,8 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 			// must add here to guarantee that it is the first in the listener list
 
 			OpenTypeHistory.shutdown();
+			TypeNameIndex.shutdown();
+			JavaCodeMiningCountCache.shutdown();
 		} finally {
 			super.stop(context);
 		}
@@ -1032,10 +1050,21 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 				if (fContentAssistHistory != null) {
 					return fContentAssistHistory;
 				}
-				try {
-					fContentAssistHistory= ContentAssistHistory.load(getPluginPreferences(), PreferenceConstants.CODEASSIST_LRU_HISTORY);
-				} catch (CoreException x) {
-					log(x);
+				File file= getStateLocation().append(CONTENT_ASSIST_HISTORY_FILE).toFile();
+				if (file.exists()) {
+					try (InputStream stream= new BufferedInputStream(new FileInputStream(file))) {
+						fContentAssistHistory= ContentAssistHistory.load(stream);
+					} catch (CoreException | IOException x) {
+						log(x);
+					}
+				}
+				if (fContentAssistHistory == null) {
+					// stored in the preferences by older versions
+					try {
+						fContentAssistHistory= ContentAssistHistory.load(getPluginPreferences(), PreferenceConstants.CODEASSIST_LRU_HISTORY);
+					} catch (CoreException x) {
+						log(x);
+					}
 				}
 				if (fContentAssistHistory == null) {
 					fContentAssistHistory= new ContentAssistHistory();
@@ -1046,6 +1075,17 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 		return fContentAssistHistory;
 	}
 
+	private void storeContentAssistHistory(ContentAssistHistory history) throws CoreException {
+		File file= getStateLocation().append(CONTENT_ASSIST_HISTORY_FILE).toFile();
+		try (OutputStream stream= new BufferedOutputStream(new FileOutputStream(file))) {
+			ContentAssistHistory.store(history, stream);
+		} catch (IOException x) {
+			log(x);
+			return;
+		}
+		getPluginPreferences().setToDefault(PreferenceConstants.CODEASSIST_LRU_HISTORY);
+	}
+
 	/**
 	 * Returns a section in the Java plugin's dialog settings. If the section doesn't exist yet, it is created.
 	 *
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.callhierarchy;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.internal.corext.callhierarchy.CallerMethodWrapper;
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+import org.eclipse.jdt.internal.ui.IJavaHelpContextIds;
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.util.ExceptionHandler;
+
+/**
+ * The action to expand the callers of the selected members by several levels at once. The
+ * callers of each level are searched concurrently before the tree is expanded.
+ *
+ * @since 3.33
+ */
+class ExpandLevelsAction extends Action {
+
+	/**
+	 * The number of levels to expand.
+	 */
+	private static final int LEVELS= 3;
+
+	/**
+	 * The call hierarchy view part.
+	 */
+	private final CallHierarchyViewPart fPart;
+
+	/**
+	 * The call hierarchy viewer.
+	 */
+	private final CallHierarchyViewer fCallHierarchyViewer;
+
+	/**
+	 * Creates the action to expand the callers of the selected members.
+	 *
+	 * @param callHierarchyViewPart the call hierarchy view part
+	 * @param callHierarchyViewer the call hierarchy viewer
+	 */
+	public ExpandLevelsAction(CallHierarchyViewPart callHierarchyViewPart, CallHierarchyViewer callHierarchyViewer) {
+		super(Messages.format(CallHierarchyMessages.ExpandLevelsAction_text, String.valueOf(LEVELS)));
+		fPart= callHierarchyViewPart;
+		fCallHierarchyViewer= callHierarchyViewer;
+		setDescription(Messages.format(CallHierarchyMessages.ExpandLevelsAction_description, String.valueOf(LEVELS)));
+		setToolTipText(Messages.format(CallHierarchyMessages.ExpandLevelsAction_tooltip, String.valueOf(LEVELS)));
+		PlatformUI.getWorkbench().getHelpSystem().setHelp(this, IJavaHelpContextIds.CALL_HIERARCHY_EXPAND_LEVELS_ACTION);
+	}
+
+	/*
+	 * @see Action#run
+	 */
+	@Override
+	public void run() {
+		IStructuredSelection selection= (IStructuredSelection)getSelection();
+		CallerMethodWrapper[] wrappers= new CallerMethodWrapper[selection.size()];
+		int i= 0;
+		for (Object element : selection) {
+			wrappers[i++]= (CallerMethodWrapper)element;
+		}
+		int maxLevel= CallHierarchyUI.getDefault().getMaxCallDepth();
+		try {
+			JavaPlugin.getActiveWorkbenchWindow().run(true, true, monitor -> CallerMethodWrapper.expandLevels(wrappers, LEVELS, maxLevel, monitor));
+		} catch (InvocationTargetException e) {
+			ExceptionHandler.handle(e, CallHierarchyMessages.CallHierarchyContentProvider_searchError_title, CallHierarchyMessages.CallHierarchyContentProvider_searchError_message);
+			return;
+		} catch (InterruptedException e) {
+			// canceled: expand what has been found
+		}
+		for (CallerMethodWrapper wrapper : wrappers) {
+			fCallHierarchyViewer.expandToLevel(wrapper, LEVELS);
+		}
+	}
+
+	/**
+	 * Gets the selection from the call hierarchy view part.
+	 *
+	 * @return the current selection
+	 */
+	private ISelection getSelection() {
+		return fPart.getSelection();
+	}
+
+	/**
+	 * Checks whether this action can be added for the selected element in the call hierarchy.
+	 *
+	 * @return <code> true</code> if the action can be added, <code>false</code> otherwise
+	 */
+	public boolean canActionBeAdded() {
+		if (fPart.getCallMode() == CallHierarchyViewPart.CALL_MODE_CALLEES)
+			return false;
+		ISelection selection= getSelection();
+		if (selection.isEmpty() || !(selection instanceof IStructuredSelection))
+			return false;
+
+		for (Object element : (IStructuredSelection)selection) {
+			if (!(element instanceof CallerMethodWrapper))
+				return false;
+		}
+		return true;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -96,6 +96,7 @@ import org.eclipse.jdt.internal.corext.util.Strings;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoRequestorAdapter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstallType;
@@ -486,6 +487,9 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 		typeSearchFilter.setMatchEverythingMode(true);
 
 		try {
+			// the index matches with the type info filter, so camel case patterns with a terminator are handled as well
+			if (TypeNameIndex.getDefault().search(typeSearchFilter.fTypeInfoFilter, requestor, progressMonitor))
+				return;
 			engine.searchAllTypeNames(packPattern == null ? null : packPattern.toCharArray(),
 					typeSearchFilter.getPackageFlags(),
 					typePattern.toCharArray(),
@@ -551,23 +555,13 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 				IJobManager manager= Job.getJobManager();
 				manager.join(JavaUI.ID_PLUGIN, monitor);
 			}
-			OpenTypeHistory history= OpenTypeHistory.getInstance();
-			if (fgFirstTime || history.isEmpty()) {
-				if (history.needConsistencyCheck()) {
-					SubMonitor subMonitor= SubMonitor.convert(monitor,JavaUIMessages.TypeSelectionDialog_progress_consistency, 10 );
-					refreshSearchIndices(subMonitor.split(9));
-					history.checkConsistency(subMonitor.split(1));
-				} else {
-					refreshSearchIndices(monitor);
-				}
-				fgFirstTime= false;
-			} else {
-				history.checkConsistency(monitor);
-			}
+			// the history checks its entries in a background job
+			refreshSearchIndices(monitor);
+			fgFirstTime= false;
 		}
 		public static boolean needsExecution() {
 			OpenTypeHistory history= OpenTypeHistory.getInstance();
-			return fgFirstTime || history.isEmpty() || history.needConsistencyCheck();
+			return fgFirstTime || history.isEmpty();
 		}
 		private void refreshSearchIndices(IProgressMonitor monitor) throws InvocationTargetException {
 			try {
@@ -593,7 +587,6 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 	 */
 	@Override
 	public void reloadCache(boolean checkDuplicates, IProgressMonitor monitor) {
-		IProgressMonitor remainingMonitor;
 		SubMonitor subMonitor= SubMonitor.convert(monitor, JavaUIMessages.TypeSelectionDialog_progress_consistency, 10);
 		if (ConsistencyRunnable.needsExecution()) {
 
@@ -609,11 +602,14 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 				close();
 				return;
 			}
-			remainingMonitor= subMonitor.split(8);
-		} else {
-			remainingMonitor= subMonitor;
 		}
-		super.reloadCache(checkDuplicates, remainingMonitor);
+		try {
+			TypeNameIndex.getDefault().build(subMonitor.split(1));
+		} catch (JavaModelException e) {
+			// the types are searched without the index
+			JavaPlugin.log(e);
+		}
+		super.reloadCache(checkDuplicates, subMonitor.split(8));
 	}
 
 	/*
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,13 +17,17 @@ package org.eclipse.jdt.internal.ui.javaeditor;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.BusyIndicator;
+import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
@@ -54,6 +58,7 @@ import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.jface.viewers.IBaseLabelProvider;
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
 import org.eclipse.jface.viewers.IPostSelectionProvider;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
@@ -64,6 +69,8 @@ import org.eclipse.jface.viewers.LabelProviderChangedEvent;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.jface.viewers.ViewerFilter;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
@@ -79,6 +86,7 @@ import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.actions.ActionContext;
 import org.eclipse.ui.actions.ActionGroup;
 import org.eclipse.ui.handlers.CollapseAllHandler;
+import org.eclipse.ui.handlers.IHandlerActivation;
 import org.eclipse.ui.handlers.IHandlerService;
 import org.eclipse.ui.model.IWorkbenchAdapter;
 import org.eclipse.ui.model.WorkbenchAdapter;
@@ -378,6 +386,94 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 				}
 			}
 
+			/**
+			 * Content provider for a virtual tree. The children of an element are filtered and
+			 * sorted by the provider, and an item is only created and labeled once it becomes
+			 * visible.
+			 *
+			 * @see ILazyTreeContentProvider
+			 * @since 3.33
+			 */
+			protected class LazyChildrenProvider extends ChildrenProvider implements ILazyTreeContentProvider {
+
+				private TreeViewer fViewer;
+
+				/**
+				 * The filtered and sorted children, by parent element
+				 */
+				private final Map<Object, Object[]> fSortedChildren= new HashMap<>();
+
+				@Override
+				public void updateElement(Object parent, int index) {
+					Object[] children= getSortedChildren(parent);
+					if (index < children.length) {
+						Object child= children[index];
+						fViewer.replace(parent, index, child);
+						updateChildCount(child, -1);
+					}
+				}
+
+				@Override
+				public void updateChildCount(Object element, int currentChildCount) {
+					int count= getSortedChildren(element).length;
+					if (count != currentChildCount)
+						fViewer.setChildCount(element, count);
+				}
+
+				/**
+				 * Returns the children of an element as they are shown, that is filtered with the
+				 * filters of the viewer and sorted with its comparator.
+				 *
+				 * @param parent the parent element
+				 * @return the children, must not be modified
+				 */
+				public Object[] getSortedChildren(Object parent) {
+					Object[] children= fSortedChildren.get(parent);
+					if (children == null) {
+						children= parent == fViewer.getInput() ? getElements(parent) : getChildren(parent);
+						for (ViewerFilter filter : fViewer.getFilters()) {
+							children= filter.filter(fViewer, parent, children);
+						}
+						ViewerComparator comparator= fViewer.getComparator();
+						if (comparator != null) {
+							children= children.clone();
+							comparator.sort(fViewer, children);
+						}
+						fSortedChildren.put(parent, children);
+					}
+					return children;
+				}
+
+				/**
+				 * Forgets the children of an element and its descendants.
+				 *
+				 * @param element the element, or the input or <code>null</code> to forget all
+				 *            children
+				 */
+				public void invalidate(Object element) {
+					if (element == null || element == fViewer.getInput()) {
+						fSortedChildren.clear();
+						return;
+					}
+					fSortedChildren.keySet().removeIf(parent -> isAncestorOrSelf(element, parent));
+				}
+
+				private boolean isAncestorOrSelf(Object ancestor, Object element) {
+					for (Object current= element; current != null; current= getParent(current)) {
+						if (current.equals(ancestor))
+							return true;
+					}
+					return false;
+				}
+
+				@Override
+				public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+					super.inputChanged(viewer, oldInput, newInput);
+					fViewer= (TreeViewer) viewer;
+					fSortedChildren.clear();
+				}
+			}
+
 			/**
 			 * The tree viewer used for displaying the outline.
 			 *
@@ -387,7 +483,8 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 
 				public JavaOutlineViewer(Tree tree) {
 					super(tree);
-					setAutoExpandLevel(ALL_LEVELS);
+					// expanding all levels would create the items of all members of a virtual tree
+					setAutoExpandLevel((tree.getStyle() & SWT.VIRTUAL) != 0 ? 2 : ALL_LEVELS);
 					setUseHashlookup(true);
 				}
 
@@ -398,7 +495,59 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 				 * @param delta the Java element delta used to reconcile the Java outline
 				 */
 				public void reconcile(IJavaElementDelta delta) {
-					refresh(true);
+					if (!(getContentProvider() instanceof LazyChildrenProvider) || (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+						refresh(true);
+						return;
+					}
+					Set<Object> structureChanged= new LinkedHashSet<>();
+					Set<Object> labelChanged= new LinkedHashSet<>();
+					collectChanges(delta, structureChanged, labelChanged);
+					for (Object parent : structureChanged) {
+						refresh(parent, false);
+					}
+					if (!labelChanged.isEmpty())
+						update(labelChanged.toArray(), null);
+				}
+
+				/**
+				 * Collects the elements whose children or labels have to be updated for a fine
+				 * grained delta.
+				 *
+				 * @param delta the delta
+				 * @param structureChanged receives the elements whose children changed
+				 * @param labelChanged receives the elements whose labels changed
+				 * @since 3.33
+				 */
+				private void collectChanges(IJavaElementDelta delta, Set<Object> structureChanged, Set<Object> labelChanged) {
+					for (IJavaElementDelta child : delta.getAffectedChildren()) {
+						if (child.getKind() != IJavaElementDelta.CHANGED) {
+							structureChanged.add(getTreeElement(delta.getElement()));
+							continue;
+						}
+						int flags= child.getFlags();
+						// modifiers, categories and annotations are used by the filters and the member order
+						if ((flags & (IJavaElementDelta.F_REORDER | IJavaElementDelta.F_MODIFIERS | IJavaElementDelta.F_CATEGORIES | IJavaElementDelta.F_ANNOTATIONS)) != 0)
+							structureChanged.add(getTreeElement(delta.getElement()));
+						if ((flags & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_AST_AFFECTED | IJavaElementDelta.F_REORDER)) != 0)
+							labelChanged.add(child.getElement());
+						collectChanges(child, structureChanged, labelChanged);
+					}
+				}
+
+				private Object getTreeElement(IJavaElement element) {
+					if (fTopLevelTypeOnly && element.getElementType() == IJavaElement.TYPE && element.getParent() instanceof ITypeRoot)
+						return getInput();
+					return element;
+				}
+
+				/*
+				 * @see org.eclipse.jface.viewers.AbstractTreeViewer#internalRefresh(java.lang.Object, boolean)
+				 */
+				@Override
+				protected void internalRefresh(Object element, boolean updateLabels) {
+					if (getContentProvider() instanceof LazyChildrenProvider)
+						((LazyChildrenProvider) getContentProvider()).invalidate(element);
+					super.internalRefresh(element, updateLabels);
 				}
 
 				/*
@@ -424,6 +573,9 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 				 */
 				@Override
 				public boolean isExpandable(Object element) {
+					if (getContentProvider() instanceof LazyChildrenProvider) {
+						return ((LazyChildrenProvider) getContentProvider()).getSortedChildren(element).length > 0;
+					}
 					if (hasFilters()) {
 						return getFilteredChildren(element).length > 0;
 					}
@@ -749,12 +901,26 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 
 
 
+	/**
+	 * The number of members from which the outline uses a virtual tree, which only creates the
+	 * items of visible members and updates them from the Java element deltas.
+	 *
+	 * @since 3.33
+	 */
+	private static final int VIRTUAL_TREE_THRESHOLD= 2000;
+
 	/** A flag to show contents of top level type only */
 	private boolean fTopLevelTypeOnly;
 
 	private IJavaElement fInput;
 	private String fContextMenuID;
 	private Menu fMenu;
+	/**
+	 * The control of this page, which holds the tree of the outline viewer.
+	 *
+	 * @since 3.33
+	 */
+	private Composite fControl;
 	private JavaOutlineViewer fOutlineViewer;
 	private JavaEditor fEditor;
 
@@ -804,6 +970,13 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 	 */
 	private OpenAndLinkWithEditorHelper fOpenAndLinkWithEditorHelper;
 
+	/**
+	 * The handlers activated for the actions of the current outline viewer.
+	 *
+	 * @since 3.33
+	 */
+	private final List<IHandlerActivation> fHandlerActivations= new ArrayList<>();
+
 
 	public JavaOutlinePage(String contextMenuID, JavaEditor editor) {
 		super();
@@ -841,10 +1014,10 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 	 */
 	@Override
 	public void addSelectionChangedListener(ISelectionChangedListener listener) {
+		// remembered for a viewer that is recreated, see #setInput(IJavaElement)
+		fSelectionChangedListeners.add(listener);
 		if (fOutlineViewer != null)
 			fOutlineViewer.addSelectionChangedListener(listener);
-		else
-			fSelectionChangedListeners.add(listener);
 	}
 
 	/*
@@ -852,10 +1025,9 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 	 */
 	@Override
 	public void removeSelectionChangedListener(ISelectionChangedListener listener) {
+		fSelectionChangedListeners.remove(listener);
 		if (fOutlineViewer != null)
 			fOutlineViewer.removeSelectionChangedListener(listener);
-		else
-			fSelectionChangedListeners.remove(listener);
 	}
 
 	/*
@@ -882,10 +1054,9 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 	 */
 	@Override
 	public void addPostSelectionChangedListener(ISelectionChangedListener listener) {
+		fPostSelectionChangedListeners.add(listener);
 		if (fOutlineViewer != null)
 			fOutlineViewer.addPostSelectionChangedListener(listener);
-		else
-			fPostSelectionChangedListeners.add(listener);
 	}
 
 	/*
@@ -893,10 +1064,9 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 	 */
 	@Override
 	public void removePostSelectionChangedListener(ISelectionChangedListener listener) {
+		fPostSelectionChangedListeners.remove(listener);
 		if (fOutlineViewer != null)
 			fOutlineViewer.removePostSelectionChangedListener(listener);
-		else
-			fPostSelectionChangedListeners.remove(listener);
 	}
 
 	private void registerToolbarActions(IActionBars actionBars) {
@@ -935,37 +1105,17 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 
 	private void createControlCached(Composite parent) {
 
-		Tree tree= new Tree(parent, SWT.MULTI);
-
-		AppearanceAwareLabelProvider lprovider= new AppearanceAwareLabelProvider(
-			AppearanceAwareLabelProvider.DEFAULT_TEXTFLAGS |  JavaElementLabels.F_APP_TYPE_SIGNATURE | JavaElementLabels.ALL_CATEGORY2,
-			AppearanceAwareLabelProvider.DEFAULT_IMAGEFLAGS
-		);
-
-		fOutlineViewer= new JavaOutlineViewer(tree);
-		WorkbenchViewerSetup.setupViewer(fOutlineViewer);
-		initDragAndDrop();
-		fOutlineViewer.setContentProvider(new ChildrenProvider());
-		fOutlineViewer.setLabelProvider(new DecoratingJavaLabelProvider(lprovider));
-
-		for (ISelectionChangedListener listener : fSelectionChangedListeners) {
-			fSelectionChangedListeners.remove(listener);
-			fOutlineViewer.addSelectionChangedListener(listener);
-		}
-
-		for (ISelectionChangedListener listener : fPostSelectionChangedListeners) {
-			fPostSelectionChangedListeners.remove(listener);
-			fOutlineViewer.addPostSelectionChangedListener(listener);
-		}
+		fControl= new Composite(parent, SWT.NONE);
+		fControl.setLayout(new FillLayout());
 
 		MenuManager manager= new MenuManager(fContextMenuID, fContextMenuID);
 		manager.setRemoveAllWhenShown(true);
 		manager.addMenuListener(this::contextMenuAboutToShow);
-		fMenu= manager.createContextMenu(tree);
-		tree.setMenu(fMenu);
+		fMenu= manager.createContextMenu(fControl);
 
+		// the page forwards the selection of the viewer, which is recreated for some inputs
 		IPageSite site= getSite();
-		site.registerContextMenu(JavaPlugin.getPluginId() + ".outline", manager, fOutlineViewer); //$NON-NLS-1$
+		site.registerContextMenu(JavaPlugin.getPluginId() + ".outline", manager, this); //$NON-NLS-1$
 
 		updateSelectionProvider(site);
 
@@ -1001,8 +1151,43 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 		IStatusLineManager statusLineManager= actionBars.getStatusLineManager();
 		if (statusLineManager != null) {
 			StatusBarUpdater updater= new StatusBarUpdater(statusLineManager);
-			fOutlineViewer.addPostSelectionChangedListener(updater);
+			addPostSelectionChangedListener(updater);
+		}
+
+		createViewer(hasManyMembers(fInput));
+	}
+
+	/**
+	 * Creates the outline viewer and the actions that work on it, and sets the input.
+	 *
+	 * @param virtual <code>true</code> to create a virtual tree, see
+	 *            {@link #VIRTUAL_TREE_THRESHOLD}
+	 * @since 3.33
+	 */
+	private void createViewer(boolean virtual) {
+		Tree tree= new Tree(fControl, virtual ? SWT.MULTI | SWT.VIRTUAL : SWT.MULTI);
+
+		AppearanceAwareLabelProvider lprovider= new AppearanceAwareLabelProvider(
+			AppearanceAwareLabelProvider.DEFAULT_TEXTFLAGS |  JavaElementLabels.F_APP_TYPE_SIGNATURE | JavaElementLabels.ALL_CATEGORY2,
+			AppearanceAwareLabelProvider.DEFAULT_IMAGEFLAGS
+		);
+
+		fOutlineViewer= new JavaOutlineViewer(tree);
+		WorkbenchViewerSetup.setupViewer(fOutlineViewer);
+		initDragAndDrop();
+		fOutlineViewer.setContentProvider(virtual ? new LazyChildrenProvider() : new ChildrenProvider());
+		fOutlineViewer.setLabelProvider(new DecoratingJavaLabelProvider(lprovider));
+
+		for (ISelectionChangedListener listener : fSelectionChangedListeners) {
+			fOutlineViewer.addSelectionChangedListener(listener);
+		}
+
+		for (ISelectionChangedListener listener : fPostSelectionChangedListeners) {
+			fOutlineViewer.addPostSelectionChangedListener(listener);
 		}
+
+		tree.setMenu(fMenu);
+
 		// Custom filter group
 		fCustomFiltersActionGroup= new CustomFiltersActionGroup("org.eclipse.jdt.ui.JavaOutlinePage", fOutlineViewer); //$NON-NLS-1$
 
@@ -1029,21 +1214,105 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 
 		};
 
-		registerToolbarActions(actionBars);
+		IPageSite site= getSite();
+		registerToolbarActions(site.getActionBars());
 
 		IHandlerService handlerService= site.getService(IHandlerService.class);
-		handlerService.activateHandler(IWorkbenchCommandConstants.NAVIGATE_TOGGLE_LINK_WITH_EDITOR, new ActionHandler(fToggleLinkingAction));
-		handlerService.activateHandler(CollapseAllHandler.COMMAND_ID, new ActionHandler(fCollapseAllAction));
-
+		fHandlerActivations.add(handlerService.activateHandler(IWorkbenchCommandConstants.NAVIGATE_TOGGLE_LINK_WITH_EDITOR, new ActionHandler(fToggleLinkingAction)));
+		fHandlerActivations.add(handlerService.activateHandler(CollapseAllHandler.COMMAND_ID, new ActionHandler(fCollapseAllAction)));
 
 		fOutlineViewer.setInput(fInput);
 	}
 
+	/**
+	 * Disposes the outline viewer and the actions that work on it.
+	 *
+	 * @since 3.33
+	 */
+	private void disposeViewer() {
+		IPageSite site= getSite();
+		site.getService(IHandlerService.class).deactivateHandlers(fHandlerActivations);
+		fHandlerActivations.clear();
+
+		fMemberFilterActionGroup.dispose();
+		fMemberFilterActionGroup= null;
+		fCategoryFilterActionGroup.dispose();
+		fCategoryFilterActionGroup= null;
+		fCustomFiltersActionGroup.dispose();
+		fCustomFiltersActionGroup= null;
+		fOpenAndLinkWithEditorHelper.dispose();
+
+		// only the actions of the viewer are contributed to the tool bar and the view menu
+		IActionBars actionBars= site.getActionBars();
+		actionBars.getToolBarManager().removeAll();
+		actionBars.getMenuManager().removeAll();
+
+		fOutlineViewer.getControl().dispose();
+		fOutlineViewer= null;
+	}
+
+	/**
+	 * Recreates the outline viewer if the input requires a virtual tree and the viewer does not
+	 * use one, or vice versa.
+	 *
+	 * @return <code>true</code> if the viewer has been recreated with the current input
+	 * @since 3.33
+	 */
+	private boolean updateViewerMode() {
+		boolean virtual= hasManyMembers(fInput);
+		if (virtual == ((fOutlineViewer.getTree().getStyle() & SWT.VIRTUAL) != 0))
+			return false;
+
+		boolean hadFocus= fOutlineViewer.getTree().isFocusControl();
+		fControl.setRedraw(false);
+		try {
+			disposeViewer();
+			JavaCore.runReadOnly(() -> createViewer(virtual));
+			fControl.layout();
+			getSite().getActionBars().updateActionBars();
+		} finally {
+			fControl.setRedraw(true);
+		}
+		if (hadFocus)
+			fOutlineViewer.getControl().setFocus();
+		return true;
+	}
+
+	/**
+	 * Tells whether the outline of an element uses a virtual tree, see
+	 * {@link #VIRTUAL_TREE_THRESHOLD}.
+	 *
+	 * @param input the input element, may be <code>null</code>
+	 * @return <code>true</code> if the element has many members
+	 * @since 3.33
+	 */
+	private static boolean hasManyMembers(IJavaElement input) {
+		if (!(input instanceof IParent))
+			return false;
+		try {
+			return countMembers((IParent) input, VIRTUAL_TREE_THRESHOLD) >= VIRTUAL_TREE_THRESHOLD;
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
+	private static int countMembers(IParent parent, int limit) throws JavaModelException {
+		int count= 0;
+		for (IJavaElement child : parent.getChildren()) {
+			count++;
+			if (child instanceof IType)
+				count+= countMembers((IType) child, limit - count);
+			if (count >= limit)
+				break;
+		}
+		return count;
+	}
+
 	/*
 	 * @since 3.2
 	 */
 	private void updateSelectionProvider(IPageSite site) {
-		ISelectionProvider provider= fOutlineViewer;
+		ISelectionProvider provider= this;
 		if (fInput != null) {
 			ICompilationUnit cu= (ICompilationUnit)fInput.getAncestor(IJavaElement.COMPILATION_UNIT);
 			if (cu != null && !JavaModelUtil.isPrimary(cu))
@@ -1077,9 +1346,9 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 		fEditor.outlinePageClosed();
 		fEditor= null;
 
+		getSite().getSelectionProvider().removeSelectionChangedListener(fFormatElement);
 		fSelectionChangedListeners.clear();
 		fSelectionChangedListeners= null;
-		getSite().getSelectionProvider().removeSelectionChangedListener(fFormatElement);
 
 		fPostSelectionChangedListeners.clear();
 		fPostSelectionChangedListeners= null;
@@ -1106,15 +1375,14 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 
 	@Override
 	public Control getControl() {
-		if (fOutlineViewer != null)
-			return fOutlineViewer.getControl();
-		return null;
+		return fControl;
 	}
 
 	public void setInput(IJavaElement inputElement) {
 		fInput= inputElement;
 		if (fOutlineViewer != null) {
-			fOutlineViewer.setInput(fInput);
+			if (!updateViewerMode())
+				fOutlineViewer.setInput(fInput);
 			updateSelectionProvider(getSite());
 		}
 		if (fCategoryFilterActionGroup != null)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,18 +15,28 @@
 package org.eclipse.jdt.internal.ui.javaeditor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
+import org.eclipse.swt.custom.StyledText;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextInputListener;
+import org.eclipse.jface.text.IViewportListener;
+import org.eclipse.jface.text.JFaceTextUtil;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.TextPresentation;
 import org.eclipse.jface.text.source.ISourceViewer;
@@ -37,11 +47,14 @@ import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.GuardedPattern;
 import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
 import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
@@ -67,6 +80,207 @@ import org.eclipse.jdt.internal.ui.util.ASTHelper;
  */
 public class SemanticHighlightingReconciler implements IJavaReconcilingListener, ITextInputListener {
 
+	/**
+	 * Files shorter than this number of characters are always reconciled as a whole.
+	 * @since 3.33
+	 */
+	private static final int PARTIAL_RECONCILE_THRESHOLD= 32 * 1024;
+
+	/**
+	 * Number of characters reconciled at a time when the rest of a large file is reconciled in the
+	 * background.
+	 * @since 3.33
+	 */
+	private static final int FILL_CHUNK_SIZE= 16 * 1024;
+
+	/**
+	 * Tracks the visible region of the source viewer and the region which has been changed since
+	 * the last reconcile. The visible region is read from the widget in the UI thread, the damaged
+	 * region is recorded in the thread changing the document. Both are read by the reconciler under
+	 * the tracker's lock.
+	 *
+	 * @since 3.33
+	 */
+	private static class RegionTracker implements IDocumentListener, ITextInputListener, IViewportListener {
+
+		private ISourceViewer fViewer;
+
+		private Display fDisplay;
+
+		/**
+		 * <code>true</code> if an update of the visible region has been posted to the UI thread
+		 */
+		private boolean fIsUpdatePending;
+
+		private IDocument fDocument;
+
+		private int fVisibleStart= -1;
+
+		private int fVisibleEnd= -1;
+
+		private int fDamageStart= -1;
+
+		private int fDamageEnd= -1;
+
+		private int fModificationCount;
+
+		void install(ISourceViewer viewer) {
+			fViewer= viewer;
+			StyledText widget= fViewer.getTextWidget();
+			fDisplay= widget != null ? widget.getDisplay() : null;
+			fViewer.addTextInputListener(this);
+			fViewer.addViewportListener(this);
+			setDocument(fViewer.getDocument());
+		}
+
+		void uninstall(ISourceViewer viewer) {
+			setDocument(null);
+			if (viewer != null) {
+				viewer.removeTextInputListener(this);
+				viewer.removeViewportListener(this);
+			}
+			fViewer= null;
+			fDisplay= null;
+		}
+
+		private void setDocument(IDocument document) {
+			if (fDocument != null)
+				fDocument.removeDocumentListener(this);
+			fDocument= document;
+			if (fDocument != null)
+				fDocument.addDocumentListener(this);
+			synchronized (this) {
+				fDamageStart= -1;
+				fDamageEnd= -1;
+				fModificationCount++;
+			}
+			updateVisibleRegion();
+		}
+
+		private void updateVisibleRegion() {
+			int start= -1;
+			int end= -1;
+			StyledText widget= fViewer != null ? fViewer.getTextWidget() : null;
+			if (fDocument != null && widget != null && !widget.isDisposed()) {
+				int top= JFaceTextUtil.widgetLine2ModelLine(fViewer, JFaceTextUtil.getPartialTopIndex(widget));
+				int bottom= JFaceTextUtil.widgetLine2ModelLine(fViewer, JFaceTextUtil.getPartialBottomIndex(widget));
+				if (top != -1 && bottom != -1) {
+					try {
+						start= fDocument.getLineOffset(top);
+						IRegion line= fDocument.getLineInformation(Math.max(top, bottom));
+						end= line.getOffset() + line.getLength();
+					} catch (BadLocationException e) {
+						start= -1;
+						end= -1;
+					}
+				}
+			}
+			synchronized (this) {
+				fVisibleStart= start;
+				fVisibleEnd= end;
+			}
+		}
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			// Do nothing
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			int offset= event.getOffset();
+			int length= event.getLength();
+			int textLength= event.getText() != null ? event.getText().length() : 0;
+			synchronized (this) {
+				if (fDamageStart == -1) {
+					fDamageStart= offset;
+					fDamageEnd= offset + textLength;
+				} else {
+					if (fDamageStart >= offset + length) {
+						fDamageStart+= textLength - length;
+						fDamageEnd+= textLength - length;
+					} else if (fDamageEnd > offset) {
+						fDamageEnd= Math.max(fDamageEnd + textLength - length, offset + textLength);
+					}
+					fDamageStart= Math.min(fDamageStart, offset);
+					fDamageEnd= Math.max(fDamageEnd, offset + textLength);
+				}
+				fModificationCount++;
+			}
+			postVisibleRegionUpdate();
+		}
+
+		/**
+		 * Updates the visible region in the UI thread, since the document may be changed in any
+		 * thread.
+		 */
+		private void postVisibleRegionUpdate() {
+			Display display= fDisplay;
+			if (display == null || display.isDisposed())
+				return;
+			synchronized (this) {
+				if (fIsUpdatePending)
+					return;
+				fIsUpdatePending= true;
+			}
+			display.asyncExec(() -> {
+				synchronized (this) {
+					fIsUpdatePending= false;
+				}
+				updateVisibleRegion();
+			});
+		}
+
+		@Override
+		public void viewportChanged(int verticalOffset) {
+			updateVisibleRegion();
+		}
+
+		@Override
+		public void inputDocumentAboutToBeChanged(IDocument oldInput, IDocument newInput) {
+			setDocument(null);
+		}
+
+		@Override
+		public void inputDocumentChanged(IDocument oldInput, IDocument newInput) {
+			setDocument(newInput);
+		}
+
+		/**
+		 * @return the known visible and damaged regions as pairs of start and end offsets
+		 */
+		synchronized int[] getRegions() {
+			int[] regions= new int[4];
+			int n= 0;
+			if (fVisibleStart != -1) {
+				regions[n++]= fVisibleStart;
+				regions[n++]= fVisibleEnd;
+			}
+			if (fDamageStart != -1) {
+				regions[n++]= fDamageStart;
+				regions[n++]= fDamageEnd;
+			}
+			return Arrays.copyOf(regions, n);
+		}
+
+		synchronized int getModificationCount() {
+			return fModificationCount;
+		}
+
+		/**
+		 * Forgets the damaged region unless the document has been changed since the regions have been
+		 * read.
+		 *
+		 * @param modificationCount the modification count when the regions have been read
+		 */
+		synchronized void clearDamage(int modificationCount) {
+			if (modificationCount == fModificationCount) {
+				fDamageStart= -1;
+				fDamageEnd= -1;
+			}
+		}
+	}
+
 	/**
 	 * Collects positions from the AST.
 	 */
@@ -75,6 +289,93 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		/** The semantic token */
 		private SemanticToken fToken= new SemanticToken();
 
+		/**
+		 * The regions to visit as pairs of start and end offsets, or <code>null</code> to visit the
+		 * whole AST.
+		 * @since 3.33
+		 */
+		private int[] fRegions;
+
+		/**
+		 * <code>true</code> if the AST is visited in several passes, one per chunk, against the
+		 * same positions. Each child of a type or compilation unit is then visited in the pass of
+		 * the chunk it starts in, and the other children are not retained.
+		 * <code>false</code> if the members intersecting the regions are visited in a single pass
+		 * and the positions of the other members are retained.
+		 * @since 3.33
+		 */
+		private boolean fVisitByStart;
+
+		/**
+		 * Restricts the following visits to the given regions. Types are entered iff they intersect
+		 * one of the regions.
+		 *
+		 * @param regions the regions as pairs of start and end offsets, or <code>null</code> to visit
+		 *            the whole AST
+		 * @param visitByStart <code>true</code> to visit the children of types starting in the
+		 *            regions, <code>false</code> to visit the members intersecting the regions and
+		 *            retain the positions of the other members
+		 * @since 3.33
+		 */
+		void setRegions(int[] regions, boolean visitByStart) {
+			fRegions= regions;
+			fVisitByStart= visitByStart;
+		}
+
+		@Override
+		public boolean preVisit2(ASTNode node) {
+			if (fRegions == null)
+				return true;
+			int start= node.getStartPosition();
+			int end= start + node.getLength();
+			if (fVisitByStart) {
+				if (!isTypeChild(node))
+					return true;
+				return node instanceof AbstractTypeDeclaration ? intersectsRegions(start, end) : startsInRegions(start);
+			}
+			if (!isMember(node) || intersectsRegions(start, end))
+				return true;
+			retainPositions(start, node.getLength());
+			return false;
+		}
+
+		/**
+		 * @param type a type declaration
+		 * @return <code>true</code> if the positions of the type itself are collected by this
+		 *         visit, <code>false</code> if they are collected in the pass of another chunk
+		 * @since 3.33
+		 */
+		private boolean isOwnedType(ASTNode type) {
+			return fRegions == null || !fVisitByStart || startsInRegions(type.getStartPosition());
+		}
+
+		private boolean startsInRegions(int start) {
+			for (int i= 0; i < fRegions.length; i+= 2) {
+				if (fRegions[i] <= start && start < fRegions[i + 1])
+					return true;
+			}
+			return false;
+		}
+
+		private boolean intersectsRegions(int start, int end) {
+			for (int i= 0; i < fRegions.length; i+= 2) {
+				if (start <= fRegions[i + 1] && end >= fRegions[i])
+					return true;
+			}
+			return false;
+		}
+
+		private boolean isMember(ASTNode node) {
+			if (node instanceof BodyDeclaration)
+				return isTypeChild(node);
+			return node instanceof ImportDeclaration;
+		}
+
+		private boolean isTypeChild(ASTNode node) {
+			ASTNode parent= node.getParent();
+			return parent instanceof AbstractTypeDeclaration || parent instanceof CompilationUnit;
+		}
+
 
 		@Override
 		protected boolean visitLiteral(Expression node) {
@@ -171,7 +472,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		@Override
 		public boolean visit(RecordDeclaration node) {
 			AST ast= node.getAST();
-			if (ASTHelper.isRecordDeclarationNodeSupportedInAST(ast)) {
+			if (ASTHelper.isRecordDeclarationNodeSupportedInAST(ast) && isOwnedType(node)) {
 				int offset= node.getRestrictedIdentifierStartPosition();
 				int length= 6; // length of 'record'
 				if (offset > -1 && length > 0) {
@@ -190,7 +491,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		@Override
 		public boolean visit(TypeDeclaration node) {
 			try {
-				if (node.permittedTypes().size() > 0) {
+				if (node.permittedTypes().size() > 0 && isOwnedType(node)) {
 					int offset= node.getRestrictedIdentifierStartPosition();
 					int length= 7; // length of 'permits'
 					if (offset > -1) {
@@ -264,8 +565,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		 */
 		private void addPosition(int offset, int length, Highlighting highlighting) {
 			boolean isExisting= false;
-			// TODO: use binary search
-			for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
+			for (int i= computeIndexAtOffset(offset), n= fRemovedPositions.size(); i < n && fRemovedOffsets[i] == offset; i++) {
 				HighlightedPosition position= (HighlightedPosition) fRemovedPositions.get(i);
 				if (position == null)
 					continue;
@@ -290,8 +590,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		 */
 		@Override
 		protected void retainPositions(int offset, int length) {
-			// TODO: use binary search
-			for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
+			for (int i= computeIndexAtOffset(offset), n= fRemovedPositions.size(); i < n && fRemovedOffsets[i] <= offset + length; i++) {
 				HighlightedPosition position= (HighlightedPosition) fRemovedPositions.get(i);
 				if (position != null && position.isContained(offset, length)) {
 					fRemovedPositions.set(i, null);
@@ -343,9 +642,26 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	private List<Position> fRemovedPositions= new ArrayList<>();
 	/** Number of removed positions */
 	private int fNOfRemovedPositions;
+	/**
+	 * Offsets of the removed positions when reconciling started, in ascending order. The offsets of
+	 * the positions themselves may change concurrently.
+	 * @since 3.33
+	 */
+	private int[] fRemovedOffsets= new int[0];
 
 	/** Background job */
 	private Job fJob;
+	/**
+	 * Background job reconciling the parts of a large file which have been skipped by the last
+	 * reconcile, guarded by {@link #fJobLock}.
+	 * @since 3.33
+	 */
+	private Job fFillJob;
+	/**
+	 * Tracks the visible and the damaged region of the source viewer.
+	 * @since 3.33
+	 */
+	private RegionTracker fRegionTracker;
 	/** Background job lock */
 	private final Object fJobLock= new Object();
 	/**
@@ -359,6 +675,17 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @since 3.2
 	 */
 	private boolean fIsReconciling= false;
+	/**
+	 * <code>true</code> if the fill job is reconciling, guarded by {@link #fReconcileLock}.
+	 * @since 3.33
+	 */
+	private boolean fIsFilling= false;
+	/**
+	 * The AST which has been reconciled while the fill job was reconciling, to be reconciled by the
+	 * fill job when it stops. Guarded by {@link #fReconcileLock}.
+	 * @since 3.33
+	 */
+	private CompilationUnit fPendingAST;
 
 	/** The semantic highlighting presenter - cache for background thread, only valid during {@link #reconciled(CompilationUnit, boolean, IProgressMonitor)} */
 	private SemanticHighlightingPresenter fJobPresenter;
@@ -386,33 +713,92 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	@Override
 	public void reconciled(CompilationUnit ast, boolean forced, IProgressMonitor progressMonitor) {
+		synchronized (fReconcileLock) {
+			cancelFillJob();
+			if (fIsFilling) {
+				// don't wait for the fill job, it reconciles the new AST as soon as it has stopped
+				fPendingAST= ast;
+				return;
+			}
+		}
+
+		RegionTracker regionTracker= fRegionTracker;
+		int[] regions= null;
+		int modificationCount= 0;
+		if (ast != null && regionTracker != null && ast.getStartPosition() + ast.getLength() >= PARTIAL_RECONCILE_THRESHOLD) {
+			synchronized (regionTracker) {
+				regions= regionTracker.getRegions();
+				modificationCount= regionTracker.getModificationCount();
+			}
+		}
+
+		if (reconcile(ast, regions, progressMonitor) && regions != null) {
+			regionTracker.clearDamage(modificationCount);
+			scheduleFillJob(ast);
+		}
+	}
+
+	/**
+	 * Reconciles the positions of the members in the given regions.
+	 *
+	 * @param ast the AST
+	 * @param regions the regions as pairs of start and end offsets, or <code>null</code> to
+	 *            reconcile the whole AST
+	 * @param progressMonitor the progress monitor
+	 * @return <code>true</code> iff the positions have been reconciled
+	 * @since 3.33
+	 */
+	private boolean reconcile(CompilationUnit ast, int[] regions, IProgressMonitor progressMonitor) {
 		// ensure at most one thread can be reconciling at any time
 		synchronized (fReconcileLock) {
 			if (fIsReconciling)
-				return;
+				return false;
 			else
 				fIsReconciling= true;
 		}
+		try {
+			return reconcile(ast, new int[][] { regions }, false, progressMonitor);
+		} finally {
+			synchronized (fReconcileLock) {
+				fIsReconciling= false;
+			}
+		}
+	}
+
+	/**
+	 * Reconciles the positions in one or more passes over the AST and updates the presentation
+	 * once all passes are done. The caller must own the reconcile operation.
+	 *
+	 * @param ast the AST
+	 * @param passes the regions of each pass as pairs of start and end offsets, a <code>null</code>
+	 *            pass visits the whole AST
+	 * @param visitByStart <code>true</code> if the passes partition the AST, see
+	 *            {@link PositionCollector#setRegions(int[], boolean)}
+	 * @param progressMonitor the progress monitor
+	 * @return <code>true</code> iff the positions have been reconciled
+	 * @since 3.33
+	 */
+	private boolean reconcile(CompilationUnit ast, int[][] passes, boolean visitByStart, IProgressMonitor progressMonitor) {
 		fJobPresenter= fPresenter;
 		fJobSemanticHighlightings= fSemanticHighlightings;
 		fJobHighlightings= fHighlightings;
 
 		try {
 			if (fJobPresenter == null || fJobSemanticHighlightings == null || fJobHighlightings == null)
-				return;
+				return false;
 
-			fJobPresenter.setCanceled(progressMonitor.isCanceled());
+			if (!visitByStart)
+				fJobPresenter.setCanceled(progressMonitor.isCanceled());
 
-			if (ast == null || fJobPresenter.isCanceled())
-				return;
+			if (ast == null || isCanceled(progressMonitor))
+				return false;
 
 			ASTNode[] subtrees= getAffectedSubtrees(ast);
 			if (subtrees.length == 0)
-				return;
+				return false;
 
 			startReconcilingPositions();
-
-			if (!fJobPresenter.isCanceled()) {
+			try {
 				fJobDeprecatedMemberHighlighting= null;
 				for (int i= 0, n= fJobSemanticHighlightings.length; i < n; i++) {
 					SemanticHighlighting semanticHighlighting= fJobSemanticHighlightings[i];
@@ -421,28 +807,41 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 						break;
 					}
 				}
-				reconcilePositions(subtrees);
-			}
+				for (int[] regions : passes) {
+					if (isCanceled(progressMonitor))
+						return false;
+					fCollector.setRegions(regions, visitByStart);
+					try {
+						reconcilePositions(subtrees);
+					} finally {
+						fCollector.setRegions(null, false);
+					}
+				}
+				removeRetainedPositions();
 
-			TextPresentation textPresentation= null;
-			if (!fJobPresenter.isCanceled())
-				textPresentation= fJobPresenter.createPresentation(fAddedPositions, fRemovedPositions);
+				TextPresentation textPresentation= null;
+				if (!isCanceled(progressMonitor))
+					textPresentation= fJobPresenter.createPresentation(fAddedPositions, fRemovedPositions);
 
-			if (!fJobPresenter.isCanceled())
-				updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
+				if (!isCanceled(progressMonitor))
+					updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
 
-			stopReconcilingPositions();
+				return !isCanceled(progressMonitor);
+			} finally {
+				stopReconcilingPositions();
+			}
 		} finally {
 			fJobPresenter= null;
 			fJobSemanticHighlightings= null;
 			fJobHighlightings= null;
 			fJobDeprecatedMemberHighlighting= null;
-			synchronized (fReconcileLock) {
-				fIsReconciling= false;
-			}
 		}
 	}
 
+	private boolean isCanceled(IProgressMonitor progressMonitor) {
+		return fJobPresenter.isCanceled() || progressMonitor.isCanceled();
+	}
+
 	/**
 	 * @param node Root node
 	 * @return Array of subtrees that may be affected by past document changes
@@ -452,12 +851,116 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		return new ASTNode[] { node };
 	}
 
+	/**
+	 * Schedules a low priority job which reconciles the whole file, after the visible and damaged
+	 * members have been reconciled. The positions are matched in passes over chunks of
+	 * {@link #FILL_CHUNK_SIZE} characters, so that the job stops soon after it has been canceled,
+	 * and the presentation is updated once all chunks have been matched.
+	 *
+	 * @param ast the AST
+	 * @since 3.33
+	 */
+	private void scheduleFillJob(CompilationUnit ast) {
+		int length= ast.getStartPosition() + ast.getLength();
+		int[][] chunks= new int[(length + FILL_CHUNK_SIZE - 1) / FILL_CHUNK_SIZE][];
+		for (int i= 0; i < chunks.length; i++) {
+			chunks[i]= new int[] { i * FILL_CHUNK_SIZE, (i + 1) * FILL_CHUNK_SIZE };
+		}
+		Job fillJob= new Job(JavaEditorMessages.SemanticHighlighting_job) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				synchronized (fReconcileLock) {
+					if (monitor.isCanceled() || fIsReconciling)
+						return Status.CANCEL_STATUS;
+					fIsReconciling= true;
+					fIsFilling= true;
+				}
+				boolean isReconciled= false;
+				try {
+					isReconciled= reconcile(ast, chunks, true, monitor);
+				} finally {
+					CompilationUnit pendingAST;
+					synchronized (fReconcileLock) {
+						fIsReconciling= false;
+						fIsFilling= false;
+						pendingAST= fPendingAST;
+						fPendingAST= null;
+					}
+					if (pendingAST != null)
+						reconciled(pendingAST, false, new NullProgressMonitor());
+				}
+				synchronized (fJobLock) {
+					// allow the job to be gc'ed
+					if (fFillJob == this)
+						fFillJob= null;
+				}
+				return isReconciled ? Status.OK_STATUS : Status.CANCEL_STATUS;
+			}
+		};
+		fillJob.setSystem(true);
+		fillJob.setPriority(Job.DECORATE);
+		synchronized (fJobLock) {
+			fFillJob= fillJob;
+		}
+		fillJob.schedule();
+	}
+
+	/**
+	 * Cancels the job reconciling the rest of a large file, without waiting for it.
+	 *
+	 * @since 3.33
+	 */
+	private void cancelFillJob() {
+		Job fillJob;
+		synchronized (fJobLock) {
+			fillJob= fFillJob;
+			fFillJob= null;
+		}
+		if (fillJob != null)
+			fillJob.cancel();
+	}
+
 	/**
 	 * Start reconciling positions.
 	 */
 	private void startReconcilingPositions() {
 		fJobPresenter.addAllPositions(fRemovedPositions);
 		fNOfRemovedPositions= fRemovedPositions.size();
+		fRemovedOffsets= new int[fNOfRemovedPositions];
+		boolean isSorted= true;
+		for (int i= 0; i < fNOfRemovedPositions; i++) {
+			fRemovedOffsets[i]= fRemovedPositions.get(i).getOffset();
+			if (i > 0 && fRemovedOffsets[i] < fRemovedOffsets[i - 1])
+				isSorted= false;
+		}
+		if (!isSorted) {
+			// the presenter keeps its positions sorted, but a concurrent document change may have moved some
+			fRemovedPositions.sort(Comparator.comparingInt(Position::getOffset));
+			for (int i= 0; i < fNOfRemovedPositions; i++) {
+				fRemovedOffsets[i]= Math.max(fRemovedPositions.get(i).getOffset(), i > 0 ? fRemovedOffsets[i - 1] : 0);
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of the first removed position whose offset was equal or greater than the
+	 * given offset when reconciling started.
+	 *
+	 * @param offset the offset
+	 * @return the index, or the number of removed positions if there is no such position
+	 * @since 3.33
+	 */
+	private int computeIndexAtOffset(int offset) {
+		int i= -1;
+		int j= fRemovedPositions.size();
+		while (j - i > 1) {
+			int k= (i + j) >> 1;
+			if (fRemovedOffsets[k] >= offset)
+				j= k;
+			else
+				i= k;
+		}
+		return j;
 	}
 
 	/**
@@ -472,6 +975,14 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 
 		for (ASTNode subtree : subtrees)
 			subtree.accept(fCollector);
+	}
+
+	/**
+	 * Drops the positions which have been found or retained from the removed positions.
+	 *
+	 * @since 3.33
+	 */
+	private void removeRetainedPositions() {
 		List<Position> oldPositions= fRemovedPositions;
 		List<Position> newPositions= new ArrayList<>(fNOfRemovedPositions);
 		for (Position current : oldPositions) {
@@ -524,6 +1035,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	private void stopReconcilingPositions() {
 		fRemovedPositions.clear();
 		fNOfRemovedPositions= 0;
+		fRemovedOffsets= new int[0];
 		fAddedPositions.clear();
 	}
 
@@ -543,6 +1055,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		fEditor= editor;
 		fSourceViewer= sourceViewer;
 
+		if (fSourceViewer != null) {
+			fRegionTracker= new RegionTracker();
+			fRegionTracker.install(fSourceViewer);
+		}
+
 		if (fEditor instanceof CompilationUnitEditor) {
 			if (registerAsEditorReconcilingListener()) {
 				((CompilationUnitEditor)fEditor).addReconcileListener(this);
@@ -578,6 +1095,12 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		if (fPresenter != null)
 			fPresenter.setCanceled(true);
 
+		cancelFillJob();
+		if (fRegionTracker != null) {
+			fRegionTracker.uninstall(fSourceViewer);
+			fRegionTracker= null;
+		}
+
 		if (fEditor != null) {
 			if (fEditor instanceof CompilationUnitEditor)
 				((CompilationUnitEditor)fEditor).removeReconcileListener(this);
@@ -658,6 +1181,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 				fJob= null;
 			}
 		}
+		cancelFillJob();
 	}
 
 	/*
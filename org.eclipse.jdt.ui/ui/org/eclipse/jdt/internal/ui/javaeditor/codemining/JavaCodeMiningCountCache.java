@@ -0,0 +1,723 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor.codemining;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.ISourceReference;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.FieldReferenceMatch;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.MethodReferenceMatch;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jdt.core.search.TypeReferenceMatch;
+
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+
+/**
+ * Caches the reference counts and the subtypes shown by the Java element code minings. The cache
+ * is shared by all editors.
+ * <p>
+ * An entry records the members its result was computed from (the members containing the
+ * references, or the subtypes) and the simple names a member has to mention to change the result.
+ * When a Java element delta reports a changed or removed member, the entries computed from it are
+ * dropped, and so are the entries whose names are mentioned by a changed or added member. Coarse
+ * deltas drop the entries computed from any member of the compilation unit. The whole cache is
+ * cleared when the classpath or the set of package fragments changes.
+ * </p>
+ *
+ * @since 3.33
+ */
+public class JavaCodeMiningCountCache implements IElementChangedListener {
+
+	/**
+	 * A cached reference count or list of subtypes.
+	 */
+	private static final class Entry {
+
+		final Object fValue;
+
+		/**
+		 * The handle identifiers of the members the value was computed from, keyed by the handle
+		 * identifier of their compilation unit
+		 */
+		final Map<String, Set<String>> fDependencies;
+
+		final Set<String> fNames;
+
+		Entry(Object value, Map<String, Set<String>> dependencies, Set<String> names) {
+			fValue= value;
+			fDependencies= dependencies;
+			fNames= names;
+		}
+	}
+
+	/**
+	 * Counts the references to several elements with one search. A match is attributed to an
+	 * element if the matched source mentions the name of exactly one element of the matched kind.
+	 * The other elements are counted separately.
+	 */
+	private static final class ReferenceBatch extends SearchRequestor {
+
+		private final boolean fIgnoreInaccurate;
+
+		private final Map<String, IJavaElement> fTypes= new HashMap<>();
+
+		private final Map<String, IJavaElement> fMethods= new HashMap<>();
+
+		private final Map<String, IJavaElement> fFields= new HashMap<>();
+
+		/** The only constructor of the batch, to which this() and super() calls are attributed */
+		private IJavaElement fConstructor;
+
+		private final Map<IJavaElement, long[]> fCounts= new HashMap<>();
+
+		private final Map<IJavaElement, Map<String, Set<String>>> fDependencies= new HashMap<>();
+
+		/** The elements which have to be counted separately */
+		private final Set<IJavaElement> fUncertain= new HashSet<>();
+
+		ReferenceBatch(List<IJavaElement> elements, boolean ignoreInaccurate) throws JavaModelException {
+			fIgnoreInaccurate= ignoreInaccurate;
+			Set<String> duplicates= new HashSet<>();
+			int constructors= 0;
+			for (IJavaElement element : elements) {
+				Map<String, IJavaElement> candidates= getCandidates(element.getElementType());
+				if (candidates == null) {
+					fUncertain.add(element);
+					continue;
+				}
+				if (element instanceof IMethod && ((IMethod) element).isConstructor()) {
+					constructors++;
+					fConstructor= element;
+				}
+				String name= element.getElementName();
+				IJavaElement previous= candidates.put(name, element);
+				if (previous != null) {
+					duplicates.add(element.getElementType() + name);
+					fUncertain.add(previous);
+				}
+				if (duplicates.contains(element.getElementType() + name))
+					fUncertain.add(element);
+			}
+			if (constructors != 1)
+				fConstructor= null;
+			for (Map<String, IJavaElement> candidates : List.of(fTypes, fMethods, fFields)) {
+				candidates.values().removeAll(fUncertain);
+				for (IJavaElement element : candidates.values()) {
+					fCounts.put(element, new long[1]);
+					fDependencies.put(element, new HashMap<>());
+				}
+			}
+			if (fConstructor != null && fUncertain.contains(fConstructor))
+				fConstructor= null;
+		}
+
+		private Map<String, IJavaElement> getCandidates(int elementType) {
+			switch (elementType) {
+				case IJavaElement.TYPE:
+					return fTypes;
+				case IJavaElement.METHOD:
+					return fMethods;
+				case IJavaElement.FIELD:
+					return fFields;
+				default:
+					return null;
+			}
+		}
+
+		SearchPattern createPattern() {
+			SearchPattern result= null;
+			for (IJavaElement element : fCounts.keySet()) {
+				SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+				if (pattern == null) {
+					fUncertain.add(element);
+				} else {
+					result= result == null ? pattern : SearchPattern.createOrPattern(result, pattern);
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public void acceptSearchMatch(SearchMatch match) throws CoreException {
+			IJavaElement element= getCountedElement(match, fIgnoreInaccurate);
+			if (element == null)
+				return;
+
+			Map<String, IJavaElement> candidates;
+			char end;
+			if (match instanceof TypeReferenceMatch) {
+				candidates= fTypes;
+				end= '<';
+			} else if (match instanceof MethodReferenceMatch) {
+				candidates= fMethods;
+				end= '(';
+			} else if (match instanceof FieldReferenceMatch) {
+				candidates= fFields;
+				end= 0;
+			} else {
+				fUncertain.addAll(fCounts.keySet());
+				return;
+			}
+
+			IJavaElement target= null;
+			boolean isAmbiguous= false;
+			String text= getText(match, element);
+			Set<String> identifiers= Collections.emptySet();
+			if (text != null) {
+				int index= end != 0 ? text.indexOf(end) : -1;
+				identifiers= getIdentifiers(index != -1 ? text.substring(0, index) : text);
+				for (String identifier : identifiers) {
+					IJavaElement candidate= candidates.get(identifier);
+					if (candidate != null) {
+						isAmbiguous= target != null;
+						target= candidate;
+					}
+				}
+			}
+			if (target == null && fConstructor != null && (identifiers.contains("this") || identifiers.contains("super"))) //$NON-NLS-1$ //$NON-NLS-2$
+				target= fConstructor;
+
+			if (target == null || isAmbiguous) {
+				fUncertain.addAll(candidates.values());
+				return;
+			}
+			fCounts.get(target)[0]++;
+			addDependency(fDependencies.get(target), element);
+		}
+	}
+
+	/**
+	 * The maximal number of entries
+	 */
+	private static final int MAX_ENTRIES= 5000;
+
+	private static JavaCodeMiningCountCache fgDefault;
+
+	/**
+	 * The entries, least recently used first
+	 */
+	private final LinkedHashMap<String, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The entries computed from a member, keyed by the handle identifier of the compilation unit
+	 * and of the member
+	 */
+	private final Map<String, Map<String, Set<String>>> fDependents= new HashMap<>();
+
+	/**
+	 * The entries which depend on a simple name
+	 */
+	private final Map<String, Set<String>> fNameDependents= new HashMap<>();
+
+	/**
+	 * Incremented whenever the Java model changes, so that results computed concurrently with a
+	 * change are not stored
+	 */
+	private int fGeneration;
+
+	private JavaCodeMiningCountCache() {
+	}
+
+	public static synchronized JavaCodeMiningCountCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new JavaCodeMiningCountCache();
+			JavaCore.addElementChangedListener(fgDefault, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Removes the cache (called by the JavaPlugin on shutdown).
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault);
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * Returns the number of references to the given element.
+	 *
+	 * @param element the type, method or field
+	 * @param ignoreInaccurate <code>true</code> if inaccurate matches are not counted
+	 * @param monitor the progress monitor
+	 * @return the number of references in compilation units and class files
+	 * @throws CoreException if the search failed
+	 */
+	public long getReferenceCount(IJavaElement element, boolean ignoreInaccurate, IProgressMonitor monitor) throws CoreException {
+		String key= getReferenceKey(element, ignoreInaccurate);
+		Object value= get(key);
+		if (value != null)
+			return ((Long) value).longValue();
+
+		int generation= getGeneration();
+		SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+		if (pattern == null)
+			return 0;
+		long[] count= new long[1];
+		Map<String, Set<String>> dependencies= new HashMap<>();
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				createSearchScope(element), new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						IJavaElement e= getCountedElement(match, ignoreInaccurate);
+						if (e != null) {
+							count[0]++;
+							addDependency(dependencies, e);
+						}
+					}
+				}, monitor);
+
+		put(key, new Entry(Long.valueOf(count[0]), dependencies, Collections.singleton(element.getElementName())), generation);
+		return count[0];
+	}
+
+	/**
+	 * Computes the numbers of references to the given elements which are not cached yet with a
+	 * single search.
+	 *
+	 * @param elements the types, methods and fields of one type root
+	 * @param ignoreInaccurate <code>true</code> if inaccurate matches are not counted
+	 * @param monitor the progress monitor
+	 * @throws CoreException if the search failed
+	 */
+	public void computeReferenceCounts(List<IJavaElement> elements, boolean ignoreInaccurate, IProgressMonitor monitor) throws CoreException {
+		List<IJavaElement> missing= new ArrayList<>();
+		synchronized (this) {
+			for (IJavaElement element : elements) {
+				if (!fEntries.containsKey(getReferenceKey(element, ignoreInaccurate)))
+					missing.add(element);
+			}
+		}
+		if (missing.size() < 2)
+			return;
+
+		int generation= getGeneration();
+		ReferenceBatch batch= new ReferenceBatch(missing, ignoreInaccurate);
+		SearchPattern pattern= batch.createPattern();
+		if (pattern != null) {
+			new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+					createSearchScope(missing.get(0)), batch, monitor);
+			for (Map.Entry<IJavaElement, long[]> count : batch.fCounts.entrySet()) {
+				IJavaElement element= count.getKey();
+				if (!batch.fUncertain.contains(element)) {
+					put(getReferenceKey(element, ignoreInaccurate), new Entry(Long.valueOf(count.getValue()[0]), batch.fDependencies.get(element),
+							Collections.singleton(element.getElementName())), generation);
+				}
+			}
+		}
+		for (IJavaElement element : batch.fUncertain) {
+			if (monitor.isCanceled())
+				return;
+			getReferenceCount(element, ignoreInaccurate, monitor);
+		}
+	}
+
+	/**
+	 * Returns the subtypes of the given type which are declared in compilation units.
+	 *
+	 * @param type the type
+	 * @param monitor the progress monitor
+	 * @return the subtypes
+	 * @throws JavaModelException if the type hierarchy could not be computed
+	 */
+	public IType[] getSubtypes(IType type, IProgressMonitor monitor) throws JavaModelException {
+		String key= "H:" + type.getHandleIdentifier(); //$NON-NLS-1$
+		Object value= get(key);
+		if (value != null)
+			return (IType[]) value;
+
+		int generation= getGeneration();
+		IType[] subtypes= Stream.of(type.newTypeHierarchy(monitor).getAllSubtypes(type))
+				.filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null)
+				.toArray(IType[]::new);
+		Map<String, Set<String>> dependencies= new HashMap<>();
+		Set<String> names= new HashSet<>();
+		names.add(type.getElementName());
+		for (IType subtype : subtypes) {
+			addDependency(dependencies, subtype);
+			names.add(subtype.getElementName());
+		}
+		put(key, new Entry(subtypes, dependencies, names), generation);
+		return subtypes;
+	}
+
+	private static String getReferenceKey(IJavaElement element, boolean ignoreInaccurate) {
+		return (ignoreInaccurate ? "R!:" : "R:") + element.getHandleIdentifier(); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Returns the element enclosing a match which is counted as a reference.
+	 *
+	 * @param match the match
+	 * @param ignoreInaccurate <code>true</code> if inaccurate matches are not counted
+	 * @return the element enclosing the match, or <code>null</code> if the match is not counted
+	 */
+	static IJavaElement getCountedElement(SearchMatch match, boolean ignoreInaccurate) {
+		if (match.getAccuracy() == SearchMatch.A_INACCURATE && ignoreInaccurate) {
+			return null;
+		}
+		Object o= match.getElement();
+		if (o instanceof IJavaElement) {
+			IJavaElement e= (IJavaElement) o;
+			if (e.getAncestor(IJavaElement.COMPILATION_UNIT) != null
+					|| e.getAncestor(IJavaElement.CLASS_FILE) != null) {
+				return e;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Create Java workspace scope.
+	 *
+	 * @param element IJavaElement to search references for
+	 *
+	 * @return the Java workspace scope.
+	 * @throws JavaModelException when java error.
+	 */
+	private static IJavaSearchScope createSearchScope(IJavaElement element) throws JavaModelException {
+		JavaSearchScopeFactory factory= JavaSearchScopeFactory.getInstance();
+		boolean isInsideJRE= factory.isInsideJRE(element);
+		return factory.createWorkspaceScope(isInsideJRE);
+	}
+
+	private static String getText(SearchMatch match, IJavaElement element) {
+		try {
+			IOpenable openable= element.getOpenable();
+			IBuffer buffer= openable != null ? openable.getBuffer() : null;
+			if (buffer == null || match.getOffset() < 0 || match.getOffset() + match.getLength() > buffer.getLength())
+				return null;
+			return buffer.getText(match.getOffset(), match.getLength());
+		} catch (JavaModelException | IndexOutOfBoundsException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Records the member a value has been computed from. References in local and anonymous types
+	 * and in lambda expressions are recorded for their enclosing member, since the Java element
+	 * deltas report changes for these members.
+	 *
+	 * @param dependencies the dependencies keyed by compilation unit
+	 * @param element the element
+	 */
+	static void addDependency(Map<String, Set<String>> dependencies, IJavaElement element) {
+		ICompilationUnit cu= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		if (cu == null)
+			return;
+		IJavaElement member= null;
+		for (IJavaElement e= element; e != null && e.getElementType() > IJavaElement.CLASS_FILE; e= e.getParent()) {
+			switch (e.getElementType()) {
+				case IJavaElement.METHOD:
+				case IJavaElement.FIELD:
+				case IJavaElement.INITIALIZER:
+					member= e;
+					break;
+				default:
+					if (member == null)
+						member= e;
+					break;
+			}
+		}
+		if (member == null)
+			member= cu;
+		dependencies.computeIfAbsent(getKey(cu), k -> new HashSet<>()).add(member.getHandleIdentifier());
+	}
+
+	private static String getKey(ICompilationUnit cu) {
+		return cu.getPrimary().getHandleIdentifier();
+	}
+
+	static Set<String> getIdentifiers(String source) {
+		Set<String> result= new HashSet<>();
+		int length= source.length();
+		for (int i= 0; i < length;) {
+			if (Character.isJavaIdentifierStart(source.charAt(i))) {
+				int start= i++;
+				while (i < length && Character.isJavaIdentifierPart(source.charAt(i)))
+					i++;
+				result.add(source.substring(start, i));
+			} else {
+				i++;
+			}
+		}
+		return result;
+	}
+
+	private synchronized int getGeneration() {
+		return fGeneration;
+	}
+
+	private synchronized Object get(String key) {
+		Entry entry= fEntries.get(key);
+		return entry != null ? entry.fValue : null;
+	}
+
+	private synchronized void put(String key, Entry entry, int generation) {
+		if (generation != fGeneration)
+			return;
+		remove(key);
+		fEntries.put(key, entry);
+		for (Map.Entry<String, Set<String>> dependency : entry.fDependencies.entrySet()) {
+			Map<String, Set<String>> members= fDependents.computeIfAbsent(dependency.getKey(), k -> new HashMap<>());
+			for (String member : dependency.getValue()) {
+				members.computeIfAbsent(member, k -> new HashSet<>()).add(key);
+			}
+		}
+		for (String name : entry.fNames) {
+			fNameDependents.computeIfAbsent(name, k -> new HashSet<>()).add(key);
+		}
+		if (fEntries.size() > MAX_ENTRIES)
+			remove(fEntries.keySet().iterator().next());
+	}
+
+	private void remove(String key) {
+		Entry entry= fEntries.remove(key);
+		if (entry == null)
+			return;
+		for (Map.Entry<String, Set<String>> dependency : entry.fDependencies.entrySet()) {
+			Map<String, Set<String>> members= fDependents.get(dependency.getKey());
+			if (members == null)
+				continue;
+			for (String member : dependency.getValue()) {
+				Set<String> keys= members.get(member);
+				if (keys != null) {
+					keys.remove(key);
+					if (keys.isEmpty())
+						members.remove(member);
+				}
+			}
+			if (members.isEmpty())
+				fDependents.remove(dependency.getKey());
+		}
+		for (String name : entry.fNames) {
+			Set<String> keys= fNameDependents.get(name);
+			if (keys != null) {
+				keys.remove(key);
+				if (keys.isEmpty())
+					fNameDependents.remove(name);
+			}
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			fGeneration++;
+			if (fEntries.isEmpty())
+				return;
+		}
+		if (!processDelta(event.getDelta())) {
+			clear();
+		}
+	}
+
+	/**
+	 * @param delta the delta
+	 * @return <code>false</code> if the whole cache has to be cleared
+	 */
+	private boolean processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+								| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0)
+					return false;
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+								| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER)) != 0)
+					return false;
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED)
+					return false;
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				return processCompilationUnitDelta(delta, (ICompilationUnit) element);
+			default:
+				// changes below compilation units are reported with their compilation unit
+				return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!processDelta(child))
+				return false;
+		}
+		return true;
+	}
+
+	private boolean processCompilationUnitDelta(IJavaElementDelta delta, ICompilationUnit cu) {
+		String cuKey= getKey(cu);
+		switch (delta.getKind()) {
+			case IJavaElementDelta.REMOVED:
+				invalidateMembers(cuKey, null, true);
+				return true;
+			case IJavaElementDelta.ADDED:
+				return invalidateNames(cu);
+			default:
+				int flags= delta.getFlags();
+				if ((flags & IJavaElementDelta.F_FINE_GRAINED) != 0) {
+					for (IJavaElementDelta child : delta.getAffectedChildren()) {
+						if (!processMemberDelta(child, cu, cuKey))
+							return false;
+					}
+					return true;
+				}
+				if ((flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_PRIMARY_WORKING_COPY)) != 0) {
+					invalidateMembers(cuKey, null, true);
+					return invalidateNames(cu);
+				}
+				return true;
+		}
+	}
+
+	private boolean processMemberDelta(IJavaElementDelta delta, ICompilationUnit cu, String cuKey) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.TYPE:
+			case IJavaElement.METHOD:
+			case IJavaElement.FIELD:
+			case IJavaElement.INITIALIZER:
+				break;
+			default:
+				// changed imports or package declaration may change the bindings of all references
+				invalidateMembers(cuKey, null, true);
+				return invalidateNames(cu);
+		}
+		switch (delta.getKind()) {
+			case IJavaElementDelta.REMOVED:
+				invalidateMembers(cuKey, element.getHandleIdentifier(), true);
+				return true;
+			case IJavaElementDelta.ADDED:
+				return invalidateNames((ISourceReference) element);
+			default:
+				int flags= delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_AST_AFFECTED);
+				if (flags != 0) {
+					invalidateMembers(cuKey, element.getHandleIdentifier(), false);
+					if (!invalidateNames((ISourceReference) element))
+						return false;
+				}
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (!processMemberDelta(child, cu, cuKey))
+						return false;
+				}
+				return true;
+		}
+	}
+
+	/**
+	 * Drops the entries computed from members of a compilation unit.
+	 *
+	 * @param cuKey the handle identifier of the primary compilation unit
+	 * @param member the handle identifier of the member, or <code>null</code> for all members
+	 * @param includeChildren <code>true</code> to include the entries computed from children of
+	 *            the member
+	 */
+	private synchronized void invalidateMembers(String cuKey, String member, boolean includeChildren) {
+		Map<String, Set<String>> members= fDependents.get(cuKey);
+		if (members == null)
+			return;
+		List<String> keys= new ArrayList<>();
+		if (member == null) {
+			for (Set<String> memberKeys : members.values()) {
+				keys.addAll(memberKeys);
+			}
+		} else if (includeChildren) {
+			for (Iterator<Map.Entry<String, Set<String>>> iter= members.entrySet().iterator(); iter.hasNext();) {
+				Map.Entry<String, Set<String>> entry= iter.next();
+				if (entry.getKey().startsWith(member))
+					keys.addAll(entry.getValue());
+			}
+		} else {
+			Set<String> memberKeys= members.get(member);
+			if (memberKeys != null)
+				keys.addAll(memberKeys);
+		}
+		for (String key : keys) {
+			remove(key);
+		}
+	}
+
+	/**
+	 * Drops the entries depending on a name mentioned in the source of the given element.
+	 *
+	 * @param element the element
+	 * @return <code>false</code> if the source is not available
+	 */
+	private boolean invalidateNames(ISourceReference element) {
+		String source;
+		try {
+			source= element.getSource();
+		} catch (JavaModelException e) {
+			source= null;
+		}
+		if (source == null)
+			return false;
+		Set<String> identifiers= getIdentifiers(source);
+		synchronized (this) {
+			List<String> keys= new ArrayList<>();
+			for (String identifier : identifiers) {
+				Set<String> nameKeys= fNameDependents.get(identifier);
+				if (nameKeys != null)
+					keys.addAll(nameKeys);
+			}
+			for (String key : keys) {
+				remove(key);
+			}
+		}
+		return true;
+	}
+
+	private synchronized void clear() {
+		fEntries.clear();
+		fDependents.clear();
+		fNameDependents.clear();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Angelo Zerr and others.
+ * Copyright (c) 2018, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.ITextViewer;
@@ -101,6 +103,7 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 				IJavaElement[] elements= unit.getChildren();
 				List<ICodeMining> minings= new ArrayList<>(elements.length);
 				collectMinings(unit, textEditor, unit.getChildren(), minings, viewer, monitor);
+				computeReferenceCounts(minings, monitor);
 				// interrupt if editor was marked to be reconciled in the meantime
 				if (viewer instanceof ISourceViewerExtension5) {
 					ISourceViewerExtension5 codeMiningViewer= (ISourceViewerExtension5)viewer;
@@ -117,6 +120,31 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 		});
 	}
 
+	/**
+	 * Counts the references of all reference code minings with one search, so that the minings
+	 * find their counts in the {@link JavaCodeMiningCountCache} when they are resolved.
+	 *
+	 * @param minings the collected minings
+	 * @param monitor the monitor
+	 */
+	private static void computeReferenceCounts(List<ICodeMining> minings, IProgressMonitor monitor) {
+		List<IJavaElement> elements= new ArrayList<>();
+		for (ICodeMining mining : minings) {
+			if (mining instanceof JavaReferenceCodeMining) {
+				elements.add(((JavaReferenceCodeMining) mining).getElement());
+			}
+		}
+		if (elements.isEmpty() || monitor.isCanceled()) {
+			return;
+		}
+		boolean ignoreInaccurate= JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_IGNORE_INEXACT_MATCHES);
+		try {
+			JavaCodeMiningCountCache.getDefault().computeReferenceCounts(elements, ignoreInaccurate, monitor);
+		} catch (CoreException | OperationCanceledException e) {
+			// the minings count their references themselves
+		}
+	}
+
 	/**
 	 * Collect java code minings.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Angelo Zerr and others.
+ * Copyright (c) 2019, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -161,8 +161,7 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 	 * @throws JavaModelException throws when Java error
 	 */
 	private static long countTypeImplementations(IType type, IProgressMonitor monitor) throws JavaModelException {
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
-		return Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).count();
+		return JavaCodeMiningCountCache.getDefault().getSubtypes(type, monitor).length;
 	}
 
 	/**
@@ -190,11 +189,8 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 		if (method == null) {
 			return 0;
 		}
-		IType type= method.getDeclaringType();
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
-		List<IType> list= Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).collect(Collectors.toList());
-		long count= list.stream().filter(t -> t.getMethod(method.getElementName(), method.getParameterTypes()).exists()).count();
-		return count;
+		IType[] subtypes= JavaCodeMiningCountCache.getDefault().getSubtypes(method.getDeclaringType(), monitor);
+		return Stream.of(subtypes).filter(t -> t.getMethod(method.getElementName(), method.getParameterTypes()).exists()).count();
 	}
 
 	/**
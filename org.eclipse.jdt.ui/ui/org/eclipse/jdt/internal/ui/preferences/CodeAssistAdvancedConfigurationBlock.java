@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2011 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -92,13 +92,17 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 	private static final Key PREF_CATEGORY_ORDER= getJDTUIKey(PreferenceConstants.CODEASSIST_CATEGORY_ORDER);
 	private static final Key PREF_CODEASSIST_TIMEOUT_FOR_PARAMETER_NAME_FROM_ATTACHED_JAVADOC= getJDTCoreKey(JavaCore.TIMEOUT_FOR_PARAMETER_NAME_FROM_ATTACHED_JAVADOC);
 	private static final Key PREF_CODEASSIST_NONUITHREAD_COMPUTATION = getJDTUIKey(PreferenceConstants.CODEASSIST_NONUITHREAD_COMPUTATION);
+	private static final Key PREF_CODEASSIST_PARALLEL_COMPUTATION= getJDTUIKey(PreferenceConstants.CODEASSIST_PARALLEL_COMPUTATION);
+	private static final Key PREF_CODEASSIST_CATEGORY_TIMEOUT= getJDTUIKey(PreferenceConstants.CODEASSIST_CATEGORY_TIMEOUT);
 
 	private static Key[] getAllKeys() {
 		return new Key[] {
 				PREF_EXCLUDED_CATEGORIES,
 				PREF_CATEGORY_ORDER,
 				PREF_CODEASSIST_TIMEOUT_FOR_PARAMETER_NAME_FROM_ATTACHED_JAVADOC,
-				PREF_CODEASSIST_NONUITHREAD_COMPUTATION
+				PREF_CODEASSIST_NONUITHREAD_COMPUTATION,
+				PREF_CODEASSIST_PARALLEL_COMPUTATION,
+				PREF_CODEASSIST_CATEGORY_TIMEOUT
 		};
 	}
 
@@ -397,6 +401,7 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 		createParameterTimeoutControl(composite, columns);
 		createFiller(composite, columns);
 		createNonUIThreadControl(composite, columns);
+		createParallelComputationControl(composite, columns);
 
 		updateControls();
 		if (fModel.elements.size() > 0) {
@@ -426,6 +431,34 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 		}
 	}
 
+	private void createParallelComputationControl(Composite composite, int columns) {
+		PixelConverter pixelConverter= new PixelConverter(composite);
+		String str= PreferencesMessages.CodeAssistAdvancedConfigurationBlock_parallelComputation;
+		Button checkbox= addCheckBox(composite, str, PREF_CODEASSIST_PARALLEL_COMPUTATION, new String[] { Boolean.TRUE.toString(), Boolean.FALSE.toString() }, pixelConverter.convertWidthInCharsToPixels(7));
+		checkbox.setLayoutData(new GridData(GridData.FILL, GridData.FILL, true, false, columns, 1));
+
+		Composite timeoutComposite= new Composite(composite, SWT.NONE);
+		GridLayout layout= new GridLayout(4, false);
+		layout.marginWidth= 0;
+		layout.marginHeight= 0;
+		timeoutComposite.setLayout(layout);
+		GridData gd= new GridData(GridData.FILL, GridData.FILL, true, false, columns, 1);
+		gd.horizontalIndent= 30;
+		timeoutComposite.setLayoutData(gd);
+		str= PreferencesMessages.CodeAssistAdvancedConfigurationBlock_categoryTimeout;
+		addTextField(timeoutComposite, str, PREF_CODEASSIST_CATEGORY_TIMEOUT, 0, pixelConverter.convertWidthInCharsToPixels(7));
+
+		String times= CompletionProposalComputerRegistry.getDefault().getComputationTimes().collect(Collectors.joining("\n")); //$NON-NLS-1$
+		if (!times.isEmpty()) {
+			Label label= new Label(composite, SWT.NONE);
+			label.setText(Messages.format(PreferencesMessages.CodeAssistAdvancedConfigurationBlock_computationTimes, times));
+			GridData layoutData= new GridData(GridData.FILL, GridData.FILL, true, false, columns, 1);
+			layoutData.horizontalIndent= 30;
+			label.setLayoutData(layoutData);
+			label.setEnabled(false);
+		}
+	}
+
 	private void createDefaultLabel(Composite composite, int h_span) {
 	    final ICommandService commandSvc= PlatformUI.getWorkbench().getAdapter(ICommandService.class);
 		final Command command= commandSvc.getCommand(ITextEditorActionDefinitionIds.CONTENT_ASSIST_PROPOSALS);
@@ -702,27 +735,35 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 	@Override
 	protected void validateSettings(Key changedKey, String oldValue, String newValue) {
 		if (changedKey == PREF_CODEASSIST_TIMEOUT_FOR_PARAMETER_NAME_FROM_ATTACHED_JAVADOC) {
-			final StatusInfo status= new StatusInfo();
-			if (newValue.length() == 0) {
-				status.setError(PreferencesMessages.CodeAssistAdvancedConfigurationBlock_parameterNameFromAttachedJavadoc_timeout_emptyInput);
-			} else {
-				try {
-					int number= Integer.parseInt(newValue);
-					int min= 0;
-					int max= 5000;
-					if (number < min || number > max) {
-						String msgFormat= PreferencesMessages.CodeAssistAdvancedConfigurationBlock_parameterNameFromAttachedJavadoc_timeout_invalidRange;
-						String msg= Messages.format(msgFormat, new Object[] {Integer.valueOf(min), Integer.valueOf(max)});
-						status.setError(msg);
-					}
-				} catch (NumberFormatException ex) {
-					String msgFormat= PreferencesMessages.CodeAssistAdvancedConfigurationBlock_parameterNameFromAttachedJavadoc_timeout_invalidInput;
-					String msg= Messages.format(msgFormat, newValue);
+			fContext.statusChanged(validateTimeout(newValue, 0, 5000,
+					PreferencesMessages.CodeAssistAdvancedConfigurationBlock_parameterNameFromAttachedJavadoc_timeout_emptyInput,
+					PreferencesMessages.CodeAssistAdvancedConfigurationBlock_parameterNameFromAttachedJavadoc_timeout_invalidInput,
+					PreferencesMessages.CodeAssistAdvancedConfigurationBlock_parameterNameFromAttachedJavadoc_timeout_invalidRange));
+		} else if (changedKey == PREF_CODEASSIST_CATEGORY_TIMEOUT) {
+			fContext.statusChanged(validateTimeout(newValue, 100, 60000,
+					PreferencesMessages.CodeAssistAdvancedConfigurationBlock_categoryTimeout_emptyInput,
+					PreferencesMessages.CodeAssistAdvancedConfigurationBlock_categoryTimeout_invalidInput,
+					PreferencesMessages.CodeAssistAdvancedConfigurationBlock_categoryTimeout_invalidRange));
+		}
+	}
+
+	private static StatusInfo validateTimeout(String value, int min, int max, String emptyInput, String invalidInput, String invalidRange) {
+		final StatusInfo status= new StatusInfo();
+		if (value.length() == 0) {
+			status.setError(emptyInput);
+		} else {
+			try {
+				int number= Integer.parseInt(value);
+				if (number < min || number > max) {
+					String msg= Messages.format(invalidRange, new Object[] {Integer.valueOf(min), Integer.valueOf(max)});
 					status.setError(msg);
 				}
+			} catch (NumberFormatException ex) {
+				String msg= Messages.format(invalidInput, value);
+				status.setError(msg);
 			}
-			fContext.statusChanged(status);
 		}
+		return status;
 	}
 
 	/*
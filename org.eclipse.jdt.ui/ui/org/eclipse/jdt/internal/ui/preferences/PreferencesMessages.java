@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,6 +67,12 @@ public final class PreferencesMessages extends NLS {
 	public static String CodeAssistAdvancedConfigurationBlock_parameterNameFromAttachedJavadoc_timeout_invalidRange;
 	public static String CodeAssistAdvancedConfigurationBlock_nonUIThread;
 	public static String CodeAssistAdvancedConfigurationBlock_nonUIThread_computersRequiringUIThread;
+	public static String CodeAssistAdvancedConfigurationBlock_parallelComputation;
+	public static String CodeAssistAdvancedConfigurationBlock_categoryTimeout;
+	public static String CodeAssistAdvancedConfigurationBlock_categoryTimeout_emptyInput;
+	public static String CodeAssistAdvancedConfigurationBlock_categoryTimeout_invalidInput;
+	public static String CodeAssistAdvancedConfigurationBlock_categoryTimeout_invalidRange;
+	public static String CodeAssistAdvancedConfigurationBlock_computationTimes;
 	public static String ImportOrganizePreferencePage_title;
 	public static String ImportOrganizeConfigurationBlock_order_label;
 	public static String ImportOrganizeConfigurationBlock_other_static;
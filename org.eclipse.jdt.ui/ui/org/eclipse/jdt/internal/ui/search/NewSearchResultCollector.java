@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,20 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IOpenable;
 import org.eclipse.jdt.core.search.FieldDeclarationMatch;
 import org.eclipse.jdt.core.search.FieldReferenceMatch;
 import org.eclipse.jdt.core.search.LocalVariableDeclarationMatch;
@@ -27,14 +36,68 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
+/**
+ * Collects the matches of a Java search into a search result.
+ * <p>
+ * The matches are added in batches, one {@link AbstractTextSearchResult#addMatches(Match[])} call
+ * for the matches of one or more compilation units, instead of one change event per match. A batch
+ * is added when it holds {@link #MAX_PENDING_MATCHES} matches, which also bounds the memory held
+ * back from the result, or when the search moves to the next compilation unit after
+ * {@link #MAX_PENDING_TIME} milliseconds. Matches that are followed by a long scan without new
+ * matches are added by a job after {@link #MAX_PENDING_TIME} milliseconds, so that partial results
+ * can be browsed while the search is running. The remaining matches are added in
+ * {@link #endReporting()}.
+ * </p>
+ */
 public class NewSearchResultCollector extends SearchRequestor {
+
+	/**
+	 * The maximal number of matches held back from the search result.
+	 */
+	private static final int MAX_PENDING_MATCHES= 1000;
+
+	/**
+	 * The time in milliseconds after which the held back matches are added to the search result.
+	 */
+	private static final long MAX_PENDING_TIME= 200;
+
 	private AbstractTextSearchResult fSearch;
 	private boolean fIgnorePotentials;
 
+	/**
+	 * The matches held back from the search result. Access is synchronized on this list, as the
+	 * matches are also added by {@link #fFlushJob}.
+	 */
+	private final List<Match> fPendingMatches;
+
+	/**
+	 * The compilation unit or class file of the last pending match, or <code>null</code>
+	 */
+	private IOpenable fPendingOpenable;
+
+	/**
+	 * The time when the first pending match was found
+	 */
+	private long fPendingSince;
+
+	/**
+	 * Adds the pending matches when no further match arrives in time.
+	 */
+	private final Job fFlushJob;
+
 	public NewSearchResultCollector(AbstractTextSearchResult search, boolean ignorePotentials) {
 		super();
 		fSearch= search;
 		fIgnorePotentials= ignorePotentials;
+		fPendingMatches= new ArrayList<>();
+		fFlushJob= new Job("Java search result update") { //$NON-NLS-1$
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				flushPendingMatches();
+				return Status.OK_STATUS;
+			}
+		};
+		fFlushJob.setSystem(true);
 	}
 
 	@Override
@@ -63,7 +126,37 @@ public class NewSearchResultCollector extends SearchRequestor {
 				MethodReferenceMatch methodRef= (MethodReferenceMatch) match;
 				isSuperInvocation= methodRef.isSuperInvocation();
 			}
-			fSearch.addMatch(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			addPendingMatch(enclosingElement.getOpenable(), new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+		}
+	}
+
+	private void addPendingMatch(IOpenable openable, Match match) {
+		synchronized (fPendingMatches) {
+			if (fPendingMatches.isEmpty()) {
+				fPendingSince= System.currentTimeMillis();
+				fFlushJob.schedule(MAX_PENDING_TIME);
+			} else if (openable != fPendingOpenable && (openable == null || !openable.equals(fPendingOpenable))
+					&& System.currentTimeMillis() - fPendingSince >= MAX_PENDING_TIME) {
+				// keep the matches of a compilation unit together
+				flushPendingMatches();
+				fPendingSince= System.currentTimeMillis();
+				fFlushJob.schedule(MAX_PENDING_TIME);
+			}
+			fPendingMatches.add(match);
+			fPendingOpenable= openable;
+			if (fPendingMatches.size() >= MAX_PENDING_MATCHES) {
+				flushPendingMatches();
+			}
+		}
+	}
+
+	private void flushPendingMatches() {
+		synchronized (fPendingMatches) {
+			if (!fPendingMatches.isEmpty()) {
+				fSearch.addMatches(fPendingMatches.toArray(new Match[fPendingMatches.size()]));
+				fPendingMatches.clear();
+			}
+			fPendingOpenable= null;
 		}
 	}
 
@@ -73,6 +166,8 @@ public class NewSearchResultCollector extends SearchRequestor {
 
 	@Override
 	public void endReporting() {
+		fFlushJob.cancel();
+		flushPendingMatches();
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IAdaptable;
@@ -23,8 +27,12 @@ import org.eclipse.core.resources.IResourceDelta;
 
 import org.eclipse.search.ui.IQueryListener;
 import org.eclipse.search.ui.ISearchQuery;
+import org.eclipse.search.ui.ISearchResultListener;
 import org.eclipse.search.ui.NewSearchUI;
+import org.eclipse.search.ui.SearchResultEvent;
 import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
+import org.eclipse.search.ui.text.RemoveAllEvent;
 
 import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.IElementChangedListener;
@@ -32,7 +40,15 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.JavaCore;
 
-public class SearchResultUpdater implements IElementChangedListener, IQueryListener {
+/**
+ * Removes the matches of deleted elements from a Java search result.
+ * <p>
+ * The elements of the result are indexed by their compilation unit or class file, package
+ * fragment, package fragment root and project, and resources by their containers, so that a
+ * removed element is mapped to the affected elements of the result by direct lookups.
+ * </p>
+ */
+public class SearchResultUpdater implements IElementChangedListener, IQueryListener, ISearchResultListener {
 
 	JavaSearchResult fResult;
 	private static final int REMOVED_FLAGS= IJavaElementDelta.F_MOVED_TO |
@@ -40,13 +56,110 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 									IJavaElementDelta.F_CLOSED |
 									IJavaElementDelta.F_CONTENT;
 
+	/**
+	 * The elements of the result, keyed by their containers. Guarded by the map itself.
+	 */
+	private final Map<Object, Set<Object>> fElementsByContainer;
+
 	public SearchResultUpdater(JavaSearchResult result) {
 		fResult= result;
+		fElementsByContainer= new HashMap<>();
+		fResult.addListener(this);
+		for (Object element : fResult.getElements()) {
+			index(element);
+		}
 		NewSearchUI.addQueryListener(this);
 		JavaCore.addElementChangedListener(this);
 		// TODO make this work with resources
 	}
 
+	@Override
+	public void searchResultChanged(SearchResultEvent e) {
+		if (e instanceof MatchEvent) {
+			MatchEvent event= (MatchEvent) e;
+			for (Match match : event.getMatches()) {
+				Object element= match.getElement();
+				if (event.getKind() == MatchEvent.ADDED) {
+					index(element);
+				} else if (fResult.getMatchCount(element) == 0) {
+					unindex(element);
+				}
+			}
+		} else if (e instanceof RemoveAllEvent) {
+			synchronized (fElementsByContainer) {
+				fElementsByContainer.clear();
+			}
+		}
+	}
+
+	private void index(Object element) {
+		synchronized (fElementsByContainer) {
+			Set<Object> indexed= fElementsByContainer.get(element);
+			if (indexed != null && indexed.contains(element)) {
+				return;
+			}
+			for (Object container : getContainers(element)) {
+				fElementsByContainer.computeIfAbsent(container, k -> new HashSet<>()).add(element);
+			}
+		}
+	}
+
+	private void unindex(Object element) {
+		synchronized (fElementsByContainer) {
+			for (Object container : getContainers(element)) {
+				Set<Object> elements= fElementsByContainer.get(container);
+				if (elements != null) {
+					elements.remove(element);
+					if (elements.isEmpty()) {
+						fElementsByContainer.remove(container);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the keys under which an element of the result is indexed: the element and its
+	 * compilation unit or class file, package fragment, package fragment root and project, or all
+	 * the containers of a resource.
+	 *
+	 * @param element an element of the result
+	 * @return the keys
+	 */
+	private List<Object> getContainers(Object element) {
+		List<Object> containers= new ArrayList<>();
+		containers.add(element);
+		if (element instanceof IJavaElement) {
+			IJavaElement parent= ((IJavaElement) element).getParent();
+			while (parent != null && parent.getElementType() != IJavaElement.JAVA_MODEL) {
+				if (isIndexedJavaElement(parent)) {
+					containers.add(parent);
+				}
+				parent= parent.getParent();
+			}
+		} else if (element instanceof IResource) {
+			IResource parent= ((IResource) element).getParent();
+			while (parent != null && parent.getType() != IResource.ROOT) {
+				containers.add(parent);
+				parent= parent.getParent();
+			}
+		}
+		return containers;
+	}
+
+	private static boolean isIndexedJavaElement(IJavaElement element) {
+		switch (element.getElementType()) {
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+			case IJavaElement.PACKAGE_FRAGMENT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.JAVA_PROJECT:
+				return true;
+			default:
+				return false;
+		}
+	}
+
 	@Override
 	public void elementChanged(ElementChangedEvent event) {
 		//long t0= System.currentTimeMillis();
@@ -62,36 +175,59 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 	}
 
 	private void handleRemoved(Set<IAdaptable> removedElements) {
-		for (Object element : fResult.getElements()) {
-			if (isContainedInRemoved(removedElements, element)) {
-				if (element instanceof IJavaElement) {
-					IJavaElement je= (IJavaElement) element;
-					if (!je.exists()) {
-						//System.out.println("removing: "+je+" in "+fResult.getUserData());
-						for (Match match : fResult.getMatches(element)) {
-							fResult.removeMatch(match);
-						}
+		for (Object element : getElementsInRemoved(removedElements)) {
+			if (element instanceof IJavaElement) {
+				IJavaElement je= (IJavaElement) element;
+				if (!je.exists()) {
+					//System.out.println("removing: "+je+" in "+fResult.getUserData());
+					for (Match match : fResult.getMatches(element)) {
+						fResult.removeMatch(match);
 					}
-				} else if (element instanceof IResource) {
-					IResource resource= (IResource) element;
-					if (!resource.exists()) {
-						//System.out.println("removing: "+resource+" in "+fResult.getUserData());
-						for (Match match : fResult.getMatches(element)) {
-							fResult.removeMatch(match);
-						}
+				}
+			} else if (element instanceof IResource) {
+				IResource resource= (IResource) element;
+				if (!resource.exists()) {
+					//System.out.println("removing: "+resource+" in "+fResult.getUserData());
+					for (Match match : fResult.getMatches(element)) {
+						fResult.removeMatch(match);
 					}
-
 				}
+
 			}
 		}
 	}
 
-	private boolean isContainedInRemoved(Set<IAdaptable> removedElements, Object object) {
-		for (IAdaptable iAdaptable : removedElements) {
-			if (isParentOf(iAdaptable, object))
-				return true;
+	/**
+	 * Looks up the elements of the result contained in the removed elements. A removed member is
+	 * looked up through its compilation unit or class file.
+	 *
+	 * @param removedElements the removed elements
+	 * @return the elements of the result contained in a removed element
+	 */
+	private Set<Object> getElementsInRemoved(Set<IAdaptable> removedElements) {
+		Set<Object> result= new HashSet<>();
+		synchronized (fElementsByContainer) {
+			for (IAdaptable removed : removedElements) {
+				Object container= removed;
+				while (container instanceof IJavaElement && !isIndexedJavaElement((IJavaElement) container)) {
+					container= getParent(container);
+				}
+				Set<Object> elements= container != null ? fElementsByContainer.get(container) : null;
+				if (elements == null) {
+					continue;
+				}
+				if (container == removed) {
+					result.addAll(elements);
+				} else {
+					for (Object element : elements) {
+						if (isParentOf(removed, element)) {
+							result.add(element);
+						}
+					}
+				}
+			}
 		}
-		return false;
+		return result;
 	}
 
 	private boolean isParentOf(Object ancestor, Object descendant) {
@@ -139,6 +275,7 @@ public class SearchResultUpdater implements IElementChangedListener, IQueryListe
 		if (fResult.equals(query.getSearchResult())) {
 			JavaCore.removeElementChangedListener(this);
 			NewSearchUI.removeQueryListener(this);
+			fResult.removeListener(this);
 		}
 	}
 
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2022 Darmstadt University of Technology and others
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -192,6 +192,8 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 			finder.cancel();
 			executor.shutdownNow();
 			setError("Timeout during call chain computation."); //$NON-NLS-1$
+		} finally {
+			executor.shutdown();
 		}
 		return buildCompletionProposals(finder.getChains());
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2012 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -139,6 +139,12 @@ final class CompletionProposalComputerDescriptor {
 	private boolean fIsReportingDelay= false;
 	/** The start of the last operation. */
 	private long fStart;
+	/** The number of completed proposal computations, guarded by <code>this</code>. */
+	private int fComputationCount;
+	/** The total time of the completed proposal computations in milliseconds, guarded by <code>this</code>. */
+	private long fTotalComputationTime;
+	/** The longest proposal computation in milliseconds, guarded by <code>this</code>. */
+	private long fMaxComputationTime;
 	/**
 	 * Tells whether we tried to load the computer.
 	 * @since 3.4
@@ -351,7 +357,9 @@ final class CompletionProposalComputerDescriptor {
 
 			try {
 				PerformanceStats stats= startMeter(context, computer);
+				long start= System.currentTimeMillis();
 				List<ICompletionProposal> proposals= computer.computeCompletionProposals(context, monitor);
+				recordComputationTime(System.currentTimeMillis() - start);
 				stopMeter(stats, COMPUTE_COMPLETION_PROPOSALS);
 
 				if (proposals != null) {
@@ -513,6 +521,34 @@ final class CompletionProposalComputerDescriptor {
 		fRegistry.informUser(this, status);
 	}
 
+	private synchronized void recordComputationTime(long time) {
+		fComputationCount++;
+		fTotalComputationTime+= time;
+		fMaxComputationTime= Math.max(fMaxComputationTime, time);
+	}
+
+	/**
+	 * Returns the average time the extension took to compute completion proposals.
+	 *
+	 * @return the average time in milliseconds, or <code>-1</code> if no proposals have been
+	 *         computed yet
+	 * @since 3.33
+	 */
+	public synchronized long getAverageComputationTime() {
+		return fComputationCount == 0 ? -1 : fTotalComputationTime / fComputationCount;
+	}
+
+	/**
+	 * Returns the longest time the extension took to compute completion proposals.
+	 *
+	 * @return the longest time in milliseconds, or <code>-1</code> if no proposals have been
+	 *         computed yet
+	 * @since 3.33
+	 */
+	public synchronized long getMaxComputationTime() {
+		return fComputationCount == 0 ? -1 : fMaxComputationTime;
+	}
+
 	private PerformanceStats startMeter(Object context, IJavaCompletionProposalComputer computer) {
 		final PerformanceStats stats;
 		if (MEASURE_PERFORMANCE) {
@@ -542,7 +578,7 @@ final class CompletionProposalComputerDescriptor {
 		if (fIsReportingDelay) {
 			long current= System.currentTimeMillis();
 			if (current - fStart > MAX_DELAY) {
-				IStatus status= createPerformanceStatus(operation);
+				IStatus status= createPerformanceStatus(operation, current - fStart);
 				fRegistry.informUser(this, status);
 			}
 		}
@@ -583,6 +619,13 @@ final class CompletionProposalComputerDescriptor {
 		return new Status(IStatus.WARNING, JavaPlugin.getPluginId(), IStatus.OK, blame + " " + reason, null); //$NON-NLS-1$
 	}
 
+	private IStatus createPerformanceStatus(String operation, long time) {
+		String blame= createBlameMessage();
+		Object[] args= { operation, Long.valueOf(time), Long.valueOf(getAverageComputationTime()) };
+		String reason= Messages.format(JavaTextMessages.CompletionProposalComputerDescriptor_reason_performance_time, args);
+		return new Status(IStatus.WARNING, JavaPlugin.getPluginId(), IStatus.OK, blame + " " + reason, null); //$NON-NLS-1$
+	}
+
 	private String createBlameMessage() {
 		Object[] args= { getName(), fElement.getDeclaringExtension().getContributor().getName() };
 		String disable= Messages.format( JavaTextMessages.CompletionProposalComputerDescriptor_blame_message, args);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -530,4 +530,15 @@ public final class CompletionProposalComputerRegistry {
 	public Stream<String> getComputersRequiringUIThreadNames() {
 		return fDescriptors.stream().filter(CompletionProposalComputerDescriptor::requiresUIThread).map(CompletionProposalComputerDescriptor::getName);
 	}
+
+	/**
+	 * @return a description of the average and longest proposal computation time of each computer
+	 *         which computed proposals in this session
+	 * @since 3.33
+	 */
+	public Stream<String> getComputationTimes() {
+		return fDescriptors.stream().filter(desc -> desc.getAverageComputationTime() >= 0)
+				.map(desc -> Messages.format(JavaTextMessages.CompletionProposalComputerRegistry_computation_time,
+						new Object[] { desc.getName(), Long.valueOf(desc.getAverageComputationTime()), Long.valueOf(desc.getMaxComputationTime()) }));
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2011 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.java;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
@@ -53,7 +57,10 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Preferences;
 
+import org.eclipse.jdt.core.CompletionContext;
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
@@ -184,6 +191,164 @@ public final class ContentAssistHistory {
 		}
 	}
 
+	/**
+	 * Compact persistence implementation. All type names and contexts are written once to a
+	 * string table and referenced by their index.
+	 *
+	 * @since 3.33
+	 */
+	private static final class BinaryReaderWriter {
+
+		private static final int MAGIC= 0x43414831; // "CAH1"
+
+		public void store(ContentAssistHistory history, OutputStream stream) throws CoreException {
+			Map<String, Integer> ids= new LinkedHashMap<>();
+			for (Entry<String, MRUSet<String>> entry : history.fLHSCache.entrySet()) {
+				getId(ids, entry.getKey());
+				for (String rhs : entry.getValue())
+					getId(ids, rhs);
+			}
+			for (Entry<String, FrequencyTable> entry : history.fFrequencyCache.entrySet()) {
+				getId(ids, entry.getKey());
+				FrequencyTable table= entry.getValue();
+				for (int i= 0; i < table.fSize; i++)
+					getId(ids, history.fTypeNames.get(table.fTypes[i]));
+			}
+			try {
+				DataOutputStream out= new DataOutputStream(stream);
+				out.writeInt(MAGIC);
+				out.writeInt(history.fMaxLHS);
+				out.writeInt(history.fMaxRHS);
+				out.writeInt(ids.size());
+				for (String name : ids.keySet())
+					out.writeUTF(name);
+				out.writeInt(history.fLHSCache.size());
+				for (Entry<String, MRUSet<String>> entry : history.fLHSCache.entrySet()) {
+					out.writeInt(ids.get(entry.getKey()).intValue());
+					out.writeInt(entry.getValue().size());
+					for (String rhs : entry.getValue())
+						out.writeInt(ids.get(rhs).intValue());
+				}
+				out.writeInt(history.fFrequencyCache.size());
+				for (Entry<String, FrequencyTable> entry : history.fFrequencyCache.entrySet()) {
+					FrequencyTable table= entry.getValue();
+					out.writeInt(ids.get(entry.getKey()).intValue());
+					out.writeInt(table.fSize);
+					for (int i= 0; i < table.fSize; i++) {
+						out.writeInt(ids.get(history.fTypeNames.get(table.fTypes[i])).intValue());
+						out.writeInt(table.fCounts[i]);
+					}
+				}
+				out.flush();
+			} catch (IOException e) {
+				throw createException(e, JavaTextMessages.ContentAssistHistory_serialize_error);
+			}
+		}
+
+		public ContentAssistHistory load(InputStream stream) throws CoreException {
+			try {
+				DataInputStream in= new DataInputStream(stream);
+				if (in.readInt() != MAGIC)
+					return null;
+				int maxLHS= in.readInt();
+				int maxRHS= in.readInt();
+				ContentAssistHistory history= new ContentAssistHistory(maxLHS > 0 ? maxLHS : DEFAULT_TRACKED_LHS, maxRHS > 0 ? maxRHS : DEFAULT_TRACKED_RHS);
+				String[] names= new String[in.readInt()];
+				for (int i= 0; i < names.length; i++)
+					names[i]= in.readUTF();
+				int nLHS= in.readInt();
+				for (int i= 0; i < nLHS; i++) {
+					Set<String> cache= history.getCache(names[in.readInt()]);
+					int nRHS= in.readInt();
+					for (int j= 0; j < nRHS; j++)
+						cache.add(names[in.readInt()]);
+				}
+				int nTables= in.readInt();
+				for (int i= 0; i < nTables; i++) {
+					FrequencyTable table= history.getFrequencyTable(names[in.readInt()]);
+					int size= in.readInt();
+					for (int j= 0; j < size; j++) {
+						int type= history.getTypeId(names[in.readInt()]);
+						table.add(type, in.readInt());
+					}
+				}
+				return history;
+			} catch (IOException | ArrayIndexOutOfBoundsException | NegativeArraySizeException e) {
+				throw createException(e, JavaTextMessages.ContentAssistHistory_deserialize_error);
+			}
+		}
+
+		private static int getId(Map<String, Integer> ids, String name) {
+			return ids.computeIfAbsent(name, k -> Integer.valueOf(ids.size())).intValue();
+		}
+
+		private JavaUIException createException(Exception e, String message) {
+			return new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, message, e));
+		}
+	}
+
+	/**
+	 * The number of times right hand sides have been selected, keyed by type ids. When the table
+	 * is full, the least frequently selected type is replaced.
+	 *
+	 * @since 3.33
+	 */
+	private static final class FrequencyTable {
+		private static final int MAX_COUNT= 1 << 16;
+
+		private final int[] fTypes;
+		private final int[] fCounts;
+		private int fSize;
+
+		FrequencyTable(int maxSize) {
+			fTypes= new int[maxSize];
+			fCounts= new int[maxSize];
+		}
+
+		void add(int type, int count) {
+			int index= indexOf(type);
+			if (index == -1) {
+				if (fSize < fTypes.length) {
+					index= fSize++;
+				} else {
+					index= 0;
+					for (int i= 1; i < fSize; i++) {
+						if (fCounts[i] <= fCounts[index])
+							index= i;
+					}
+				}
+				fTypes[index]= type;
+				fCounts[index]= 0;
+			}
+			fCounts[index]= Math.min(fCounts[index] + Math.max(count, 1), MAX_COUNT);
+			if (fCounts[index] == MAX_COUNT) {
+				// age the table so that later selections still count
+				for (int i= 0; i < fSize; i++)
+					fCounts[i]= (fCounts[i] + 1) / 2;
+			}
+		}
+
+		int getCount(int type) {
+			int index= indexOf(type);
+			return index == -1 ? 0 : fCounts[index];
+		}
+
+		int getMaxCount() {
+			int max= 0;
+			for (int i= 0; i < fSize; i++)
+				max= Math.max(max, fCounts[i]);
+			return max;
+		}
+
+		private int indexOf(int type) {
+			for (int i= 0; i < fSize; i++) {
+				if (fTypes[i] == type)
+					return i;
+			}
+			return -1;
+		}
+	}
+
 	/**
 	 * Most recently used variant with capped size that only counts
 	 * {@linkplain #put(Object, Object) put} as access. This is implemented by always removing an
@@ -269,24 +434,39 @@ public final class ContentAssistHistory {
 	 */
 	public static final class RHSHistory {
 		private final LinkedHashMap<String, Integer> fHistory;
+		private final Map<String, Float> fFrequencies;
 		private List<String> fList;
 
 		RHSHistory(LinkedHashMap<String, Integer> history) {
+			this(history, null);
+		}
+
+		RHSHistory(LinkedHashMap<String, Integer> history, Map<String, Float> frequencies) {
 			fHistory= history;
+			fFrequencies= frequencies;
 		}
 
 		/**
 		 * Returns the rank of a type in the history in [0.0,&nbsp;1.0]. The rank of the most
-		 * recently selected type is 1.0, the rank of any type that is not remembered is zero.
+		 * recently selected type is 1.0, the rank of any type that is not remembered is zero. If
+		 * the history has been requested for a context, the rank is the mean of the recency and
+		 * the frequency of the type in that context.
 		 *
 		 * @param type the fully qualified type name to get the rank for
 		 * @return the rank of <code>type</code>
 		 */
 		public float getRank(String type) {
-			if (fHistory == null)
-				return 0.0F;
-			Integer integer= fHistory.get(type);
-			return integer == null ? 0.0F : integer.floatValue() / fHistory.size();
+			float rank= 0.0F;
+			if (fHistory != null) {
+				Integer integer= fHistory.get(type);
+				if (integer != null)
+					rank= integer.floatValue() / fHistory.size();
+			}
+			if (fFrequencies != null) {
+				Float frequency= fFrequencies.get(type);
+				rank= (rank + (frequency == null ? 0.0F : frequency.floatValue())) / 2;
+			}
+			return rank;
 		}
 
 		/**
@@ -317,6 +497,12 @@ public final class ContentAssistHistory {
 	private static final RHSHistory EMPTY_HISTORY= new RHSHistory(null);
 	private static final int DEFAULT_TRACKED_LHS= 100;
 	private static final int DEFAULT_TRACKED_RHS= 10;
+	/**
+	 * The number of frequency tables per tracked left hand side, the tables are keyed by the left
+	 * hand side alone and by the left hand side in a member context
+	 */
+	private static final int TRACKED_CONTEXTS_PER_LHS= 4;
+	private static final char CONTEXT_SEPARATOR= ' ';
 
 	private static final Set<String> UNCACHEABLE;
 	static {
@@ -329,6 +515,9 @@ public final class ContentAssistHistory {
 	}
 
 	private final LinkedHashMap<String, MRUSet<String>> fLHSCache;
+	private final LinkedHashMap<String, FrequencyTable> fFrequencyCache;
+	private final Map<String, Integer> fTypeIds= new HashMap<>();
+	private final List<String> fTypeNames= new ArrayList<>();
 	private final int fMaxLHS;
 	private final int fMaxRHS;
 
@@ -344,6 +533,7 @@ public final class ContentAssistHistory {
 		fMaxLHS= maxLHS;
 		fMaxRHS= maxRHS;
 		fLHSCache= new MRUMap<>(fMaxLHS);
+		fFrequencyCache= new MRUMap<>(fMaxLHS * TRACKED_CONTEXTS_PER_LHS);
 	}
 
 	/**
@@ -362,6 +552,20 @@ public final class ContentAssistHistory {
 	 * @param rhs the selected right hand side
 	 */
 	public void remember(IType lhs, IType rhs) {
+		remember(lhs, rhs, null);
+	}
+
+	/**
+	 * Remembers the selection of a right hand side type (proposal type) for a certain left hand side (expected
+	 * type) in a member context in content assist.
+	 *
+	 * @param lhs the left hand side / expected type
+	 * @param rhs the selected right hand side
+	 * @param context the member context as computed by {@link #getContext(CompletionContext)}, or
+	 *            <code>null</code>
+	 * @since 3.33
+	 */
+	public void remember(IType lhs, IType rhs, String context) {
 		Assert.isLegal(lhs != null);
 		Assert.isLegal(rhs != null);
 
@@ -373,15 +577,37 @@ public final class ContentAssistHistory {
 				// TODO remember for every member of the LHS hierarchy or not? Yes for now.
 				String rhsQualifiedName= rhs.getFullyQualifiedName();
 				for (IType lhSide : hierarchy.getAllSupertypes(lhs)) {
-					rememberInternal(lhSide, rhsQualifiedName);
+					rememberInternal(lhSide, rhsQualifiedName, null);
 				}
-				rememberInternal(lhs, rhsQualifiedName);
+				rememberInternal(lhs, rhsQualifiedName, context);
 			}
 		} catch (JavaModelException x) {
 			JavaPlugin.log(x);
 		}
 	}
 
+	/**
+	 * Returns the member context of a content assist invocation, which is the enclosing member
+	 * qualified by its declaring type.
+	 *
+	 * @param context the core completion context, may be <code>null</code>
+	 * @return the member context, or <code>null</code> if it is not known
+	 * @since 3.33
+	 */
+	public static String getContext(CompletionContext context) {
+		if (context == null || !context.isExtended())
+			return null;
+		IJavaElement element= context.getEnclosingElement();
+		if (!(element instanceof IMember))
+			return null;
+		if (element instanceof IType)
+			return ((IType) element).getFullyQualifiedName();
+		IType declaringType= ((IMember) element).getDeclaringType();
+		if (declaringType == null)
+			return null;
+		return declaringType.getFullyQualifiedName() + '#' + element.getElementName();
+	}
+
 	/**
 	 * Returns the {@link RHSHistory history} of the types that have been selected most recently as
 	 * right hand sides for the given type.
@@ -391,18 +617,52 @@ public final class ContentAssistHistory {
 	 * @return the right hand side history for the given type
 	 */
 	public RHSHistory getHistory(String lhs) {
+		LinkedHashMap<String, Integer> history= getRecencyRanks(lhs);
+		return history == null ? EMPTY_HISTORY : new RHSHistory(history);
+	}
+
+	/**
+	 * Returns the {@link RHSHistory history} of the types that have been selected as right hand
+	 * sides for the given type, ranked by recency and by the frequency of their selection in the
+	 * given member context. If the types have not been selected in the context, the frequency of
+	 * their selection for the type in any context is used.
+	 *
+	 * @param lhs the fully qualified type name of an expected type for which right hand sides are
+	 *        requested, or <code>null</code>
+	 * @param context the member context as computed by {@link #getContext(CompletionContext)}, or
+	 *            <code>null</code>
+	 * @return the right hand side history for the given type
+	 * @since 3.33
+	 */
+	public RHSHistory getHistory(String lhs, String context) {
+		LinkedHashMap<String, Integer> history= getRecencyRanks(lhs);
+		FrequencyTable table= null;
+		if (lhs != null && context != null)
+			table= fFrequencyCache.get(lhs + CONTEXT_SEPARATOR + context);
+		if (table == null && lhs != null)
+			table= fFrequencyCache.get(lhs);
+		if (table == null)
+			return history == null ? EMPTY_HISTORY : new RHSHistory(history);
+
+		Map<String, Float> frequencies= new HashMap<>();
+		float max= table.getMaxCount();
+		for (int i= 0; i < table.fSize; i++)
+			frequencies.put(fTypeNames.get(table.fTypes[i]), Float.valueOf(table.fCounts[i] / max));
+		return new RHSHistory(history, frequencies);
+	}
+
+	private LinkedHashMap<String, Integer> getRecencyRanks(String lhs) {
 		MRUSet<String> rhsCache= fLHSCache.get(lhs);
-		if (rhsCache != null) {
-			int count= rhsCache.size();
-			LinkedHashMap<String, Integer> history= new LinkedHashMap<>((int) (count / 0.75));
-			int rank= 1;
-			for (Iterator<String> it= rhsCache.iterator(); it.hasNext(); rank++) {
-				String type= it.next();
-				history.put(type, rank);
-			}
-			return new RHSHistory(history);
+		if (rhsCache == null)
+			return null;
+		int count= rhsCache.size();
+		LinkedHashMap<String, Integer> history= new LinkedHashMap<>((int) (count / 0.75));
+		int rank= 1;
+		for (Iterator<String> it= rhsCache.iterator(); it.hasNext(); rank++) {
+			String type= it.next();
+			history.put(type, rank);
 		}
-		return EMPTY_HISTORY;
+		return history;
 	}
 
 	/**
@@ -420,10 +680,15 @@ public final class ContentAssistHistory {
 		return Collections.unmodifiableMap(map);
 	}
 
-	private void rememberInternal(IType lhs, String rhsQualifiedName) throws JavaModelException {
+	private void rememberInternal(IType lhs, String rhsQualifiedName, String context) throws JavaModelException {
 		String lhsQualifiedName= lhs.getFullyQualifiedName();
-		if (isCacheableLHS(lhs, lhsQualifiedName))
+		if (isCacheableLHS(lhs, lhsQualifiedName)) {
 			getCache(lhsQualifiedName).add(rhsQualifiedName);
+			int type= getTypeId(rhsQualifiedName);
+			getFrequencyTable(lhsQualifiedName).add(type, 1);
+			if (context != null)
+				getFrequencyTable(lhsQualifiedName + CONTEXT_SEPARATOR + context).add(type, 1);
+		}
 	}
 
 	private boolean isCacheableLHS(IType type, String qualifiedName) throws JavaModelException {
@@ -444,6 +709,25 @@ public final class ContentAssistHistory {
 		return rhsCache;
 	}
 
+	private FrequencyTable getFrequencyTable(String key) {
+		FrequencyTable table= fFrequencyCache.get(key);
+		if (table == null) {
+			table= new FrequencyTable(fMaxRHS);
+			fFrequencyCache.put(key, table);
+		}
+		return table;
+	}
+
+	private int getTypeId(String qualifiedName) {
+		Integer id= fTypeIds.get(qualifiedName);
+		if (id == null) {
+			id= Integer.valueOf(fTypeNames.size());
+			fTypeIds.put(qualifiedName, id);
+			fTypeNames.add(qualifiedName);
+		}
+		return id.intValue();
+	}
+
 	private IProgressMonitor getProgressMonitor() {
 		return new NullProgressMonitor();
 	}
@@ -481,4 +765,32 @@ public final class ContentAssistHistory {
 		}
 		return null;
 	}
+
+	/**
+	 * Stores the history in a compact binary form, including the frequencies of the selections.
+	 *
+	 * @param history the history to store
+	 * @param stream the stream to write to, not closed by this method
+	 * @throws CoreException if serialization fails
+	 * @see #load(InputStream) on how to restore a history stored by this method
+	 * @since 3.33
+	 */
+	public static void store(ContentAssistHistory history, OutputStream stream) throws CoreException {
+		new BinaryReaderWriter().store(history, stream);
+	}
+
+	/**
+	 * Loads a history stored in binary form.
+	 *
+	 * @param stream the stream to read from, not closed by this method
+	 * @return the deserialized history, or <code>null</code> if the stream does not contain a
+	 *         history
+	 * @throws CoreException if deserialization fails
+	 * @see #store(ContentAssistHistory, OutputStream) on how to store a history such that it can
+	 *      be read by this method
+	 * @since 3.33
+	 */
+	public static ContentAssistHistory load(InputStream stream) throws CoreException {
+		return new BinaryReaderWriter().load(stream);
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,13 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
@@ -72,6 +79,7 @@ import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
+import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.JavaUIMessages;
@@ -228,6 +236,26 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 
 	private static final Comparator<CompletionProposalCategory> ORDER_COMPARATOR= (d1, d2) -> d1.getSortOrder() - d2.getSortOrder();
 
+	/**
+	 * The threads computing proposal categories concurrently, see
+	 * {@link PreferenceConstants#CODEASSIST_PARALLEL_COMPUTATION}.
+	 *
+	 * @since 3.33
+	 */
+	private static final ExecutorService CATEGORY_EXECUTOR= Executors.newCachedThreadPool(runnable -> {
+		Thread thread= new Thread(runnable, "Java Content Assist Category Computation"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * The interval in milliseconds in which cancellation is checked while waiting for proposal
+	 * categories computed concurrently.
+	 *
+	 * @since 3.33
+	 */
+	private static final long CANCEL_CHECK_INTERVAL= 50;
+
 	private final List<CompletionProposalCategory> fCategories;
 	private final String fPartition;
 	private final ContentAssistant fAssistant;
@@ -328,12 +356,28 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		boolean needsSortingAfterFiltering= false;
 		List<ICompletionProposal> proposals= new ArrayList<>();
 		List<CompletionProposalCategory> providers= getCategories();
-		for (CompletionProposalCategory cat : providers) {
-			List<ICompletionProposal> computed= cat.computeCompletionProposals(context, fPartition, Progress.subMonitor(monitor, 1));
-			proposals.addAll(computed);
-			needsSortingAfterFiltering= needsSortingAfterFiltering || (cat.isSortingAfterFilteringNeeded() && !computed.isEmpty());
-			if (fErrorMessage == null) {
-				fErrorMessage= cat.getErrorMessage();
+		if (isParallelComputationEnabled(providers)) {
+			List<List<ICompletionProposal>> computedByCategory= computeConcurrently(providers, context, monitor);
+			for (int i= 0; i < providers.size(); i++) {
+				CompletionProposalCategory cat= providers.get(i);
+				List<ICompletionProposal> computed= computedByCategory.get(i);
+				if (computed == null) {
+					continue;
+				}
+				proposals.addAll(computed);
+				needsSortingAfterFiltering= needsSortingAfterFiltering || (cat.isSortingAfterFilteringNeeded() && !computed.isEmpty());
+				if (fErrorMessage == null) {
+					fErrorMessage= cat.getErrorMessage();
+				}
+			}
+		} else {
+			for (CompletionProposalCategory cat : providers) {
+				List<ICompletionProposal> computed= cat.computeCompletionProposals(context, fPartition, Progress.subMonitor(monitor, 1));
+				proposals.addAll(computed);
+				needsSortingAfterFiltering= needsSortingAfterFiltering || (cat.isSortingAfterFilteringNeeded() && !computed.isEmpty());
+				if (fErrorMessage == null) {
+					fErrorMessage= cat.getErrorMessage();
+				}
 			}
 		}
 		if (fNeedsSortingAfterFiltering && !needsSortingAfterFiltering) {
@@ -343,6 +387,92 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		return proposals;
 	}
 
+	/**
+	 * Tells whether the categories are computed concurrently. This is only done when the
+	 * computation does not run in the UI thread, since only then all computers are known not to
+	 * require it.
+	 *
+	 * @param categories the categories to compute
+	 * @return <code>true</code> if the categories are computed concurrently
+	 * @since 3.33
+	 */
+	private static boolean isParallelComputationEnabled(List<CompletionProposalCategory> categories) {
+		return categories.size() > 1
+				&& Display.getCurrent() == null
+				&& JavaPlugin.getDefault().getPreferenceStore().getBoolean(PreferenceConstants.CODEASSIST_PARALLEL_COMPUTATION);
+	}
+
+	/**
+	 * Computes the proposals of each category in its own thread. A category which does not complete
+	 * before the deadline ({@link PreferenceConstants#CODEASSIST_CATEGORY_TIMEOUT}) is cancelled
+	 * and its proposals are dropped.
+	 * <p>
+	 * The core completion context of a Java context is computed before the categories are
+	 * submitted, so that the categories share it instead of each computing it.
+	 * </p>
+	 *
+	 * @param categories the categories to compute
+	 * @param context the code assist invocation context
+	 * @param monitor the progress monitor
+	 * @return the proposals of each category, in the order of the categories, <code>null</code>
+	 *         for a category which did not complete
+	 * @since 3.33
+	 */
+	private List<List<ICompletionProposal>> computeConcurrently(List<CompletionProposalCategory> categories, ContentAssistInvocationContext context, IProgressMonitor monitor) {
+		if (context instanceof JavaContentAssistInvocationContext javaContext) {
+			// also computes the keyword proposals and the label provider
+			javaContext.getCoreContext();
+		}
+
+		int size= categories.size();
+		List<Future<List<ICompletionProposal>>> futures= new ArrayList<>(size);
+		List<IProgressMonitor> monitors= new ArrayList<>(size);
+		for (CompletionProposalCategory cat : categories) {
+			IProgressMonitor categoryMonitor= new NullProgressMonitor();
+			monitors.add(categoryMonitor);
+			futures.add(CATEGORY_EXECUTOR.submit(() -> cat.computeCompletionProposals(context, fPartition, categoryMonitor)));
+		}
+
+		long timeout= JavaPlugin.getDefault().getPreferenceStore().getInt(PreferenceConstants.CODEASSIST_CATEGORY_TIMEOUT);
+		long deadline= System.currentTimeMillis() + timeout;
+		List<List<ICompletionProposal>> result= new ArrayList<>(size);
+		for (int i= 0; i < size; i++) {
+			CompletionProposalCategory cat= categories.get(i);
+			Future<List<ICompletionProposal>> future= futures.get(i);
+			List<ICompletionProposal> computed= null;
+			try {
+				while (computed == null) {
+					long remaining= deadline - System.currentTimeMillis();
+					if (monitor.isCanceled()) {
+						throw new CancellationException();
+					}
+					try {
+						computed= future.get(Math.max(0, Math.min(remaining, CANCEL_CHECK_INTERVAL)), TimeUnit.MILLISECONDS);
+					} catch (TimeoutException e) {
+						if (remaining <= 0) {
+							throw e;
+						}
+					}
+				}
+			} catch (TimeoutException | CancellationException e) {
+				monitors.get(i).setCanceled(true);
+				future.cancel(false);
+				if (fErrorMessage == null && !monitor.isCanceled()) {
+					fErrorMessage= Messages.format(JavaTextMessages.ContentAssistProcessor_category_timeout, cat.getDisplayName());
+				}
+			} catch (ExecutionException e) {
+				JavaPlugin.log(e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				monitors.get(i).setCanceled(true);
+				future.cancel(false);
+			}
+			result.add(computed);
+			monitor.worked(1);
+		}
+		return result;
+	}
+
 	/**
 	 * Filters and sorts the proposals. The passed list may be modified
 	 * and returned, or a new list may be created and returned.
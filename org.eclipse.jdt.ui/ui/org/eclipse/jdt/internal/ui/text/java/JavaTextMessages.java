@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -56,15 +56,18 @@ final class JavaTextMessages extends NLS {
 	public static String ContentAssistProcessor_computing_contexts;
 	public static String ContentAssistProcessor_collecting_contexts;
 	public static String ContentAssistProcessor_sorting_contexts;
+	public static String ContentAssistProcessor_category_timeout;
 	public static String CompletionProposalComputerDescriptor_illegal_attribute_message;
 	public static String CompletionProposalComputerDescriptor_reason_invalid;
 	public static String CompletionProposalComputerDescriptor_reason_instantiation;
 	public static String CompletionProposalComputerDescriptor_reason_runtime_ex;
 	public static String CompletionProposalComputerDescriptor_reason_API;
 	public static String CompletionProposalComputerDescriptor_reason_performance;
+	public static String CompletionProposalComputerDescriptor_reason_performance_time;
 	public static String CompletionProposalComputerDescriptor_blame_message;
 	public static String CompletionProposalComputerRegistry_invalid_message;
 	public static String CompletionProposalComputerRegistry_error_dialog_title;
+	public static String CompletionProposalComputerRegistry_computation_time;
 	public static String ContentAssistProcessor_defaultProposalCategory;
 	public static String ContentAssistProcessor_toggle_affordance_press_gesture;
 	public static String ContentAssistProcessor_toggle_affordance_click_gesture;
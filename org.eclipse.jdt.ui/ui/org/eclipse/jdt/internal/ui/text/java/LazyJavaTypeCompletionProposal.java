@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -249,7 +249,7 @@ public class LazyJavaTypeCompletionProposal extends LazyJavaCompletionProposal {
 		IType lhs= fInvocationContext.getExpectedType();
 		IType rhs= (IType) getJavaElement();
 		if (lhs != null && rhs != null)
-			JavaPlugin.getDefault().getContentAssistHistory().remember(lhs, rhs);
+			JavaPlugin.getDefault().getContentAssistHistory().remember(lhs, rhs, ContentAssistHistory.getContext(fInvocationContext.getCoreContext()));
 
 		QualifiedTypeNameHistory.remember(getQualifiedTypeName());
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,19 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
 import org.eclipse.core.runtime.AssertionFailedException;
 import org.eclipse.core.runtime.IProgressMonitor;
 
+import org.eclipse.jface.preference.IPreferenceStore;
+
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
@@ -28,6 +38,9 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.text.IJavaPartitions;
 
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEvent;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEventListener;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
 
 
 /**
@@ -37,6 +50,139 @@ import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
  */
 public class JavaSpellingEngine extends SpellingEngine {
 
+	/**
+	 * The spell events of a checked partition.
+	 *
+	 * @since 3.33
+	 */
+	private static class CheckedPartition {
+
+		private final ISpellChecker fChecker;
+		private final long fStamp;
+		private final int fSettings;
+		private final int fOffset;
+		private final int fLength;
+		private final List<ISpellEvent> fEvents;
+
+		CheckedPartition(ISpellChecker checker, long stamp, int settings, int offset, int length, List<ISpellEvent> events) {
+			fChecker= checker;
+			fStamp= stamp;
+			fSettings= settings;
+			fOffset= offset;
+			fLength= length;
+			fEvents= events;
+		}
+
+		boolean isValid(ISpellChecker checker, int settings, int length) {
+			return fChecker == checker && fStamp == checker.getModificationStamp() && fSettings == settings && fLength == length;
+		}
+
+		/**
+		 * Reports the recorded events, moved to the current offset of the partition.
+		 *
+		 * @param listener the listener to report the events to
+		 * @param offset the current offset of the partition
+		 */
+		void replay(ISpellEventListener listener, int offset) {
+			int delta= offset - fOffset;
+			for (ISpellEvent event : fEvents) {
+				listener.handle(delta == 0 ? event : new MovedSpellEvent(event, delta));
+			}
+		}
+	}
+
+	/**
+	 * A spell event of a partition that has been moved since it was checked.
+	 *
+	 * @since 3.33
+	 */
+	private static class MovedSpellEvent implements ISpellEvent {
+
+		private final ISpellEvent fEvent;
+		private final int fDelta;
+
+		MovedSpellEvent(ISpellEvent event, int delta) {
+			fEvent= event;
+			fDelta= delta;
+		}
+
+		@Override
+		public int getBegin() {
+			return fEvent.getBegin() + fDelta;
+		}
+
+		@Override
+		public int getEnd() {
+			return fEvent.getEnd() + fDelta;
+		}
+
+		@Override
+		public Set<RankedWordProposal> getProposals() {
+			return fEvent.getProposals();
+		}
+
+		@Override
+		public String getWord() {
+			return fEvent.getWord();
+		}
+
+		@Override
+		public boolean isMatch() {
+			return fEvent.isMatch();
+		}
+
+		@Override
+		public boolean isStart() {
+			return fEvent.isStart();
+		}
+	}
+
+	/**
+	 * The results of the recently checked partitions of a document in access order, keyed by
+	 * partition type and content hash.
+	 *
+	 * @since 3.33
+	 */
+	private static class CheckedPartitions extends LinkedHashMap<String, CheckedPartition> {
+
+		private static final long serialVersionUID= 1L;
+
+		/**
+		 * The total length of the partitions in this map.
+		 */
+		private int fCharacters;
+
+		CheckedPartitions() {
+			super(64, 0.75f, true);
+		}
+
+		void add(String key, CheckedPartition partition) {
+			CheckedPartition replaced= put(key, partition);
+			if (replaced != null)
+				fCharacters-= replaced.fLength;
+			fCharacters+= partition.fLength;
+			Iterator<CheckedPartition> iter= values().iterator();
+			while (fCharacters > MAX_CACHED_CHARACTERS) {
+				fCharacters-= iter.next().fLength;
+				iter.remove();
+			}
+		}
+	}
+
+	/**
+	 * The maximal number of characters of the partitions whose results are kept per document.
+	 * @since 3.33
+	 */
+	private static final int MAX_CACHED_CHARACTERS= 1000000;
+
+	/**
+	 * The results of recently checked partitions by document. Comments which were not modified
+	 * since the last reconcile are not checked again, even if they were moved. The map is static
+	 * since a new engine is created for each check.
+	 * @since 3.33
+	 */
+	private static final Map<IDocument, CheckedPartitions> fgCheckedPartitions= new WeakHashMap<>();
+
 
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.spelling.SpellingEngine#check(org.eclipse.jface.text.IDocument, org.eclipse.jface.text.IRegion[], org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker, org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector, org.eclipse.core.runtime.IProgressMonitor)
@@ -45,6 +191,7 @@ public class JavaSpellingEngine extends SpellingEngine {
 	protected void check(IDocument document, IRegion[] regions, ISpellChecker checker, ISpellingProblemCollector collector, IProgressMonitor monitor) {
 		SpellEventListener listener= new SpellEventListener(collector, document);
 		boolean isIgnoringJavaStrings= PreferenceConstants.getPreferenceStore().getBoolean(PreferenceConstants.SPELLING_IGNORE_JAVA_STRINGS);
+		int settings= getSettings();
 		try {
 			for (IRegion region : regions) {
 				for (ITypedRegion partition : TextUtilities.computePartitioning(document, IJavaPartitions.JAVA_PARTITIONING, region.getOffset(), region.getLength(), false)) {
@@ -56,11 +203,72 @@ public class JavaSpellingEngine extends SpellingEngine {
 					if (isIgnoringJavaStrings && (IJavaPartitions.JAVA_STRING.equals(type) || IJavaPartitions.JAVA_MULTI_LINE_STRING.equals(type)))
 						continue;
 					if (!IDocument.DEFAULT_CONTENT_TYPE.equals(type) && !IJavaPartitions.JAVA_CHARACTER.equals(type))
-						checker.execute(listener, new SpellCheckIterator(document, partition, checker.getLocale(), monitor));
+						check(document, partition, checker, settings, listener, monitor);
 				}
 			}
 		} catch (BadLocationException | AssertionFailedException x) {
 			// ignore: the document has been changed in another thread and will be checked again
 		}
 	}
+
+	/**
+	 * Spell checks a single partition, reusing the recorded result if a partition of the document
+	 * with the same type and content has been checked with the same checker state and settings
+	 * before.
+	 *
+	 * @param document the document
+	 * @param partition the partition to check
+	 * @param checker the spell checker
+	 * @param settings the settings the result depends on, see {@link #getSettings()}
+	 * @param listener the listener to report spelling problems to
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @throws BadLocationException if the partition is no longer valid
+	 * @since 3.33
+	 */
+	private void check(IDocument document, ITypedRegion partition, ISpellChecker checker, int settings, SpellEventListener listener, IProgressMonitor monitor) throws BadLocationException {
+		int offset= partition.getOffset();
+		int length= partition.getLength();
+		String key= partition.getType() + ':' + document.get(offset, length).hashCode();
+		CheckedPartition checked;
+		synchronized (fgCheckedPartitions) {
+			CheckedPartitions partitions= fgCheckedPartitions.get(document);
+			checked= partitions != null ? partitions.get(key) : null;
+		}
+		if (checked != null && checked.isValid(checker, settings, length)) {
+			checked.replay(listener, offset);
+			return;
+		}
+
+		long stamp= checker.getModificationStamp();
+		List<ISpellEvent> events= new ArrayList<>();
+		checker.execute(event -> {
+			events.add(event);
+			listener.handle(event);
+		}, new SpellCheckIterator(document, partition, checker.getLocale(), monitor));
+
+		if ((monitor == null || !monitor.isCanceled()) && length <= MAX_CACHED_CHARACTERS) {
+			synchronized (fgCheckedPartitions) {
+				fgCheckedPartitions.computeIfAbsent(document, d -> new CheckedPartitions()).add(key, new CheckedPartition(checker, stamp, settings, offset, length, events));
+			}
+		}
+	}
+
+	/**
+	 * Returns the settings that influence the reported spelling problems, encoded as bit mask.
+	 *
+	 * @return the settings value
+	 * @since 3.33
+	 */
+	private static int getSettings() {
+		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
+		String[] keys= { PreferenceConstants.SPELLING_IGNORE_DIGITS, PreferenceConstants.SPELLING_IGNORE_MIXED, PreferenceConstants.SPELLING_IGNORE_SENTENCE,
+				PreferenceConstants.SPELLING_IGNORE_UPPER, PreferenceConstants.SPELLING_IGNORE_URLS, PreferenceConstants.SPELLING_IGNORE_NON_LETTERS,
+				PreferenceConstants.SPELLING_IGNORE_SINGLE_LETTERS };
+		int result= store.getInt(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD) << keys.length;
+		for (int i= 0; i < keys.length; i++) {
+			if (store.getBoolean(keys[i]))
+				result|= 1 << i;
+		}
+		return result;
+	}
 }
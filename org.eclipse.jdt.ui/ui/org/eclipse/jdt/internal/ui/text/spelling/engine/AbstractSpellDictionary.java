@@ -14,6 +14,7 @@
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -21,6 +22,7 @@ import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
@@ -30,8 +32,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -93,6 +98,12 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 */
 	private static final String UTF_8= "UTF-8"; //$NON-NLS-1$
 
+	/**
+	 * Name of the state location folder holding the compiled dictionaries.
+	 * @since 3.33
+	 */
+	private static final String COMPILED_DICTIONARY_DIR= "spelling"; //$NON-NLS-1$
+
 	/** The bucket capacity */
 	protected static final int BUCKET_CAPACITY= 4;
 
@@ -117,6 +128,13 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	/** The phonetic hash provider */
 	private IPhoneticHashProvider fHashProvider= new DefaultPhoneticHashProvider();
 
+	/**
+	 * The compiled word list, or <code>null</code> if the word list is held in
+	 * {@link #fHashBuckets}. Words added after loading are always hashed into the buckets.
+	 * @since 3.33
+	 */
+	private CompiledSpellDictionary fCompiledDictionary;
+
 	/** Is the dictionary already loaded? */
 	private boolean fLoaded= false;
 	/**
@@ -156,7 +174,27 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			JavaPlugin.log(e);
 			return null;
 		}
-		return fHashBuckets.get(hashBytes);
+		Object bucket= fHashBuckets.get(hashBytes);
+		if (fCompiledDictionary == null)
+			return bucket;
+
+		Object compiled= fCompiledDictionary.getCandidates(hashBytes.byteArray);
+		if (compiled == null)
+			return bucket;
+		if (bucket == null)
+			return compiled;
+
+		ArrayList<Object> result= new ArrayList<>(BUCKET_CAPACITY);
+		addCandidates(result, compiled);
+		addCandidates(result, bucket);
+		return result;
+	}
+
+	private static void addCandidates(ArrayList<Object> result, Object candidates) {
+		if (candidates instanceof byte[])
+			result.add(candidates);
+		else
+			result.addAll((ArrayList<?>)candidates);
 	}
 
 	/**
@@ -314,7 +352,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 * @since 3.3
 	 */
 	protected boolean isEmpty() {
-		return fHashBuckets.isEmpty();
+		return fHashBuckets.isEmpty() && (fCompiledDictionary == null || fCompiledDictionary.size() == 0);
 	}
 
 	/**
@@ -574,7 +612,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
 	@Override
 	public synchronized final boolean isLoaded() {
-		return fLoaded || fHashBuckets.size() > 0;
+		return fLoaded || fHashBuckets.size() > 0 || fCompiledDictionary != null;
 	}
 
 	/**
@@ -590,6 +628,21 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			 return fLoaded;
 
 		if (url != null) {
+			long[] stamp= getSourceStamp(url);
+			File compiledFile= stamp != null ? getCompiledDictionaryFile(url) : null;
+			if (compiledFile != null) {
+				try {
+					fCompiledDictionary= CompiledSpellDictionary.open(compiledFile, getCompiledDictionaryKey(url), stamp[0], stamp[1]);
+				} catch (IOException e) {
+					JavaPlugin.log(e);
+				}
+				if (fCompiledDictionary != null) {
+					fMustLoad= false;
+					return true;
+				}
+			}
+			boolean compile= compiledFile != null && fHashBuckets.isEmpty();
+
 			InputStream stream= null;
 			int line= 0;
 			try {
@@ -627,6 +680,8 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 								hashWord(word);
 						}
 					}
+					if (compile)
+						compile(url, compiledFile, stamp);
 					return true;
 				}
 			} catch (FileNotFoundException ex) {
@@ -659,6 +714,96 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		return false;
 	}
 
+	/**
+	 * Writes the loaded word list to a compiled dictionary file and switches lookups over to the
+	 * compiled form, so that the buckets can be released. Later loads read the compiled file
+	 * directly as long as the word list does not change.
+	 *
+	 * @param url the URL of the word list
+	 * @param file the compiled dictionary file
+	 * @param stamp the time stamp and length of the word list
+	 * @since 3.33
+	 */
+	private void compile(URL url, File file, long[] stamp) {
+		TreeMap<byte[], List<byte[]>> buckets= new TreeMap<>(Arrays::compareUnsigned);
+		for (Entry<ByteArrayWrapper, Object> entry : fHashBuckets.entrySet()) {
+			Object bucket= entry.getValue();
+			List<byte[]> words= new ArrayList<>();
+			if (bucket instanceof byte[]) {
+				words.add((byte[])bucket);
+			} else {
+				for (Object word : (ArrayList<?>)bucket) {
+					words.add((byte[])word);
+				}
+			}
+			buckets.put(entry.getKey().byteArray, words);
+		}
+
+		String key= getCompiledDictionaryKey(url);
+		try {
+			CompiledSpellDictionary.write(file, key, stamp[0], stamp[1], buckets);
+			CompiledSpellDictionary compiled= CompiledSpellDictionary.open(file, key, stamp[0], stamp[1]);
+			if (compiled != null) {
+				fCompiledDictionary= compiled;
+				fHashBuckets.clear();
+			}
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Returns the file holding the compiled form of the given word list.
+	 *
+	 * @param url the URL of the word list
+	 * @return the compiled dictionary file, or <code>null</code> if there is no state location
+	 * @since 3.33
+	 */
+	private File getCompiledDictionaryFile(URL url) {
+		JavaPlugin plugin= JavaPlugin.getDefault();
+		if (plugin == null)
+			return null;
+		String name= Integer.toHexString(getCompiledDictionaryKey(url).hashCode()) + ".dict"; //$NON-NLS-1$
+		return plugin.getStateLocation().append(COMPILED_DICTIONARY_DIR).append(name).toFile();
+	}
+
+	/**
+	 * Returns the key stored in a compiled dictionary. The phonetic hashes depend on the encoding
+	 * used to read the word list and on the hash provider, so both are part of the key.
+	 *
+	 * @param url the URL of the word list
+	 * @return the key of the compiled dictionary
+	 * @since 3.33
+	 */
+	private String getCompiledDictionaryKey(URL url) {
+		return url.toExternalForm() + '|' + getEncoding() + '|' + fHashProvider.getClass().getName();
+	}
+
+	/**
+	 * Returns the time stamp and the length of the given word list.
+	 *
+	 * @param url the URL of the word list
+	 * @return the time stamp and the length, or <code>null</code> if they are unknown
+	 * @since 3.33
+	 */
+	private static long[] getSourceStamp(URL url) {
+		try {
+			URLConnection connection= url.openConnection();
+			long stamp= connection.getLastModified();
+			long length= connection.getContentLengthLong();
+			try {
+				connection.getInputStream().close();
+			} catch (IOException e) {
+				// missing word lists are reported when loading
+			}
+			if (stamp <= 0 || length < 0)
+				return null;
+			return new long[] { stamp, length };
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
 	/**
 	 * Compacts the dictionary.
 	 *
@@ -698,6 +843,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		fLoaded= false;
 		fMustLoad= true;
 		fHashBuckets.clear();
+		fCompiledDictionary= null;
 	}
 
 	@Override
@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+
+/**
+ * Precompiled form of a spell dictionary.
+ * <p>
+ * The file stores the phonetic hashes of all words sorted by their UTF-8 bytes, together with the
+ * words of each hash. It is read into a single byte array. Lookups binary search the array and
+ * only create objects for the candidates of the requested hash, so loading a compiled dictionary
+ * neither parses the word list nor allocates per word.
+ * </p>
+ * <p>
+ * The file is not memory-mapped: a mapping keeps the file open until the buffer is garbage
+ * collected, and on Windows an open file cannot be replaced when the dictionary is compiled again.
+ * </p>
+ * <p>
+ * Layout (big-endian):
+ * </p>
+ * <pre>
+ * int     magic, version
+ * long    source time stamp, source length
+ * int     key length, byte[] key (UTF-8)
+ * int     hash count, word count
+ * int[]   hash offsets (hash count + 1), relative to the hash data
+ * int[]   first word index of each hash (hash count + 1)
+ * int[]   word offsets (word count + 1), relative to the word data
+ * byte[]  hash data
+ * byte[]  word data
+ * </pre>
+ *
+ * @since 3.33
+ */
+public final class CompiledSpellDictionary {
+
+	private static final int MAGIC= 0x4A535044;
+
+	private static final int VERSION= 1;
+
+	private final ByteBuffer fBuffer;
+
+	private final int fHashCount;
+
+	private final int fHashOffsets;
+
+	private final int fWordIndices;
+
+	private final int fWordOffsets;
+
+	private final int fHashData;
+
+	private final int fWordData;
+
+	private CompiledSpellDictionary(ByteBuffer buffer, int hashCount, int wordCount, int tables) {
+		fBuffer= buffer;
+		fHashCount= hashCount;
+		fHashOffsets= tables;
+		fWordIndices= fHashOffsets + 4 * (hashCount + 1);
+		fWordOffsets= fWordIndices + 4 * (hashCount + 1);
+		fHashData= fWordOffsets + 4 * (wordCount + 1);
+		fWordData= fHashData + buffer.getInt(fHashOffsets + 4 * hashCount);
+	}
+
+	/**
+	 * Opens a compiled dictionary.
+	 *
+	 * @param file the compiled dictionary file
+	 * @param key the key identifying the source, encoding and hash provider of the dictionary
+	 * @param stamp the time stamp of the source word list
+	 * @param length the length of the source word list
+	 * @return the compiled dictionary, or <code>null</code> if the file does not exist or was
+	 *         compiled from a different source
+	 * @throws IOException if the file could not be read
+	 */
+	public static CompiledSpellDictionary open(File file, String key, long stamp, long length) throws IOException {
+		if (!file.isFile())
+			return null;
+
+		ByteBuffer buffer= ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+
+		if (buffer.limit() < 28 || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getLong(8) != stamp || buffer.getLong(16) != length)
+			return null;
+
+		byte[] keyBytes= key.getBytes(StandardCharsets.UTF_8);
+		int keyLength= buffer.getInt(24);
+		if (keyLength != keyBytes.length || buffer.limit() < 36 + keyLength)
+			return null;
+		for (int i= 0; i < keyLength; i++) {
+			if (buffer.get(28 + i) != keyBytes[i])
+				return null;
+		}
+
+		int hashCount= buffer.getInt(28 + keyLength);
+		int wordCount= buffer.getInt(32 + keyLength);
+		return new CompiledSpellDictionary(buffer, hashCount, wordCount, 36 + keyLength);
+	}
+
+	/**
+	 * Writes a compiled dictionary. The file is written to a temporary file first and then moved
+	 * into place, so that concurrent readers never see a partially written dictionary.
+	 *
+	 * @param file the compiled dictionary file
+	 * @param key the key identifying the source, encoding and hash provider of the dictionary
+	 * @param stamp the time stamp of the source word list
+	 * @param length the length of the source word list
+	 * @param buckets the words of each hash, sorted by {@link Arrays#compareUnsigned(byte[], byte[])}
+	 *            of the hashes
+	 * @throws IOException if the file could not be written
+	 */
+	public static void write(File file, String key, long stamp, long length, Map<byte[], List<byte[]>> buckets) throws IOException {
+		int wordCount= 0;
+		for (List<byte[]> words : buckets.values()) {
+			wordCount+= words.size();
+		}
+
+		File directory= file.getParentFile();
+		if (directory != null)
+			directory.mkdirs();
+
+		Path temp= Files.createTempFile(directory != null ? directory.toPath() : null, file.getName(), ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				byte[] keyBytes= key.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeLong(stamp);
+				out.writeLong(length);
+				out.writeInt(keyBytes.length);
+				out.write(keyBytes);
+				out.writeInt(buckets.size());
+				out.writeInt(wordCount);
+
+				int offset= 0;
+				for (byte[] hash : buckets.keySet()) {
+					out.writeInt(offset);
+					offset+= hash.length;
+				}
+				out.writeInt(offset);
+
+				int index= 0;
+				for (List<byte[]> words : buckets.values()) {
+					out.writeInt(index);
+					index+= words.size();
+				}
+				out.writeInt(index);
+
+				offset= 0;
+				for (List<byte[]> words : buckets.values()) {
+					for (byte[] word : words) {
+						out.writeInt(offset);
+						offset+= word.length;
+					}
+				}
+				out.writeInt(offset);
+
+				for (byte[] hash : buckets.keySet()) {
+					out.write(hash);
+				}
+				for (Entry<byte[], List<byte[]>> entry : buckets.entrySet()) {
+					for (byte[] word : entry.getValue()) {
+						out.write(word);
+					}
+				}
+			}
+			Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Returns the words with the given phonetic hash.
+	 *
+	 * @param hash the UTF-8 bytes of the phonetic hash
+	 * @return <code>null</code> if there is no such word, a <code>byte[]</code> if there is
+	 *         exactly one word, or an <code>ArrayList&lt;byte[]&gt;</code> otherwise
+	 */
+	public Object getCandidates(byte[] hash) {
+		int low= 0;
+		int high= fHashCount - 1;
+		while (low <= high) {
+			int middle= (low + high) >>> 1;
+			int comparison= compareHash(middle, hash);
+			if (comparison < 0) {
+				low= middle + 1;
+			} else if (comparison > 0) {
+				high= middle - 1;
+			} else {
+				return getWords(middle);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the number of distinct phonetic hashes in this dictionary.
+	 *
+	 * @return the number of hashes
+	 */
+	public int size() {
+		return fHashCount;
+	}
+
+	private int compareHash(int index, byte[] hash) {
+		int start= fHashData + fBuffer.getInt(fHashOffsets + 4 * index);
+		int end= fHashData + fBuffer.getInt(fHashOffsets + 4 * (index + 1));
+		int length= Math.min(end - start, hash.length);
+		for (int i= 0; i < length; i++) {
+			int comparison= Byte.toUnsignedInt(fBuffer.get(start + i)) - Byte.toUnsignedInt(hash[i]);
+			if (comparison != 0)
+				return comparison;
+		}
+		return (end - start) - hash.length;
+	}
+
+	private Object getWords(int index) {
+		int first= fBuffer.getInt(fWordIndices + 4 * index);
+		int last= fBuffer.getInt(fWordIndices + 4 * (index + 1));
+		if (last - first == 1)
+			return getWord(first);
+
+		ArrayList<byte[]> result= new ArrayList<>(last - first);
+		for (int word= first; word < last; word++) {
+			result.add(getWord(word));
+		}
+		return result;
+	}
+
+	private byte[] getWord(int index) {
+		int start= fBuffer.getInt(fWordOffsets + 4 * index);
+		int end= fBuffer.getInt(fWordOffsets + 4 * (index + 1));
+		byte[] result= new byte[end - start];
+		fBuffer.get(fWordData + start, result);
+		return result;
+	}
+}
@@ -16,8 +16,11 @@ package org.eclipse.jdt.internal.ui.text.spelling.engine;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -124,10 +127,16 @@ public class DefaultSpellChecker implements ISpellChecker {
 	}
 
 	/**
-	 * The dictionaries to use for spell checking. Synchronized to avoid
-	 * concurrent modifications.
+	 * The maximal number of words whose proposals are remembered.
+	 * @since 3.33
 	 */
-	private final Set<ISpellDictionary> fDictionaries= Collections.synchronizedSet(new HashSet<ISpellDictionary>());
+	private static final int PROPOSAL_CACHE_SIZE= 32;
+
+	/**
+	 * The dictionaries to use for spell checking. Copy-on-write to avoid
+	 * concurrent modifications without copying on every checked word.
+	 */
+	private final Set<ISpellDictionary> fDictionaries= new CopyOnWriteArraySet<>();
 
 	/**
 	 * The words to be ignored. Synchronized to avoid concurrent modifications.
@@ -146,6 +155,26 @@ public class DefaultSpellChecker implements ISpellChecker {
 	 */
 	private Locale fLocale;
 
+	/**
+	 * The modification stamp, see {@link #getModificationStamp()}.
+	 * @since 3.33
+	 */
+	private volatile long fModificationStamp;
+
+	/**
+	 * The most recently computed proposals, keyed by word and sentence flag. Cleared whenever
+	 * the modification stamp changes.
+	 * @since 3.33
+	 */
+	private final Map<String, Set<RankedWordProposal>> fProposals= new LinkedHashMap<String, Set<RankedWordProposal>>(PROPOSAL_CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Set<RankedWordProposal>> eldest) {
+			return size() > PROPOSAL_CACHE_SIZE;
+		}
+	};
+
 	/**
 	 * Creates a new default spell checker.
 	 *
@@ -162,21 +191,13 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void addDictionary(final ISpellDictionary dictionary) {
-		// synchronizing is necessary as this is a write access
-		fDictionaries.add(dictionary);
+		if (fDictionaries.add(dictionary))
+			modified();
 	}
 
 	@Override
 	public boolean acceptsWords() {
-		// synchronizing might not be needed here since acceptWords is
-		// a read-only access and only called in the same thread as
-		// the modifying methods add/checkWord (?)
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 
 			if (dictionary.acceptsWords())
 				return true;
@@ -186,24 +207,19 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public void addWord(final String word) {
-		// synchronizing is necessary as this is a write access
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		final String addable= word.toLowerCase();
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			if (dictionary.acceptsWords())
 				dictionary.addWord(addable);
 		}
-
+		modified();
 	}
 
 	@Override
 	public final void checkWord(final String word) {
 		// synchronizing is necessary as this is a write access
-		fIgnored.remove(word.toLowerCase());
+		if (fIgnored.remove(word.toLowerCase()))
+			modified();
 	}
 
 	@Override
@@ -263,41 +279,40 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public Set<RankedWordProposal> getProposals(final String word, final boolean sentence) {
-
-		// synchronizing might not be needed here since getProposals is
-		// a read-only access and only called in the same thread as
-		// the modifing methods add/removeDictionary (?)
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
+		final String key= sentence ? word + '.' : word;
+		final long stamp= fModificationStamp;
+		synchronized (fProposals) {
+			Set<RankedWordProposal> cached= fProposals.get(key);
+			if (cached != null)
+				return new HashSet<>(cached);
 		}
 
 		final HashSet<RankedWordProposal> proposals= new HashSet<>();
 
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			proposals.addAll(dictionary.getProposals(word, sentence));
 		}
+
+		synchronized (fProposals) {
+			if (stamp == fModificationStamp)
+				fProposals.put(key, Collections.unmodifiableSet(new HashSet<>(proposals)));
+		}
 		return proposals;
 	}
 
 	@Override
 	public final void ignoreWord(final String word) {
 		// synchronizing is necessary as this is a write access
-		fIgnored.add(word.toLowerCase());
+		if (fIgnored.add(word.toLowerCase()))
+			modified();
 	}
 
 	@Override
 	public final boolean isCorrect(final String word) {
-		// synchronizing is necessary as this is called from execute
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		if (fIgnored.contains(word.toLowerCase()))
 			return true;
 
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			if (dictionary.isCorrect(word))
 				return true;
 		}
@@ -306,12 +321,29 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void removeDictionary(final ISpellDictionary dictionary) {
-		// synchronizing is necessary as this is a write access
-		fDictionaries.remove(dictionary);
+		if (fDictionaries.remove(dictionary))
+			modified();
 	}
 
 	@Override
 	public Locale getLocale() {
 		return fLocale;
 	}
+
+	@Override
+	public long getModificationStamp() {
+		return fModificationStamp;
+	}
+
+	/**
+	 * Records a change of the dictionaries or ignored words.
+	 *
+	 * @since 3.33
+	 */
+	private void modified() {
+		synchronized (fProposals) {
+			fModificationStamp++;
+			fProposals.clear();
+		}
+	}
 }
@@ -110,4 +110,13 @@ public interface ISpellChecker {
 	 * @since 3.3
 	 */
 	Locale getLocale();
+
+	/**
+	 * Returns a stamp which changes whenever the set of dictionaries or ignored words of this
+	 * checker changes. Clients may reuse spell check results computed with the same stamp.
+	 *
+	 * @return the modification stamp of this checker
+	 * @since 3.33
+	 */
+	long getModificationStamp();
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -121,7 +121,7 @@ public class HierarchyLabelProvider extends AppearanceAwareLabelProvider {
 			return new JavaElementImageDescriptor(JavaPluginImages.DESC_OBJS_CLASS, 0, JavaElementImageProvider.BIG_SIZE);
 		}
 
-		int flags= hierarchy.getCachedFlags(type);
+		int flags= fHierarchy.getCachedFlags(type);
 		if (flags == -1) {
 			return new JavaElementImageDescriptor(JavaPluginImages.DESC_OBJS_CLASS, 0, JavaElementImageProvider.BIG_SIZE);
 		}
@@ -130,7 +130,7 @@ public class HierarchyLabelProvider extends AppearanceAwareLabelProvider {
 		IType declaringType= type.getDeclaringType();
 		boolean isInInterfaceOrAnnotation= false;
 		if (declaringType != null) {
-			int declaringTypeFlags= hierarchy.getCachedFlags(declaringType);
+			int declaringTypeFlags= fHierarchy.getCachedFlags(declaringType);
 			if (declaringTypeFlags != -1) {
 				isInInterfaceOrAnnotation= Flags.isInterface(declaringTypeFlags);
 			} else {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,7 +33,7 @@ public class HierarchyViewerSorter extends AbstractHierarchyViewerSorter {
 	protected int getTypeFlags(IType type) {
 		ITypeHierarchy hierarchy= getHierarchy(type);
 		if (hierarchy != null) {
-			return fHierarchy.getHierarchy().getCachedFlags(type);
+			return fHierarchy.getCachedFlags(type);
 		}
 		return 0;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,4 +29,16 @@ public interface ITypeHierarchyLifeCycleListener {
 	 */
 	void typeHierarchyChanged(TypeHierarchyLifeCycle typeHierarchyProvider, IType[] changedTypes);
 
+	/**
+	 * The subtypes or supertypes of some types changed, the rest of the hierarchy is unchanged.
+	 * The default implementation reports a change of the full hierarchy.
+	 *
+	 * @param typeHierarchyProvider the type hierarchy that changed
+	 * @param patchedTypes the types whose subtypes or supertypes changed
+	 * @since 3.33
+	 */
+	default void typeHierarchyPatched(TypeHierarchyLifeCycle typeHierarchyProvider, IType[] patchedTypes) {
+		typeHierarchyChanged(typeHierarchyProvider, null);
+	}
+
 }
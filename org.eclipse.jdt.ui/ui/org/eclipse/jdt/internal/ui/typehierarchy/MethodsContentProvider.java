@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,7 +94,7 @@ public class MethodsContentProvider implements IStructuredContentProvider, IWork
 			try {
 				ITypeHierarchy hierarchy= fHierarchyLifeCycle.getHierarchy();
 				if (fShowInheritedMethods && hierarchy != null) {
-					IType[] allSupertypes= hierarchy.getAllSupertypes(type);
+					IType[] allSupertypes= fHierarchyLifeCycle.getAllSupertypes(type);
 					// sort in from last to first: elements with same name
 					// will show up in hierarchy order
 					for (int i= allSupertypes.length - 1; i >= 0; i--) {
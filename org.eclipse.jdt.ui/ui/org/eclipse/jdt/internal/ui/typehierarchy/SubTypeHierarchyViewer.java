@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,7 +62,7 @@ public class SubTypeHierarchyViewer extends TypeHierarchyViewer {
 		protected final void getTypesInHierarchy(IType type, List<IType> res) {
 			ITypeHierarchy hierarchy= getHierarchy();
 			if (hierarchy != null) {
-				IType[] types= hierarchy.getSubtypes(type);
+				IType[] types= fTypeHierarchy.getSubtypes(type);
 				if (isObject(type)) {
 					for (IType t : types) {
 						if (!isAnonymousFromInterface(t)) {
@@ -80,7 +80,7 @@ public class SubTypeHierarchyViewer extends TypeHierarchyViewer {
 		protected IType getParentType(IType type) {
 			ITypeHierarchy hierarchy= getHierarchy();
 			if (hierarchy != null) {
-				return hierarchy.getSuperclass(type);
+				return fTypeHierarchy.getSuperclass(type);
 				// dont handle interfaces
 			}
 			return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,7 +71,7 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 			if (hierarchy != null) {
 				IType input= hierarchy.getType();
 				if (input != null) {
-					return getDepth(hierarchy, input) + 2;
+					return getDepth(input) + 2;
 				} else {
 					return 5;
 				}
@@ -79,21 +79,21 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 			return 2;
 		}
 
-		private int getDepth(ITypeHierarchy hierarchy, IType input) {
+		private int getDepth(IType input) {
 			int count= 0;
-			if (Flags.isInterface(hierarchy.getCachedFlags(input))) {
-				IType[] superInterfaces= hierarchy.getSuperInterfaces(input);
+			if (Flags.isInterface(fTypeHierarchy.getCachedFlags(input))) {
+				IType[] superInterfaces= fTypeHierarchy.getSuperInterfaces(input);
 				while (superInterfaces != null && superInterfaces.length > 0) {
 					count++;
 					IType superInterface= superInterfaces[0];
-					superInterfaces= hierarchy.getSuperInterfaces(superInterface);
+					superInterfaces= fTypeHierarchy.getSuperInterfaces(superInterface);
 				}
 
 			} else {
-				IType superType= hierarchy.getSuperclass(input);
+				IType superType= fTypeHierarchy.getSuperclass(input);
 				while (superType != null) {
 					count++;
-					superType= hierarchy.getSuperclass(superType);
+					superType= fTypeHierarchy.getSuperclass(superType);
 				}
 			}
 			return count;
@@ -110,11 +110,11 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 					IType[] interfaces= hierarchy.getRootInterfaces();
 					res.addAll(Arrays.asList(interfaces));
 				} else {
-					if (Flags.isInterface(hierarchy.getCachedFlags(input))) {
+					if (Flags.isInterface(fTypeHierarchy.getCachedFlags(input))) {
 						IType[] roots= hierarchy.getRootInterfaces();
 						res.addAll(Arrays.asList(roots));
 					} else if (isAnonymousFromInterface(input)) {
-						res.add(hierarchy.getSuperInterfaces(input)[0]);
+						res.add(fTypeHierarchy.getSuperInterfaces(input)[0]);
 					} else {
 						IType[] roots= hierarchy.getRootClasses();
 						for (IType t : roots) {
@@ -136,7 +136,7 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 		protected final void getTypesInHierarchy(IType type, List<IType> res) {
 			ITypeHierarchy hierarchy= getHierarchy();
 			if (hierarchy != null) {
-				IType[] types= hierarchy.getSubtypes(type);
+				IType[] types= fTypeHierarchy.getSubtypes(type);
 				if (isObject(type)) {
 					for (IType t : types) {
 						if (!isAnonymousFromInterface(t)) { // no anonymous classes on 'Object' -> will be children of interface
@@ -145,13 +145,13 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 					}
 				} else {
 					boolean isHierarchyOnType= (hierarchy.getType() != null);
-					boolean isClass= !Flags.isInterface(hierarchy.getCachedFlags(type));
+					boolean isClass= !Flags.isInterface(fTypeHierarchy.getCachedFlags(type));
 					if (isClass || isHierarchyOnType) {
 						res.addAll(Arrays.asList(types));
 					} else {
 						for (IType t : types) {
 							// no classes implementing interfaces, only if anonymous
-							if (Flags.isInterface(hierarchy.getCachedFlags(t)) || isAnonymous(t)) {
+							if (Flags.isInterface(fTypeHierarchy.getCachedFlags(t)) || isAnonymous(t)) {
 								res.add(t);
 							}
 						}
@@ -164,14 +164,14 @@ public class TraditionalHierarchyViewer extends TypeHierarchyViewer {
 		protected IType getParentType(IType type) {
 			ITypeHierarchy hierarchy= getHierarchy();
 			if (hierarchy != null) {
-				if (Flags.isInterface(hierarchy.getCachedFlags(type))) {
-					IType[] superInterfaces= hierarchy.getSuperInterfaces(type);
+				if (Flags.isInterface(fTypeHierarchy.getCachedFlags(type))) {
+					IType[] superInterfaces= fTypeHierarchy.getSuperInterfaces(type);
 					if (superInterfaces != null && superInterfaces.length > 0) {
-						return hierarchy.getSuperInterfaces(type)[0];
+						return fTypeHierarchy.getSuperInterfaces(type)[0];
 					}
 					return null;
 				}
-				return hierarchy.getSuperclass(type);
+				return fTypeHierarchy.getSuperclass(type);
 				// don't handle interfaces
 			}
 			return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,13 @@ package org.eclipse.jdt.internal.ui.typehierarchy;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -38,6 +44,7 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IOrdinaryClassFile;
+import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IRegion;
 import org.eclipse.jdt.core.IType;
@@ -53,12 +60,44 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 
 /**
  * Manages a type hierarchy, to keep it refreshed, and to allow it to be shared.
+ * <p>
+ * The hierarchy of a type shown in the type hierarchy view is patched when supertypes are added or
+ * removed in a changed compilation unit, see {@link TypeHierarchyOverlay}. The element change
+ * listener only records the changed elements, the patch is computed by the refresh job. The
+ * hierarchy is only computed again when the classpath or the package fragments change. The
+ * structural queries of the viewers go through the life cycle to see the patched hierarchy.
+ * </p>
  */
 public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IElementChangedListener {
 
+	/**
+	 * The simple names of the superclasses a type can have without declaring them.
+	 *
+	 * @since 3.33
+	 */
+	private static final String[] IMPLICIT_SUPERCLASSES= { "Object", "Enum", "Record" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
 	private boolean fHierarchyRefreshNeeded;
 	private ITypeHierarchy fHierarchy;
 	private IJavaElement[] fInputElements;
+
+	/**
+	 * The changes applied to the hierarchy of a type, or <code>null</code> if the hierarchy is
+	 * computed again on every change.
+	 *
+	 * @since 3.33
+	 */
+	private TypeHierarchyOverlay fOverlay;
+
+	/**
+	 * The compilation units, class file types and package fragments whose types the refresh job
+	 * has to patch into the hierarchy, mapped to whether their unchanged types are reported as
+	 * changed. Guarded by this.
+	 *
+	 * @since 3.33
+	 */
+	private final Map<IJavaElement, Boolean> fPendingPatches= new LinkedHashMap<>();
+
 	private boolean fIsSuperTypesOnly;
 
 	private List<ITypeHierarchyLifeCycleListener> fChangeListeners;
@@ -122,6 +161,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			fHierarchy.removeTypeHierarchyChangedListener(this);
 			JavaCore.removeElementChangedListener(this);
 			fHierarchy= null;
+			fOverlay= null;
 			fInputElements= null;
 		}
 		synchronized (this) {
@@ -129,6 +169,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 				fRefreshHierarchyJob.cancel();
 				fRefreshHierarchyJob= null;
 			}
+			fPendingPatches.clear();
 		}
 	}
 
@@ -149,6 +190,89 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		}
 	}
 
+	private void firePatch(IType[] patchedTypes) {
+		for (int i= fChangeListeners.size()-1; i>=0; i--) {
+			ITypeHierarchyLifeCycleListener curr= fChangeListeners.get(i);
+			curr.typeHierarchyPatched(this, patchedTypes);
+		}
+	}
+
+	/**
+	 * @param type the type
+	 * @return <code>true</code> if the type is contained in the (patched) hierarchy
+	 * @since 3.33
+	 */
+	public boolean contains(IType type) {
+		TypeHierarchyOverlay overlay= fOverlay;
+		return overlay != null ? overlay.contains(type) : fHierarchy.contains(type);
+	}
+
+	/**
+	 * @param type the type
+	 * @return the flags of the type as in {@link ITypeHierarchy#getCachedFlags(IType)}, including
+	 *         the patches
+	 * @since 3.33
+	 */
+	public int getCachedFlags(IType type) {
+		TypeHierarchyOverlay overlay= fOverlay;
+		return overlay != null ? overlay.getCachedFlags(type) : fHierarchy.getCachedFlags(type);
+	}
+
+	/**
+	 * @param type the type
+	 * @return the superclass as in {@link ITypeHierarchy#getSuperclass(IType)}, including the
+	 *         patches
+	 * @since 3.33
+	 */
+	public IType getSuperclass(IType type) {
+		TypeHierarchyOverlay overlay= fOverlay;
+		return overlay != null ? overlay.getSuperclass(type) : fHierarchy.getSuperclass(type);
+	}
+
+	/**
+	 * @param type the type
+	 * @return the super interfaces as in {@link ITypeHierarchy#getSuperInterfaces(IType)},
+	 *         including the patches
+	 * @since 3.33
+	 */
+	public IType[] getSuperInterfaces(IType type) {
+		TypeHierarchyOverlay overlay= fOverlay;
+		return overlay != null ? overlay.getSuperInterfaces(type) : fHierarchy.getSuperInterfaces(type);
+	}
+
+	/**
+	 * @param type the type
+	 * @return the direct supertypes as in {@link ITypeHierarchy#getSupertypes(IType)}, including
+	 *         the patches
+	 * @since 3.33
+	 */
+	public IType[] getSupertypes(IType type) {
+		TypeHierarchyOverlay overlay= fOverlay;
+		return overlay != null ? overlay.getSupertypes(type) : fHierarchy.getSupertypes(type);
+	}
+
+	/**
+	 * @param type the type
+	 * @return all supertypes as in {@link ITypeHierarchy#getAllSupertypes(IType)}, including the
+	 *         patches
+	 * @since 3.33
+	 */
+	public IType[] getAllSupertypes(IType type) {
+		TypeHierarchyOverlay overlay= fOverlay;
+		return overlay != null ? overlay.getAllSupertypes(type) : fHierarchy.getAllSupertypes(type);
+	}
+
+	/**
+	 * @param type the type
+	 * @return the direct subtypes as in {@link ITypeHierarchy#getSubtypes(IType)}, including the
+	 *         patches
+	 * @since 3.33
+	 */
+	public IType[] getSubtypes(IType type) {
+		TypeHierarchyOverlay overlay= fOverlay;
+		return overlay != null ? overlay.getSubtypes(type) : fHierarchy.getSubtypes(type);
+	}
+
 	/**
 	 * Refreshes the type hierarchy for the java element if it exists.
 	 *
@@ -224,14 +348,15 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 							try {
 								doHierarchyRefreshBackground(elements, pm);
 							} catch (OperationCanceledException e) {
+								fHierarchyRefreshNeeded= true;
 								if (fRefreshJobCanceledExplicitly) {
 									fTypeHierarchyViewPart.showEmptyViewer();
 								}
 								return Status.CANCEL_STATUS;
 							} catch (JavaModelException e) {
+								fHierarchyRefreshNeeded= true;
 								return e.getStatus();
 							} finally {
-								fHierarchyRefreshNeeded= true;
 								pm.done();
 							}
 							return Status.OK_STATUS;
@@ -243,18 +368,27 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 					progressService.schedule(fRefreshHierarchyJob, 0);
 				}
 			}
+		} else {
+			synchronized (this) {
+				// the patches of a canceled refresh job
+				if (!fPendingPatches.isEmpty()) {
+					schedulePatchJob();
+				}
+			}
 		}
 	}
 
 	/**
-	 * Returns <code>true</code> if the refresh job is running, <code>false</code> otherwise.
+	 * Returns <code>true</code> if the refresh job is running, <code>false</code> otherwise. The
+	 * hierarchy can be shown while the refresh job only patches it.
 	 *
 	 * @return <code>true</code> if the refresh job is running, <code>false</code> otherwise
 	 *
 	 * @since 3.6
 	 */
 	public boolean isRefreshJobRunning() {
-		return fRefreshHierarchyJob != null;
+		Job job= fRefreshHierarchyJob;
+		return job != null && !(job instanceof PatchJob);
 	}
 
 	/**
@@ -277,6 +411,10 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 						return;
 					}
 					fRefreshHierarchyJob= null;
+					// elements changed after the hierarchy has been computed
+					if (!fPendingPatches.isEmpty()) {
+						schedulePatchJob();
+					}
 				}
 				if (pm.isCanceled())
 					return;
@@ -321,6 +459,9 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			fHierarchy.removeTypeHierarchyChangedListener(this);
 			JavaCore.removeElementChangedListener(this);
 		}
+		synchronized (this) {
+			fPendingPatches.clear();
+		}
 		if (hierachyCreationNeeded) {
 			fHierarchy= createTypeHierarchy(elements, pm);
 			if (pm != null && pm.isCanceled()) {
@@ -332,6 +473,9 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			if (pm != null && pm.isCanceled())
 				throw new OperationCanceledException();
 		}
+		// only the hierarchy of a type can be patched, a region may gain or lose arbitrary types.
+		// The patches are computed by the refresh job, which only exists for the view part.
+		fOverlay= fTypeHierarchyViewPart != null && fHierarchy.getType() != null ? new TypeHierarchyOverlay(fHierarchy) : null;
 		fHierarchy.addTypeHierarchyChangedListener(this);
 		JavaCore.addElementChangedListener(this);
 		fHierarchyRefreshNeeded= false;
@@ -342,6 +486,10 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 */
 	@Override
 	public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
+		if (fOverlay != null) {
+			// the same change is processed in elementChanged, which patches the hierarchy if possible
+			return;
+		}
 	 	fHierarchyRefreshNeeded= true;
  		fireChange(null);
 	}
@@ -357,6 +505,23 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 
 		if (fHierarchyRefreshNeeded) {
 			return;
+		} else if (fOverlay != null) {
+			ArrayList<IType> changedTypes= new ArrayList<>();
+			Map<IJavaElement, Boolean> patchElements= new LinkedHashMap<>();
+			if (!collectPatches(event.getDelta(), changedTypes, patchElements)) {
+				fHierarchyRefreshNeeded= true;
+				fireChange(null);
+				return;
+			}
+			if (!patchElements.isEmpty()) {
+				synchronized (this) {
+					patchElements.forEach((element, isCoarseChange) -> fPendingPatches.merge(element, isCoarseChange, Boolean::logicalOr));
+					schedulePatchJob();
+				}
+			}
+			if (changedTypes.size() > 0) {
+				fireChange(changedTypes.toArray(new IType[changedTypes.size()]));
+			}
 		} else {
 			ArrayList<IType> changedTypes= new ArrayList<>();
 			processDelta(event.getDelta(), changedTypes);
@@ -366,6 +531,435 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		}
 	}
 
+	/*
+	 * Collects the compilation units, class files and package fragments whose types have to be
+	 * patched into the hierarchy of a type, mapped to whether the unchanged types are reported as
+	 * changed. Only looks at the delta, the hierarchy is patched by the refresh job. Returns false
+	 * if the hierarchy has to be computed again.
+	 */
+	private boolean collectPatches(IJavaElementDelta delta, ArrayList<IType> changedTypes, Map<IJavaElement, Boolean> patchElements) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (kind != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+								| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0) {
+					return false;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+								| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER)) != 0) {
+					return false;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (kind == IJavaElementDelta.ADDED && delta.getAffectedChildren().length == 0) {
+					patchElements.put(element, Boolean.FALSE);
+					return true;
+				} else if (kind == IJavaElementDelta.REMOVED) {
+					return false;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit cu= (ICompilationUnit) element;
+				if (!JavaModelUtil.isPrimary(cu)) {
+					return true;
+				}
+				if (kind == IJavaElementDelta.CHANGED
+						&& (flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED)) == 0) {
+					return true;
+				}
+				boolean isCoarseChange= kind == IJavaElementDelta.CHANGED && isPossibleStructuralChange(flags);
+				patchElements.put(cu, Boolean.valueOf(isCoarseChange));
+				if (kind == IJavaElementDelta.CHANGED && !isCoarseChange) {
+					processChildrenDelta(delta, changedTypes);
+				}
+				return true;
+			case IJavaElement.CLASS_FILE:
+				if (kind != IJavaElementDelta.CHANGED || !(element instanceof IOrdinaryClassFile)) {
+					return false;
+				}
+				patchElements.put(((IOrdinaryClassFile) element).getType(), Boolean.TRUE);
+				return true;
+			default:
+				// changes below compilation units are reported with their compilation unit
+				return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!collectPatches(child, changedTypes, patchElements)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * Schedules the refresh job to patch the pending elements into the hierarchy. Must be called
+	 * with the lock on this.
+	 */
+	private void schedulePatchJob() {
+		TypeHierarchyOverlay overlay= fOverlay;
+		ITypeHierarchy hierarchy= fHierarchy;
+		if (fRefreshHierarchyJob != null || overlay == null || hierarchy == null) {
+			// a running job patches the pending elements when it is done
+			return;
+		}
+		String label= Messages.format(TypeHierarchyMessages.TypeHierarchyLifeCycle_computeInput, HistoryAction.getElementLabel(fInputElements));
+		fRefreshHierarchyJob= new PatchJob(label, new HierarchyPatch(overlay, hierarchy.getType()));
+		IWorkbenchSiteProgressService progressService= fTypeHierarchyViewPart.getSite()
+											.getAdapter(IWorkbenchSiteProgressService.class);
+		progressService.schedule(fRefreshHierarchyJob, 0);
+	}
+
+	/**
+	 * The refresh job when it patches the hierarchy of a type. Belongs to the family of the life
+	 * cycle.
+	 *
+	 * @since 3.33
+	 */
+	private class PatchJob extends Job {
+
+		private final HierarchyPatch fPatch;
+
+		PatchJob(String name, HierarchyPatch patch) {
+			super(name);
+			fPatch= patch;
+		}
+
+		@Override
+		public IStatus run(IProgressMonitor pm) {
+			pm.beginTask(getName(), IProgressMonitor.UNKNOWN);
+			try {
+				doHierarchyPatchBackground(this, fPatch, pm);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} finally {
+				pm.done();
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == TypeHierarchyLifeCycle.this;
+		}
+	}
+
+	/*
+	 * Patches the pending elements into the hierarchy until there are no more, or computes the
+	 * hierarchy again if a patch is not possible.
+	 */
+	private void doHierarchyPatchBackground(Job job, HierarchyPatch patch, IProgressMonitor pm) {
+		ArrayList<IType> changedTypes= new ArrayList<>();
+		Set<IType> patchedTypes= new LinkedHashSet<>();
+		boolean isPatched= true;
+		while (isPatched) {
+			if (pm.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			IJavaElement element;
+			boolean isCoarseChange;
+			synchronized (this) {
+				if (fRefreshHierarchyJob != job) {
+					// the hierarchy has been freed
+					return;
+				}
+				Iterator<Entry<IJavaElement, Boolean>> iter= fPendingPatches.entrySet().iterator();
+				if (!iter.hasNext()) {
+					fRefreshHierarchyJob= null;
+					break;
+				}
+				Entry<IJavaElement, Boolean> entry= iter.next();
+				iter.remove();
+				element= entry.getKey();
+				isCoarseChange= entry.getValue().booleanValue();
+			}
+			try {
+				isPatched= patch.patchElement(element, isCoarseChange ? changedTypes : null, patchedTypes);
+			} catch (JavaModelException e) {
+				JavaPlugin.log(e);
+				isPatched= false;
+			}
+			if (!isPatched) {
+				synchronized (this) {
+					fPendingPatches.clear();
+					if (fRefreshHierarchyJob == job) {
+						fRefreshHierarchyJob= null;
+					}
+				}
+			}
+		}
+		if (!isPatched) {
+			fHierarchyRefreshNeeded= true;
+			fireChange(null);
+			return;
+		}
+		if (!patchedTypes.isEmpty()) {
+			firePatch(patchedTypes.toArray(new IType[patchedTypes.size()]));
+		}
+		if (changedTypes.size() > 0) {
+			fireChange(changedTypes.toArray(new IType[changedTypes.size()]));
+		}
+	}
+
+	/**
+	 * Patches changed types into the hierarchy of a type. Keeps the overlay and the focus type it
+	 * was created with, so that the hierarchy can be freed while a patch is computed.
+	 *
+	 * @since 3.33
+	 */
+	private class HierarchyPatch {
+
+		private final TypeHierarchyOverlay fOverlay;
+
+		private final IType fFocus;
+
+		HierarchyPatch(TypeHierarchyOverlay overlay, IType focus) {
+			fOverlay= overlay;
+			fFocus= focus;
+		}
+
+		/*
+		 * Patches the types of an element collected by collectPatches, returns false if the
+		 * hierarchy has to be computed again
+		 */
+		boolean patchElement(IJavaElement element, ArrayList<IType> changedTypes, Set<IType> patchedTypes) throws JavaModelException {
+			switch (element.getElementType()) {
+				case IJavaElement.PACKAGE_FRAGMENT:
+					IPackageFragment pack= (IPackageFragment) element;
+					if (!pack.exists()) {
+						return true;
+					}
+					if (pack.getKind() != IPackageFragmentRoot.K_SOURCE) {
+						return false;
+					}
+					for (ICompilationUnit cu : pack.getCompilationUnits()) {
+						if (!patchCompilationUnit(cu, null, patchedTypes)) {
+							return false;
+						}
+					}
+					return true;
+				case IJavaElement.COMPILATION_UNIT:
+					return patchCompilationUnit((ICompilationUnit) element, changedTypes, patchedTypes);
+				case IJavaElement.TYPE:
+					return patchType((IType) element, changedTypes, patchedTypes);
+				default:
+					return false;
+			}
+		}
+
+		/*
+		 * Patches the types declared in an added, changed or removed compilation unit. The types whose
+		 * supertypes did not change are added to changedTypes, if not null.
+		 */
+		private boolean patchCompilationUnit(ICompilationUnit cu, ArrayList<IType> changedTypes, Set<IType> patchedTypes) throws JavaModelException {
+			List<IType> oldTypes= fOverlay.getTypes(cu);
+			List<IType> newTypes= cu.exists() ? Arrays.asList(cu.getAllTypes()) : new ArrayList<>();
+			for (IType type : oldTypes) {
+				if (!newTypes.contains(type) && !removeType(type, patchedTypes)) {
+					return false;
+				}
+			}
+			for (IType type : newTypes) {
+				if (!patchType(type, changedTypes, patchedTypes)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/*
+		 * Updates the supertypes of a changed or added type. A type joining the hierarchy brings its
+		 * subtypes, a type leaving the hierarchy takes its subtypes along.
+		 */
+		private boolean patchType(IType type, ArrayList<IType> changedTypes, Set<IType> patchedTypes) throws JavaModelException {
+			boolean isContained= fOverlay.contains(type);
+			String signature= getSupertypeSignature(type);
+			if (isUnchanged(type, signature, isContained)) {
+				if (isContained && changedTypes != null) {
+					changedTypes.add(type);
+				}
+				return true;
+			}
+			if (isContained && !isProperSubtype(type)) {
+				// the supertypes of the focus type are computed again
+				return false;
+			}
+			if (!isContained && (fIsSuperTypesOnly || !mayBeSubtype(type))) {
+				fOverlay.setSignature(type, signature);
+				return true;
+			}
+			ITypeHierarchy hierarchy= isContained ? type.newSupertypeHierarchy(null) : type.newTypeHierarchy(null);
+			if (isContained) {
+				patchedTypes.add(type);
+				patchedTypes.addAll(Arrays.asList(fOverlay.getSupertypes(type)));
+			}
+			if (setSupertypes(type, hierarchy)) {
+				patchedTypes.addAll(Arrays.asList(fOverlay.getSupertypes(type)));
+				if (!isContained) {
+					addSubtypes(type, hierarchy);
+				}
+			} else if (isContained) {
+				fOverlay.removeType(type);
+				removeUnreachableSubtypes(type);
+			}
+			fOverlay.setSignature(type, signature);
+			return true;
+		}
+
+		/*
+		 * Sets the supertypes of a type as found in the given hierarchy, unless the type is not a
+		 * subtype of the focus type
+		 */
+		private boolean setSupertypes(IType type, ITypeHierarchy hierarchy) {
+			IType superclass= hierarchy.getSuperclass(type);
+			if (superclass != null && !fOverlay.contains(superclass)) {
+				superclass= null;
+			}
+			boolean isSubtype= superclass != null && isFocusOrSubtype(superclass);
+			List<IType> superInterfaces= new ArrayList<>();
+			for (IType superInterface : hierarchy.getSuperInterfaces(type)) {
+				if (fOverlay.contains(superInterface)) {
+					superInterfaces.add(superInterface);
+					isSubtype|= isFocusOrSubtype(superInterface);
+				}
+			}
+			if (!isSubtype) {
+				return false;
+			}
+			fOverlay.setSupertypes(type, hierarchy.getCachedFlags(type), superclass, superInterfaces.toArray(new IType[superInterfaces.size()]));
+			return true;
+		}
+
+		private void addSubtypes(IType type, ITypeHierarchy hierarchy) {
+			List<IType> queue= new ArrayList<>(Arrays.asList(hierarchy.getSubtypes(type)));
+			for (int i= 0; i < queue.size(); i++) {
+				IType subtype= queue.get(i);
+				if (!fOverlay.contains(subtype) && setSupertypes(subtype, hierarchy)) {
+					queue.addAll(Arrays.asList(hierarchy.getSubtypes(subtype)));
+				}
+			}
+		}
+
+		private boolean removeType(IType type, Set<IType> patchedTypes) {
+			if (!isProperSubtype(type)) {
+				return false;
+			}
+			patchedTypes.addAll(Arrays.asList(fOverlay.getSupertypes(type)));
+			fOverlay.removeType(type);
+			removeUnreachableSubtypes(type);
+			return true;
+		}
+
+		private void removeUnreachableSubtypes(IType type) {
+			List<IType> queue= new ArrayList<>(Arrays.asList(fOverlay.getSubtypes(type)));
+			for (int i= 0; i < queue.size(); i++) {
+				IType subtype= queue.get(i);
+				if (fOverlay.contains(subtype) && !isProperSubtype(subtype)) {
+					queue.addAll(Arrays.asList(fOverlay.getSubtypes(subtype)));
+					fOverlay.removeType(subtype);
+				}
+			}
+		}
+
+		/*
+		 * Compares the declared supertypes of a type with the ones seen the last time, or by name with
+		 * the supertypes in the hierarchy
+		 */
+		private boolean isUnchanged(IType type, String signature, boolean isContained) throws JavaModelException {
+			String previous= fOverlay.getSignature(type);
+			if (previous != null) {
+				return previous.equals(signature);
+			}
+			if (!isContained || type.getFlags() != fOverlay.getCachedFlags(type)) {
+				return false;
+			}
+			Set<String> declared= new LinkedHashSet<>();
+			String superclassName= type.getSuperclassName();
+			if (superclassName != null) {
+				declared.add(getSimpleName(superclassName));
+			}
+			for (String superInterfaceName : type.getSuperInterfaceNames()) {
+				declared.add(getSimpleName(superInterfaceName));
+			}
+			Set<String> current= new LinkedHashSet<>();
+			for (IType supertype : fOverlay.getSupertypes(type)) {
+				current.add(supertype.getElementName());
+			}
+			if (!current.containsAll(declared)) {
+				return false;
+			}
+			current.removeAll(declared);
+			current.removeAll(Arrays.asList(IMPLICIT_SUPERCLASSES));
+			if (!current.isEmpty()) {
+				return false;
+			}
+			fOverlay.setSignature(type, signature);
+			return true;
+		}
+
+		/*
+		 * Checks by name whether a type not contained in the hierarchy may be a subtype of the focus type
+		 */
+		private boolean mayBeSubtype(IType type) throws JavaModelException {
+			String superclassName= type.getSuperclassName();
+			String[] superInterfaceNames= type.getSuperInterfaceNames();
+			if (superclassName == null) {
+				for (String name : IMPLICIT_SUPERCLASSES) {
+					if (fOverlay.containsSubtypeNamed(name)) {
+						return true;
+					}
+				}
+			} else if (fOverlay.containsSubtypeNamed(getSimpleName(superclassName))) {
+				return true;
+			}
+			for (String superInterfaceName : superInterfaceNames) {
+				if (fOverlay.containsSubtypeNamed(getSimpleName(superInterfaceName))) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private boolean isFocusOrSubtype(IType type) {
+			return type.equals(fFocus) || isProperSubtype(type);
+		}
+
+		/*
+		 * Whether a type is below the focus type, so that its supertypes can be patched
+		 */
+		private boolean isProperSubtype(IType type) {
+			return !type.equals(fFocus) && Arrays.asList(fOverlay.getAllSupertypes(type)).contains(fFocus);
+		}
+	}
+
+	private static String getSupertypeSignature(IType type) throws JavaModelException {
+		StringBuilder buf= new StringBuilder();
+		buf.append(type.getFlags());
+		String superclassName= type.getSuperclassName();
+		if (superclassName != null) {
+			buf.append(' ').append(superclassName);
+		}
+		for (String superInterfaceName : type.getSuperInterfaceNames()) {
+			buf.append(',').append(superInterfaceName);
+		}
+		return buf.toString();
+	}
+
+	private static String getSimpleName(String typeName) {
+		int typeArguments= typeName.indexOf('<');
+		if (typeArguments != -1) {
+			typeName= typeName.substring(0, typeArguments);
+		}
+		return typeName.substring(typeName.lastIndexOf('.') + 1).trim();
+	}
+
 	/*
 	 * Assume that the hierarchy is intact (no refresh needed)
 	 */
@@ -419,7 +1013,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	}
 
 	private void processTypeDelta(IType type, ArrayList<IType> changedTypes) {
-		if (getHierarchy().contains(type)) {
+		if (contains(type)) {
 			changedTypes.add(type);
 		}
 	}
@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.typehierarchy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+
+/**
+ * The changes applied to a type hierarchy since it was computed, so that supertypes added or
+ * removed in a compilation unit do not require to compute the whole hierarchy again.
+ * <p>
+ * The overlay records the flags and direct supertypes of the types which were changed or added,
+ * the types which were removed, and the resulting changes to the subtypes of other types. Queries
+ * are answered from the overlay first and fall back to the underlying hierarchy.
+ * </p>
+ *
+ * @since 3.33
+ */
+final class TypeHierarchyOverlay {
+
+	private final ITypeHierarchy fHierarchy;
+
+	/**
+	 * The flags of the patched types
+	 */
+	private final Map<IType, Integer> fFlags= new HashMap<>();
+
+	/**
+	 * The superclasses of the patched types, <code>null</code> if a patched type has no superclass
+	 */
+	private final Map<IType, IType> fSuperclasses= new HashMap<>();
+
+	private final Map<IType, IType[]> fSuperInterfaces= new HashMap<>();
+
+	private final Map<IType, Set<IType>> fAddedSubtypes= new HashMap<>();
+
+	private final Map<IType, Set<IType>> fRemovedSubtypes= new HashMap<>();
+
+	private final Set<IType> fRemovedTypes= new HashSet<>();
+
+	/**
+	 * The declared supertypes of the types seen in changed compilation units, to recognize changes
+	 * which do not affect the hierarchy
+	 */
+	private final Map<IType, String> fSignatures= new HashMap<>();
+
+	/**
+	 * The simple names of the focus type and its subtypes, computed lazily
+	 */
+	private Set<String> fSubtypeNames;
+
+	TypeHierarchyOverlay(ITypeHierarchy hierarchy) {
+		fHierarchy= hierarchy;
+	}
+
+	synchronized boolean contains(IType type) {
+		if (fRemovedTypes.contains(type)) {
+			return false;
+		}
+		return fFlags.containsKey(type) || fHierarchy.contains(type);
+	}
+
+	synchronized int getCachedFlags(IType type) {
+		if (fRemovedTypes.contains(type)) {
+			return -1;
+		}
+		Integer flags= fFlags.get(type);
+		return flags != null ? flags.intValue() : fHierarchy.getCachedFlags(type);
+	}
+
+	synchronized IType getSuperclass(IType type) {
+		if (fSuperclasses.containsKey(type)) {
+			return fSuperclasses.get(type);
+		}
+		return fHierarchy.getSuperclass(type);
+	}
+
+	synchronized IType[] getSuperInterfaces(IType type) {
+		IType[] superInterfaces= fSuperInterfaces.get(type);
+		return superInterfaces != null ? superInterfaces : fHierarchy.getSuperInterfaces(type);
+	}
+
+	synchronized IType[] getSupertypes(IType type) {
+		IType[] superInterfaces= fSuperInterfaces.get(type);
+		if (superInterfaces == null) {
+			return fHierarchy.getSupertypes(type);
+		}
+		IType superclass= fSuperclasses.get(type);
+		if (superclass == null) {
+			return superInterfaces;
+		}
+		IType[] supertypes= new IType[superInterfaces.length + 1];
+		supertypes[0]= superclass;
+		System.arraycopy(superInterfaces, 0, supertypes, 1, superInterfaces.length);
+		return supertypes;
+	}
+
+	synchronized IType[] getAllSupertypes(IType type) {
+		Set<IType> result= new LinkedHashSet<>();
+		List<IType> queue= new ArrayList<>(Arrays.asList(getSupertypes(type)));
+		for (int i= 0; i < queue.size(); i++) {
+			IType supertype= queue.get(i);
+			if (contains(supertype) && result.add(supertype)) {
+				queue.addAll(Arrays.asList(getSupertypes(supertype)));
+			}
+		}
+		return result.toArray(new IType[result.size()]);
+	}
+
+	synchronized IType[] getSubtypes(IType type) {
+		IType[] subtypes= fHierarchy.getSubtypes(type);
+		Set<IType> added= fAddedSubtypes.get(type);
+		Set<IType> removed= fRemovedSubtypes.get(type);
+		if (added == null && removed == null) {
+			return subtypes;
+		}
+		Set<IType> result= new LinkedHashSet<>(Arrays.asList(subtypes));
+		if (removed != null) {
+			result.removeAll(removed);
+		}
+		if (added != null) {
+			result.addAll(added);
+		}
+		return result.toArray(new IType[result.size()]);
+	}
+
+	/**
+	 * @param simpleName a simple type name
+	 * @return <code>true</code> if the focus type or one of its subtypes has the given name
+	 */
+	synchronized boolean containsSubtypeNamed(String simpleName) {
+		if (fSubtypeNames == null) {
+			fSubtypeNames= new HashSet<>();
+			IType focus= fHierarchy.getType();
+			fSubtypeNames.add(focus.getElementName());
+			for (IType type : fHierarchy.getAllSubtypes(focus)) {
+				fSubtypeNames.add(type.getElementName());
+			}
+			for (IType type : fFlags.keySet()) {
+				fSubtypeNames.add(type.getElementName());
+			}
+		}
+		return fSubtypeNames.contains(simpleName);
+	}
+
+	synchronized String getSignature(IType type) {
+		return fSignatures.get(type);
+	}
+
+	synchronized void setSignature(IType type, String signature) {
+		fSignatures.put(type, signature);
+	}
+
+	/**
+	 * @param cu a compilation unit
+	 * @return the types of the hierarchy declared in the compilation unit
+	 */
+	synchronized List<IType> getTypes(ICompilationUnit cu) {
+		List<IType> result= new ArrayList<>();
+		for (IType type : fHierarchy.getAllTypes()) {
+			if (!fRemovedTypes.contains(type) && cu.equals(type.getCompilationUnit())) {
+				result.add(type);
+			}
+		}
+		for (IType type : fFlags.keySet()) {
+			if (!fHierarchy.contains(type) && cu.equals(type.getCompilationUnit())) {
+				result.add(type);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Adds a type to the hierarchy or changes its supertypes.
+	 *
+	 * @param type the type
+	 * @param flags the flags of the type
+	 * @param superclass the superclass of the type, or <code>null</code>
+	 * @param superInterfaces the super interfaces of the type
+	 */
+	synchronized void setSupertypes(IType type, int flags, IType superclass, IType[] superInterfaces) {
+		if (contains(type)) {
+			for (IType supertype : getSupertypes(type)) {
+				removeSubtype(supertype, type);
+			}
+		}
+		fRemovedTypes.remove(type);
+		fFlags.put(type, Integer.valueOf(flags));
+		fSuperclasses.put(type, superclass);
+		fSuperInterfaces.put(type, superInterfaces);
+		if (fSubtypeNames != null) {
+			fSubtypeNames.add(type.getElementName());
+		}
+		if (superclass != null) {
+			addSubtype(superclass, type);
+		}
+		for (IType superInterface : superInterfaces) {
+			addSubtype(superInterface, type);
+		}
+	}
+
+	/**
+	 * Removes a type from the hierarchy. The subtypes of the type are not shown anymore.
+	 *
+	 * @param type the type
+	 */
+	synchronized void removeType(IType type) {
+		if (!contains(type)) {
+			return;
+		}
+		for (IType supertype : getSupertypes(type)) {
+			removeSubtype(supertype, type);
+		}
+		fFlags.remove(type);
+		fSuperclasses.remove(type);
+		fSuperInterfaces.remove(type);
+		fSignatures.remove(type);
+		if (fHierarchy.contains(type)) {
+			fRemovedTypes.add(type);
+		}
+	}
+
+	private void addSubtype(IType supertype, IType type) {
+		removeFrom(fRemovedSubtypes, supertype, type);
+		if (!Arrays.asList(fHierarchy.getSubtypes(supertype)).contains(type)) {
+			fAddedSubtypes.computeIfAbsent(supertype, k -> new LinkedHashSet<>()).add(type);
+		}
+	}
+
+	private void removeSubtype(IType supertype, IType type) {
+		removeFrom(fAddedSubtypes, supertype, type);
+		if (Arrays.asList(fHierarchy.getSubtypes(supertype)).contains(type)) {
+			fRemovedSubtypes.computeIfAbsent(supertype, k -> new LinkedHashSet<>()).add(type);
+		}
+	}
+
+	private static void removeFrom(Map<IType, Set<IType>> subtypes, IType supertype, IType type) {
+		Set<IType> types= subtypes.get(supertype);
+		if (types != null) {
+			types.remove(type);
+			if (types.isEmpty()) {
+				subtypes.remove(supertype);
+			}
+		}
+	}
+}
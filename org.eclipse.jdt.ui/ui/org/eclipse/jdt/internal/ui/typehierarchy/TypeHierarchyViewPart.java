@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -269,7 +269,17 @@ public class TypeHierarchyViewPart extends ViewPart implements ITypeHierarchyVie
 		fRestoreStateJob= null;
 
 		fHierarchyLifeCycle= new TypeHierarchyLifeCycle(this);
-		fTypeHierarchyLifeCycleListener= this::doTypeHierarchyChanged;
+		fTypeHierarchyLifeCycleListener= new ITypeHierarchyLifeCycleListener() {
+			@Override
+			public void typeHierarchyChanged(TypeHierarchyLifeCycle typeHierarchyProvider, IType[] changedTypes) {
+				doTypeHierarchyChanged(typeHierarchyProvider, changedTypes);
+			}
+
+			@Override
+			public void typeHierarchyPatched(TypeHierarchyLifeCycle typeHierarchyProvider, IType[] patchedTypes) {
+				doTypeHierarchyPatched(patchedTypes);
+			}
+		};
 		fHierarchyLifeCycle.addChangedListener(fTypeHierarchyLifeCycleListener);
 
 		fPropertyChangeListener= this::doPropertyChange;
@@ -1544,6 +1554,40 @@ public class TypeHierarchyViewPart extends ViewPart implements ITypeHierarchyVie
 		}
 	}
 
+	/**
+	 * Called from ITypeHierarchyLifeCycleListener when the hierarchy was patched.
+	 * Can be called from any thread
+	 * @param patchedTypes the types whose subtypes or supertypes changed
+	 * @since 3.33
+	 */
+	private void doTypeHierarchyPatched(final IType[] patchedTypes) {
+		if (!fIsVisible) {
+			fNeedRefresh= true;
+			return;
+		}
+		Display display= getDisplay();
+		if (display != null) {
+			display.asyncExec(() -> {
+				if (fPagebook != null && !fPagebook.isDisposed()) {
+					doTypeHierarchyPatchedOnViewers(patchedTypes);
+				}
+			});
+		}
+	}
+
+	private void doTypeHierarchyPatchedOnViewers(IType[] patchedTypes) {
+		if (fHierarchyLifeCycle.getHierarchy() == null || !fHierarchyLifeCycle.getHierarchy().exists()) {
+			clearInput();
+			return;
+		}
+		// only the subtrees below the patched types are computed again
+		TypeHierarchyViewer viewer= getCurrentViewer();
+		for (IType type : patchedTypes) {
+			viewer.refresh(type);
+		}
+		fMethodsViewer.refresh();
+	}
+
 	protected void doTypeHierarchyChangedOnViewers(IType[] changedTypes) {
 		if (fHierarchyLifeCycle.getHierarchy() == null || !fHierarchyLifeCycle.getHierarchy().exists()) {
 			clearInput();
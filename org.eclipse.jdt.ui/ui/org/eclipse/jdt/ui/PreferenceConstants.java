@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -2997,6 +2997,31 @@ public class PreferenceConstants {
 	 */
 	public static final String CODEASSIST_NONUITHREAD_COMPUTATION= "content_assist_noUIThread_computation"; //$NON-NLS-1$
 
+	/**
+	 * A named preference that controls whether the completion proposal categories are computed
+	 * concurrently when completion is computed from the non-UI thread, see
+	 * {@link #CODEASSIST_NONUITHREAD_COMPUTATION}.
+	 * <p>
+	 * Value is of type <code>Boolean</code>
+	 * </p>
+	 *
+	 * @since 3.33
+	 */
+	public static final String CODEASSIST_PARALLEL_COMPUTATION= "content_assist_parallel_computation"; //$NON-NLS-1$
+
+	/**
+	 * A named preference that controls how long, in milliseconds, completion waits for a proposal
+	 * category when the categories are computed concurrently, see
+	 * {@link #CODEASSIST_PARALLEL_COMPUTATION}. Proposals of a category which is not done in time
+	 * are not shown.
+	 * <p>
+	 * Value is of type <code>Integer</code>
+	 * </p>
+	 *
+	 * @since 3.33
+	 */
+	public static final String CODEASSIST_CATEGORY_TIMEOUT= "content_assist_category_timeout"; //$NON-NLS-1$
+
 
 	/**
 	 * A named preference that controls if the Java code assist gets auto activated.
@@ -3773,7 +3798,8 @@ public class PreferenceConstants {
 	/**
 	 * A named preference that stores the content assist LRU history
 	 * <p>
-	 * Value is an XML encoded version of the history.
+	 * Value is an XML encoded version of the history. The history is now stored in the state
+	 * location of the plug-in, this preference is only read to migrate histories of older versions.
 	 * </p>
 	 *
 	 * @see org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory#load(org.eclipse.core.runtime.Preferences, String)
@@ -4171,6 +4197,8 @@ public class PreferenceConstants {
 		store.setDefault(PreferenceConstants.CODEASSIST_AUTOINSERT, true);
 		store.setDefault(PreferenceConstants.CODEASSIST_DISABLE_COMPLETION_PROPOSAL_TRIGGER_CHARS, false);
 		store.setDefault(PreferenceConstants.CODEASSIST_NONUITHREAD_COMPUTATION, true);
+		store.setDefault(PreferenceConstants.CODEASSIST_PARALLEL_COMPUTATION, false);
+		store.setDefault(PreferenceConstants.CODEASSIST_CATEGORY_TIMEOUT, 1000);
 		store.setDefault(PreferenceConstants.PREF_MIN_CHAIN_LENGTH, 2);
 		store.setDefault(PreferenceConstants.PREF_MAX_CHAIN_LENGTH, 4);
 		store.setDefault(PreferenceConstants.PREF_MAX_CHAINS, 20);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2011 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,7 +32,9 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.Region;
@@ -365,7 +368,9 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 				fUpdatingCount++;
 				try {
-					update(createContext(false));
+					FoldingStructureComputationContext ctx= createContext(false);
+					if (!updateIncrementally(ctx, delta))
+						update(ctx);
 				} finally {
 					fUpdatingCount--;
 				}
@@ -448,6 +453,37 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		}
 	}
 
+	/**
+	 * Records the region of the document changed since the last update of the folding structure.
+	 *
+	 * @since 3.33
+	 */
+	private final class DirtyRegionTracker implements IDocumentListener {
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			int offset= event.getOffset();
+			int end= offset + (event.getText() == null ? 0 : event.getText().length());
+			synchronized (fDirtyRegionLock) {
+				if (fDirtyStart == -1) {
+					fDirtyStart= offset;
+					fDirtyEnd= end;
+				} else {
+					if (fDirtyEnd >= offset + event.getLength())
+						fDirtyEnd+= end - offset - event.getLength();
+					else if (fDirtyEnd > offset)
+						fDirtyEnd= end;
+					fDirtyStart= Math.min(fDirtyStart, offset);
+					fDirtyEnd= Math.max(fDirtyEnd, end);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Projection position that will return two foldable regions: one folding away
 	 * the region from after the '/**' to the beginning of the content, the other
@@ -727,6 +763,37 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 	private volatile int fUpdatingCount= 0;
 
+	/**
+	 * The document whose changes are recorded for incremental updates, or <code>null</code>.
+	 * @since 3.33
+	 */
+	private volatile IDocument fTrackedDocument;
+	/** @since 3.33 */
+	private final IDocumentListener fDirtyRegionTracker= new DirtyRegionTracker();
+	/**
+	 * Guards the dirty region.
+	 * @since 3.33
+	 */
+	private final Object fDirtyRegionLock= new Object();
+	/**
+	 * The start offset of the region changed since the last update, <code>-1</code> if nothing
+	 * changed.
+	 * @since 3.33
+	 */
+	private int fDirtyStart= -1;
+	/**
+	 * The end offset of the region changed since the last update, <code>-1</code> if nothing
+	 * changed.
+	 * @since 3.33
+	 */
+	private int fDirtyEnd= -1;
+	/**
+	 * <code>true</code> if the changed region is not known and the next update has to compute
+	 * the complete folding structure.
+	 * @since 3.33
+	 */
+	private boolean fDirtyRegionUnknown= true;
+
 	/**
 	 * Creates a new folding provider. It must be
 	 * {@link #install(ITextEditor, ProjectionViewer) installed} on an editor/viewer pair before it
@@ -831,6 +898,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			JavaCore.removeElementChangedListener(fElementListener);
 			fElementListener= null;
 		}
+		trackDocument(null);
 	}
 
 	/*
@@ -840,6 +908,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 	public final void initialize() {
 		fUpdatingCount++;
 		try {
+			trackDocument(isInstalled() ? getDocument() : null);
 			update(createInitialContext());
 		} finally {
 			fUpdatingCount--;
@@ -887,17 +956,203 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		fCollapseHeaderComments= store.getBoolean(PreferenceConstants.EDITOR_FOLDING_HEADERS);
 	}
 
+	private void trackDocument(IDocument document) {
+		if (fTrackedDocument != document) {
+			if (fTrackedDocument != null)
+				fTrackedDocument.removeDocumentListener(fDirtyRegionTracker);
+			fTrackedDocument= document;
+			if (document != null)
+				document.addDocumentListener(fDirtyRegionTracker);
+		}
+		synchronized (fDirtyRegionLock) {
+			fDirtyStart= fDirtyEnd= -1;
+			fDirtyRegionUnknown= true;
+		}
+	}
+
+	/**
+	 * Returns the region changed since the last update and starts recording a new one. If the
+	 * input has been changed after it was last reconciled, the Java elements do not match the
+	 * document yet and the next update has to compute the complete folding structure.
+	 *
+	 * @param region receives the start and end offset of the changed region, <code>-1</code> if
+	 *            nothing changed
+	 * @return <code>false</code> if the changed region is not known
+	 * @since 3.33
+	 */
+	private boolean takeDirtyRegion(int[] region) {
+		boolean known;
+		synchronized (fDirtyRegionLock) {
+			known= !fDirtyRegionUnknown;
+			region[0]= fDirtyStart;
+			region[1]= fDirtyEnd;
+			fDirtyStart= fDirtyEnd= -1;
+			fDirtyRegionUnknown= false;
+		}
+		boolean consistent;
+		try {
+			consistent= !(fInput instanceof ICompilationUnit) || ((ICompilationUnit) fInput).isConsistent();
+		} catch (JavaModelException e) {
+			consistent= false;
+		}
+		if (!consistent) {
+			synchronized (fDirtyRegionLock) {
+				fDirtyRegionUnknown= true;
+			}
+		}
+		return known;
+	}
+
 	private void update(FoldingStructureComputationContext ctx) {
 		if (ctx == null)
 			return;
 
+		takeDirtyRegion(new int[2]);
+		computeFoldingStructure(ctx);
+		updateAnnotations(computeCurrentStructure(ctx), ctx);
+	}
+
+	/**
+	 * Updates the folding structure of the members which changed since the last update. These are
+	 * the members reported by the fine grained <code>delta</code> and the members overlapping the
+	 * document region changed since the last update. The annotations and positions of all other
+	 * members are kept, their positions are updated by the document.
+	 *
+	 * @param ctx the context, may be <code>null</code>
+	 * @param delta the delta of the input element
+	 * @return <code>false</code> if the complete folding structure has to be computed instead
+	 * @since 3.33
+	 */
+	private boolean updateIncrementally(FoldingStructureComputationContext ctx, IJavaElementDelta delta) {
+		if (ctx == null)
+			return true;
+		if (!(fInput instanceof ICompilationUnit) || (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0 || ctx.getDocument() != fTrackedDocument)
+			return false;
+
+		int[] dirty= new int[2];
+		if (!takeDirtyRegion(dirty))
+			return false;
+
+		try {
+			ICompilationUnit unit= (ICompilationUnit) fInput;
+			IType[] types= unit.getTypes();
+			if (types.length == 0)
+				return false;
+			IType firstType= types[0];
+			ISourceRange firstTypeRange= firstType.getSourceRange();
+			// changes before the first type may change the header comment
+			if (!SourceRange.isAvailable(firstTypeRange) || dirty[0] != -1 && dirty[0] <= firstTypeRange.getOffset())
+				return false;
+
+			Set<IJavaElement> changed= new LinkedHashSet<>();
+			Set<IJavaElement> removed= new HashSet<>();
+			if (!collectChanges(delta, changed, removed))
+				return false;
+			if (dirty[0] != -1)
+				collectOverlapping(unit.getChildren(), dirty[0], dirty[1], changed);
+			if (changed.isEmpty() && removed.isEmpty())
+				return true;
+
+			String source= unit.getSource();
+			if (source == null)
+				return false;
+			ctx.getScanner().setSource(source.toCharArray());
+			// the first type is computed first, as it also holds the header comment
+			if (changed.contains(firstType))
+				computeFoldingStructure(firstType, ctx);
+			else
+				ctx.setFirstType(firstType);
+			for (IJavaElement element : changed) {
+				if (!element.equals(firstType))
+					computeFoldingStructure(element, ctx);
+			}
+
+			Map<IJavaElement, List<Tuple>> oldStructure= computeCurrentStructure(ctx);
+			oldStructure.keySet().removeIf(element -> !changed.contains(element) && !isContained(element, removed));
+			updateAnnotations(oldStructure, ctx);
+			return true;
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Collects the elements changed according to a fine grained delta.
+	 *
+	 * @param delta the delta
+	 * @param changed receives the added and changed elements
+	 * @param removed receives the removed elements
+	 * @return <code>false</code> if the complete folding structure has to be computed
+	 * @throws JavaModelException if the children of an added element cannot be accessed
+	 * @since 3.33
+	 */
+	private boolean collectChanges(IJavaElementDelta delta, Set<IJavaElement> changed, Set<IJavaElement> removed) throws JavaModelException {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			IJavaElement element= child.getElement();
+			switch (child.getKind()) {
+				case IJavaElementDelta.ADDED:
+				case IJavaElementDelta.REMOVED:
+					// top-level elements determine the header comment and the first type
+					if (fInput.equals(element.getParent()))
+						return false;
+					if (child.getKind() == IJavaElementDelta.REMOVED)
+						removed.add(element);
+					else
+						collectAll(element, changed);
+					break;
+				default:
+					if ((child.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_AST_AFFECTED)) != 0)
+						changed.add(element);
+					if (!collectChanges(child, changed, removed))
+						return false;
+			}
+		}
+		return true;
+	}
+
+	private void collectAll(IJavaElement element, Set<IJavaElement> result) throws JavaModelException {
+		result.add(element);
+		if (element instanceof IParent) {
+			for (IJavaElement child : ((IParent) element).getChildren())
+				collectAll(child, result);
+		}
+	}
+
+	private void collectOverlapping(IJavaElement[] elements, int start, int end, Set<IJavaElement> result) throws JavaModelException {
+		for (IJavaElement element : elements) {
+			if (element instanceof ISourceReference) {
+				ISourceRange range= ((ISourceReference) element).getSourceRange();
+				if (SourceRange.isAvailable(range) && range.getOffset() <= end && start <= range.getOffset() + range.getLength()) {
+					result.add(element);
+					if (element instanceof IParent)
+						collectOverlapping(((IParent) element).getChildren(), start, end, result);
+				}
+			}
+		}
+	}
+
+	private boolean isContained(IJavaElement element, Set<IJavaElement> ancestors) {
+		for (IJavaElement current= element; current != null && !current.equals(fInput); current= current.getParent()) {
+			if (ancestors.contains(current))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Updates the annotation model to the folding structure computed in the context.
+	 *
+	 * @param oldStructure the current annotations to be matched with the computed ones, by element;
+	 *            the annotations which are not matched are removed
+	 * @param ctx the context
+	 * @since 3.33
+	 */
+	private void updateAnnotations(Map<IJavaElement, List<Tuple>> oldStructure, FoldingStructureComputationContext ctx) {
 		Map<JavaProjectionAnnotation, Position> additions= new HashMap<>();
 		List<JavaProjectionAnnotation> deletions= new ArrayList<>();
 		List<JavaProjectionAnnotation> updates= new ArrayList<>();
 
-		computeFoldingStructure(ctx);
 		Map<JavaProjectionAnnotation, Position> newStructure= ctx.fMap;
-		Map<IJavaElement, List<Tuple>> oldStructure= computeCurrentStructure(ctx);
 
 		Iterator<JavaProjectionAnnotation> e= newStructure.keySet().iterator();
 		while (e.hasNext()) {
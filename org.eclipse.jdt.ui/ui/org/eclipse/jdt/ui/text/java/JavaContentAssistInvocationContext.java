@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,12 +33,15 @@ import org.eclipse.jdt.internal.corext.template.java.SignatureUtil;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.text.CompletionTimeoutProgressMonitor;
+import org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory;
 import org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory.RHSHistory;
 
 /**
  * Describes the context of a content assist invocation in a Java editor.
  * <p>
- * Clients may use but not subclass this class.
+ * Clients may use but not subclass this class. The context may be shared by computers running
+ * concurrently. The lazily computed values are then computed without locking, possibly more
+ * than once.
  * </p>
  *
  * @since 3.2
@@ -50,15 +53,15 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 
 	private IJavaProject fJavaProject;
 	private ICompilationUnit fCU= null;
-	private boolean fCUComputed= false;
+	private volatile boolean fCUComputed= false;
 
-	private CompletionProposalLabelProvider fLabelProvider;
-	private CompletionProposalCollector fCollector;
-	private RHSHistory fRHSHistory;
-	private IType fType;
+	private volatile CompletionProposalLabelProvider fLabelProvider;
+	private volatile CompletionProposalCollector fCollector;
+	private volatile RHSHistory fRHSHistory;
+	private volatile IType fType;
 
-	private IJavaCompletionProposal[] fKeywordProposals= null;
-	private CompletionContext fCoreContext= null;
+	private volatile IJavaCompletionProposal[] fKeywordProposals= null;
+	private volatile CompletionContext fCoreContext= null;
 
 	/**
 	 * Creates a new context.
@@ -105,15 +108,17 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 */
 	public ICompilationUnit getCompilationUnit() {
 		if (!fCUComputed) {
-			fCUComputed= true;
-			if (fCollector != null) {
-				fCU= fCollector.getCompilationUnit();
+			CompletionProposalCollector collector= fCollector;
+			if (collector != null) {
+				fCU= collector.getCompilationUnit();
 			} else {
 				IJavaElement je= EditorUtility.getEditorInputJavaElement(fEditor, false);
 				if (je instanceof ICompilationUnit) {
 					fCU= (ICompilationUnit)je;
 				}
 			}
+			// the volatile write publishes fCU
+			fCUComputed= true;
 		}
 		return fCU;
 	}
@@ -141,9 +146,10 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 */
 	public IJavaCompletionProposal[] getKeywordProposals() {
 		if (fKeywordProposals == null) {
-			if (fCollector != null && !fCollector.isIgnored(CompletionProposal.KEYWORD) && fCollector.getContext() != null) {
+			CompletionProposalCollector collector= fCollector;
+			if (collector != null && !collector.isIgnored(CompletionProposal.KEYWORD) && collector.getContext() != null) {
 				// use the existing collector if it exists, collects keywords, and has already been invoked
-				fKeywordProposals= fCollector.getKeywordCompletionProposals();
+				fKeywordProposals= collector.getKeywordCompletionProposals();
 			} else {
 				// otherwise, retrieve keywords ourselves
 				computeKeywordsAndContext();
@@ -165,8 +171,9 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 * @return the core completion context if available, <code>null</code> otherwise
 	 */
 	public CompletionContext getCoreContext() {
-		if (fCollector != null) {
-			CompletionContext context= fCollector.getContext();
+		CompletionProposalCollector collector= fCollector;
+		if (collector != null) {
+			CompletionContext context= collector.getContext();
 			if (context != null) {
 				if (fCoreContext == null) {
 					fCoreContext= context;
@@ -212,7 +219,7 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 				char[][] expectedTypes= context.getExpectedTypesSignatures();
 				if (expectedTypes != null && expectedTypes.length > 0) {
 					String expected= SignatureUtil.stripSignatureToFQN(String.valueOf(expectedTypes[0]));
-					fRHSHistory= JavaPlugin.getDefault().getContentAssistHistory().getHistory(expected);
+					fRHSHistory= JavaPlugin.getDefault().getContentAssistHistory().getHistory(expected, ContentAssistHistory.getContext(context));
 				}
 			}
 			if (fRHSHistory == null) {
@@ -259,8 +266,9 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 */
 	public CompletionProposalLabelProvider getLabelProvider() {
 		if (fLabelProvider == null) {
-			if (fCollector != null) {
-				fLabelProvider= fCollector.getLabelProvider();
+			CompletionProposalCollector collector= fCollector;
+			if (collector != null) {
+				fLabelProvider= collector.getLabelProvider();
 			} else {
 				fLabelProvider= new CompletionProposalLabelProvider();
 			}